@@ -29,13 +29,16 @@ public final class BuildContext {
     private final StepInfo stepInfo;
     private final Execution execution;
     private final AtomicInteger dependencies;
+    private final long remainingPath;
     private volatile boolean running;
+    private long readySequence;
 
     BuildContext(ClassLoader classLoader, final StepInfo stepInfo, final Execution execution) {
         this.classLoader = classLoader;
         this.stepInfo = stepInfo;
         this.execution = execution;
         dependencies = new AtomicInteger(stepInfo.getDependencies());
+        remainingPath = execution.getRemainingPath(stepInfo);
     }
 
     /**
@@ -234,10 +237,22 @@ void depFinished() {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
-            execution.getExecutor().execute(this::run);
+            execution.schedule(this);
         }
     }
 
+    long getRemainingPath() {
+        return remainingPath;
+    }
+
+    long getReadySequence() {
+        return readySequence;
+    }
+
+    void setReadySequence(long readySequence) {
+        this.readySequence = readySequence;
+    }
+
     void run() {
         final Execution execution = this.execution;
         final StepInfo stepInfo = this.stepInfo;
@@ -19,6 +19,7 @@ public final class BuildExecutionBuilder {
     private final String buildTargetName;
     private final Map<ItemId, BuildItem> initialSingle;
     private final Map<ItemId, ArrayList<BuildItem>> initialMulti;
+    private BuildStepDurations stepDurations = BuildStepDurations.empty();
 
     BuildExecutionBuilder(final BuildChain buildChain, final String buildTargetName) {
         this.buildChain = buildChain;
@@ -68,6 +69,19 @@ public <T extends BuildItem> BuildExecutionBuilder produce(Class<T> type, T item
         return this;
     }
 
+    /**
+     * Provide the durations of the build steps of a previous build. The build steps on the longest remaining path are
+     * then started first.
+     *
+     * @param stepDurations the durations (must not be {@code null})
+     * @return this builder
+     */
+    public BuildExecutionBuilder setStepDurations(BuildStepDurations stepDurations) {
+        Assert.checkNotNullParam("stepDurations", stepDurations);
+        this.stepDurations = stepDurations;
+        return this;
+    }
+
     /**
      * Run the build. The chain may run in one or many threads.
      *
@@ -109,6 +123,10 @@ Map<ItemId, ArrayList<BuildItem>> getInitialMulti() {
         return initialMulti;
     }
 
+    BuildStepDurations getStepDurations() {
+        return stepDurations;
+    }
+
     BuildChain getChain() {
         return buildChain;
     }
@@ -27,6 +27,7 @@
 import io.quarkus.bootstrap.json.Json.JsonArrayBuilder;
 import io.quarkus.bootstrap.json.Json.JsonObjectBuilder;
 import io.quarkus.builder.item.BuildItem;
+import io.smallrye.common.cpu.ProcessorInfo;
 
 public class BuildMetrics {
 
@@ -45,6 +46,8 @@ public class BuildMetrics {
     // build step id -> produced build items
     private final ConcurrentMap<String, List<String>> buildItemsExtended;
     private final AtomicInteger idGenerator;
+    // build step id -> duration in ms, always collected so that the next build can be scheduled
+    private final ConcurrentMap<String, Long> stepDurations = new ConcurrentHashMap<>();
 
     public BuildMetrics(String buildTargetName) {
         boolean enabled = Boolean.getBoolean(BUILDER_METRICS_ENABLED)
@@ -82,6 +85,7 @@ public void buildFinished(long duration) {
     }
 
     public void buildStepFinished(StepInfo stepInfo, String thread, LocalTime started, long duration) {
+        stepDurations.put(stepInfo.getBuildStep().getId(), duration);
         if (enabled()) {
             records.put(stepInfo.getBuildStep().getId(),
                     new BuildStepRecord(idGenerator.incrementAndGet(), stepInfo, thread, started, duration));
@@ -109,6 +113,21 @@ private Long itemProduced(String key, Long val) {
         return val == null ? 1 : val + 1;
     }
 
+    /**
+     * Writes the durations of the build steps, so that the next build can start the steps on the longest remaining path
+     * first.
+     *
+     * @param file the target file
+     * @param previous the durations of the previous build, kept for the build steps that did not run
+     */
+    public void writeStepDurations(Path file, BuildStepDurations previous) {
+        try {
+            BuildStepDurations.write(file, previous, stepDurations);
+        } catch (IOException e) {
+            LOG.debugf(e, "Unable to write the build step durations to %s", file);
+        }
+    }
+
     public void dumpTo(Path file) throws IOException {
         if (enabled()) {
             DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
@@ -191,12 +210,43 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
             }
             json.put("itemsCount", itemsCount);
 
+            // the critical path and the parallelism of the build
+            List<StepInfo> startSteps = new ArrayList<>();
+            long stepsDuration = 0;
+            for (BuildStepRecord rec : sortedSteps) {
+                if (rec.stepInfo.getDependencies() == 0) {
+                    startSteps.add(rec.stepInfo);
+                }
+                stepsDuration += rec.duration;
+            }
+            Map<StepInfo, Long> paths = CriticalPath.remainingPaths(startSteps, this::recordedDuration);
+            List<StepInfo> criticalPath = CriticalPath.longestPath(startSteps, paths);
+            JsonArrayBuilder criticalPathSteps = Json.array();
+            for (StepInfo step : criticalPath) {
+                criticalPathSteps.add(step.getBuildStep().getId());
+            }
+            JsonObjectBuilder criticalPathObject = Json.object();
+            criticalPathObject.put("duration", criticalPath.isEmpty() ? 0L : paths.get(criticalPath.get(0)));
+            criticalPathObject.put("steps", criticalPathSteps);
+            json.put("criticalPath", criticalPathObject);
+            // the total duration of the build steps, divided by the duration of the build, is the average number of
+            // build steps running at the same time
+            json.put("stepsDuration", stepsDuration);
+            int processors = ProcessorInfo.availableProcessors();
+            json.put("availableProcessors", processors);
+            json.put("coreUtilizationPercent", duration > 0 ? (int) (100 * stepsDuration / (duration * processors)) : 0);
+
             try (BufferedWriter writer = new BufferedWriter(new FileWriter(file.toFile(), StandardCharsets.UTF_8))) {
                 json.appendTo(writer);
             }
         }
     }
 
+    private long recordedDuration(StepInfo stepInfo) {
+        BuildStepRecord rec = records.get(stepInfo.getBuildStep().getId());
+        return rec != null ? rec.duration : 0;
+    }
+
     private boolean enabled() {
         return records != null;
     }
@@ -0,0 +1,95 @@
+package io.quarkus.builder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The durations of the build steps of a previous build, used to start the steps on the longest remaining path first.
+ * <p>
+ * The durations are stored as a properties file mapping the build step ids to their duration in milliseconds.
+ */
+public final class BuildStepDurations {
+
+    public static final String SCHEDULING_ENABLED = "quarkus.builder.scheduling.enabled";
+
+    private static final Logger LOG = Logger.getLogger(BuildStepDurations.class.getName());
+
+    private static final BuildStepDurations EMPTY = new BuildStepDurations(Collections.emptyMap());
+
+    // build step id -> duration in ms
+    private final Map<String, Long> durations;
+
+    private BuildStepDurations(Map<String, Long> durations) {
+        this.durations = durations;
+    }
+
+    public static BuildStepDurations empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param file the file written by {@link BuildMetrics#writeStepDurations(Path, BuildStepDurations)}
+     * @return the durations read from the file, or empty durations if the file does not exist or cannot be read
+     */
+    public static BuildStepDurations read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return EMPTY;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.debugf(e, "Unable to read the build step durations from %s", file);
+            return EMPTY;
+        }
+        Map<String, Long> durations = new HashMap<>();
+        for (String stepId : properties.stringPropertyNames()) {
+            try {
+                durations.put(stepId, Long.parseLong(properties.getProperty(stepId)));
+            } catch (NumberFormatException ignored) {
+                // skip the invalid entry
+            }
+        }
+        return new BuildStepDurations(durations);
+    }
+
+    /**
+     * @param stepId the build step id
+     * @return the duration of the build step in ms, or {@code 0} if unknown
+     */
+    public long get(String stepId) {
+        return durations.getOrDefault(stepId, 0L);
+    }
+
+    public boolean isEmpty() {
+        return durations.isEmpty();
+    }
+
+    static void write(Path file, BuildStepDurations previous, Map<String, Long> current) throws IOException {
+        Properties properties = new Properties();
+        // keep the durations of the steps that did not run, e.g. the steps of another launch mode
+        for (Map.Entry<String, Long> e : previous.durations.entrySet()) {
+            properties.setProperty(e.getKey(), e.getValue().toString());
+        }
+        for (Map.Entry<String, Long> e : current.entrySet()) {
+            properties.setProperty(e.getKey(), e.getValue().toString());
+        }
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            properties.store(writer, null);
+        }
+    }
+}
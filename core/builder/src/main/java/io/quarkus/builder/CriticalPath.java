@@ -0,0 +1,89 @@
+package io.quarkus.builder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * The longest paths of a build chain, weighted by the durations of the build steps.
+ */
+final class CriticalPath {
+
+    private CriticalPath() {
+    }
+
+    /**
+     * Computes the length of the longest path from each build step to the end of the build, including the build step
+     * itself.
+     *
+     * @param startSteps the steps without dependencies
+     * @param duration the duration of a build step
+     * @return the remaining path length of each build step reachable from the start steps
+     */
+    static Map<StepInfo, Long> remainingPaths(Collection<StepInfo> startSteps, ToLongFunction<StepInfo> duration) {
+        Map<StepInfo, Long> paths = new IdentityHashMap<>();
+        // iterative post-order traversal, the chain can be deep
+        Deque<StepInfo> steps = new ArrayDeque<>();
+        Deque<Iterator<StepInfo>> dependents = new ArrayDeque<>();
+        for (StepInfo startStep : startSteps) {
+            if (paths.containsKey(startStep)) {
+                continue;
+            }
+            steps.push(startStep);
+            dependents.push(startStep.getDependents().iterator());
+            while (!steps.isEmpty()) {
+                Iterator<StepInfo> it = dependents.peek();
+                if (it.hasNext()) {
+                    StepInfo next = it.next();
+                    if (!paths.containsKey(next)) {
+                        steps.push(next);
+                        dependents.push(next.getDependents().iterator());
+                    }
+                } else {
+                    StepInfo step = steps.pop();
+                    dependents.pop();
+                    long longest = 0;
+                    for (StepInfo dependent : step.getDependents()) {
+                        longest = Math.max(longest, paths.get(dependent));
+                    }
+                    paths.put(step, duration.applyAsLong(step) + longest);
+                }
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * @param startSteps the steps without dependencies
+     * @param paths the remaining path lengths computed by {@link #remainingPaths(Collection, ToLongFunction)}
+     * @return the build steps of the longest path, in execution order
+     */
+    static List<StepInfo> longestPath(Collection<StepInfo> startSteps, Map<StepInfo, Long> paths) {
+        List<StepInfo> path = new ArrayList<>();
+        StepInfo current = longest(startSteps, paths);
+        while (current != null) {
+            path.add(current);
+            current = longest(current.getDependents(), paths);
+        }
+        return path;
+    }
+
+    private static StepInfo longest(Collection<StepInfo> steps, Map<StepInfo, Long> paths) {
+        StepInfo longest = null;
+        long length = -1;
+        for (StepInfo step : steps) {
+            long stepLength = paths.getOrDefault(step, 0L);
+            if (stepLength > length) {
+                longest = step;
+                length = stepLength;
+            }
+        }
+        return longest;
+    }
+}
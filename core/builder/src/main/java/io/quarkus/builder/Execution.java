@@ -6,12 +6,16 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jboss.logging.Logger;
 import org.jboss.threads.EnhancedQueueExecutor;
@@ -41,6 +45,12 @@ final class Execution {
 
     private final BuildMetrics metrics;
 
+    // step -> length of the longest remaining path, null if there are no durations of a previous build
+    private final Map<StepInfo, Long> remainingPaths;
+    // the steps ready to run, the ones on the longest remaining path first
+    private final PriorityBlockingQueue<BuildContext> readySteps;
+    private final AtomicLong readySequence = new AtomicLong();
+
     static {
         try {
             Class.forName("org.jboss.threads.EnhancedQueueExecutor$1", false, Execution.class.getClassLoader());
@@ -71,6 +81,18 @@ final class Execution {
             done = true;
 
         metrics = new BuildMetrics(buildTargetName);
+
+        final BuildStepDurations durations = builder.getStepDurations();
+        if (durations.isEmpty()) {
+            remainingPaths = null;
+            readySteps = null;
+        } else {
+            remainingPaths = CriticalPath.remainingPaths(chain.getStartSteps(),
+                    stepInfo -> durations.get(stepInfo.getBuildStep().getId()));
+            readySteps = new PriorityBlockingQueue<>(64, Comparator.comparingLong(BuildContext::getRemainingPath)
+                    .reversed()
+                    .thenComparingLong(BuildContext::getReadySequence));
+        }
     }
 
     private static int defineMaxPoolSize(final int availableProcessors, final int corePoolSize) {
@@ -104,9 +126,11 @@ BuildResult run() throws BuildException {
 
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
+        final List<BuildContext> startContexts = new ArrayList<>(startSteps.size());
         for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+            startContexts.add(getBuildContext(startStep));
         }
+        schedule(startContexts);
         // wait for the wrap-up
         boolean intr = false;
         try {
@@ -154,6 +178,47 @@ BuildResult run() throws BuildException {
                 duration, metrics);
     }
 
+    /**
+     * Submits a build step whose dependencies are finished.
+     * <p>
+     * If the durations of a previous build are known, the ready steps are queued by the length of their longest
+     * remaining path, and each task submitted to the executor runs the first queued step rather than a given one. The
+     * long chains of steps therefore start as soon as possible, while the steps that are not on them fill the idle
+     * threads. Otherwise the steps run in the order they are submitted.
+     */
+    void schedule(BuildContext buildContext) {
+        schedule(List.of(buildContext));
+    }
+
+    private void schedule(List<BuildContext> buildContexts) {
+        if (readySteps == null) {
+            for (BuildContext buildContext : buildContexts) {
+                executor.execute(buildContext::run);
+            }
+        } else {
+            // queue all the steps before running any of them, so that the first task picks the longest path
+            for (BuildContext buildContext : buildContexts) {
+                buildContext.setReadySequence(readySequence.getAndIncrement());
+                readySteps.add(buildContext);
+            }
+            // one task per queued step, so the queue is never empty when a task runs
+            for (int i = 0; i < buildContexts.size(); i++) {
+                executor.execute(this::runNextReadyStep);
+            }
+        }
+    }
+
+    private void runNextReadyStep() {
+        readySteps.poll().run();
+    }
+
+    long getRemainingPath(StepInfo stepInfo) {
+        if (remainingPaths == null) {
+            return 0;
+        }
+        return remainingPaths.getOrDefault(stepInfo, 0L);
+    }
+
     EnhancedQueueExecutor getExecutor() {
         return executor;
     }
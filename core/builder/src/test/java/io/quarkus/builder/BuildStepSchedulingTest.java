@@ -0,0 +1,140 @@
+package io.quarkus.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+public class BuildStepSchedulingTest {
+
+    public static final class ShortItem extends SimpleBuildItem {
+    }
+
+    public static final class LongItem1 extends SimpleBuildItem {
+    }
+
+    public static final class LongItem2 extends SimpleBuildItem {
+    }
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    public void singleThread() {
+        System.setProperty("io.quarkus.builder.execution.corePoolSize", "1");
+        System.setProperty("io.quarkus.builder.execution.maxPoolSize", "1");
+    }
+
+    @AfterEach
+    public void reset() {
+        System.clearProperty("io.quarkus.builder.execution.corePoolSize");
+        System.clearProperty("io.quarkus.builder.execution.maxPoolSize");
+    }
+
+    @Test
+    public void testLongestPathFirst() throws Exception {
+        List<String> executed = new CopyOnWriteArrayList<>();
+        BuildChain chain = chain(executed);
+
+        run(chain, durations("short=1\nlong1=10\nlong2=100\n"));
+        assertEquals(List.of("long1", "long2", "short"), executed);
+
+        executed.clear();
+        run(chain, durations("short=1000\nlong1=10\nlong2=100\n"));
+        assertEquals(List.of("short", "long1", "long2"), executed);
+    }
+
+    @Test
+    public void testStepDurationsArePersisted() throws Exception {
+        List<String> executed = new CopyOnWriteArrayList<>();
+        BuildResult result = run(chain(executed), durations("other=42\n"));
+
+        Path file = dir.resolve("build-step-durations.properties");
+        result.getMetrics().writeStepDurations(file, durations("other=42\nshort=100000\n"));
+        BuildStepDurations durations = BuildStepDurations.read(file);
+        assertEquals(42, durations.get("other"));
+        // the durations of the current build win
+        assertTrue(durations.get("short") < 100000);
+        assertEquals(0, durations.get("unknown"));
+    }
+
+    @Test
+    public void testRemainingPaths() throws Exception {
+        BuildChain chain = chain(new CopyOnWriteArrayList<>());
+        Map<String, Long> durations = Map.of("short", 1L, "long1", 10L, "long2", 100L);
+        Map<StepInfo, Long> paths = CriticalPath.remainingPaths(chain.getStartSteps(),
+                s -> durations.get(s.getBuildStep().getId()));
+        List<StepInfo> longest = CriticalPath.longestPath(chain.getStartSteps(), paths);
+        assertEquals(List.of("long1", "long2"), longest.stream().map(s -> s.getBuildStep().getId()).toList());
+        assertEquals(110L, paths.get(longest.get(0)));
+        assertEquals(100L, paths.get(longest.get(1)));
+    }
+
+    private BuildStepDurations durations(String content) throws IOException {
+        Path file = Files.createTempFile(dir, "durations", ".properties");
+        Files.writeString(file, content);
+        return BuildStepDurations.read(file);
+    }
+
+    private static BuildResult run(BuildChain chain, BuildStepDurations durations) throws BuildException {
+        return chain.createExecutionBuilder("my-app.jar").setStepDurations(durations).execute();
+    }
+
+    private static BuildChain chain(List<String> executed) throws ChainBuildException {
+        BuildChainBuilder builder = BuildChain.builder();
+        builder.addBuildStep(new TestStep("short", executed, null, new ShortItem()))
+                .produces(ShortItem.class)
+                .build();
+        builder.addBuildStep(new TestStep("long1", executed, null, new LongItem1()))
+                .produces(LongItem1.class)
+                .build();
+        builder.addBuildStep(new TestStep("long2", executed, LongItem1.class, new LongItem2()))
+                .consumes(LongItem1.class)
+                .produces(LongItem2.class)
+                .build();
+        builder.addFinal(ShortItem.class);
+        builder.addFinal(LongItem2.class);
+        return builder.build();
+    }
+
+    static final class TestStep implements BuildStep {
+
+        private final String id;
+        private final List<String> executed;
+        private final Class<? extends SimpleBuildItem> consumed;
+        private final SimpleBuildItem produced;
+
+        TestStep(String id, List<String> executed, Class<? extends SimpleBuildItem> consumed, SimpleBuildItem produced) {
+            this.id = id;
+            this.executed = executed;
+            this.consumed = consumed;
+            this.produced = produced;
+        }
+
+        @Override
+        public void execute(BuildContext context) {
+            if (consumed != null) {
+                context.consume(consumed);
+            }
+            executed.add(id);
+            context.produce(produced);
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+    }
+}
@@ -23,6 +23,7 @@
 import io.quarkus.builder.BuildExecutionBuilder;
 import io.quarkus.builder.BuildMetrics;
 import io.quarkus.builder.BuildResult;
+import io.quarkus.builder.BuildStepDurations;
 import io.quarkus.builder.item.BuildItem;
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveBuildItem;
 import io.quarkus.deployment.builditem.AppModelProviderBuildItem;
@@ -168,7 +169,22 @@ public BuildResult run() throws Exception {
             for (PathCollection i : additionalApplicationArchives) {
                 execBuilder.produce(new AdditionalApplicationArchiveBuildItem(i));
             }
+            // Start the build steps on the longest path first, based on the durations of the previous build
+            Path stepDurationsFile = null;
+            BuildStepDurations stepDurations = BuildStepDurations.empty();
+            if (targetDir != null
+                    && Boolean.parseBoolean(System.getProperty(BuildStepDurations.SCHEDULING_ENABLED, "true"))
+                    && !launchMode.isRemoteDev()) {
+                stepDurationsFile = targetDir.resolve("build-step-durations.properties");
+                stepDurations = BuildStepDurations.read(stepDurationsFile);
+                execBuilder.setStepDurations(stepDurations);
+            }
             BuildResult buildResult = execBuilder.execute();
+            // Hot reloads and continuous testing builds reuse the state of the previous build, their durations are not
+            // representative and the file would be rewritten on every change, so only full builds record them
+            if (stepDurationsFile != null && !liveReloadBuildItem.isLiveReload() && !auxiliaryApplication) {
+                buildResult.getMetrics().writeStepDurations(stepDurationsFile, stepDurations);
+            }
             String message = "Quarkus augmentation completed in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
                     + "ms";
             if (launchMode.isProduction()) {
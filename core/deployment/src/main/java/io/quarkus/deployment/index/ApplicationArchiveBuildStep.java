@@ -34,6 +34,7 @@
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.QuarkusBuildCloseablesBuildItem;
 import io.quarkus.deployment.configuration.ClassLoadingConfig;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.maven.dependency.ArtifactCoords;
 import io.quarkus.maven.dependency.ArtifactKey;
@@ -50,6 +51,7 @@
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithParentName;
 
 public class ApplicationArchiveBuildStep {
@@ -90,6 +92,29 @@ interface IndexDependencyConfig {
         }
     }
 
+    /**
+     * Index cache
+     */
+    @ConfigMapping(prefix = "quarkus.index-cache")
+    @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+    interface IndexCacheConfiguration {
+        /**
+         * Whether the indexes of the dependencies that are not shipped with a Jandex index are stored on disk, and reused
+         * by the next builds as long as the content of the dependency does not change.
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * The directory of the index cache.
+         * <p>
+         * By default, the indexes are stored in the {@code quarkus-index-cache} directory of the build output directory,
+         * and the indexes that were not used for a week are removed. If a directory shared by several projects is configured,
+         * e.g. in the user home, the indexes are never removed.
+         */
+        Optional<Path> directory();
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(IndexDependencyConfiguration config,
             BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
@@ -108,11 +133,21 @@ ApplicationArchivesBuildItem build(
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
-            ClassLoadingConfig classLoadingConfig) throws IOException {
+            ClassLoadingConfig classLoadingConfig,
+            IndexCacheConfiguration indexCacheConfig,
+            BuildSystemTargetBuildItem buildSystemTarget) throws IOException {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
+        boolean pruneIndexCache = false;
         if (indexCache == null) {
-            indexCache = new IndexCache();
+            PersistentIndexCache persistentCache = null;
+            if (indexCacheConfig.enabled()) {
+                persistentCache = new PersistentIndexCache(indexCacheConfig.directory()
+                        .orElse(buildSystemTarget.getOutputDirectory().resolve(PersistentIndexCache.INDEX_CACHE_DIR)));
+                // the default directory only contains the indexes of this application
+                pruneIndexCache = indexCacheConfig.directory().isEmpty();
+            }
+            indexCache = new IndexCache(persistentCache);
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
 
@@ -127,6 +162,9 @@ ApplicationArchivesBuildItem build(
         List<ApplicationArchive> applicationArchives = scanForOtherIndexes(buildCloseables,
                 appMarkers, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache,
                 curateOutcomeBuildItem, removedResources);
+        if (pruneIndexCache) {
+            indexCache.persistent.prune();
+        }
 
         final OpenPathTree tree;
         if (root.getRootDirectories().size() == 1) {
@@ -269,8 +307,10 @@ private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
                         }
                         Index index = indexCache.cache.get(rootPath);
                         if (index == null) {
+                            final Set<String> removedFromDependency = removed.get(dependencyKey);
                             try {
-                                index = IndexingUtil.indexTree(tree, removed.get(dependencyKey));
+                                index = indexCache.index(rootPath, removedFromDependency,
+                                        () -> IndexingUtil.indexTree(tree, removedFromDependency));
                             } catch (IOException ioe) {
                                 throw new UncheckedIOException(ioe);
                             }
@@ -329,7 +369,7 @@ private static Index handleJarPath(Path path, IndexCache indexCache, Set<String>
             @Override
             public Index apply(Path path) {
                 try {
-                    return IndexingUtil.indexJar(path, removed);
+                    return indexCache.index(path, removed, () -> IndexingUtil.indexJar(path, removed));
                 } catch (IOException e) {
                     throw new RuntimeException("Failed to process " + path, e);
                 }
@@ -340,8 +380,19 @@ public Index apply(Path path) {
     /**
      * When running in hot deployment mode we know that java archives will never change, there is no need
      * to re-index them each time. We cache them here to reduce the hot reload time.
+     * <p>
+     * The indexes are also stored on disk, if enabled, to reduce the time of the next builds.
      */
     private static final class IndexCache {
         final Map<Path, Index> cache = new HashMap<>();
+        final PersistentIndexCache persistent;
+
+        IndexCache(PersistentIndexCache persistent) {
+            this.persistent = persistent;
+        }
+
+        Index index(Path archive, Set<String> removed, PersistentIndexCache.IndexSupplier indexer) throws IOException {
+            return persistent != null ? persistent.index(archive, removed, indexer) : indexer.index();
+        }
     }
 }
@@ -0,0 +1,196 @@
+package io.quarkus.deployment.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarFile;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+/**
+ * An on-disk cache of the Jandex indexes of the application dependencies that are not shipped with a usable
+ * {@code META-INF/jandex.idx}.
+ * <p>
+ * An index is stored in a file named after the SHA-256 hash of the content of the archive, of the resources removed from
+ * it and of the Jandex version, so that an entry is never reused for an archive that changed, whatever its path.
+ * A corrupted or unreadable entry is ignored and the archive is indexed again.
+ * <p>
+ * The modification time of an entry is updated whenever it is used. The build output directory is shared by the production
+ * build, the tests and the dev mode, whose dependencies differ, so only the entries that were not used by any of them for
+ * {@link #MAX_UNUSED_AGE} are pruned.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger LOG = Logger.getLogger(PersistentIndexCache.class);
+
+    /**
+     * The name of the cache directory, in the build output directory.
+     */
+    static final String INDEX_CACHE_DIR = "quarkus-index-cache";
+
+    private static final String INDEX_SUFFIX = ".idx";
+
+    /**
+     * How long an entry is kept once it is no longer used.
+     */
+    static final Duration MAX_UNUSED_AGE = Duration.ofDays(7);
+
+    private static final String JANDEX_VERSION = Index.class.getPackage().getImplementationVersion();
+
+    private final Path directory;
+
+    PersistentIndexCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the index of the given archive, read from the cache if the archive was already indexed.
+     *
+     * @param archive the archive
+     * @param removed the resources removed from the archive, may be {@code null}
+     * @param indexer indexes the archive if the cache does not contain its index
+     * @return the index of the archive
+     */
+    Index index(Path archive, Set<String> removed, IndexSupplier indexer) throws IOException {
+        if (removed == null && hasIndex(archive)) {
+            // reading the index shipped with the archive is as fast as reading a cached index
+            return indexer.index();
+        }
+        Path file = directory.resolve(key(archive, removed) + INDEX_SUFFIX);
+        Index index = read(file);
+        if (index != null) {
+            LOG.debugf("Read the index of %s from %s", archive, file);
+            touch(file);
+            return index;
+        }
+        index = indexer.index();
+        write(file, index);
+        return index;
+    }
+
+    /**
+     * Removes the entries that were not used for {@link #MAX_UNUSED_AGE}.
+     */
+    void prune() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        FileTime expiry = FileTime.from(Instant.now().minus(MAX_UNUSED_AGE));
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, "*" + INDEX_SUFFIX)) {
+            for (Path entry : entries) {
+                if (Files.getLastModifiedTime(entry).compareTo(expiry) < 0) {
+                    Files.deleteIfExists(entry);
+                }
+            }
+        } catch (IOException e) {
+            LOG.debugf(e, "Failed to prune the index cache %s", directory);
+        }
+    }
+
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            LOG.debugf(e, "Failed to update the modification time of the cached index %s", file);
+        }
+    }
+
+    private static boolean hasIndex(Path archive) throws IOException {
+        try (JarFile jarFile = new JarFile(archive.toFile())) {
+            return jarFile.getEntry(IndexingUtil.JANDEX_INDEX) != null;
+        }
+    }
+
+    static String key(Path archive, Set<String> removed) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[16384];
+        try (InputStream in = Files.newInputStream(archive)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        if (removed != null) {
+            for (String resource : new TreeSet<>(removed)) {
+                digest.update((byte) 0);
+                digest.update(resource.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        if (JANDEX_VERSION != null) {
+            digest.update((byte) 1);
+            digest.update(JANDEX_VERSION.getBytes(StandardCharsets.UTF_8));
+        }
+        StringBuilder key = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return key.toString();
+    }
+
+    private static Index read(Path file) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            return new IndexReader(in).read();
+        } catch (IOException | RuntimeException e) {
+            LOG.debugf(e, "Ignoring the cached index %s", file);
+            return null;
+        }
+    }
+
+    private void write(Path file, Index index) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            // the index is written to a temporary file first, so that a concurrent build never reads a partial index
+            tmp = Files.createTempFile(directory, "index", ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                new IndexWriter(out).write(index);
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmp = null;
+        } catch (IOException e) {
+            LOG.debugf(e, "Failed to write the cached index %s", file);
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface IndexSupplier {
+
+        Index index() throws IOException;
+    }
+}
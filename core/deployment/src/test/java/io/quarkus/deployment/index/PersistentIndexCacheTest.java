@@ -0,0 +1,166 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentIndexCacheTest {
+
+    private static final DotName TEST_CLASS = DotName.createSimple(PersistentIndexCacheTest.class);
+    private static final String TEST_CLASS_FILE = PersistentIndexCacheTest.class.getName().replace('.', '/') + ".class";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testIndexIsReused() throws IOException {
+        Path jar = jar("dep.jar", false, TEST_CLASS_FILE);
+        AtomicInteger indexed = new AtomicInteger();
+
+        PersistentIndexCache cache = new PersistentIndexCache(dir.resolve("cache"));
+        Index index = cache.index(jar, null, () -> index(jar, null, indexed));
+        assertNotNull(index.getClassByName(TEST_CLASS));
+        assertEquals(1, indexed.get());
+
+        // a new build with the same dependency
+        cache = new PersistentIndexCache(dir.resolve("cache"));
+        index = cache.index(jar, null, () -> index(jar, null, indexed));
+        assertNotNull(index.getClassByName(TEST_CLASS));
+        assertEquals(1, indexed.get());
+
+        // the removed resources are part of the key
+        index = cache.index(jar, Set.of(TEST_CLASS_FILE), () -> index(jar, Set.of(TEST_CLASS_FILE), indexed));
+        assertNull(index.getClassByName(TEST_CLASS));
+        assertEquals(2, indexed.get());
+    }
+
+    @Test
+    public void testChangedArchiveIsIndexedAgain() throws IOException {
+        Path jar = jar("dep.jar", false, TEST_CLASS_FILE);
+        String key = PersistentIndexCache.key(jar, null);
+        jar("dep.jar", false, TEST_CLASS_FILE, PersistentIndexCache.class.getName().replace('.', '/') + ".class");
+        assertNotEquals(key, PersistentIndexCache.key(jar, null));
+    }
+
+    @Test
+    public void testCorruptedEntryIsIgnored() throws IOException {
+        Path jar = jar("dep.jar", false, TEST_CLASS_FILE);
+        Path cacheDir = dir.resolve("cache");
+        Files.createDirectories(cacheDir);
+        Files.writeString(cacheDir.resolve(PersistentIndexCache.key(jar, null) + ".idx"), "not an index");
+        AtomicInteger indexed = new AtomicInteger();
+
+        Index index = new PersistentIndexCache(cacheDir).index(jar, null, () -> index(jar, null, indexed));
+        assertNotNull(index.getClassByName(TEST_CLASS));
+        assertEquals(1, indexed.get());
+    }
+
+    @Test
+    public void testArchiveWithIndexIsNotCached() throws IOException {
+        Path jar = jar("indexed.jar", true, TEST_CLASS_FILE);
+        Path cacheDir = dir.resolve("cache");
+        AtomicInteger indexed = new AtomicInteger();
+
+        new PersistentIndexCache(cacheDir).index(jar, null, () -> index(jar, null, indexed));
+        assertEquals(0, countEntries(cacheDir));
+    }
+
+    @Test
+    public void testUnusedEntriesArePruned() throws IOException {
+        Path jar1 = jar("dep1.jar", false, TEST_CLASS_FILE);
+        Path jar2 = jar("dep2.jar", false, TEST_CLASS_FILE, PersistentIndexCache.class.getName().replace('.', '/') + ".class");
+        Path cacheDir = dir.resolve("cache");
+        AtomicInteger indexed = new AtomicInteger();
+
+        PersistentIndexCache cache = new PersistentIndexCache(cacheDir);
+        cache.index(jar1, null, () -> index(jar1, null, indexed));
+        cache.index(jar2, null, () -> index(jar2, null, indexed));
+        assertEquals(2, countEntries(cacheDir));
+        Path entry1 = cacheDir.resolve(PersistentIndexCache.key(jar1, null) + ".idx");
+        Path entry2 = cacheDir.resolve(PersistentIndexCache.key(jar2, null) + ".idx");
+        FileTime expired = FileTime.from(Instant.now().minus(PersistentIndexCache.MAX_UNUSED_AGE).minus(Duration.ofDays(1)));
+
+        // another build, e.g. the tests, that does not depend on jar2 keeps its recent entry
+        cache = new PersistentIndexCache(cacheDir);
+        cache.index(jar1, null, () -> index(jar1, null, indexed));
+        cache.prune();
+        assertEquals(2, countEntries(cacheDir));
+
+        // jar2 has not been a dependency for a long time, using jar1 refreshes its entry
+        Files.setLastModifiedTime(entry1, expired);
+        Files.setLastModifiedTime(entry2, expired);
+        cache = new PersistentIndexCache(cacheDir);
+        cache.index(jar1, null, () -> index(jar1, null, indexed));
+        cache.prune();
+        assertTrue(Files.exists(entry1));
+        assertFalse(Files.exists(entry2));
+        assertEquals(2, indexed.get());
+    }
+
+    private static Index index(Path jar, Set<String> removed, AtomicInteger indexed) throws IOException {
+        indexed.incrementAndGet();
+        return IndexingUtil.indexJar(jar, removed);
+    }
+
+    private static long countEntries(Path cacheDir) throws IOException {
+        if (!Files.exists(cacheDir)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.count();
+        }
+    }
+
+    private Path jar(String name, boolean withIndex, String... classFiles) throws IOException {
+        Path jar = dir.resolve(name);
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (String classFile : classFiles) {
+                out.putNextEntry(new JarEntry(classFile));
+                try (InputStream in = PersistentIndexCacheTest.class.getClassLoader().getResourceAsStream(classFile)) {
+                    in.transferTo(out);
+                }
+                out.closeEntry();
+            }
+            if (withIndex) {
+                out.putNextEntry(new JarEntry(IndexingUtil.JANDEX_INDEX));
+                writeIndex(out, classFiles);
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static void writeIndex(OutputStream out, String... classFiles) throws IOException {
+        Indexer indexer = new Indexer();
+        for (String classFile : classFiles) {
+            try (InputStream in = PersistentIndexCacheTest.class.getClassLoader().getResourceAsStream(classFile)) {
+                indexer.index(in);
+            }
+        }
+        new IndexWriter(out).write(indexer.complete());
+    }
+}
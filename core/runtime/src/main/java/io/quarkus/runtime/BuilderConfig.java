@@ -49,4 +49,20 @@ interface Metrics {
         boolean extendedCapture();
 
     }
+
+    /**
+     * Build step scheduling configuration.
+     */
+    Scheduling scheduling();
+
+    interface Scheduling {
+
+        /**
+         * If set to true then the durations of the build steps are stored in the build directory, and the next build
+         * starts the build steps on the longest remaining path first.
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+    }
 }
@@ -45,6 +45,16 @@ default MetricBuilder builder(String name) {
      */
     MetricBuilder builder(String name, Type type);
 
+    /**
+     * Removes the metrics registered with the given name and tags, e.g. once the measured object is discarded.
+     * This may not be supported by all metrics extensions.
+     *
+     * @param name The name of the metric (required)
+     * @param tags The tags of the metric, as key/value pairs
+     */
+    default void remove(String name, String... tags) {
+    }
+
     interface MetricBuilder {
         /**
          * @param description Description text of the eventual metric (optional).
@@ -67,6 +77,18 @@ interface MetricBuilder {
          */
         MetricBuilder unit(String unit);
 
+        /**
+         * Publish a histogram of the recorded values, so that percentiles can be computed
+         * by the monitoring system (optional, only applies to timers).
+         * <p>
+         * Metrics providers that do not support histograms ignore this.
+         *
+         * @return The builder, publishing a histogram.
+         */
+        default MetricBuilder histogram() {
+            return this;
+        }
+
         /**
          * Register a counter that retrieves its value from a supplier function
          *
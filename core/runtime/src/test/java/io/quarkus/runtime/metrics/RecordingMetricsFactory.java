@@ -0,0 +1,222 @@
+package io.quarkus.runtime.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link MetricsFactory} for unit tests that keeps the registered metrics in memory.
+ * <p>
+ * Counters and gauges keep their function so that the current value can be read with {@link #value(String, String...)},
+ * timers record every update in nanoseconds. The metrics are looked up by name and a subset of their tags, given as
+ * key/value pairs, e.g. {@code value("kafka.checkpoint.size", "state-store", "quarkus-redis")}.
+ */
+public class RecordingMetricsFactory implements MetricsFactory {
+
+    private final List<Metric> metrics = new CopyOnWriteArrayList<>();
+
+    @Override
+    public boolean metricsSystemSupported(String name) {
+        return true;
+    }
+
+    @Override
+    public MetricBuilder builder(String name, Type type) {
+        return new RecordingMetricBuilder(name);
+    }
+
+    @Override
+    public void remove(String name, String... tags) {
+        metrics.removeIf(metric -> metric.matches(name, tags));
+    }
+
+    /**
+     * @return the current value of the counter or gauge
+     * @throws IllegalArgumentException if there is no such counter or gauge
+     */
+    public long value(String name, String... tags) {
+        Metric metric = find(name, tags);
+        if (metric.value == null) {
+            throw new IllegalArgumentException("Metric " + name + " is a timer");
+        }
+        return metric.value.get().longValue();
+    }
+
+    /**
+     * @return the durations recorded by the timer, in nanoseconds
+     * @throws IllegalArgumentException if there is no such timer
+     */
+    public List<Long> timerNanos(String name, String... tags) {
+        Metric metric = find(name, tags);
+        if (metric.nanos == null) {
+            throw new IllegalArgumentException("Metric " + name + " is not a timer");
+        }
+        return Collections.unmodifiableList(metric.nanos);
+    }
+
+    /**
+     * @return the number of durations recorded by the timer
+     * @throws IllegalArgumentException if there is no such timer
+     */
+    public int timerCount(String name, String... tags) {
+        return timerNanos(name, tags).size();
+    }
+
+    /**
+     * @return {@code true} if a metric with the given name and tags is registered
+     */
+    public boolean contains(String name, String... tags) {
+        for (Metric metric : metrics) {
+            if (metric.matches(name, tags)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Metric find(String name, String... tags) {
+        Metric found = null;
+        for (Metric metric : metrics) {
+            if (metric.matches(name, tags)) {
+                if (found != null) {
+                    throw new IllegalArgumentException("More than one metric " + name + " matches " + List.of(tags));
+                }
+                found = metric;
+            }
+        }
+        if (found == null) {
+            throw new IllegalArgumentException("No metric " + name + " matches " + List.of(tags));
+        }
+        return found;
+    }
+
+    private static final class Metric {
+
+        final String name;
+        final Map<String, String> tags;
+        final Supplier<Number> value;
+        final List<Long> nanos;
+
+        Metric(String name, Map<String, String> tags, Supplier<Number> value, List<Long> nanos) {
+            this.name = name;
+            this.tags = tags;
+            this.value = value;
+            this.nanos = nanos;
+        }
+
+        boolean matches(String name, String... tags) {
+            if (!this.name.equals(name)) {
+                return false;
+            }
+            for (int i = 0; i + 1 < tags.length; i += 2) {
+                if (!tags[i + 1].equals(this.tags.get(tags[i]))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final class RecordingMetricBuilder implements MetricBuilder {
+
+        private final String name;
+        private final Map<String, String> tags = new LinkedHashMap<>();
+
+        RecordingMetricBuilder(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public MetricBuilder description(String description) {
+            return this;
+        }
+
+        @Override
+        public MetricBuilder tag(String key, String value) {
+            tags.put(key, value);
+            return this;
+        }
+
+        @Override
+        public MetricBuilder unit(String unit) {
+            return this;
+        }
+
+        @Override
+        public void buildCounter(Supplier<Number> countFunction) {
+            metrics.add(new Metric(name, Map.copyOf(tags), countFunction, null));
+        }
+
+        @Override
+        public <T, R extends Number> void buildCounter(T obj, Function<T, R> countFunction) {
+            buildCounter(() -> countFunction.apply(obj));
+        }
+
+        @Override
+        public void buildGauge(Supplier<Number> gaugeFunction) {
+            metrics.add(new Metric(name, Map.copyOf(tags), gaugeFunction, null));
+        }
+
+        @Override
+        public <T, R extends Number> void buildGauge(T obj, Function<T, R> gaugeFunction) {
+            buildGauge(() -> gaugeFunction.apply(obj));
+        }
+
+        @Override
+        public TimeRecorder buildTimer() {
+            List<Long> nanos = new CopyOnWriteArrayList<>();
+            metrics.add(new Metric(name, Map.copyOf(tags), null, nanos));
+            return new TimeRecorder() {
+                @Override
+                public void update(long amount, TimeUnit unit) {
+                    nanos.add(unit.toNanos(amount));
+                }
+            };
+        }
+
+        @Override
+        public Runnable buildTimer(Runnable f) {
+            TimeRecorder recorder = buildTimer();
+            return () -> {
+                long start = System.nanoTime();
+                try {
+                    f.run();
+                } finally {
+                    recorder.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            };
+        }
+
+        @Override
+        public <T> Callable<T> buildTimer(Callable<T> f) {
+            TimeRecorder recorder = buildTimer();
+            return () -> {
+                long start = System.nanoTime();
+                try {
+                    return f.call();
+                } finally {
+                    recorder.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            };
+        }
+
+        @Override
+        public <T> Supplier<T> buildTimer(Supplier<T> f) {
+            TimeRecorder recorder = buildTimer();
+            return () -> {
+                long start = System.nanoTime();
+                try {
+                    return f.get();
+                } finally {
+                    recorder.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.quarkus.agroal.runtime;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import io.agroal.api.cache.Acquirable;
+
+/**
+ * The per-thread slots of a thread local connection cache.
+ * <p>
+ * {@code io.agroal.pool.ConnectionPool} resets the cache from its housekeeping thread, which cannot clear the thread
+ * local variables of the other threads. The thread local variables hold a slot instead of the connection, and the cache
+ * keeps track of all the slots, so that a reset clears the connection of every slot.
+ * The slots are tracked weakly: the slot of a thread that exited is garbage collected along with the thread.
+ */
+final class ConnectionCacheSlots {
+
+    // guarded by this
+    private final Set<Slot> slots = Collections.newSetFromMap(new WeakHashMap<>());
+
+    Slot newSlot() {
+        Slot slot = new Slot();
+        synchronized (this) {
+            slots.add(slot);
+        }
+        return slot;
+    }
+
+    synchronized void reset() {
+        for (Slot slot : slots) {
+            slot.acquirable = null;
+        }
+    }
+
+    static final class Slot {
+
+        private volatile Acquirable acquirable;
+
+        Acquirable acquire() {
+            Acquirable acquirable = this.acquirable;
+            return acquirable != null && acquirable.acquire() ? acquirable : null;
+        }
+
+        void set(Acquirable acquirable) {
+            this.acquirable = acquirable;
+        }
+    }
+
+}
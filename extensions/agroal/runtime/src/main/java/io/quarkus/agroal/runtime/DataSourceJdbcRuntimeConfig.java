@@ -138,6 +138,18 @@ public interface DataSourceJdbcRuntimeConfig {
     @WithDefault("true")
     boolean poolingEnabled();
 
+    /**
+     * Whether the connections returned by virtual threads should be cached for the virtual threads
+     * that acquire a connection next.
+     * <p>
+     * Connections are cached per thread for the Vert.x and worker threads.
+     * Virtual threads share a fixed number of cache slots instead, so that a virtual thread acquiring a connection
+     * again usually gets back the connection it returned last, without going through the shared pool.
+     */
+    @WithName("virtual-thread-cache.enabled")
+    @WithDefault("true")
+    boolean virtualThreadCache();
+
     /**
      * Whether to enable recovery for this datasource.
      * <p>
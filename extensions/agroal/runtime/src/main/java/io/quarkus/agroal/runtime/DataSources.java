@@ -8,6 +8,7 @@
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import jakarta.enterprise.inject.Any;
@@ -20,6 +21,7 @@
 import org.jboss.tm.XAResourceRecoveryRegistry;
 
 import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceListener;
 import io.agroal.api.AgroalPoolInterceptor;
 import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.ConnectionValidator;
 import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.TransactionRequirement;
@@ -33,6 +35,7 @@
 import io.agroal.api.transaction.TransactionIntegration;
 import io.agroal.narayana.NarayanaTransactionIntegration;
 import io.quarkus.agroal.runtime.JdbcDriver.JdbcDriverLiteral;
+import io.quarkus.agroal.runtime.metrics.AgroalAcquisitionTimeListener;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.credentials.CredentialsProvider;
@@ -72,6 +75,7 @@ public class DataSources {
     private final AgroalDataSourceSupport agroalDataSourceSupport;
     private final Instance<AgroalPoolInterceptor> agroalPoolInterceptors;
     private final Instance<AgroalOpenTelemetryWrapper> agroalOpenTelemetryWrapper;
+    private final Map<String, AgroalAcquisitionTimeListener> acquisitionTimeListeners = new ConcurrentHashMap<>();
 
     public DataSources(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
             DataSourcesRuntimeConfig dataSourcesRuntimeConfig, DataSourcesJdbcBuildTimeConfig dataSourcesJdbcBuildTimeConfig,
@@ -140,6 +144,15 @@ public AgroalDataSource getDataSource(String dataSourceName) {
         return ClientProxy.unwrap(AgroalDataSourceUtil.dataSourceInstance(dataSourceName).get());
     }
 
+    /**
+     * Meant to be used by the metrics recorder, to record the time spent acquiring the connections of the datasource.
+     * <p>
+     * The listener is only registered on datasources that have metrics enabled.
+     */
+    public AgroalAcquisitionTimeListener getAcquisitionTimeListener(String dataSourceName) {
+        return acquisitionTimeListeners.computeIfAbsent(dataSourceName, n -> new AgroalAcquisitionTimeListener());
+    }
+
     @SuppressWarnings("resource")
     public AgroalDataSource createDataSource(String dataSourceName, boolean otelEnabled,
             Map<String, String> buildTimeJdbcProperties) {
@@ -199,24 +212,31 @@ public AgroalDataSource createDataSource(String dataSourceName, boolean otelEnab
             agroalConnectionConfigurer.disableSslSupport(resolvedDbKind, dataSourceConfiguration,
                     dataSourceJdbcRuntimeConfig.additionalJdbcProperties());
         }
-        //we use a custom cache for two reasons:
+        //we use a custom cache for three reasons:
         //fast thread local cache should be faster
-        //and it prevents a thread local leak
+        //it prevents a thread local leak
+        //and virtual threads need a cache of their own
+        boolean virtualThreadCache = dataSourceJdbcRuntimeConfig.virtualThreadCache();
         try {
             Class.forName("io.netty.util.concurrent.FastThreadLocal", true, Thread.currentThread().getContextClassLoader());
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusNettyConnectionCache());
+            dataSourceConfiguration.connectionPoolConfiguration()
+                    .connectionCache(new QuarkusNettyConnectionCache(virtualThreadCache));
         } catch (ClassNotFoundException e) {
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusSimpleConnectionCache());
+            dataSourceConfiguration.connectionPoolConfiguration()
+                    .connectionCache(new QuarkusSimpleConnectionCache(virtualThreadCache));
         }
 
         agroalConnectionConfigurer.setExceptionSorter(resolvedDbKind, dataSourceConfiguration);
 
         // Explicit reference to bypass reflection need of the ServiceLoader used by AgroalDataSource#from
         AgroalDataSourceConfiguration agroalConfiguration = dataSourceConfiguration.get();
-        AgroalDataSource dataSource = new io.agroal.pool.DataSource(agroalConfiguration,
-                new AgroalEventLoggingListener(dataSourceName,
-                        agroalConfiguration.connectionPoolConfiguration()
-                                .transactionRequirement() == TransactionRequirement.WARN));
+        AgroalDataSourceListener eventLoggingListener = new AgroalEventLoggingListener(dataSourceName,
+                agroalConfiguration.connectionPoolConfiguration()
+                        .transactionRequirement() == TransactionRequirement.WARN);
+        AgroalDataSource dataSource = agroalConfiguration.metricsEnabled()
+                ? new io.agroal.pool.DataSource(agroalConfiguration, eventLoggingListener,
+                        getAcquisitionTimeListener(dataSourceName))
+                : new io.agroal.pool.DataSource(agroalConfiguration, eventLoggingListener);
         log.debugv("Started datasource {0} connected to {1}", dataSourceName,
                 agroalConfiguration.connectionPoolConfiguration().connectionFactoryConfiguration().jdbcUrl());
 
@@ -9,7 +9,20 @@
 
 class QuarkusNettyConnectionCache implements ConnectionCache {
 
-    final FastThreadLocal<Acquirable> connectionCache = new FastThreadLocal<>();
+    final ConnectionCacheSlots slots = new ConnectionCacheSlots();
+
+    final FastThreadLocal<ConnectionCacheSlots.Slot> connectionCache = new FastThreadLocal<>() {
+        @Override
+        protected ConnectionCacheSlots.Slot initialValue() {
+            return slots.newSlot();
+        }
+    };
+
+    final VirtualThreadConnectionCache virtualThreadCache;
+
+    QuarkusNettyConnectionCache(boolean virtualThreadCache) {
+        this.virtualThreadCache = virtualThreadCache ? new VirtualThreadConnectionCache() : null;
+    }
 
     @Override
     public Acquirable get() {
@@ -20,8 +33,10 @@ public Acquirable get() {
             //JBossThread still works with FastThreadLocal, it is just slower, and for most apps
             //this will not be used anyway, as we use VertThread pretty much everywhere if
             //Vert.x is present
-            Acquirable acquirable = connectionCache.get();
-            return acquirable != null && acquirable.acquire() ? acquirable : null;
+            return connectionCache.get().acquire();
+        }
+        if (virtualThreadCache != null && VirtualThreadConnectionCache.isVirtual(thread)) {
+            return virtualThreadCache.get(thread);
         }
         return null;
     }
@@ -30,27 +45,23 @@ public Acquirable get() {
     public void put(Acquirable acquirable) {
         Thread thread = Thread.currentThread();
         if (thread instanceof FastThreadLocalThread || thread instanceof JBossThread) {
-            connectionCache.set(acquirable);
+            connectionCache.get().set(acquirable);
+        } else if (virtualThreadCache != null && VirtualThreadConnectionCache.isVirtual(thread)) {
+            virtualThreadCache.put(thread, acquirable);
         }
     }
 
     @Override
     public void reset() {
-        // Do our best to release memory. In fact `io.agroal.pool.ConnectionPool` calls
-        // this method in `housingkeepingExecutor` thread only, so business threads still
-        // hold references to `ConnectionHandler` objects.
-        connectionCache.remove();
-
-        // `FastThreadLocalThread` uses an array and increasing index for `FastThreadLocal`, the thread
-        // local variables will *never* be expunged until the thread exits, so `FastThreadLocal` instance
-        // musn't be created again.
-        //
-        // For other non-`FastThreadLocalThread` threads, `FastThreadLocal` actually uses static
-        // `java.lang.ThreadLocal`, it's useless to create fresh `FastThreadLocal` instance.
-        //
-        // In summary, this connection cache always holds `ConnectionHandler` instances in thread local
-        // variables even after the underlying JDBC connections close, this does leak some memory.
-
-        //connectionCache = new FastThreadLocal<>();
+        // `io.agroal.pool.ConnectionPool` calls this method in the `housekeepingExecutor` thread only,
+        // so we cannot remove the thread local variables of the business threads.
+        // `FastThreadLocalThread` uses an array and increasing index for `FastThreadLocal`, so the
+        // `FastThreadLocal` instance must not be created again either.
+        // Instead, the thread local variables hold slots that we clear, so that no `ConnectionHandler`
+        // is referenced after a reset.
+        slots.reset();
+        if (virtualThreadCache != null) {
+            virtualThreadCache.reset();
+        }
     }
 }
@@ -7,7 +7,15 @@
 
 class QuarkusSimpleConnectionCache implements ConnectionCache {
 
-    volatile ThreadLocal<Acquirable> connectionCache = new ThreadLocal<>();
+    final ConnectionCacheSlots slots = new ConnectionCacheSlots();
+
+    final ThreadLocal<ConnectionCacheSlots.Slot> connectionCache = ThreadLocal.withInitial(slots::newSlot);
+
+    final VirtualThreadConnectionCache virtualThreadCache;
+
+    QuarkusSimpleConnectionCache(boolean virtualThreadCache) {
+        this.virtualThreadCache = virtualThreadCache ? new VirtualThreadConnectionCache() : null;
+    }
 
     @Override
     public Acquirable get() {
@@ -18,8 +26,10 @@ public Acquirable get() {
             //JBossThread still works with FastThreadLocal, it is just slower, and for most apps
             //this will not be used anyway, as we use VertThread pretty much everywhere if
             //Vert.x is present
-            Acquirable acquirable = connectionCache.get();
-            return acquirable != null && acquirable.acquire() ? acquirable : null;
+            return connectionCache.get().acquire();
+        }
+        if (virtualThreadCache != null && VirtualThreadConnectionCache.isVirtual(thread)) {
+            return virtualThreadCache.get(thread);
         }
         return null;
     }
@@ -28,12 +38,18 @@ public Acquirable get() {
     public void put(Acquirable acquirable) {
         Thread thread = Thread.currentThread();
         if (thread instanceof JBossThread) {
-            connectionCache.set(acquirable);
+            connectionCache.get().set(acquirable);
+        } else if (virtualThreadCache != null && VirtualThreadConnectionCache.isVirtual(thread)) {
+            virtualThreadCache.put(thread, acquirable);
         }
     }
 
     @Override
     public void reset() {
-        connectionCache = new ThreadLocal<>();
+        // the reset happens in the housekeeping thread, clear the slots of all threads
+        slots.reset();
+        if (virtualThreadCache != null) {
+            virtualThreadCache.reset();
+        }
     }
 }
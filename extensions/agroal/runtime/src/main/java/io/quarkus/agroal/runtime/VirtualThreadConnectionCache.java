@@ -0,0 +1,84 @@
+package io.quarkus.agroal.runtime;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.agroal.api.cache.Acquirable;
+
+/**
+ * Connection cache for virtual threads.
+ * <p>
+ * Virtual threads are cheap and short-lived, so caching a connection per virtual thread would never hit the cache,
+ * and would keep a reference to a connection in every virtual thread that ever acquired one.
+ * Instead, the connections returned by virtual threads are cached in a fixed number of stripes,
+ * and a virtual thread always uses the same stripe: a virtual thread that acquires a connection again
+ * usually gets back the connection it returned last, without going through the contended shared pool.
+ * <p>
+ * The stripes are owned by the cache, so {@link #reset()} releases all the cached connections.
+ */
+final class VirtualThreadConnectionCache {
+
+    private static final MethodHandle IS_VIRTUAL = findIsVirtual();
+
+    private final AtomicReferenceArray<Acquirable> stripes;
+    private final int mask;
+
+    VirtualThreadConnectionCache() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    VirtualThreadConnectionCache(int minStripes) {
+        int size = Integer.highestOneBit(Math.max(minStripes - 1, 1)) << 1;
+        this.stripes = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    Acquirable get(Thread thread) {
+        Acquirable acquirable = stripes.get(stripe(thread));
+        return acquirable != null && acquirable.acquire() ? acquirable : null;
+    }
+
+    void put(Thread thread, Acquirable acquirable) {
+        stripes.lazySet(stripe(thread), acquirable);
+    }
+
+    void reset() {
+        for (int i = 0; i < stripes.length(); i++) {
+            stripes.set(i, null);
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    int stripe(Thread thread) {
+        // Thread ids are sequential, spread them over the stripes
+        long id = thread.getId();
+        int h = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static MethodHandle findIsVirtual() {
+        if (Runtime.version().feature() < 21) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual",
+                    MethodType.methodType(boolean.class));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+}
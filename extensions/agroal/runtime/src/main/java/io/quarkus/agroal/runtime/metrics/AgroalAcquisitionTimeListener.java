@@ -0,0 +1,45 @@
+package io.quarkus.agroal.runtime.metrics;
+
+import java.sql.Connection;
+import java.util.concurrent.TimeUnit;
+
+import io.agroal.api.AgroalDataSourceListener;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Records the time spent acquiring each connection of a datasource.
+ * <p>
+ * Agroal only exposes the average, maximum and total blocking time, which hide the tail latency of the acquisitions.
+ * The acquisitions are timed from {@link #beforeConnectionAcquire()} to {@link #onConnectionAcquire(Connection)},
+ * which the pool calls on the acquiring thread, including for the connections found in the connection cache.
+ */
+public final class AgroalAcquisitionTimeListener implements AgroalDataSourceListener {
+
+    private final ThreadLocal<long[]> start = ThreadLocal.withInitial(() -> new long[1]);
+
+    private volatile MetricsFactory.TimeRecorder timeRecorder;
+
+    void timeRecorder(MetricsFactory.TimeRecorder timeRecorder) {
+        this.timeRecorder = timeRecorder;
+    }
+
+    @Override
+    public void beforeConnectionAcquire() {
+        if (timeRecorder != null) {
+            start.get()[0] = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void onConnectionAcquire(Connection connection) {
+        MetricsFactory.TimeRecorder recorder = timeRecorder;
+        if (recorder == null) {
+            return;
+        }
+        long[] started = start.get();
+        if (started[0] != 0) {
+            recorder.update(System.nanoTime() - started[0], TimeUnit.NANOSECONDS);
+            started[0] = 0;
+        }
+    }
+}
@@ -11,6 +11,8 @@
 import io.agroal.api.AgroalDataSource;
 import io.agroal.api.AgroalDataSourceMetrics;
 import io.quarkus.agroal.runtime.AgroalDataSourceUtil;
+import io.quarkus.agroal.runtime.DataSources;
+import io.quarkus.arc.Arc;
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.metrics.MetricsFactory;
@@ -121,6 +123,13 @@ public void accept(MetricsFactory metricsFactory) {
                         .tag("datasource", tagValue)
                         .unit("milliseconds")
                         .buildGauge(metrics::creationTimeTotal, convertToMillis);
+
+                Arc.container().instance(DataSources.class).get().getAcquisitionTimeListener(dataSourceName)
+                        .timeRecorder(metricsFactory.builder("agroal.acquire.time")
+                                .description("Time spent acquiring a connection, including the connections found in the cache.")
+                                .tag("datasource", tagValue)
+                                .histogram()
+                                .buildTimer());
             }
         };
     }
@@ -0,0 +1,81 @@
+package io.quarkus.agroal.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ConnectionCacheSlotsTest {
+
+    @Test
+    void resetClearsTheSlotOfEveryThread() throws InterruptedException {
+        ConnectionCacheSlots slots = new ConnectionCacheSlots();
+        ThreadLocal<ConnectionCacheSlots.Slot> threadLocal = ThreadLocal.withInitial(slots::newSlot);
+        List<ConnectionCacheSlots.Slot> threadSlots = new ArrayList<>();
+        List<TestAcquirable> acquirables = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            TestAcquirable acquirable = new TestAcquirable();
+            acquirables.add(acquirable);
+            Thread thread = new Thread(() -> {
+                ConnectionCacheSlots.Slot slot = threadLocal.get();
+                slot.set(acquirable);
+                synchronized (threadSlots) {
+                    threadSlots.add(slot);
+                }
+            });
+            thread.start();
+            thread.join();
+        }
+
+        ConnectionCacheSlots.Slot first = threadSlots.get(0);
+        assertSame(acquirables.get(0), first.acquire());
+        acquirables.get(0).release();
+
+        // the reset happens in another thread, e.g. the housekeeping thread of the pool
+        slots.reset();
+        for (ConnectionCacheSlots.Slot slot : threadSlots) {
+            assertNull(slot.acquire());
+        }
+    }
+
+    @Test
+    void acquiredConnectionIsNotReturnedTwice() {
+        ConnectionCacheSlots.Slot slot = new ConnectionCacheSlots().newSlot();
+        TestAcquirable acquirable = new TestAcquirable();
+        slot.set(acquirable);
+
+        assertSame(acquirable, slot.acquire());
+        assertNull(slot.acquire());
+        acquirable.release();
+        assertSame(acquirable, slot.acquire());
+    }
+
+    @Test
+    void slotIsCollectedWithItsThread() throws InterruptedException {
+        ConnectionCacheSlots slots = new ConnectionCacheSlots();
+        ThreadLocal<ConnectionCacheSlots.Slot> threadLocal = ThreadLocal.withInitial(slots::newSlot);
+        List<WeakReference<ConnectionCacheSlots.Slot>> refs = new ArrayList<>();
+        Thread thread = new Thread(() -> {
+            ConnectionCacheSlots.Slot slot = threadLocal.get();
+            slot.set(new TestAcquirable());
+            refs.add(new WeakReference<>(slot));
+        });
+        thread.start();
+        thread.join();
+
+        WeakReference<ConnectionCacheSlots.Slot> ref = refs.get(0);
+        for (int i = 0; i < 100 && ref.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        // the slots are only weakly referenced by the cache
+        assertNull(ref.get());
+        // keep the cache reachable until the end of the test
+        slots.reset();
+    }
+
+}
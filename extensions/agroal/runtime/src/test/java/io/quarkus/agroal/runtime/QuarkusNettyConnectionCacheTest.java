@@ -0,0 +1,92 @@
+package io.quarkus.agroal.runtime;
+
+import static io.quarkus.agroal.runtime.TestAcquirable.callOn;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.jboss.threads.JBossThread;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import io.agroal.api.cache.Acquirable;
+import io.netty.util.concurrent.FastThreadLocalThread;
+
+class QuarkusNettyConnectionCacheTest {
+
+    @Test
+    void cachesOnFastThreadLocalThreads() throws Exception {
+        QuarkusNettyConnectionCache cache = new QuarkusNettyConnectionCache(false);
+        TestAcquirable acquirable = new TestAcquirable();
+
+        assertSame(acquirable, callOn(FastThreadLocalThread::new, () -> {
+            cache.put(acquirable);
+            return cache.get();
+        }));
+    }
+
+    @Test
+    void cachesOnJBossThreads() throws Exception {
+        QuarkusNettyConnectionCache cache = new QuarkusNettyConnectionCache(false);
+        TestAcquirable acquirable = new TestAcquirable();
+
+        assertSame(acquirable, callOn(JBossThread::new, () -> {
+            cache.put(acquirable);
+            return cache.get();
+        }));
+    }
+
+    @Test
+    void resetClearsTheCacheOfFastThreadLocalThreads() throws Exception {
+        QuarkusNettyConnectionCache cache = new QuarkusNettyConnectionCache(false);
+        TestAcquirable acquirable = new TestAcquirable();
+
+        assertNull(callOn(FastThreadLocalThread::new, () -> {
+            cache.put(acquirable);
+            cache.reset();
+            return cache.get();
+        }));
+    }
+
+    @Test
+    void doesNotCacheOnOtherThreads() throws Exception {
+        QuarkusNettyConnectionCache cache = new QuarkusNettyConnectionCache(false);
+
+        assertNull(callOn(Thread::new, () -> {
+            cache.put(new TestAcquirable());
+            return cache.get();
+        }));
+    }
+
+    @Test
+    void virtualThreadCacheDisabled() {
+        assertNull(new QuarkusNettyConnectionCache(false).virtualThreadCache);
+        assertNotNull(new QuarkusNettyConnectionCache(true).virtualThreadCache);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void doesNotCacheOnVirtualThreadsWhenDisabled() throws Exception {
+        QuarkusNettyConnectionCache cache = new QuarkusNettyConnectionCache(false);
+
+        assertNull(callOn(TestAcquirable::unstartedVirtualThread, () -> {
+            cache.put(new TestAcquirable());
+            return cache.get();
+        }));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void cachesOnVirtualThreadsWhenEnabled() throws Exception {
+        QuarkusNettyConnectionCache cache = new QuarkusNettyConnectionCache(true);
+        TestAcquirable acquirable = new TestAcquirable();
+
+        Acquirable cached = callOn(TestAcquirable::unstartedVirtualThread, () -> {
+            cache.put(acquirable);
+            return cache.get();
+        });
+        assertSame(acquirable, cached);
+    }
+
+}
@@ -0,0 +1,80 @@
+package io.quarkus.agroal.runtime;
+
+import static io.quarkus.agroal.runtime.TestAcquirable.callOn;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.jboss.threads.JBossThread;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import io.agroal.api.cache.Acquirable;
+
+class QuarkusSimpleConnectionCacheTest {
+
+    @Test
+    void cachesOnJBossThreads() throws Exception {
+        QuarkusSimpleConnectionCache cache = new QuarkusSimpleConnectionCache(false);
+        TestAcquirable acquirable = new TestAcquirable();
+
+        assertSame(acquirable, callOn(JBossThread::new, () -> {
+            cache.put(acquirable);
+            return cache.get();
+        }));
+    }
+
+    @Test
+    void resetClearsTheCacheOfJBossThreads() throws Exception {
+        QuarkusSimpleConnectionCache cache = new QuarkusSimpleConnectionCache(false);
+        TestAcquirable acquirable = new TestAcquirable();
+
+        assertNull(callOn(JBossThread::new, () -> {
+            cache.put(acquirable);
+            cache.reset();
+            return cache.get();
+        }));
+    }
+
+    @Test
+    void doesNotCacheOnOtherThreads() throws Exception {
+        QuarkusSimpleConnectionCache cache = new QuarkusSimpleConnectionCache(false);
+
+        assertNull(callOn(Thread::new, () -> {
+            cache.put(new TestAcquirable());
+            return cache.get();
+        }));
+    }
+
+    @Test
+    void virtualThreadCacheDisabled() {
+        assertNull(new QuarkusSimpleConnectionCache(false).virtualThreadCache);
+        assertNotNull(new QuarkusSimpleConnectionCache(true).virtualThreadCache);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void doesNotCacheOnVirtualThreadsWhenDisabled() throws Exception {
+        QuarkusSimpleConnectionCache cache = new QuarkusSimpleConnectionCache(false);
+
+        assertNull(callOn(TestAcquirable::unstartedVirtualThread, () -> {
+            cache.put(new TestAcquirable());
+            return cache.get();
+        }));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void cachesOnVirtualThreadsWhenEnabled() throws Exception {
+        QuarkusSimpleConnectionCache cache = new QuarkusSimpleConnectionCache(true);
+        TestAcquirable acquirable = new TestAcquirable();
+
+        Acquirable cached = callOn(TestAcquirable::unstartedVirtualThread, () -> {
+            cache.put(acquirable);
+            return cache.get();
+        });
+        assertSame(acquirable, cached);
+    }
+
+}
@@ -0,0 +1,48 @@
+package io.quarkus.agroal.runtime;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import io.agroal.api.cache.Acquirable;
+
+/**
+ * A cached connection that can be acquired by one thread at a time, like {@code io.agroal.pool.ConnectionHandler}.
+ */
+final class TestAcquirable implements Acquirable {
+
+    private final AtomicBoolean acquired = new AtomicBoolean();
+
+    @Override
+    public boolean acquire() {
+        return acquired.compareAndSet(false, true);
+    }
+
+    @Override
+    public boolean isAcquired() {
+        return acquired.get();
+    }
+
+    void release() {
+        acquired.set(false);
+    }
+
+    static <T> T callOn(Function<Runnable, Thread> threadFactory, Callable<T> callable) throws Exception {
+        FutureTask<T> task = new FutureTask<>(callable);
+        threadFactory.apply(task).start();
+        return task.get();
+    }
+
+    static Thread unstartedVirtualThread(Runnable task) {
+        // Thread.ofVirtual() is not available when compiling for Java 17
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (Thread) Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class)
+                    .invoke(builder, task);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
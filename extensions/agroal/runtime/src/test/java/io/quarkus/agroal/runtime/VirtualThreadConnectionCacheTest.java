@@ -0,0 +1,125 @@
+package io.quarkus.agroal.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import io.agroal.api.cache.Acquirable;
+
+class VirtualThreadConnectionCacheTest {
+
+    @Test
+    void threadReusesItsStripe() {
+        VirtualThreadConnectionCache cache = new VirtualThreadConnectionCache(4);
+        Thread thread = new Thread(() -> {
+        });
+        TestAcquirable acquirable = new TestAcquirable();
+        cache.put(thread, acquirable);
+
+        assertSame(acquirable, cache.get(thread));
+        acquirable.release();
+        assertSame(acquirable, cache.get(thread));
+    }
+
+    @Test
+    void stripeIsAcquiredByOneThreadAtATime() {
+        VirtualThreadConnectionCache cache = new VirtualThreadConnectionCache(2);
+        Thread[] threads = threadsSharingAStripe(cache);
+        TestAcquirable acquirable = new TestAcquirable();
+        cache.put(threads[0], acquirable);
+
+        assertSame(acquirable, cache.get(threads[1]));
+        // the connection of the stripe is in use
+        assertNull(cache.get(threads[0]));
+        acquirable.release();
+        assertSame(acquirable, cache.get(threads[0]));
+    }
+
+    @Test
+    void resetReleasesAllStripes() {
+        VirtualThreadConnectionCache cache = new VirtualThreadConnectionCache(8);
+        Thread[] threads = new Thread[16];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+            });
+            cache.put(threads[i], new TestAcquirable());
+        }
+
+        cache.reset();
+        for (Thread thread : threads) {
+            assertNull(cache.get(thread));
+        }
+    }
+
+    @Test
+    void platformThreadIsNotVirtual() {
+        assertFalse(VirtualThreadConnectionCache.isVirtual(Thread.currentThread()));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreadsSharingAStripe() throws Exception {
+        VirtualThreadConnectionCache cache = new VirtualThreadConnectionCache(2);
+        TestAcquirable acquirable = new TestAcquirable();
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger hits = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Runnable task = () -> {
+            Thread current = Thread.currentThread();
+            if (!VirtualThreadConnectionCache.isVirtual(current)) {
+                failure.set(new AssertionError("Not a virtual thread"));
+                return;
+            }
+            for (int i = 0; i < 10_000; i++) {
+                Acquirable cached = cache.get(current);
+                if (cached == null) {
+                    continue;
+                }
+                if (inUse.incrementAndGet() != 1) {
+                    failure.set(new AssertionError("The connection was acquired by two threads"));
+                }
+                hits.incrementAndGet();
+                inUse.decrementAndGet();
+                acquirable.release();
+                cache.put(current, cached);
+                Thread.yield();
+            }
+        };
+        Thread first = TestAcquirable.unstartedVirtualThread(task);
+        Thread second = TestAcquirable.unstartedVirtualThread(task);
+        while (cache.stripe(first) != cache.stripe(second)) {
+            second = TestAcquirable.unstartedVirtualThread(task);
+        }
+        cache.put(first, acquirable);
+
+        first.start();
+        second.start();
+        first.join();
+        second.join();
+
+        assertNull(failure.get());
+        assertTrue(hits.get() > 0);
+        assertEquals(0, inUse.get());
+    }
+
+    private static Thread[] threadsSharingAStripe(VirtualThreadConnectionCache cache) {
+        Thread first = new Thread(() -> {
+        });
+        Thread second;
+        do {
+            second = new Thread(() -> {
+            });
+        } while (cache.stripe(first) != cache.stripe(second));
+        return new Thread[] { first, second };
+    }
+
+}
@@ -0,0 +1,73 @@
+package io.quarkus.agroal.runtime.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.metrics.RecordingMetricsFactory;
+
+class AgroalAcquisitionTimeListenerTest {
+
+    private static final String TIMER = "agroal.acquire.time";
+
+    private final RecordingMetricsFactory metrics = new RecordingMetricsFactory();
+
+    @Test
+    void recordsEachAcquisition() throws InterruptedException {
+        AgroalAcquisitionTimeListener listener = new AgroalAcquisitionTimeListener();
+        listener.timeRecorder(metrics.builder(TIMER).buildTimer());
+
+        listener.beforeConnectionAcquire();
+        Thread.sleep(5);
+        listener.onConnectionAcquire(null);
+        listener.beforeConnectionAcquire();
+        listener.onConnectionAcquire(null);
+
+        assertEquals(2, metrics.timerCount(TIMER));
+        assertTrue(metrics.timerNanos(TIMER).get(0) >= TimeUnit.MILLISECONDS.toNanos(5));
+    }
+
+    @Test
+    void doesNotRecordAnAcquisitionTwice() {
+        AgroalAcquisitionTimeListener listener = new AgroalAcquisitionTimeListener();
+        listener.timeRecorder(metrics.builder(TIMER).buildTimer());
+
+        listener.beforeConnectionAcquire();
+        listener.onConnectionAcquire(null);
+        // no matching beforeConnectionAcquire()
+        listener.onConnectionAcquire(null);
+
+        assertEquals(1, metrics.timerCount(TIMER));
+    }
+
+    @Test
+    void doesNotRecordWithoutMetrics() {
+        AgroalAcquisitionTimeListener listener = new AgroalAcquisitionTimeListener();
+
+        // the acquisition started before the metrics were registered
+        listener.beforeConnectionAcquire();
+        listener.timeRecorder(metrics.builder(TIMER).buildTimer());
+        listener.onConnectionAcquire(null);
+
+        assertEquals(0, metrics.timerCount(TIMER));
+    }
+
+    @Test
+    void timesAcquisitionsPerThread() throws InterruptedException {
+        AgroalAcquisitionTimeListener listener = new AgroalAcquisitionTimeListener();
+        listener.timeRecorder(metrics.builder(TIMER).buildTimer());
+
+        listener.beforeConnectionAcquire();
+        Thread other = new Thread(() -> listener.onConnectionAcquire(null));
+        other.start();
+        other.join();
+        assertEquals(0, metrics.timerCount(TIMER));
+
+        listener.onConnectionAcquire(null);
+        assertEquals(1, metrics.timerCount(TIMER));
+    }
+
+}
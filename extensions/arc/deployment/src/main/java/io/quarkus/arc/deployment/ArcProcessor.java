@@ -15,6 +15,7 @@
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -52,6 +53,7 @@
 import io.quarkus.arc.processor.BeanProcessor;
 import io.quarkus.arc.processor.BeanRegistrar;
 import io.quarkus.arc.processor.BeanResolver;
+import io.quarkus.arc.processor.BuiltinScope;
 import io.quarkus.arc.processor.BytecodeTransformer;
 import io.quarkus.arc.processor.ContextConfigurator;
 import io.quarkus.arc.processor.ContextRegistrar;
@@ -395,15 +397,19 @@ public Integer compute(AnnotationTarget target, Collection<StereotypeInfo> stere
         }
 
         builder.setBuildCompatibleExtensions(buildCompatibleExtensions.entrypoint);
-        builder.setOptimizeContexts(new Predicate<BeanDeployment>() {
+        builder.setOptimizeContexts(new BiPredicate<BeanDeployment, DotName>() {
             @Override
-            public boolean test(BeanDeployment deployment) {
+            public boolean test(BeanDeployment deployment, DotName scope) {
                 switch (arcConfig.optimizeContexts()) {
                     case TRUE:
                         return true;
                     case FALSE:
                         return false;
                     case AUTO:
+                        if (BuiltinScope.REQUEST.getName().equals(scope)) {
+                            // The request context instances only hold the request scoped beans
+                            return deployment.getBeans().stream().filter(BuiltinScope.REQUEST::isDeclaredBy).count() < 1000;
+                        }
                         // Optimize the context if there is less than 1000 beans in the app
                         // Note that removed beans are excluded
                         return deployment.getBeans().size() < 1000;
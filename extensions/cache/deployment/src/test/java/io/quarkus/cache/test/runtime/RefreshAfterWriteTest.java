@@ -0,0 +1,99 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.RefreshStatsCounter;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@code refresh-after-write} configuration and the {@link CacheResult#refreshAfterWrite()} attribute.
+ */
+public class RefreshAfterWriteTest {
+
+    private static final String SOFT_TTL_CACHE = "soft-ttl-cache";
+    private static final String CONFIGURED_CACHE = "configured-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CONFIGURED_CACHE + "\".refresh-after-write", "100ms");
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(SOFT_TTL_CACHE)
+    Cache softTtlCache;
+
+    @CacheName(CONFIGURED_CACHE)
+    Cache configuredCache;
+
+    @Test
+    public void testUniStaleWhileRevalidate() throws InterruptedException {
+        assertEquals("1", cachedService.uniValue().await().indefinitely());
+        assertEquals("1", cachedService.uniValue().await().indefinitely());
+        assertEquals(1, cachedService.uniInvocations.get());
+
+        Thread.sleep(200);
+        // The stale value is returned and a single refresh is triggered
+        assertEquals("1", cachedService.uniValue().await().indefinitely());
+        // The refresh completed synchronously
+        assertEquals("2", cachedService.uniValue().await().indefinitely());
+        assertEquals(2, cachedService.uniInvocations.get());
+
+        RefreshStatsCounter stats = refreshStats(softTtlCache);
+        assertEquals(1, stats.staleHitCount());
+        assertEquals(1, stats.refreshSuccessCount());
+        assertEquals(0, stats.refreshFailureCount());
+    }
+
+    @Test
+    public void testConfiguredRefreshAfterWrite() throws InterruptedException {
+        assertEquals(1, cachedService.value());
+        assertEquals(1, cachedService.value());
+
+        Thread.sleep(200);
+        // The first caller refreshes the stale value synchronously
+        assertEquals(2, cachedService.value());
+        assertEquals(2, cachedService.value());
+        assertEquals(2, cachedService.invocations.get());
+
+        RefreshStatsCounter stats = refreshStats(configuredCache);
+        assertEquals(1, stats.refreshSuccessCount());
+        assertEquals(0, stats.staleHitCount());
+    }
+
+    private static RefreshStatsCounter refreshStats(Cache cache) {
+        return ((CaffeineCacheImpl) cache.as(CaffeineCache.class)).getRefreshStatsCounter();
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final AtomicInteger uniInvocations = new AtomicInteger();
+        final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = SOFT_TTL_CACHE, refreshAfterWrite = 100)
+        public Uni<String> uniValue() {
+            return Uni.createFrom().item(() -> String.valueOf(uniInvocations.incrementAndGet()));
+        }
+
+        @CacheResult(cacheName = CONFIGURED_CACHE)
+        public int value() {
+            return invocations.incrementAndGet();
+        }
+    }
+}
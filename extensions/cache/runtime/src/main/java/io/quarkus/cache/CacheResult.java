@@ -63,6 +63,19 @@
     @Nonbinding
     long lockTimeout() default 0;
 
+    /**
+     * Delay in milliseconds after which a cached value is considered stale (soft time-to-live). A stale value is still
+     * returned, but it is refreshed by a single invocation of the cached method. If the method returns {@link io.smallrye.mutiny.Uni} or
+     * {@link java.util.concurrent.CompletionStage}, the stale value is returned immediately and the refresh runs in the
+     * background. Otherwise, the first invocation that finds the stale value refreshes it synchronously while the concurrent
+     * invocations get the stale value. A value of {@code 0} (which is the default one) means that the
+     * {@code refresh-after-write} value from the cache configuration is used, if any.
+     * <p>
+     * Refreshing is only supported by the Caffeine cache.
+     */
+    @Nonbinding
+    long refreshAfterWrite() default 0;
+
     /**
      * The {@link CacheKeyGenerator} implementation to use to generate a cache key.
      */
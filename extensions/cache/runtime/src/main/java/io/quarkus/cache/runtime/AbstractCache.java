@@ -1,7 +1,11 @@
 package io.quarkus.cache.runtime;
 
+import java.time.Duration;
+import java.util.function.Function;
+
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.DefaultCacheKey;
+import io.smallrye.mutiny.Uni;
 
 public abstract class AbstractCache implements Cache {
 
@@ -17,6 +21,36 @@ public Object getDefaultKey() {
         return defaultKey;
     }
 
+    /**
+     * Returns a lazy asynchronous action that will emit the cache value identified by {@code key}. A cached value that is
+     * older than {@code refreshAfterWrite} is considered stale and should be refreshed. Caches that do not support refreshing
+     * ignore the refresh interval.
+     *
+     * @param key cache key
+     * @param valueLoader function used to compute a cache value if {@code key} is not already associated with a value
+     * @param refreshAfterWrite the refresh interval, or {@code null} if the configured value should be used
+     * @return a lazy asynchronous action that will emit a cache value
+     * @see #get(Object, Function)
+     */
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader, Duration refreshAfterWrite) {
+        return get(key, valueLoader);
+    }
+
+    /**
+     * Returns a lazy asynchronous action that will emit the cache value identified by {@code key}. A cached value that is
+     * older than {@code refreshAfterWrite} is considered stale and should be refreshed. Caches that do not support refreshing
+     * ignore the refresh interval.
+     *
+     * @param key cache key
+     * @param valueLoader function used to compute a cache value if {@code key} is not already associated with a value
+     * @param refreshAfterWrite the refresh interval, or {@code null} if the configured value should be used
+     * @return a lazy asynchronous action that will emit a cache value
+     * @see #getAsync(Object, Function)
+     */
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader, Duration refreshAfterWrite) {
+        return getAsync(key, valueLoader);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Cache> T as(Class<T> type) {
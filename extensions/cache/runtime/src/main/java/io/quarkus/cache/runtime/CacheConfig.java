@@ -75,6 +75,14 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * Specifies that each entry should be refreshed once a fixed duration has elapsed after the entry's creation, or
+             * the most recent replacement of its value. A stale entry is still returned while a single refresh is running;
+             * concurrent callers do not wait for the refresh. If the refresh fails, the stale entry is kept until it expires.
+             * This value should be lower than {@code expire-after-write}.
+             */
+            Optional<Duration> refreshAfterWrite();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
@@ -49,6 +49,7 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
         Object key = getCacheKey(cache, binding.keyGenerator(), interceptionContext.getCacheKeyParameterPositions(),
                 invocationContext.getMethod(), invocationContext.getParameters());
         LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
+        Duration refreshAfterWrite = binding.refreshAfterWrite() > 0 ? Duration.ofMillis(binding.refreshAfterWrite()) : null;
 
         try {
             ReturnType returnType = determineReturnType(invocationContext.getMethod().getReturnType());
@@ -65,7 +66,7 @@ public Uni<Object> apply(Object key) {
                             throw new CacheException(e);
                         }
                     }
-                }).onFailure().call(new Function<>() {
+                }, refreshAfterWrite).onFailure().call(new Function<>() {
                     @Override
                     public Uni<?> apply(Throwable throwable) {
                         return cache.invalidate(key).replaceWith(throwable);
@@ -104,7 +105,7 @@ public Object apply(Object k) {
                             throw new CacheException(e);
                         }
                     }
-                });
+                }, refreshAfterWrite);
                 Object value;
                 if (binding.lockTimeout() <= 0) {
                     value = cacheValue.await().indefinitely();
@@ -6,7 +6,9 @@
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -44,6 +46,9 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
     private final boolean recordStats;
+    private final RefreshStatsCounter refreshStatsCounter;
+    // keys of the entries that are being refreshed
+    private final Set<Object> refreshing;
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
@@ -74,6 +79,8 @@ public StatsCounter get() {
             LOGGER.tracef("Caffeine stats recording is disabled for cache [%s]", cacheInfo.name);
             statsCounter = StatsCounter.disabledStatsCounter();
         }
+        refreshStatsCounter = new RefreshStatsCounter();
+        refreshing = ConcurrentHashMap.newKeySet();
         cache = builder.buildAsync();
     }
 
@@ -84,7 +91,19 @@ public String getName() {
 
     @Override
     public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        return get(key, valueLoader, null);
+    }
+
+    /**
+     * If a cached value is older than the refresh interval, the value is reloaded by the current caller, while the
+     * concurrent callers are served the stale value.
+     *
+     * @param refreshAfterWrite the refresh interval, or {@code null} if the configured value should be used
+     */
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader, Duration refreshAfterWrite) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        long refreshNanos = refreshNanos(refreshAfterWrite);
         return Uni.createFrom().completionStage(
                 /*
                  * Even if CompletionStage is eager, the Supplier used below guarantees that the cache value computation will be
@@ -93,7 +112,7 @@ public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
                 new Supplier<CompletionStage<V>>() {
                     @Override
                     public CompletionStage<V> get() {
-                        CompletionStage<Object> caffeineValue = getFromCaffeine(key, valueLoader);
+                        CompletionStage<Object> caffeineValue = getFromCaffeine(key, valueLoader, refreshNanos);
                         return cast(caffeineValue);
                     }
                 });
@@ -101,7 +120,19 @@ public CompletionStage<V> get() {
 
     @Override
     public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        return getAsync(key, valueLoader, null);
+    }
+
+    /**
+     * If a cached value is older than the refresh interval, the stale value is returned and a single reload is triggered in
+     * the background.
+     *
+     * @param refreshAfterWrite the refresh interval, or {@code null} if the configured value should be used
+     */
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader, Duration refreshAfterWrite) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        long refreshNanos = refreshNanos(refreshAfterWrite);
         Context context = Vertx.currentContext();
         return Uni.createFrom()
                 .completionStage(new Supplier<CompletionStage<V>>() {
@@ -116,11 +147,14 @@ public CompletionStage<V> get() {
                                     public CompletableFuture<Object> apply(Object key) {
                                         recorder.onValueAbsent();
                                         return valueLoader.apply((K) key)
-                                                .map(TO_CACHE_VALUE)
+                                                .map(toCacheValue(refreshNanos))
                                                 .subscribeAsCompletionStage();
                                     }
                                 });
                         recorder.doRecord(key);
+                        if (refreshNanos > 0 && !recorder.isValueAbsent()) {
+                            refreshIfStale(key, (CompletableFuture<Object>) result, valueLoader, refreshNanos);
+                        }
                         return result;
                     }
                 })
@@ -207,14 +241,14 @@ public V apply(Object value) {
      * @return a {@link CompletableFuture} holding the cache value
      * @throws CacheException if an exception is thrown during the cache value computation
      */
-    private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> valueLoader) {
+    private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> valueLoader, long refreshNanos) {
         CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
             statsCounter.recordMisses(1);
             try {
                 Object value = valueLoader.apply(key);
-                newCacheValue.complete(NullValueConverter.toCacheValue(value));
+                newCacheValue.complete(toCacheValue(value, refreshNanos));
             } catch (Throwable t) {
                 cache.asMap().remove(key, newCacheValue);
                 newCacheValue.complete(new CaffeineComputationThrowable(t));
@@ -223,10 +257,87 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            if (refreshNanos > 0 && isStale(existingCacheValue, refreshNanos)) {
+                if (refreshing.add(key)) {
+                    // The caller that wins the refresh reloads the value synchronously, the other callers get the stale value
+                    try {
+                        Object value = valueLoader.apply(key);
+                        CompletableFuture<Object> refreshedValue = CompletableFuture
+                                .completedFuture(toCacheValue(value, refreshNanos));
+                        cache.asMap().replace(key, existingCacheValue, refreshedValue);
+                        refreshStatsCounter.recordRefreshSuccess();
+                        return unwrapCacheValueOrThrowable(refreshedValue);
+                    } catch (Throwable t) {
+                        LOGGER.debugf(t, "Unable to refresh the entry with key [%s] in cache [%s]", key, cacheInfo.name);
+                        refreshStatsCounter.recordRefreshFailure();
+                    } finally {
+                        refreshing.remove(key);
+                    }
+                }
+                refreshStatsCounter.recordStaleHit();
+            }
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    private <K, V> void refreshIfStale(K key, CompletableFuture<Object> cacheValue, Function<K, Uni<V>> valueLoader,
+            long refreshNanos) {
+        if (!isStale(cacheValue, refreshNanos)) {
+            return;
+        }
+        refreshStatsCounter.recordStaleHit();
+        if (!refreshing.add(key)) {
+            // Already being refreshed
+            return;
+        }
+        LOGGER.tracef("Refreshing entry with key [%s] in cache [%s]", key, cacheInfo.name);
+        Uni<V> reload;
+        try {
+            reload = valueLoader.apply(key);
+        } catch (Throwable t) {
+            refreshFailed(key, t);
+            return;
+        }
+        reload.map(toCacheValue(refreshNanos)).subscribe().with(new Consumer<Object>() {
+            @Override
+            public void accept(Object value) {
+                // Do not replace the value if the entry was invalidated or replaced in the meantime
+                cache.asMap().replace(key, cacheValue, CompletableFuture.completedFuture(value));
+                refreshing.remove(key);
+                refreshStatsCounter.recordRefreshSuccess();
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable t) {
+                refreshFailed(key, t);
+            }
+        });
+    }
+
+    private void refreshFailed(Object key, Throwable t) {
+        // The stale value is kept until it expires or a subsequent refresh succeeds
+        refreshing.remove(key);
+        refreshStatsCounter.recordRefreshFailure();
+        LOGGER.debugf(t, "Unable to refresh the entry with key [%s] in cache [%s]", key, cacheInfo.name);
+    }
+
+    private static boolean isStale(CompletableFuture<Object> cacheValue, long refreshNanos) {
+        // A value that is still being computed is never stale
+        if (!cacheValue.isDone() || cacheValue.isCompletedExceptionally()) {
+            return false;
+        }
+        Object value = cacheValue.getNow(null);
+        return value instanceof TimestampedValue
+                && System.nanoTime() - ((TimestampedValue) value).writeTime >= refreshNanos;
+    }
+
+    private long refreshNanos(Duration refreshAfterWrite) {
+        if (refreshAfterWrite == null) {
+            refreshAfterWrite = cacheInfo.refreshAfterWrite;
+        }
+        return refreshAfterWrite != null ? refreshAfterWrite.toNanos() : 0;
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
@@ -240,7 +351,7 @@ public Object apply(Object value) {
                         throw new CacheException(cause);
                     }
                 } else {
-                    return NullValueConverter.fromCacheValue(value);
+                    return fromCacheValue(value);
                 }
             }
         });
@@ -336,6 +447,10 @@ public long getSize() {
         return cache.synchronous().estimatedSize();
     }
 
+    public RefreshStatsCounter getRefreshStatsCounter() {
+        return refreshStatsCounter;
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T cast(Object value) {
         try {
@@ -355,6 +470,8 @@ private interface StatsRecorder {
 
         void onValueAbsent();
 
+        boolean isValueAbsent();
+
         <K> void doRecord(K key);
 
     }
@@ -368,6 +485,11 @@ public void onValueAbsent() {
             // no-op
         }
 
+        @Override
+        public boolean isValueAbsent() {
+            return false;
+        }
+
         @Override
         public <K> void doRecord(K key) {
             // no-op
@@ -384,6 +506,11 @@ public void onValueAbsent() {
             valueAbsent = true;
         }
 
+        @Override
+        public boolean isValueAbsent() {
+            return valueAbsent;
+        }
+
         @Override
         public <K> void doRecord(K key) {
             if (valueAbsent) {
@@ -396,11 +523,50 @@ public <K> void doRecord(K key) {
 
     }
 
+    private static Object toCacheValue(Object value, long refreshNanos) {
+        Object cacheValue = NullValueConverter.toCacheValue(value);
+        return refreshNanos > 0 ? new TimestampedValue(cacheValue, System.nanoTime()) : cacheValue;
+    }
+
+    private static Function<Object, Object> toCacheValue(long refreshNanos) {
+        if (refreshNanos <= 0) {
+            return TO_CACHE_VALUE;
+        }
+        return new Function<Object, Object>() {
+
+            @Override
+            public Object apply(Object value) {
+                return toCacheValue(value, refreshNanos);
+            }
+        };
+    }
+
+    private static Object fromCacheValue(Object value) {
+        if (value instanceof TimestampedValue) {
+            value = ((TimestampedValue) value).value;
+        }
+        return NullValueConverter.fromCacheValue(value);
+    }
+
+    /**
+     * A cache value that records the time it was written. It is only used if the entries of a cache can be refreshed.
+     */
+    private static final class TimestampedValue {
+
+        final Object value;
+        final long writeTime;
+
+        TimestampedValue(Object value, long writeTime) {
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+    }
+
     private static final Function<Object, Object> FROM_CACHE_VALUE = new Function<Object, Object>() {
 
         @Override
         public Object apply(Object value) {
-            return NullValueConverter.fromCacheValue(value);
+            return fromCacheValue(value);
         }
     };
 
@@ -0,0 +1,47 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the statistics of the entries refreshed by a {@link CaffeineCacheImpl}. The hits and misses are recorded by the
+ * Caffeine stats counter.
+ */
+public class RefreshStatsCounter {
+
+    private final LongAdder staleHitCount = new LongAdder();
+    private final LongAdder refreshSuccessCount = new LongAdder();
+    private final LongAdder refreshFailureCount = new LongAdder();
+
+    void recordStaleHit() {
+        staleHitCount.increment();
+    }
+
+    void recordRefreshSuccess() {
+        refreshSuccessCount.increment();
+    }
+
+    void recordRefreshFailure() {
+        refreshFailureCount.increment();
+    }
+
+    /**
+     * @return the number of times a stale value was returned
+     */
+    public long staleHitCount() {
+        return staleHitCount.sum();
+    }
+
+    /**
+     * @return the number of successful refreshes
+     */
+    public long refreshSuccessCount() {
+        return refreshSuccessCount.sum();
+    }
+
+    /**
+     * @return the number of failed refreshes
+     */
+    public long refreshFailureCount() {
+        return refreshFailureCount.sum();
+    }
+}
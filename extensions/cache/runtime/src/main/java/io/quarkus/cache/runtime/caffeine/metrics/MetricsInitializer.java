@@ -2,9 +2,11 @@
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.quarkus.cache.runtime.caffeine.RefreshStatsCounter;
+
 public interface MetricsInitializer {
 
     boolean metricsEnabled();
 
-    void recordMetrics(AsyncCache<Object, Object> cache, String cacheName);
+    void recordMetrics(AsyncCache<Object, Object> cache, RefreshStatsCounter refreshStats, String cacheName);
 }
@@ -4,8 +4,10 @@
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.quarkus.cache.runtime.caffeine.RefreshStatsCounter;
 
 /**
  * An instance of this class is created during the instantiation of the Caffeine caches when the application depends on a
@@ -21,9 +23,24 @@ public boolean metricsEnabled() {
     }
 
     @Override
-    public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
+    public void recordMetrics(AsyncCache<Object, Object> cache, RefreshStatsCounter refreshStats, String cacheName) {
         LOGGER.tracef("Initializing Micrometer metrics for cache [%s]", cacheName);
         // The 'tags' vararg is purposely empty here. Tags should be configured using MeterFilter.
         CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, cacheName);
+        FunctionCounter.builder("cache.gets", refreshStats, RefreshStatsCounter::staleHitCount)
+                .tag("cache", cacheName)
+                .tag("result", "stale")
+                .description("The number of times cache lookup methods have returned a cached value.")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.refreshes", refreshStats, RefreshStatsCounter::refreshSuccessCount)
+                .tag("cache", cacheName)
+                .tag("result", "success")
+                .description("The number of successful refreshes of stale values.")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.refreshes", refreshStats, RefreshStatsCounter::refreshFailureCount)
+                .tag("cache", cacheName)
+                .tag("result", "failure")
+                .description("The number of failed refreshes of stale values.")
+                .register(Metrics.globalRegistry);
     }
 }
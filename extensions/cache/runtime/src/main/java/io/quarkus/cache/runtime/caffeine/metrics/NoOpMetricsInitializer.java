@@ -4,6 +4,8 @@
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.quarkus.cache.runtime.caffeine.RefreshStatsCounter;
+
 /**
  * An instance of this class is created during the instantiation of the Caffeine caches when the application does not depend on
  * any quarkus-micrometer-registry-* extension. It is required to make the micrometer-core dependency optional.
@@ -18,7 +20,7 @@ public boolean metricsEnabled() {
     }
 
     @Override
-    public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
+    public void recordMetrics(AsyncCache<Object, Object> cache, RefreshStatsCounter refreshStats, String cacheName) {
         LOGGER.tracef("Initializing no-op metrics for cache [%s]", cacheName);
         // Do nothing more.
     }
@@ -10,12 +10,15 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.BuildSteps;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.hibernate.orm.deployment.HibernateOrmConfig;
 import io.quarkus.hibernate.orm.deployment.HibernateOrmEnabled;
 import io.quarkus.hibernate.orm.deployment.PersistenceProviderSetUpBuildItem;
+import io.quarkus.hibernate.orm.deployment.PersistenceUnitDescriptorBuildItem;
 import io.quarkus.hibernate.orm.runtime.metrics.HibernateMetricsRecorder;
+import io.quarkus.hibernate.orm.runtime.migration.MultiTenancyStrategy;
 
 /**
  * Produce metrics for Hibernate ORM
@@ -30,7 +33,9 @@ public void metrics(HibernateOrmConfig config,
             HibernateMetricsRecorder metricsRecorder,
             List<PersistenceProviderSetUpBuildItem> persistenceUnitsStarted,
             List<JdbcDataSourceSchemaReadyBuildItem> jdbcDataSourceSchemaReadyBuildItems,
+            List<PersistenceUnitDescriptorBuildItem> persistenceUnitDescriptors,
             Optional<MetricsCapabilityBuildItem> metricsConfiguration,
+            ShutdownContextBuildItem shutdownContext,
             BuildProducer<MetricsFactoryConsumerBuildItem> datasourceMetrics) {
 
         // IF Hibernate metrics and Hibernate statistics are enabled
@@ -38,5 +43,18 @@ public void metrics(HibernateOrmConfig config,
         if (config.metrics().enabled() && config.statistics().orElse(true) && metricsConfiguration.isPresent()) {
             datasourceMetrics.produce(new MetricsFactoryConsumerBuildItem(metricsRecorder.consumeMetricsFactory()));
         }
+
+        // IF Hibernate metrics are enabled and a persistence unit resolves connections per tenant,
+        // then define a consumer for the tenant connection metrics, which do not rely on Hibernate statistics
+        if (config.metrics().enabled() && metricsConfiguration.isPresent()
+                && persistenceUnitDescriptors.stream().anyMatch(HibernateOrmMetricsProcessor::hasTenantConnections)) {
+            datasourceMetrics.produce(new MetricsFactoryConsumerBuildItem(
+                    metricsRecorder.consumeTenantConnectionMetricsFactory(shutdownContext)));
+        }
+    }
+
+    private static boolean hasTenantConnections(PersistenceUnitDescriptorBuildItem descriptor) {
+        MultiTenancyStrategy strategy = descriptor.getConfig().getMultiTenancyStrategy();
+        return strategy == MultiTenancyStrategy.DATABASE || strategy == MultiTenancyStrategy.SCHEMA;
     }
 }
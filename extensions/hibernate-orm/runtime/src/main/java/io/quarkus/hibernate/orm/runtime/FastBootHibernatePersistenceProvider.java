@@ -44,6 +44,7 @@
 import io.quarkus.hibernate.orm.runtime.migration.MultiTenancyStrategy;
 import io.quarkus.hibernate.orm.runtime.recording.PrevalidatedQuarkusMetadata;
 import io.quarkus.hibernate.orm.runtime.recording.RecordedState;
+import io.quarkus.hibernate.orm.runtime.tenant.HibernateMultiTenantConnectionProvider;
 
 /**
  * This can not inherit from HibernatePersistenceProvider as that would force
@@ -554,6 +555,10 @@ private static void injectRuntimeConfiguration(HibernateOrmRuntimeConfigPersiste
 
         runtimeSettingsBuilder.put(HibernateHints.HINT_FLUSH_MODE,
                 persistenceUnitConfig.flush().mode().getHibernateFlushMode());
+
+        // Multitenancy: picked up by the HibernateMultiTenantConnectionProvider, if any
+        runtimeSettingsBuilder.put(HibernateMultiTenantConnectionProvider.TENANT_CONNECTIONS,
+                persistenceUnitConfig.tenantConnections());
     }
 
 }
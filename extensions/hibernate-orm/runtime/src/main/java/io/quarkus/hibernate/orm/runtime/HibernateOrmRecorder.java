@@ -98,7 +98,9 @@ public Supplier<DataSourceTenantConnectionResolver> dataSourceTenantConnectionRe
         return new Supplier<DataSourceTenantConnectionResolver>() {
             @Override
             public DataSourceTenantConnectionResolver get() {
-                return new DataSourceTenantConnectionResolver(persistenceUnitName, dataSourceName, multiTenancyStrategy);
+                return new DataSourceTenantConnectionResolver(persistenceUnitName, dataSourceName, multiTenancyStrategy,
+                        runtimeConfig.getValue().persistenceUnits().get(persistenceUnitName).tenantConnections()
+                                .sharedDatasource());
             }
         };
     }
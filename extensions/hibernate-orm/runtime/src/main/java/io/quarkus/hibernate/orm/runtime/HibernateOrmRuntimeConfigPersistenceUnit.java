@@ -1,7 +1,9 @@
 package io.quarkus.hibernate.orm.runtime;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 import jakarta.persistence.FlushModeType;
 
@@ -63,6 +65,14 @@ public interface HibernateOrmRuntimeConfigPersistenceUnit {
     @ConfigDocSection
     HibernateOrmConfigPersistenceUnitFlush flush();
 
+    /**
+     * Configuration of the tenant connections, when multitenancy is enabled with the `database` or `schema` strategy.
+     *
+     * @asciidoclet
+     */
+    @ConfigDocSection
+    HibernateOrmConfigPersistenceUnitTenantConnections tenantConnections();
+
     /**
      * Properties that should be passed on directly to Hibernate ORM.
      * Use the full configuration property key here,
@@ -334,6 +344,72 @@ interface HibernateOrmConfigPersistenceUnitLog {
 
     }
 
+    @ConfigGroup
+    interface HibernateOrmConfigPersistenceUnitTenantConnections {
+
+        /**
+         * The name of a datasource shared by the tenants that do not have a datasource of their own,
+         * when using the `database` multitenancy strategy.
+         *
+         * By default, a tenant uses the datasource named after the tenant identifier.
+         * When this is set, tenants without such a datasource borrow their connections from the shared datasource instead,
+         * and the catalog of each connection is switched to the tenant identifier.
+         * This only works with databases where `java.sql.Connection#setCatalog` switches the database, such as MariaDB,
+         * MySQL or Microsoft SQL Server.
+         *
+         * This is ignored if a custom `TenantConnectionResolver` is used.
+         *
+         * @asciidoclet
+         */
+        Optional<@WithConverter(TrimmedStringConverter.class) String> sharedDatasource();
+
+        /**
+         * The maximum number of connections a single tenant can hold at the same time.
+         *
+         * When a tenant reaches this quota, acquiring a connection for that tenant waits for one of its connections
+         * to be released, up to `acquisition-timeout`.
+         * This prevents a single tenant from exhausting a pool shared with other tenants.
+         *
+         * @asciidoclet
+         */
+        @ConfigDocDefault("unlimited")
+        OptionalInt maxPerTenant();
+
+        /**
+         * How long acquiring a connection waits for a tenant to be back under its `max-per-tenant` quota
+         * before failing.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("5S")
+        Duration acquisitionTimeout();
+
+        /**
+         * How long the connection provider of a tenant stays cached after the tenant last released a connection.
+         *
+         * When the connection provider of a tenant is evicted and the tenant has a datasource of its own,
+         * the idle connections of that datasource are closed.
+         * The connection provider is resolved again the next time the tenant needs a connection.
+         *
+         * @asciidoclet
+         */
+        @ConfigDocDefault("tenant connection providers are not evicted when idle")
+        Optional<Duration> idleTimeout();
+
+        /**
+         * The maximum number of tenant connection providers to cache.
+         *
+         * When this is exceeded, the connection providers of the tenants that have been idle the longest are evicted.
+         * The connection providers of tenants that currently hold connections are never evicted,
+         * so this limit may be exceeded temporarily.
+         *
+         * @asciidoclet
+         */
+        @ConfigDocDefault("unlimited")
+        OptionalInt maxCachedTenants();
+
+    }
+
     @ConfigGroup
     interface HibernateOrmConfigPersistenceUnitFlush {
         /**
@@ -13,12 +13,15 @@
 
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.runtime.JPAConfig;
+import io.quarkus.hibernate.orm.runtime.tenant.TenantConnectionMetrics;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.metrics.MetricsFactory;
 import io.smallrye.mutiny.tuples.Tuple2;
 
 /**
- * This recorder is invoked IFF Hibernate metrics and Hibernate statistics are enabled
+ * This recorder is invoked IFF Hibernate metrics are enabled;
+ * the metrics based on Hibernate statistics are only registered if Hibernate statistics are enabled too
  */
 @Recorder
 public class HibernateMetricsRecorder {
@@ -40,6 +43,17 @@ public void accept(MetricsFactory metricsFactory) {
         };
     }
 
+    /* RUNTIME_INIT for metrics */
+    public Consumer<MetricsFactory> consumeTenantConnectionMetricsFactory(ShutdownContext shutdownContext) {
+        shutdownContext.addShutdownTask(TenantConnectionMetrics::reset);
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                TenantConnectionMetrics.register(metricsFactory);
+            }
+        };
+    }
+
     /**
      * Register MP Metrics
      *
@@ -12,12 +12,16 @@
 import io.quarkus.agroal.DataSource;
 import io.quarkus.agroal.runtime.AgroalDataSourceUtil;
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.hibernate.orm.runtime.customized.QuarkusConnectionProvider;
 import io.quarkus.hibernate.orm.runtime.migration.MultiTenancyStrategy;
 
 /**
  * Creates a database connection based on the data sources in the configuration file.
  * The tenant identifier is used as the data source name.
+ * <p>
+ * With the DATABASE strategy, tenants without a data source of their own may share a data source,
+ * in which case the tenant identifier is used as the catalog of the connections.
  *
  * @author Michael Schnell
  *
@@ -32,14 +36,22 @@ public class DataSourceTenantConnectionResolver implements TenantConnectionResol
 
     private MultiTenancyStrategy multiTenancyStrategy;
 
+    private Optional<String> sharedDataSourceName = Optional.empty();
+
     public DataSourceTenantConnectionResolver() {
     }
 
     public DataSourceTenantConnectionResolver(String persistenceUnitName, Optional<String> dataSourceName,
             MultiTenancyStrategy multiTenancyStrategy) {
+        this(persistenceUnitName, dataSourceName, multiTenancyStrategy, Optional.empty());
+    }
+
+    public DataSourceTenantConnectionResolver(String persistenceUnitName, Optional<String> dataSourceName,
+            MultiTenancyStrategy multiTenancyStrategy, Optional<String> sharedDataSourceName) {
         this.persistenceUnitName = persistenceUnitName;
         this.dataSourceName = dataSourceName;
         this.multiTenancyStrategy = multiTenancyStrategy;
+        this.sharedDataSourceName = sharedDataSourceName;
     }
 
     @Override
@@ -47,6 +59,16 @@ public ConnectionProvider resolve(String tenantId) {
         LOG.debugv("resolve((persistenceUnitName={0}, tenantIdentifier={1})", persistenceUnitName, tenantId);
         LOG.debugv("multitenancy strategy: {0}", multiTenancyStrategy);
 
+        if (multiTenancyStrategy == MultiTenancyStrategy.DATABASE && sharedDataSourceName.isPresent()) {
+            InstanceHandle<AgroalDataSource> tenantDataSource = Arc.container().instance(AgroalDataSource.class,
+                    new DataSource.DataSourceLiteral(tenantId));
+            if (!tenantDataSource.isAvailable()) {
+                LOG.debugv("Tenant {0} has no datasource, using the shared datasource {1}", tenantId,
+                        sharedDataSourceName.get());
+                return new SharedDataSourceTenantConnectionProvider(tenantId, getDataSource(sharedDataSourceName.get()));
+            }
+        }
+
         AgroalDataSource dataSource = tenantDataSource(dataSourceName, tenantId, multiTenancyStrategy);
         if (dataSource == null) {
             throw new IllegalStateException(
@@ -54,7 +76,7 @@ public ConnectionProvider resolve(String tenantId) {
                             persistenceUnitName, tenantId));
         }
         return switch (multiTenancyStrategy) {
-            case DATABASE -> new QuarkusConnectionProvider(dataSource);
+            case DATABASE -> new TenantDataSourceConnectionProvider(dataSource);
             case SCHEMA -> new SchemaTenantConnectionProvider(tenantId, dataSource);
             default -> throw new IllegalStateException("Unexpected multitenancy strategy: " + multiTenancyStrategy);
         };
@@ -75,6 +97,44 @@ private static AgroalDataSource getDataSource(String dataSourceName) {
         return Arc.container().instance(AgroalDataSource.class, AgroalDataSourceUtil.qualifier(dataSourceName)).get();
     }
 
+    /**
+     * @return the datasource owned by the tenant of the given provider, or {@code null} if the provider was not created
+     *         by this resolver for a tenant with a datasource of its own
+     */
+    static AgroalDataSource ownedDataSource(ConnectionProvider provider) {
+        return provider instanceof TenantDataSourceConnectionProvider p ? p.getDataSource() : null;
+    }
+
+    /**
+     * The provider of a tenant that owns its datasource, i.e. no other tenant uses the datasource.
+     */
+    private static class TenantDataSourceConnectionProvider extends QuarkusConnectionProvider {
+
+        public TenantDataSourceConnectionProvider(AgroalDataSource dataSource) {
+            super(dataSource);
+        }
+
+    }
+
+    private static class SharedDataSourceTenantConnectionProvider extends QuarkusConnectionProvider {
+
+        private final String tenantId;
+
+        public SharedDataSourceTenantConnectionProvider(String tenantId, AgroalDataSource dataSource) {
+            super(dataSource);
+            this.tenantId = tenantId;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection conn = super.getConnection();
+            conn.setCatalog(tenantId);
+            LOG.debugv("Set catalog {0} for connection: {1}", tenantId, conn);
+            return conn;
+        }
+
+    }
+
     private static class SchemaTenantConnectionProvider extends QuarkusConnectionProvider {
 
         private final String tenantId;
@@ -1,21 +1,31 @@
 package io.quarkus.hibernate.orm.runtime.tenant;
 
 import java.lang.annotation.Annotation;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.enterprise.context.SessionScoped;
 
 import org.hibernate.engine.jdbc.connections.spi.AbstractMultiTenantConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.spi.Configurable;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InjectableInstance;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
+import io.quarkus.hibernate.orm.runtime.HibernateOrmRuntimeConfigPersistenceUnit.HibernateOrmConfigPersistenceUnitTenantConnections;
 import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
 
 /**
@@ -24,19 +34,165 @@
  * @author Michael Schnell
  */
 // TODO support other tenant ID types than String; see https://github.com/quarkusio/quarkus/issues/36831
-public final class HibernateMultiTenantConnectionProvider extends AbstractMultiTenantConnectionProvider<String> {
+public final class HibernateMultiTenantConnectionProvider extends AbstractMultiTenantConnectionProvider<String>
+        implements Configurable {
+
+    /**
+     * The setting holding the {@link HibernateOrmConfigPersistenceUnitTenantConnections} of the persistence unit.
+     */
+    public static final String TENANT_CONNECTIONS = "quarkus.hibernate-orm.tenant-connections";
 
     private static final Logger LOG = Logger.getLogger(HibernateMultiTenantConnectionProvider.class);
 
     private final String persistenceUnitName;
-    private final Map<String, ConnectionProvider> providerMap = new ConcurrentHashMap<>();
+    private final Function<String, ConnectionProvider> resolver;
+    private final Map<String, TenantConnectionProvider> providerMap = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private volatile int maxPerTenant;
+    private volatile long acquisitionTimeoutNanos = Duration.ofSeconds(5).toNanos();
+    private volatile long idleTimeoutNanos;
+    private volatile int maxCachedTenants = Integer.MAX_VALUE;
+    private volatile long lastEviction;
 
     public HibernateMultiTenantConnectionProvider(String persistenceUnitName) {
+        this(persistenceUnitName, tenantId -> resolveConnectionProvider(persistenceUnitName, tenantId));
+    }
+
+    HibernateMultiTenantConnectionProvider(String persistenceUnitName, Function<String, ConnectionProvider> resolver) {
         this.persistenceUnitName = persistenceUnitName;
+        this.resolver = resolver;
+    }
+
+    @Override
+    public void configure(Map<String, Object> configurationValues) {
+        if (configurationValues.get(TENANT_CONNECTIONS) instanceof HibernateOrmConfigPersistenceUnitTenantConnections config) {
+            configure(config.maxPerTenant().orElse(0), config.acquisitionTimeout(), config.idleTimeout().orElse(null),
+                    config.maxCachedTenants().orElse(Integer.MAX_VALUE));
+        }
+    }
+
+    void configure(int maxPerTenant, Duration acquisitionTimeout, Duration idleTimeout, int maxCachedTenants) {
+        this.maxPerTenant = maxPerTenant;
+        this.acquisitionTimeoutNanos = acquisitionTimeout.toNanos();
+        this.idleTimeoutNanos = idleTimeout == null ? 0 : idleTimeout.toNanos();
+        this.maxCachedTenants = maxCachedTenants;
+        // This instance is created on static init, so the clock can only be read on runtime init
+        this.lastEviction = System.nanoTime();
     }
 
     @Override
     protected ConnectionProvider getAnyConnectionProvider() {
+        return selectConnectionProvider(defaultTenantId());
+    }
+
+    @Override
+    protected ConnectionProvider selectConnectionProvider(final String tenantIdentifier) {
+        LOG.debugv("selectConnectionProvider(persistenceUnitName={0}, tenantIdentifier={1})", persistenceUnitName,
+                tenantIdentifier);
+        return providerMap.computeIfAbsent(tenantIdentifier, this::createProvider).delegate();
+    }
+
+    @Override
+    public Connection getAnyConnection() throws SQLException {
+        return getConnection(defaultTenantId());
+    }
+
+    @Override
+    public void releaseAnyConnection(Connection connection) throws SQLException {
+        releaseConnection(defaultTenantId(), connection);
+    }
+
+    @Override
+    public Connection getConnection(String tenantIdentifier) throws SQLException {
+        // Reserving while holding the lock of the cache entry guarantees that the provider is not evicted
+        // until the connection is released
+        TenantConnectionProvider provider = providerMap.compute(tenantIdentifier, (tenantId, cached) -> {
+            TenantConnectionProvider p = cached != null ? cached : createProvider(tenantId);
+            p.reserve();
+            return p;
+        });
+        try {
+            return provider.getConnection();
+        } finally {
+            evictIfNecessary();
+        }
+    }
+
+    @Override
+    public void releaseConnection(String tenantIdentifier, Connection connection) throws SQLException {
+        TenantConnectionProvider provider = providerMap.get(tenantIdentifier);
+        if (provider == null) {
+            // Cannot happen unless the connection was not obtained from this provider
+            connection.close();
+            throw new IllegalStateException(String.format(Locale.ROOT,
+                    "No connection provider for tenant '%1$s' of persistence unit %2$s", tenantIdentifier,
+                    persistenceUnitName));
+        }
+        provider.closeConnection(connection);
+    }
+
+    private TenantConnectionProvider createProvider(String tenantId) {
+        return new TenantConnectionProvider(tenantId, resolver.apply(tenantId), maxPerTenant, acquisitionTimeoutNanos,
+                TenantConnectionMetrics.stats(persistenceUnitName, tenantId));
+    }
+
+    /**
+     * Evicts the providers of the tenants that have been idle for longer than the idle timeout,
+     * and the providers of the least recently used tenants if there are too many cached providers.
+     */
+    private void evictIfNecessary() {
+        long now = System.nanoTime();
+        boolean expire = idleTimeoutNanos > 0 && now - lastEviction > idleTimeoutNanos / 2;
+        if (!expire && providerMap.size() <= maxCachedTenants) {
+            return;
+        }
+        if (!evicting.compareAndSet(false, true)) {
+            // Another thread is evicting
+            return;
+        }
+        try {
+            lastEviction = now;
+            List<Map.Entry<String, TenantConnectionProvider>> idle = new ArrayList<>();
+            for (Map.Entry<String, TenantConnectionProvider> entry : providerMap.entrySet()) {
+                if (entry.getValue().borrowed() == 0) {
+                    idle.add(entry);
+                }
+            }
+            idle.sort(Comparator.comparingLong(e -> e.getValue().lastReleased()));
+            int excess = providerMap.size() - maxCachedTenants;
+            for (Map.Entry<String, TenantConnectionProvider> entry : idle) {
+                boolean expired = idleTimeoutNanos > 0 && now - entry.getValue().lastReleased() > idleTimeoutNanos;
+                if (!expired && excess <= 0) {
+                    // The remaining providers were used more recently
+                    break;
+                }
+                if (evict(entry.getKey(), entry.getValue())) {
+                    excess--;
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private boolean evict(String tenantId, TenantConnectionProvider provider) {
+        boolean[] evicted = new boolean[1];
+        // Only evict the provider if it is still idle, while holding the lock of the cache entry
+        providerMap.computeIfPresent(tenantId, (id, cached) -> {
+            if (cached == provider && cached.borrowed() == 0) {
+                evicted[0] = true;
+                return null;
+            }
+            return cached;
+        });
+        if (evicted[0]) {
+            provider.evicted();
+        }
+        return evicted[0];
+    }
+
+    private String defaultTenantId() {
         InstanceHandle<TenantResolver> tenantResolver = tenantResolver(persistenceUnitName);
         String tenantId;
         // Activate RequestScope if the TenantResolver is @RequestScoped or @SessionScoped
@@ -58,22 +214,7 @@ protected ConnectionProvider getAnyConnectionProvider() {
             throw new IllegalStateException("Method 'TenantResolver.getDefaultTenantId()' returned a null value. "
                     + "This violates the contract of the interface!");
         }
-        return selectConnectionProvider(tenantId);
-    }
-
-    @Override
-    protected ConnectionProvider selectConnectionProvider(final String tenantIdentifier) {
-        LOG.debugv("selectConnectionProvider(persistenceUnitName={0}, tenantIdentifier={1})", persistenceUnitName,
-                tenantIdentifier);
-
-        ConnectionProvider provider = providerMap.get(tenantIdentifier);
-        if (provider == null) {
-            final ConnectionProvider connectionProvider = resolveConnectionProvider(persistenceUnitName, tenantIdentifier);
-            providerMap.put(tenantIdentifier, connectionProvider);
-            return connectionProvider;
-        }
-        return provider;
-
+        return tenantId;
     }
 
     private static ConnectionProvider resolveConnectionProvider(String persistenceUnitName, String tenantIdentifier) {
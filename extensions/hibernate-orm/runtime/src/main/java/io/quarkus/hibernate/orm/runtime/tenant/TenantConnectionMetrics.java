@@ -0,0 +1,132 @@
+package io.quarkus.hibernate.orm.runtime.tenant;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Connection usage statistics of the tenants, exposed as metrics when a metrics extension is present.
+ * <p>
+ * Without metrics, the statistics of a tenant are only referenced by its cached connection provider,
+ * and are discarded along with it.
+ * Once the metrics are registered, the statistics of a tenant are kept as long as its meters,
+ * so that the metrics of the tenant keep counting when its provider is evicted and resolved again.
+ * The tenants that connected before the metrics were registered are exposed once their provider is resolved again.
+ */
+public final class TenantConnectionMetrics {
+
+    private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
+    private static final String TENANT_TAG_NAME = "tenant";
+
+    private static final Map<Key, Stats> STATS = new ConcurrentHashMap<>();
+
+    private static volatile MetricsFactory metricsFactory;
+
+    private TenantConnectionMetrics() {
+    }
+
+    /**
+     * Registers the metrics of the tenants that will use a connection from now on.
+     *
+     * @param factory the metrics factory
+     */
+    public static void register(MetricsFactory factory) {
+        metricsFactory = factory;
+    }
+
+    /**
+     * Forgets the statistics of all tenants, on shutdown.
+     */
+    public static void reset() {
+        metricsFactory = null;
+        STATS.clear();
+    }
+
+    static Stats stats(String persistenceUnitName, String tenantId) {
+        MetricsFactory factory = metricsFactory;
+        if (factory == null) {
+            return new Stats();
+        }
+        return STATS.computeIfAbsent(new Key(persistenceUnitName, tenantId), key -> {
+            Stats stats = new Stats();
+            stats.register(factory, key);
+            return stats;
+        });
+    }
+
+    /**
+     * @return the number of tenants whose statistics are kept
+     */
+    static int size() {
+        return STATS.size();
+    }
+
+    private record Key(String persistenceUnitName, String tenantId) {
+    }
+
+    static final class Stats {
+
+        private final AtomicInteger active = new AtomicInteger();
+        private final LongAdder acquired = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private volatile MetricsFactory.TimeRecorder acquisitionTime;
+
+        void acquired(long nanos) {
+            active.incrementAndGet();
+            acquired.increment();
+            MetricsFactory.TimeRecorder timer = acquisitionTime;
+            if (timer != null) {
+                timer.update(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        void released() {
+            active.decrementAndGet();
+        }
+
+        void rejected() {
+            rejected.increment();
+        }
+
+        int active() {
+            return active.get();
+        }
+
+        long acquired() {
+            return acquired.sum();
+        }
+
+        long rejectedCount() {
+            return rejected.sum();
+        }
+
+        private void register(MetricsFactory factory, Key key) {
+            builder(factory, "hibernate.tenant.connections.active",
+                    "The number of connections currently held by the tenant", key)
+                    .buildGauge(this, Stats::active);
+            builder(factory, "hibernate.tenant.connections.acquired",
+                    "The number of connections acquired by the tenant", key)
+                    .buildCounter(this, Stats::acquired);
+            builder(factory, "hibernate.tenant.connections.rejected",
+                    "The number of connection acquisitions that failed because the tenant exceeded its quota", key)
+                    .buildCounter(this, Stats::rejectedCount);
+            acquisitionTime = builder(factory, "hibernate.tenant.connections.acquisition",
+                    "The time spent acquiring connections for the tenant, including the time spent waiting for its quota",
+                    key)
+                    .buildTimer();
+        }
+
+        private static MetricsFactory.MetricBuilder builder(MetricsFactory factory, String metricName, String description,
+                Key key) {
+            return factory.builder(metricName)
+                    .description(description)
+                    .tag(SESSION_FACTORY_TAG_NAME, key.persistenceUnitName())
+                    .tag(TENANT_TAG_NAME, key.tenantId());
+        }
+    }
+
+}
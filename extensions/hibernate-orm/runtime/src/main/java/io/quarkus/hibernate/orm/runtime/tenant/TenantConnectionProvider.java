@@ -0,0 +1,130 @@
+package io.quarkus.hibernate.orm.runtime.tenant;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.jboss.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+
+/**
+ * The cached {@link ConnectionProvider} of a tenant.
+ * <p>
+ * Enforces the maximum number of connections the tenant can hold at the same time,
+ * and keeps track of the connections held by the tenant so that the provider is only evicted when the tenant is idle.
+ */
+final class TenantConnectionProvider {
+
+    private static final Logger LOG = Logger.getLogger(TenantConnectionProvider.class);
+
+    private final String tenantId;
+    private final ConnectionProvider delegate;
+    private final int maxConnections;
+    private final long acquisitionTimeoutNanos;
+    private final Semaphore quota;
+    private final TenantConnectionMetrics.Stats stats;
+
+    // Connections held or being acquired by the tenant;
+    // only updated while holding the lock of the cache entry of the tenant, except for decrements.
+    private final AtomicInteger borrowed = new AtomicInteger();
+    private volatile long lastReleased = System.nanoTime();
+
+    TenantConnectionProvider(String tenantId, ConnectionProvider delegate, int maxConnections, long acquisitionTimeoutNanos,
+            TenantConnectionMetrics.Stats stats) {
+        this.tenantId = tenantId;
+        this.delegate = delegate;
+        this.maxConnections = maxConnections;
+        this.acquisitionTimeoutNanos = acquisitionTimeoutNanos;
+        this.quota = maxConnections > 0 ? new Semaphore(maxConnections) : null;
+        this.stats = stats;
+    }
+
+    ConnectionProvider delegate() {
+        return delegate;
+    }
+
+    /**
+     * Must be called while holding the lock of the cache entry of the tenant, before {@link #getConnection()}.
+     */
+    void reserve() {
+        borrowed.incrementAndGet();
+    }
+
+    Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        boolean acquired = false;
+        try {
+            if (quota != null && !tryAcquire()) {
+                stats.rejected();
+                throw new SQLException(String.format(Locale.ROOT,
+                        "Tenant '%1$s' holds its maximum of %2$d connections and none was released within %3$d ms",
+                        tenantId, maxConnections, TimeUnit.NANOSECONDS.toMillis(acquisitionTimeoutNanos)));
+            }
+            acquired = true;
+            Connection connection = delegate.getConnection();
+            stats.acquired(System.nanoTime() - start);
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            release(acquired);
+            throw e;
+        }
+    }
+
+    void closeConnection(Connection connection) throws SQLException {
+        try {
+            delegate.closeConnection(connection);
+        } finally {
+            stats.released();
+            release(true);
+        }
+    }
+
+    private boolean tryAcquire() throws SQLException {
+        try {
+            return quota.tryAcquire(acquisitionTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection of tenant '" + tenantId + "'", e);
+        }
+    }
+
+    private void release(boolean acquired) {
+        if (acquired && quota != null) {
+            quota.release();
+        }
+        lastReleased = System.nanoTime();
+        borrowed.decrementAndGet();
+    }
+
+    /**
+     * @return the number of connections held or being acquired by the tenant
+     */
+    int borrowed() {
+        return borrowed.get();
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} when the tenant last released a connection, or when this provider was created
+     */
+    long lastReleased() {
+        return lastReleased;
+    }
+
+    /**
+     * Called once this provider is no longer cached.
+     */
+    void evicted() {
+        LOG.debugv("Evicting the connection provider of tenant {0}", tenantId);
+        // The providers of the other tenants share their datasource, which must not be flushed
+        AgroalDataSource dataSource = DataSourceTenantConnectionResolver.ownedDataSource(delegate);
+        if (dataSource != null) {
+            dataSource.flush(AgroalDataSource.FlushMode.IDLE);
+        }
+    }
+
+}
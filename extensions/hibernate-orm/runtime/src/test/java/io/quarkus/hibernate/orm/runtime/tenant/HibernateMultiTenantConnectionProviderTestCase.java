@@ -0,0 +1,162 @@
+package io.quarkus.hibernate.orm.runtime.tenant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.metrics.RecordingMetricsFactory;
+
+public class HibernateMultiTenantConnectionProviderTestCase {
+
+    private final Map<String, AtomicInteger> resolved = new ConcurrentHashMap<>();
+
+    @AfterEach
+    public void resetMetrics() {
+        TenantConnectionMetrics.reset();
+    }
+
+    @Test
+    public void quotaPerTenant() throws SQLException {
+        RecordingMetricsFactory metrics = new RecordingMetricsFactory();
+        TenantConnectionMetrics.register(metrics);
+        HibernateMultiTenantConnectionProvider provider = provider("quota");
+        provider.configure(1, Duration.ofMillis(50), null, Integer.MAX_VALUE);
+
+        Connection first = provider.getConnection("a");
+        assertThatThrownBy(() -> provider.getConnection("a"))
+                .isInstanceOf(SQLException.class)
+                .hasMessageContaining("Tenant 'a' holds its maximum of 1 connections");
+        // Other tenants are not affected
+        Connection other = provider.getConnection("b");
+
+        provider.releaseConnection("a", first);
+        Connection second = provider.getConnection("a");
+        provider.releaseConnection("a", second);
+        provider.releaseConnection("b", other);
+
+        TenantConnectionMetrics.Stats stats = TenantConnectionMetrics.stats("quota", "a");
+        assertThat(stats.active()).isZero();
+        assertThat(stats.acquired()).isEqualTo(2);
+        assertThat(stats.rejectedCount()).isEqualTo(1);
+        assertThat(metrics.value("hibernate.tenant.connections.acquired", "tenant", "a")).isEqualTo(2);
+        assertThat(metrics.value("hibernate.tenant.connections.rejected", "tenant", "a")).isEqualTo(1);
+        assertThat(metrics.timerCount("hibernate.tenant.connections.acquisition", "tenant", "a")).isEqualTo(2);
+        assertThat(metrics.value("hibernate.tenant.connections.acquired", "tenant", "b")).isEqualTo(1);
+    }
+
+    @Test
+    public void statsNotKeptWithoutMetrics() throws SQLException {
+        HibernateMultiTenantConnectionProvider provider = provider("no-metrics");
+        provider.configure(0, Duration.ofSeconds(5), null, 1);
+
+        useConnection(provider, "a");
+        useConnection(provider, "b");
+        useConnection(provider, "c");
+        assertThat(TenantConnectionMetrics.size()).isZero();
+    }
+
+    @Test
+    public void metricsKeepCountingAfterEviction() throws SQLException {
+        RecordingMetricsFactory metrics = new RecordingMetricsFactory();
+        TenantConnectionMetrics.register(metrics);
+        HibernateMultiTenantConnectionProvider provider = provider("metrics");
+        provider.configure(0, Duration.ofSeconds(5), null, 1);
+
+        useConnection(provider, "a");
+        // "a" is evicted when "b" is used
+        useConnection(provider, "b");
+        useConnection(provider, "a");
+        assertThat(resolved.get("a")).hasValue(2);
+        assertThat(metrics.value("hibernate.tenant.connections.acquired", "tenant", "a")).isEqualTo(2);
+        assertThat(metrics.value("hibernate.tenant.connections.active", "tenant", "a")).isZero();
+        assertThat(TenantConnectionMetrics.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void evictLeastRecentlyUsedTenants() throws SQLException {
+        HibernateMultiTenantConnectionProvider provider = provider("lru");
+        provider.configure(0, Duration.ofSeconds(5), null, 2);
+
+        useConnection(provider, "a");
+        useConnection(provider, "b");
+        useConnection(provider, "c");
+        assertThat(resolved.get("a")).hasValue(1);
+
+        // "a" was evicted when "c" was used
+        useConnection(provider, "b");
+        useConnection(provider, "a");
+        assertThat(resolved.get("a")).hasValue(2);
+        assertThat(resolved.get("b")).hasValue(1);
+    }
+
+    @Test
+    public void neverEvictTenantsHoldingConnections() throws SQLException {
+        HibernateMultiTenantConnectionProvider provider = provider("busy");
+        provider.configure(0, Duration.ofSeconds(5), Duration.ofNanos(1), 1);
+
+        Connection held = provider.getConnection("a");
+        useConnection(provider, "b");
+        useConnection(provider, "c");
+        Connection other = provider.getConnection("a");
+        assertThat(resolved.get("a")).hasValue(1);
+        provider.releaseConnection("a", other);
+        provider.releaseConnection("a", held);
+
+        // "a" is idle, so it is evicted as soon as another tenant needs a connection
+        useConnection(provider, "b");
+        useConnection(provider, "a");
+        assertThat(resolved.get("a")).hasValue(2);
+    }
+
+    private void useConnection(HibernateMultiTenantConnectionProvider provider, String tenantId) throws SQLException {
+        Connection connection = provider.getConnection(tenantId);
+        provider.releaseConnection(tenantId, connection);
+    }
+
+    private HibernateMultiTenantConnectionProvider provider(String persistenceUnitName) {
+        return new HibernateMultiTenantConnectionProvider(persistenceUnitName, tenantId -> {
+            resolved.computeIfAbsent(tenantId, t -> new AtomicInteger()).incrementAndGet();
+            return new DummyConnectionProvider();
+        });
+    }
+
+    private static class DummyConnectionProvider implements ConnectionProvider {
+
+        @Override
+        public Connection getConnection() {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                    (proxy, method, args) -> null);
+        }
+
+        @Override
+        public void closeConnection(Connection connection) {
+        }
+
+        @Override
+        public boolean supportsAggressiveRelease() {
+            return true;
+        }
+
+        @Override
+        public boolean isUnwrappableAs(Class unwrapType) {
+            return false;
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> unwrapType) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+}
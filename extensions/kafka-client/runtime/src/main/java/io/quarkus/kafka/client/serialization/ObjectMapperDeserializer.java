@@ -1,29 +1,41 @@
 package io.quarkus.kafka.client.serialization;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Deserializer;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
+/**
+ * A {@link Deserializer} that deserializes JSON using Jackson's ObjectMapper.
+ * <p>
+ * The record value is parsed in place: when the consumer hands over a {@link ByteBuffer}, its backing array is read
+ * directly instead of being copied into a new array first.
+ * <p>
+ * Subclasses may override {@link #deserialize(String, byte[])} or {@link #deserialize(String, Headers, byte[])} to
+ * customize the deserialization. The value is then copied into an array and passed to the {@code byte[]} variants of
+ * {@code deserialize}. Subclasses that only pass the target type to the constructor still parse the value in place.
+ */
 public class ObjectMapperDeserializer<T> implements Deserializer<T> {
 
-    private final JavaType type;
-    private final ObjectMapper objectMapper;
+    private final ObjectReader reader;
+    private final boolean inPlace;
 
     public ObjectMapperDeserializer(Class<T> type) {
         this(type, ObjectMapperProducer.get());
     }
 
     public ObjectMapperDeserializer(Class<T> type, ObjectMapper objectMapper) {
-        this.type = TypeFactory.defaultInstance().constructType(type);
-        this.objectMapper = objectMapper;
+        this(TypeFactory.defaultInstance().constructType(type), objectMapper);
     }
 
     public ObjectMapperDeserializer(TypeReference<T> typeReference) {
@@ -31,8 +43,29 @@ public ObjectMapperDeserializer(TypeReference<T> typeReference) {
     }
 
     public ObjectMapperDeserializer(TypeReference<T> typeReference, ObjectMapper objectMapper) {
-        this.type = TypeFactory.defaultInstance().constructType(typeReference);
-        this.objectMapper = objectMapper;
+        this(TypeFactory.defaultInstance().constructType(typeReference), objectMapper);
+    }
+
+    private ObjectMapperDeserializer(JavaType type, ObjectMapper objectMapper) {
+        this.reader = objectMapper.readerFor(type);
+        this.inPlace = !overridesByteArrayDeserialize(getClass());
+    }
+
+    static boolean overridesByteArrayDeserialize(Class<?> clazz) {
+        if (clazz == ObjectMapperDeserializer.class) {
+            return false;
+        }
+        try {
+            return isDeclaredBySubclass(clazz.getMethod("deserialize", String.class, byte[].class))
+                    || isDeclaredBySubclass(clazz.getMethod("deserialize", String.class, Headers.class, byte[].class));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isDeclaredBySubclass(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        return declaringClass != ObjectMapperDeserializer.class && declaringClass != Deserializer.class;
     }
 
     @Override
@@ -45,8 +78,28 @@ public T deserialize(String topic, byte[] data) {
             return null;
         }
 
-        try (InputStream is = new ByteArrayInputStream(data)) {
-            return objectMapper.readValue(is, type);
+        try {
+            return reader.readValue(data);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, ByteBuffer data) {
+        if (!inPlace) {
+            return Deserializer.super.deserialize(topic, headers, data);
+        }
+        if (data == null) {
+            return null;
+        }
+
+        try {
+            if (data.hasArray()) {
+                return reader.readValue(data.array(), data.arrayOffset() + data.position(), data.remaining());
+            }
+            // The position of the buffer must not be changed
+            return reader.readValue(new ByteBufferBackedInputStream(data.duplicate()));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -1,6 +1,5 @@
 package io.quarkus.kafka.client.serialization;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Map;
 
@@ -8,14 +7,17 @@
 import org.apache.kafka.common.serialization.Serializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 /**
  * A {@link Deserializer} that deserializes JSON using Jackson's ObjectMapper.
+ * <p>
+ * The JSON is written to Jackson's recycled buffers and copied once into the returned array.
  */
 public class ObjectMapperSerializer<T> implements Serializer<T> {
     public static final String NULL_AS_NULL_CONFIG = "json.serialize.null-as-null";
 
-    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
 
     private boolean nullAsNull = false;
 
@@ -24,7 +26,7 @@ public ObjectMapperSerializer() {
     }
 
     public ObjectMapperSerializer(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer();
     }
 
     @Override
@@ -40,9 +42,8 @@ public byte[] serialize(String topic, T data) {
             return null;
         }
 
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            objectMapper.writeValue(output, data);
-            return output.toByteArray();
+        try {
+            return writer.writeValueAsBytes(data);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -1,11 +1,16 @@
 package io.quarkus.kafka.client.serialization;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import org.apache.kafka.common.header.Headers;
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -44,4 +49,86 @@ void shouldDeserializeNullAsNull() {
         MyEntity results = deserializer.deserialize("topic", null);
         assertNull(results);
     }
+
+    @Test
+    void shouldDeserializeHeapByteBuffer() {
+        byte[] bytes = "xx{\"id\":1,\"name\":\"entity1\"}yy".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, bytes.length - 4).slice();
+        ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class);
+        MyEntity actual = deserializer.deserialize("topic", null, buffer);
+        assertEquals(new MyEntity(1, "entity1"), actual);
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void shouldDeserializeDirectByteBuffer() {
+        byte[] bytes = "{\"id\":1,\"name\":\"entity1\"}".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class);
+        MyEntity actual = deserializer.deserialize("topic", null, buffer);
+        assertEquals(new MyEntity(1, "entity1"), actual);
+        assertEquals(0, buffer.position());
+        assertEquals(bytes.length, buffer.remaining());
+    }
+
+    @Test
+    void shouldDeserializeByteBufferWithSubclass() {
+        byte[] bytes = "{\"id\":1,\"name\":\"entity1\"}".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class) {
+            @Override
+            public MyEntity deserialize(String topic, byte[] data) {
+                MyEntity entity = super.deserialize(topic, data);
+                return new MyEntity(entity.id, entity.name.toUpperCase());
+            }
+        };
+        MyEntity actual = deserializer.deserialize("topic", null, buffer);
+        assertEquals(new MyEntity(1, "ENTITY1"), actual);
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void shouldDeserializeByteBufferWithHeadersSubclass() {
+        byte[] bytes = "{\"id\":1,\"name\":\"entity1\"}".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class) {
+            @Override
+            public MyEntity deserialize(String topic, Headers headers, byte[] data) {
+                MyEntity entity = super.deserialize(topic, headers, data);
+                return new MyEntity(entity.id, entity.name.toUpperCase());
+            }
+        };
+        MyEntity actual = deserializer.deserialize("topic", null, buffer);
+        assertEquals(new MyEntity(1, "ENTITY1"), actual);
+    }
+
+    @Test
+    void shouldDeserializeInPlaceWithConstructorOnlySubclass() {
+        // e.g. the deserializers generated for the payload types of reactive messaging channels
+        assertFalse(ObjectMapperDeserializer.overridesByteArrayDeserialize(MyEntityDeserializer.class));
+        assertFalse(ObjectMapperDeserializer.overridesByteArrayDeserialize(ObjectMapperDeserializer.class));
+        assertTrue(ObjectMapperDeserializer.overridesByteArrayDeserialize(new ObjectMapperDeserializer<>(MyEntity.class) {
+            @Override
+            public MyEntity deserialize(String topic, byte[] data) {
+                return super.deserialize(topic, data);
+            }
+        }.getClass()));
+
+        byte[] bytes = "{\"id\":1,\"name\":\"entity1\"}".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        assertEquals(new MyEntity(1, "entity1"), new MyEntityDeserializer().deserialize("topic", null, buffer));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void shouldDeserializeNullByteBufferAsNull() {
+        ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class);
+        assertNull(deserializer.deserialize("topic", null, (ByteBuffer) null));
+    }
+
+    public static class MyEntityDeserializer extends ObjectMapperDeserializer<MyEntity> {
+        public MyEntityDeserializer() {
+            super(MyEntity.class);
+        }
+    }
 }
@@ -0,0 +1,28 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * The additive increase / multiplicative decrease algorithm. The limit grows by 1 when the window
+ * is not slow and the limit is actually used, and is multiplied by the backoff ratio as soon as
+ * the average request time in the window exceeds the configured timeout.
+ */
+final class AimdLimitAlgorithm implements LimitAlgorithm {
+    private final double backoffRatio;
+    private final long timeoutMicros;
+
+    AimdLimitAlgorithm(LoadSheddingRuntimeConfig config) {
+        LoadSheddingRuntimeConfig.Aimd aimd = config.aimd();
+        backoffRatio = aimd.backoffRatio();
+        timeoutMicros = aimd.timeout().toNanos() / 1_000;
+    }
+
+    @Override
+    public long update(long currentLimit, long minTime, long averageTime, long maxConcurrency, long samples) {
+        if (averageTime > timeoutMicros) {
+            return (long) (currentLimit * backoffRatio);
+        }
+        if (2L * maxConcurrency >= currentLimit) {
+            return currentLimit + 1;
+        }
+        return currentLimit;
+    }
+}
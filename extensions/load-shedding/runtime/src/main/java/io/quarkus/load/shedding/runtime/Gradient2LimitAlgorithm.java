@@ -0,0 +1,70 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * The Gradient2 algorithm, as implemented by
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The limit is adjusted by the ratio of a long-term exponential average of request times
+ * to the current request time, which makes the algorithm tolerant to request times that drift
+ * slowly over time.
+ */
+final class Gradient2LimitAlgorithm implements LimitAlgorithm {
+    private static final int WARMUP_WINDOWS = 10;
+
+    private final double tolerance;
+    private final double smoothing;
+    private final int queueSize;
+    private final int longWindow;
+    private final int maxLimit;
+
+    private double estimatedLimit = -1;
+    private double longTime;
+    private int windows;
+
+    Gradient2LimitAlgorithm(LoadSheddingRuntimeConfig config) {
+        LoadSheddingRuntimeConfig.Gradient2 gradient2 = config.gradient2();
+        tolerance = gradient2.tolerance();
+        smoothing = gradient2.smoothing();
+        queueSize = gradient2.queueSize();
+        longWindow = gradient2.longWindow();
+        maxLimit = config.maxLimit();
+    }
+
+    @Override
+    public long update(long currentLimit, long minTime, long averageTime, long maxConcurrency, long samples) {
+        if (estimatedLimit < 0) {
+            estimatedLimit = currentLimit;
+        }
+
+        double shortTime = Math.max(1, averageTime);
+        if (windows < WARMUP_WINDOWS) {
+            // plain average until there are enough windows for the exponential average to be meaningful
+            windows++;
+            longTime = longTime + (shortTime - longTime) / windows;
+        } else {
+            double factor = 2.0 / (longWindow + 1);
+            longTime = longTime * (1 - factor) + shortTime * factor;
+        }
+
+        // if the long-term average is substantially higher than the current time, the load has decreased
+        // and the long-term average is brought down faster
+        if (longTime / shortTime > 2) {
+            longTime = longTime * 0.95;
+        }
+
+        // don't grow the limit if the application doesn't use it
+        if (2L * maxConcurrency < estimatedLimit) {
+            return (long) estimatedLimit;
+        }
+
+        // never reduce the limit by more than half at once, to avoid shedding too much load due to outliers
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longTime / shortTime));
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        // the estimate is clamped too, otherwise it keeps growing past the max limit and it takes several windows
+        // before a drop of the estimate is reflected in the limit
+        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
+        estimatedLimit = newLimit;
+        return (long) newLimit;
+    }
+}
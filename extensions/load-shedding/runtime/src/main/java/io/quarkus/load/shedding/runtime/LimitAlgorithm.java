@@ -0,0 +1,36 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * An algorithm that computes the limit of concurrent requests from the request times observed in a sampling window.
+ * <p>
+ * Implementations are only called by one thread at a time, the thread that closes the sampling window,
+ * so they may keep mutable state without further synchronization.
+ *
+ * @see OverloadDetector
+ */
+interface LimitAlgorithm {
+    /**
+     * Computes the new limit.
+     *
+     * @param currentLimit the current limit of concurrent requests
+     * @param minTime the lowest request time in the window, in microseconds
+     * @param averageTime the average request time in the window, in microseconds
+     * @param maxConcurrency the highest number of concurrent requests observed in the window
+     * @param samples the number of requests in the window, always at least 1
+     * @return the new limit, which does not have to be clamped to the configured bounds
+     */
+    long update(long currentLimit, long minTime, long averageTime, long maxConcurrency, long samples);
+
+    static LimitAlgorithm create(LoadSheddingRuntimeConfig config) {
+        switch (config.algorithm()) {
+            case VEGAS:
+                return new VegasLimitAlgorithm(config);
+            case GRADIENT2:
+                return new Gradient2LimitAlgorithm(config);
+            case AIMD:
+                return new AimdLimitAlgorithm(config);
+            default:
+                throw new IllegalArgumentException("Unknown load shedding algorithm: " + config.algorithm());
+        }
+    }
+}
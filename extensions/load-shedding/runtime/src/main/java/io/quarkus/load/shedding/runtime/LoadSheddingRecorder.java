@@ -0,0 +1,57 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.Locale;
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.load.shedding.RequestPriority;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class LoadSheddingRecorder {
+    private final RuntimeValue<LoadSheddingRuntimeConfig> runtimeConfig;
+
+    public LoadSheddingRecorder(RuntimeValue<LoadSheddingRuntimeConfig> runtimeConfig) {
+        this.runtimeConfig = runtimeConfig;
+    }
+
+    /* RUNTIME_INIT */
+    public void validateConfig() {
+        LoadSheddingRuntimeConfig config = runtimeConfig.getValue();
+        if (config.algorithm() == LoadSheddingRuntimeConfig.Algorithm.AIMD) {
+            double backoffRatio = config.aimd().backoffRatio();
+            // also rejects NaN
+            if (!(backoffRatio > 0.0 && backoffRatio < 1.0)) {
+                throw new ConfigurationException("The AIMD backoff ratio must be greater than 0 and less than 1, but"
+                        + " 'quarkus.load-shedding.aimd.backoff-ratio' is set to " + backoffRatio);
+            }
+        }
+    }
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                OverloadDetector detector = Arc.container().instance(OverloadDetector.class).get();
+                PriorityLoadShedding priorityLoadShedding = Arc.container().instance(PriorityLoadShedding.class).get();
+
+                metricsFactory.builder("load.shedding.limit")
+                        .description("Current limit of concurrent requests, as computed by the overload detection algorithm.")
+                        .buildGauge(detector::currentLimit);
+                metricsFactory.builder("load.shedding.requests.active")
+                        .description("Current number of concurrent requests.")
+                        .buildGauge(detector::currentRequests);
+                for (RequestPriority priority : RequestPriority.values()) {
+                    metricsFactory.builder("load.shedding.rejected")
+                            .description("Number of requests rejected due to overload.")
+                            .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                            .buildCounter(() -> priorityLoadShedding.rejectedCount(priority));
+                }
+            }
+        };
+    }
+}
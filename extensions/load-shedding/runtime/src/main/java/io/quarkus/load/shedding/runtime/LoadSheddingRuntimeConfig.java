@@ -1,5 +1,7 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -16,6 +18,19 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("true")
     boolean enabled();
 
+    /**
+     * The algorithm used to compute the limit of concurrent requests.
+     */
+    @WithDefault("vegas")
+    Algorithm algorithm();
+
+    /**
+     * The duration of the sampling window. Request times observed during the window are merged
+     * and the limit is recomputed once per window.
+     */
+    @WithDefault("100ms")
+    Duration sampleWindow();
+
     /**
      * The maximum number of concurrent requests allowed.
      */
@@ -46,6 +61,16 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("100")
     int initialLimit();
 
+    /**
+     * Configuration of the Gradient2 overload detection algorithm.
+     */
+    Gradient2 gradient2();
+
+    /**
+     * Configuration of the AIMD overload detection algorithm.
+     */
+    Aimd aimd();
+
     /**
      * Configuration of priority load shedding.
      */
@@ -59,4 +84,63 @@ interface PriorityLoadShedding {
         @WithDefault("true")
         boolean enabled();
     }
+
+    enum Algorithm {
+        /**
+         * An adaptation of TCP Vegas, configured by the {@code alpha-factor}, {@code beta-factor}
+         * and {@code probe-factor} properties.
+         */
+        VEGAS,
+        /**
+         * The Gradient2 algorithm, which compares the current request times with their long-term average.
+         */
+        GRADIENT2,
+        /**
+         * Additive increase / multiplicative decrease, which reacts to request times exceeding a timeout.
+         */
+        AIMD,
+    }
+
+    @ConfigGroup
+    interface Gradient2 {
+        /**
+         * How much the current request times may exceed their long-term average before the limit is reduced.
+         */
+        @WithDefault("1.5")
+        double tolerance();
+
+        /**
+         * The smoothing factor applied to each change of the limit, between 0.0 and 1.0.
+         */
+        @WithDefault("0.2")
+        double smoothing();
+
+        /**
+         * The number of requests that may queue up beyond the estimated limit.
+         */
+        @WithDefault("4")
+        int queueSize();
+
+        /**
+         * The number of sampling windows over which the long-term average of request times is computed.
+         */
+        @WithDefault("600")
+        int longWindow();
+    }
+
+    @ConfigGroup
+    interface Aimd {
+        /**
+         * The ratio by which the limit is multiplied when requests are too slow,
+         * greater than 0 and less than 1.
+         */
+        @WithDefault("0.9")
+        double backoffRatio();
+
+        /**
+         * The average request time above which the limit is reduced.
+         */
+        @WithDefault("5s")
+        Duration timeout();
+    }
 }
@@ -1,46 +1,48 @@
 package io.quarkus.load.shedding.runtime;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 /**
- * An overload detector based on TCP Vegas, as implemented by
- * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * An overload detector that maintains a dynamic limit of concurrent requests.
+ * <p>
+ * Request times are not fed to the limit algorithm one by one. Instead, they are accumulated
+ * in striped, lock-free counters and merged once per sampling window by the thread that first observes
+ * the end of the window. Threads completing requests therefore never block each other, which matters
+ * precisely when the application is overloaded.
+ *
+ * @see LimitAlgorithm
  */
 @Singleton
 public class OverloadDetector {
-    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
-
-    static {
-        LOG10_PLUS_1_TABLE[0] = 1;
-        for (int i = 1; i < 1_000; i++) {
-            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
-        }
-    }
-
     private final int maxLimit;
-    private final int alphaFactor;
-    private final int betaFactor;
-    private final double probeFactor;
+    private final long windowNanos;
+    private final LimitAlgorithm algorithm;
 
     private final AtomicInteger currentRequests = new AtomicInteger();
     private volatile long currentLimit;
 
-    private long lowestRequestTime = Long.MAX_VALUE;
-    private double probeCount = 0.0;
-    private double probeJitter;
+    // samples of the current window
+    private final LongAdder sampleCount = new LongAdder();
+    private final LongAdder sampleTimeSum = new LongAdder();
+    private final LongAccumulator sampleMinTime = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator sampleMaxConcurrency = new LongAccumulator(Math::max, 0);
+
+    private final AtomicBoolean updating = new AtomicBoolean();
+    private volatile long windowEnd;
 
     @Inject
     public OverloadDetector(LoadSheddingRuntimeConfig config) {
         maxLimit = config.maxLimit();
-        alphaFactor = config.alphaFactor();
-        betaFactor = config.betaFactor();
-        probeFactor = config.probeFactor();
+        windowNanos = config.sampleWindow().toNanos();
+        algorithm = LimitAlgorithm.create(config);
         currentLimit = config.initialLimit();
-        resetProbeJitter();
+        windowEnd = System.nanoTime() + windowNanos;
     }
 
     public boolean isOverloaded() {
@@ -54,56 +56,54 @@ public void requestBegin() {
     public void requestEnd(long timeInMicros) {
         int current = currentRequests.getAndDecrement();
 
-        update(timeInMicros, current);
-    }
-
-    private synchronized void update(long requestTime, int currentRequests) {
-        probeCount++;
-        if (probeFactor * probeJitter * currentLimit <= probeCount) {
-            resetProbeJitter();
-            probeCount = 0.0;
-            lowestRequestTime = requestTime;
-            return;
-        }
-
-        if (requestTime < lowestRequestTime) {
-            lowestRequestTime = requestTime;
-            return;
+        sampleCount.increment();
+        sampleTimeSum.add(timeInMicros);
+        sampleMinTime.accumulate(timeInMicros);
+        sampleMaxConcurrency.accumulate(current);
+
+        long now = System.nanoTime();
+        if (now - windowEnd >= 0 && updating.compareAndSet(false, true)) {
+            try {
+                update(now);
+            } finally {
+                updating.set(false);
+            }
         }
+    }
 
-        long currentLimit = this.currentLimit;
-
-        if (2L * currentRequests < currentLimit) {
-            return;
-        }
+    /**
+     * @return the current limit of concurrent requests
+     */
+    public long currentLimit() {
+        return currentLimit;
+    }
 
-        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
+    /**
+     * @return the current number of concurrent requests
+     */
+    public int currentRequests() {
+        return currentRequests.get();
+    }
 
-        int currentLimitLog10Plus1;
-        if (currentLimit >= 0 && currentLimit < 1_000) {
-            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[(int) currentLimit];
-        } else {
-            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
-        }
-        int alpha = alphaFactor * currentLimitLog10Plus1;
-        int beta = betaFactor * currentLimitLog10Plus1;
-
-        long newLimit;
-        if (queueSize <= currentLimitLog10Plus1) {
-            newLimit = currentLimit + beta;
-        } else if (queueSize < alpha) {
-            newLimit = currentLimit + currentLimitLog10Plus1;
-        } else if (queueSize > beta) {
-            newLimit = currentLimit - currentLimitLog10Plus1;
-        } else {
+    // only called by the thread that won the `updating` flag
+    private void update(long now) {
+        windowEnd = now + windowNanos;
+
+        // the counters are not reset atomically as a whole, so a sample recorded concurrently
+        // may be split between two windows; that is fine for the purpose of estimating the limit
+        long count = sampleCount.sumThenReset();
+        long timeSum = sampleTimeSum.sumThenReset();
+        long minTime = sampleMinTime.getThenReset();
+        long maxConcurrency = sampleMaxConcurrency.getThenReset();
+        if (count <= 0) {
             return;
         }
 
+        long currentLimit = this.currentLimit;
+        long newLimit = algorithm.update(currentLimit, minTime, Math.max(minTime, timeSum / count), maxConcurrency, count);
         newLimit = Math.max(1, Math.min(maxLimit, newLimit));
-        this.currentLimit = newLimit;
-    }
-
-    private void resetProbeJitter() {
-        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+        if (newLimit != currentLimit) {
+            this.currentLimit = newLimit;
+        }
     }
 }
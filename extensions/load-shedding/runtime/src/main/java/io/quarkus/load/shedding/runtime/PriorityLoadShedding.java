@@ -2,6 +2,7 @@
 
 import java.lang.management.ManagementFactory;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -33,17 +34,23 @@ public class PriorityLoadShedding {
 
     private long lastThresholdTime;
 
+    private final LongAdder[] rejected;
+
     @Inject
     PriorityLoadShedding(LoadSheddingRuntimeConfig config) {
         enabled = config.priority().enabled();
         max = RequestPriority.values().length * RequestClassifier.MAX_COHORT;
         os = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        rejected = new LongAdder[RequestPriority.values().length];
+        for (int i = 0; i < rejected.length; i++) {
+            rejected[i] = new LongAdder();
+        }
     }
 
     // when this is called, we know we're overloaded
     public boolean shedLoad(Object request) {
         if (!enabled) {
-            return true;
+            return reject(priority(request));
         }
 
         long now = System.currentTimeMillis();
@@ -58,17 +65,11 @@ public boolean shedLoad(Object request) {
                 lastThresholdTime = now;
             }
         }
+        RequestPriority priority = priority(request);
+
         double threshold = lastThreshold;
         if (threshold < 0) {
-            return true;
-        }
-
-        RequestPriority priority = RequestPriority.NORMAL;
-        for (RequestPrioritizer requestPrioritizer : requestPrioritizers) {
-            if (requestPrioritizer.appliesTo(request)) {
-                priority = requestPrioritizer.priority(request);
-                break;
-            }
+            return reject(priority);
         }
 
         int cohort = 64; // in the middle of the [1,128] interval
@@ -88,6 +89,27 @@ public boolean shedLoad(Object request) {
             cohort = cohort % RequestClassifier.MAX_COHORT + 1;
         }
 
-        return priority.cohortBaseline() + cohort > threshold;
+        return priority.cohortBaseline() + cohort > threshold && reject(priority);
+    }
+
+    /**
+     * @return the number of requests of given priority rejected so far
+     */
+    public long rejectedCount(RequestPriority priority) {
+        return rejected[priority.ordinal()].sum();
+    }
+
+    private RequestPriority priority(Object request) {
+        for (RequestPrioritizer requestPrioritizer : requestPrioritizers) {
+            if (requestPrioritizer.appliesTo(request)) {
+                return requestPrioritizer.priority(request);
+            }
+        }
+        return RequestPriority.NORMAL;
+    }
+
+    private boolean reject(RequestPriority priority) {
+        rejected[priority.ordinal()].increment();
+        return true;
     }
 }
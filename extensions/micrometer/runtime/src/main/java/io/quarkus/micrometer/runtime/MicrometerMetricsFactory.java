@@ -7,6 +7,7 @@
 
 import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
@@ -37,10 +38,18 @@ public MetricBuilder builder(String name, MetricsFactory.Type type) {
         return new MicrometerMetricsBuilder(name);
     }
 
+    @Override
+    public void remove(String name, String... tags) {
+        for (Meter meter : globalRegistry.find(name).tags(tags).meters()) {
+            globalRegistry.remove(meter);
+        }
+    }
+
     class MicrometerMetricsBuilder implements MetricBuilder {
         String name;
         String description;
         String unit;
+        boolean histogram;
         Tags tags = Tags.empty();
 
         public MicrometerMetricsBuilder(String name) {
@@ -65,6 +74,12 @@ public MetricBuilder unit(String unit) {
             return this;
         }
 
+        @Override
+        public MetricBuilder histogram() {
+            this.histogram = true;
+            return this;
+        }
+
         @Override
         public void buildCounter(Supplier<Number> countFunction) {
             FunctionCounter.builder(name, countFunction, x -> countFunction.get().doubleValue())
@@ -105,42 +120,39 @@ public <T, R extends Number> void buildGauge(T obj, Function<T, R> gaugeFunction
 
         @Override
         public TimeRecorder buildTimer() {
-            Timer timer = Timer.builder(name)
-                    .description(description)
-                    .tags(tags)
-                    .register(globalRegistry);
+            Timer timer = timer();
 
             return new MicrometerTimeRecorder(timer);
         }
 
         @Override
         public Runnable buildTimer(Runnable f) {
-            Timer timer = Timer.builder(name)
-                    .description(description)
-                    .tags(tags)
-                    .register(globalRegistry);
+            Timer timer = timer();
 
             return timer.wrap(f);
         }
 
         @Override
         public <T> Callable<T> buildTimer(Callable<T> f) {
-            Timer timer = Timer.builder(name)
-                    .description(description)
-                    .tags(tags)
-                    .register(globalRegistry);
+            Timer timer = timer();
 
             return timer.wrap(f);
         }
 
         @Override
         public <T> Supplier<T> buildTimer(Supplier<T> f) {
-            Timer timer = Timer.builder(name)
+            Timer timer = timer();
+
+            return timer.wrap(f);
+        }
+
+        private Timer timer() {
+            return Timer.builder(name)
                     .description(description)
                     .tags(tags)
+                    // null defers to the configuration of the registry
+                    .publishPercentileHistogram(histogram ? Boolean.TRUE : null)
                     .register(globalRegistry);
-
-            return timer.wrap(f);
         }
     }
 
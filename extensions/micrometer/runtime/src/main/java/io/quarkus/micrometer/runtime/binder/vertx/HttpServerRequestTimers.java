@@ -0,0 +1,133 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.micrometer.runtime.binder.HttpCommonTags;
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * The HTTP server request timers resolved so far, so that the tags are not rebuilt and the registry is not searched
+ * when a response ends.
+ * <p>
+ * The timers are looked up by the value of the {@code uri} tag, i.e. the route template, and then by array indexes: the
+ * request method and the status class select a slot holding the timers of the status codes of that class. Requests
+ * with a non-standard method or a status code outside of {@code [100, 600)} are not cached. The number of cached
+ * {@code uri} values is bounded; the timers of the other URIs are resolved from the registry every time.
+ * <p>
+ * The cache is dropped when a timer is removed from the registry, e.g. when the registry is cleared. The removals are
+ * counted by a single listener per registry, as a listener cannot be removed from a registry and the server metrics are
+ * created again, e.g. on every dev mode restart.
+ */
+final class HttpServerRequestTimers {
+
+    static final int MAX_URIS = 1024;
+
+    private static final List<HttpMethod> METHODS = HttpMethod.values();
+    private static final int STATUS_CLASSES = 5;
+    private static final int STATUS_CODES_PER_CLASS = 100;
+
+    // the number of timers removed from each registry
+    private static final Map<MeterRegistry, AtomicLong> REMOVED_TIMERS = new WeakHashMap<>();
+
+    private final MeterProvider<Timer> provider;
+    private final AtomicLong removedTimers;
+    // the number of removed timers when the map was created
+    private volatile long removedTimersSeen;
+    // replaced when a timer is removed, so that a concurrent lookup cannot store a removed timer in the new map
+    private volatile ConcurrentMap<String, AtomicReferenceArray<AtomicReferenceArray<Timer>>> timers;
+
+    HttpServerRequestTimers(MeterRegistry registry, MeterProvider<Timer> provider) {
+        this.provider = provider;
+        this.removedTimers = removedTimers(registry);
+        this.removedTimersSeen = removedTimers.get();
+        this.timers = new ConcurrentHashMap<>();
+    }
+
+    private static AtomicLong removedTimers(MeterRegistry registry) {
+        synchronized (REMOVED_TIMERS) {
+            AtomicLong removed = REMOVED_TIMERS.get(registry);
+            if (removed == null) {
+                AtomicLong counter = new AtomicLong();
+                // the listener must not reference the registry, which is the weak key
+                registry.config().onMeterRemoved(new Consumer<Meter>() {
+                    @Override
+                    public void accept(Meter meter) {
+                        if (meter instanceof Timer) {
+                            counter.incrementAndGet();
+                        }
+                    }
+                });
+                REMOVED_TIMERS.put(registry, counter);
+                removed = counter;
+            }
+            return removed;
+        }
+    }
+
+    Timer get(HttpMethod method, Tag uri, int statusCode) {
+        int methodIndex = METHODS.indexOf(method);
+        int statusClass = statusCode / 100 - 1;
+        if (methodIndex < 0 || statusClass < 0 || statusClass >= STATUS_CLASSES) {
+            return resolve(method, uri, statusCode);
+        }
+        long removed = removedTimers.get();
+        if (removed != removedTimersSeen) {
+            timers = new ConcurrentHashMap<>();
+            removedTimersSeen = removed;
+        }
+        ConcurrentMap<String, AtomicReferenceArray<AtomicReferenceArray<Timer>>> timers = this.timers;
+        AtomicReferenceArray<AtomicReferenceArray<Timer>> slots = timers.get(uri.getValue());
+        if (slots == null) {
+            if (timers.size() >= MAX_URIS) {
+                return resolve(method, uri, statusCode);
+            }
+            slots = timers.computeIfAbsent(uri.getValue(), NewSlots.INSTANCE);
+        }
+        int slot = methodIndex * STATUS_CLASSES + statusClass;
+        AtomicReferenceArray<Timer> byStatus = slots.get(slot);
+        if (byStatus == null) {
+            slots.compareAndSet(slot, null, new AtomicReferenceArray<>(STATUS_CODES_PER_CLASS));
+            byStatus = slots.get(slot);
+        }
+        int index = statusCode % STATUS_CODES_PER_CLASS;
+        Timer timer = byStatus.get(index);
+        if (timer == null) {
+            // Concurrent resolutions obtain the same timer from the registry
+            timer = resolve(method, uri, statusCode);
+            byStatus.set(index, timer);
+        }
+        return timer;
+    }
+
+    private Timer resolve(HttpMethod method, Tag uri, int statusCode) {
+        return provider.withTags(Tags.of(
+                VertxMetricsTags.method(method),
+                uri,
+                HttpCommonTags.outcome(statusCode),
+                HttpCommonTags.status(statusCode)));
+    }
+
+    private static class NewSlots implements Function<String, AtomicReferenceArray<AtomicReferenceArray<Timer>>> {
+
+        static final NewSlots INSTANCE = new NewSlots();
+
+        @Override
+        public AtomicReferenceArray<AtomicReferenceArray<Timer>> apply(String uri) {
+            return new AtomicReferenceArray<>(METHODS.size() * STATUS_CLASSES);
+        }
+    }
+}
@@ -49,6 +49,7 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
     final LongAdder activeRequests;
 
     final MeterProvider<Timer> requestsTimer;
+    final HttpServerRequestTimers requestTimers;
     final MeterProvider<LongTaskTimer> websocketConnectionTimer;
     final MeterProvider<Counter> pushCounter;
 
@@ -78,6 +79,7 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
         requestsTimer = Timer.builder(config.getHttpServerRequestsName())
                 .description("HTTP server request processing time")
                 .withRegistry(registry);
+        requestTimers = new HttpServerRequestTimers(registry, requestsTimer);
 
         websocketConnectionTimer = LongTaskTimer.builder(config.getHttpServerWebSocketConnectionsName())
                 .description("Server web socket connection time")
@@ -218,13 +220,19 @@ public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response,
                 config.getServerIgnorePatterns());
         if (path != null) {
             Timer.Sample sample = requestMetric.getSample();
-            Tags allTags = Tags.of(
-                    VertxMetricsTags.method(requestMetric.request().method()),
-                    HttpCommonTags.uri(path, requestMetric.getInitialPath(), response.statusCode(),
-                            config.isServerSuppress4xxErrors()),
-                    VertxMetricsTags.outcome(response),
-                    HttpCommonTags.status(response.statusCode()));
-            if (!httpServerMetricsTagsContributors.isEmpty()) {
+            HttpMethod method = requestMetric.request().method();
+            Tag uri = HttpCommonTags.uri(path, requestMetric.getInitialPath(), response.statusCode(),
+                    config.isServerSuppress4xxErrors());
+            Timer timer;
+            if (httpServerMetricsTagsContributors.isEmpty()) {
+                timer = requestTimers.get(method, uri, response.statusCode());
+            } else {
+                // The contributed tags are dynamic, the timer is resolved from the registry
+                Tags allTags = Tags.of(
+                        VertxMetricsTags.method(method),
+                        uri,
+                        VertxMetricsTags.outcome(response),
+                        HttpCommonTags.status(response.statusCode()));
                 HttpServerMetricsTagsContributor.Context context = new DefaultContext(requestMetric.request(), response);
                 for (int i = 0; i < httpServerMetricsTagsContributors.size(); i++) {
                     try {
@@ -234,11 +242,12 @@ public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response,
                         log.debug("Unable to obtain additional tags", e);
                     }
                 }
+                timer = requestsTimer.withTags(allTags);
             }
 
             openTelemetryContextUnwrapper.executeInContext(
                     sample::stop,
-                    requestsTimer.withTags(allTags),
+                    timer,
                     requestMetric.request().context());
         }
         requestMetric.requestEnded();
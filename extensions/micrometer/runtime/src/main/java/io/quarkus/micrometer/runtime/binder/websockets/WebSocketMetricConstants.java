@@ -63,6 +63,36 @@ private WebSocketMetricConstants() {
      */
     public static final String CLIENT_BYTES = "quarkus.websockets.client.bytes";
 
+    /**
+     * Time elapsed between the dispatch of a broadcast message and the completion of the last write.
+     */
+    public static final String SERVER_BROADCAST_DURATION = "quarkus.websockets.server.broadcast.duration";
+
+    /**
+     * Number of broadcast recipients whose write queue was full when the message was sent.
+     */
+    public static final String SERVER_BROADCAST_SLOW_RECIPIENTS = "quarkus.websockets.server.broadcast.recipients.slow";
+
+    /**
+     * Number of broadcast recipients closed before the message could be written.
+     */
+    public static final String SERVER_BROADCAST_DROPPED_RECIPIENTS = "quarkus.websockets.server.broadcast.recipients.dropped";
+
+    /**
+     * Number of outbound messages queued for the server connections because the clients do not read fast enough.
+     */
+    public static final String SERVER_OUTBOUND_QUEUE_MESSAGES = "quarkus.websockets.server.outbound.queue.messages";
+
+    /**
+     * Size in bytes of the outbound messages queued for the server connections.
+     */
+    public static final String SERVER_OUTBOUND_QUEUE_BYTES = "quarkus.websockets.server.outbound.queue.bytes";
+
+    /**
+     * Number of outbound messages dropped by the outbound queues of the server connections.
+     */
+    public static final String SERVER_OUTBOUND_DROPPED = "quarkus.websockets.server.outbound.dropped";
+
     /**
      * {@link Direction} tag key.
      */
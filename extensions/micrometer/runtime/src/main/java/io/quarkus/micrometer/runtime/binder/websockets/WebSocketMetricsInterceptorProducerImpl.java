@@ -4,11 +4,18 @@
 import static io.quarkus.micrometer.runtime.binder.websockets.WebSocketMetricConstants.Direction.INBOUND;
 import static io.quarkus.micrometer.runtime.binder.websockets.WebSocketMetricConstants.Direction.OUTBOUND;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 import jakarta.enterprise.context.Dependent;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.quarkus.websockets.next.runtime.spi.telemetry.WebSocketMetricsInterceptorProducer;
 
 @Dependent
@@ -47,8 +54,25 @@ public WebSocketMetricsInterceptor createServerMetricsInterceptor() {
                 .builder(WebSocketMetricConstants.SERVER_CONNECTION_ON_OPEN_ERROR)
                 .description("Number of failures occurred when opening server connection failed.")
                 .withRegistry(meterRegistry);
+        final Meter.MeterProvider<Timer> broadcastTimer = Timer
+                .builder(WebSocketMetricConstants.SERVER_BROADCAST_DURATION)
+                .description("Time elapsed between the dispatch of a broadcast message and the completion of the last write.")
+                .withRegistry(meterRegistry);
+        final Meter.MeterProvider<Counter> slowRecipientsCounter = Counter
+                .builder(WebSocketMetricConstants.SERVER_BROADCAST_SLOW_RECIPIENTS)
+                .description("Number of broadcast recipients whose write queue was full when the message was sent.")
+                .withRegistry(meterRegistry);
+        final Meter.MeterProvider<Counter> droppedRecipientsCounter = Counter
+                .builder(WebSocketMetricConstants.SERVER_BROADCAST_DROPPED_RECIPIENTS)
+                .description("Number of broadcast recipients closed before the message could be written.")
+                .withRegistry(meterRegistry);
+        final Meter.MeterProvider<Counter> droppedMessagesCounter = Counter
+                .builder(WebSocketMetricConstants.SERVER_OUTBOUND_DROPPED)
+                .description("Number of outbound messages dropped by the outbound queues of the server connections.")
+                .withRegistry(meterRegistry);
         return new WebSocketMetricsInterceptorImpl(messagesCounter, bytesCounter, closedConnectionCounter, serverErrorsCounter,
-                connectionOpenCounter, connectionOnOpenErrorsCounter);
+                connectionOpenCounter, connectionOnOpenErrorsCounter, broadcastTimer, slowRecipientsCounter,
+                droppedRecipientsCounter, new OutboundQueueGauges(meterRegistry), droppedMessagesCounter);
     }
 
     @Override
@@ -77,8 +101,9 @@ public WebSocketMetricsInterceptor createClientMetricsInterceptor() {
                 .builder(WebSocketMetricConstants.CLIENT_CONNECTION_ON_OPEN_ERROR)
                 .description("Number of failures occurred when opening client connection failed.")
                 .withRegistry(meterRegistry);
+        // clients do not broadcast messages
         return new WebSocketMetricsInterceptorImpl(messagesCounter, bytesCounter, closedConnectionCounter, clientErrorsCounter,
-                connectionOpenCounter, connectionOnOpenErrorsCounter);
+                connectionOpenCounter, connectionOnOpenErrorsCounter, null, null, null, null, null);
     }
 
     private static final class WebSocketMetricsInterceptorImpl implements WebSocketMetricsInterceptor {
@@ -89,17 +114,29 @@ private static final class WebSocketMetricsInterceptorImpl implements WebSocketM
         private final Meter.MeterProvider<Counter> errorsCounter;
         private final Meter.MeterProvider<Counter> connectionOpenCounter;
         private final Meter.MeterProvider<Counter> connectionOnOpenErrorsCounter;
+        private final Meter.MeterProvider<Timer> broadcastTimer;
+        private final Meter.MeterProvider<Counter> slowRecipientsCounter;
+        private final Meter.MeterProvider<Counter> droppedRecipientsCounter;
+        private final OutboundQueueGauges outboundQueueGauges;
+        private final Meter.MeterProvider<Counter> droppedMessagesCounter;
 
         private WebSocketMetricsInterceptorImpl(Meter.MeterProvider<Counter> messagesCounter,
                 Meter.MeterProvider<Counter> bytesCounter, Meter.MeterProvider<Counter> closedConnectionCounter,
                 Meter.MeterProvider<Counter> errorsCounter, Meter.MeterProvider<Counter> connectionOpenCounter,
-                Meter.MeterProvider<Counter> connectionOnOpenErrorsCounter) {
+                Meter.MeterProvider<Counter> connectionOnOpenErrorsCounter, Meter.MeterProvider<Timer> broadcastTimer,
+                Meter.MeterProvider<Counter> slowRecipientsCounter, Meter.MeterProvider<Counter> droppedRecipientsCounter,
+                OutboundQueueGauges outboundQueueGauges, Meter.MeterProvider<Counter> droppedMessagesCounter) {
             this.messagesCounter = messagesCounter;
             this.bytesCounter = bytesCounter;
             this.closedConnectionCounter = closedConnectionCounter;
             this.errorsCounter = errorsCounter;
             this.connectionOpenCounter = connectionOpenCounter;
             this.connectionOnOpenErrorsCounter = connectionOnOpenErrorsCounter;
+            this.broadcastTimer = broadcastTimer;
+            this.slowRecipientsCounter = slowRecipientsCounter;
+            this.droppedRecipientsCounter = droppedRecipientsCounter;
+            this.outboundQueueGauges = outboundQueueGauges;
+            this.droppedMessagesCounter = droppedMessagesCounter;
         }
 
         @Override
@@ -133,5 +170,64 @@ public void onConnectionOpeningFailed(String route) {
         public void onConnectionClosed(String route) {
             closedConnectionCounter.withTag(URI_TAG_KEY, route).increment();
         }
+
+        @Override
+        public void onBroadcast(String route, int recipients, int slowRecipients, int droppedRecipients,
+                long durationNanos) {
+            if (broadcastTimer == null) {
+                return;
+            }
+            broadcastTimer.withTag(URI_TAG_KEY, route).record(durationNanos, TimeUnit.NANOSECONDS);
+            if (slowRecipients > 0) {
+                slowRecipientsCounter.withTag(URI_TAG_KEY, route).increment(slowRecipients);
+            }
+            if (droppedRecipients > 0) {
+                droppedRecipientsCounter.withTag(URI_TAG_KEY, route).increment(droppedRecipients);
+            }
+        }
+
+        @Override
+        public void onOutboundQueueChanged(String route, int messagesDelta, long bytesDelta) {
+            if (outboundQueueGauges != null) {
+                outboundQueueGauges.add(route, messagesDelta, bytesDelta);
+            }
+        }
+
+        @Override
+        public void onMessageDropped(String route) {
+            if (droppedMessagesCounter != null) {
+                droppedMessagesCounter.withTag(URI_TAG_KEY, route).increment();
+            }
+        }
+    }
+
+    /**
+     * Sums the sizes of the outbound queues of all the connections to an endpoint.
+     */
+    private static final class OutboundQueueGauges {
+
+        private final MeterRegistry meterRegistry;
+        private final ConcurrentMap<String, AtomicLong> messages = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, AtomicLong> bytes = new ConcurrentHashMap<>();
+
+        private OutboundQueueGauges(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        void add(String route, int messagesDelta, long bytesDelta) {
+            messages.computeIfAbsent(route, r -> register(WebSocketMetricConstants.SERVER_OUTBOUND_QUEUE_MESSAGES,
+                    "Number of outbound messages queued for the server connections.", r)).addAndGet(messagesDelta);
+            bytes.computeIfAbsent(route, r -> register(WebSocketMetricConstants.SERVER_OUTBOUND_QUEUE_BYTES,
+                    "Size in bytes of the outbound messages queued for the server connections.", r)).addAndGet(bytesDelta);
+        }
+
+        private AtomicLong register(String name, String description, String route) {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder(name, value, AtomicLong::get)
+                    .description(description)
+                    .tag(URI_TAG_KEY, route)
+                    .register(meterRegistry);
+            return value;
+        }
     }
 }
@@ -0,0 +1,77 @@
+package io.quarkus.micrometer.runtime;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class MicrometerMetricsFactoryTest {
+
+    @Test
+    public void testTimerWithHistogram() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerMetricsFactory factory = new MicrometerMetricsFactory(null, registry);
+
+        factory.builder("acquire.time")
+                .tag("datasource", "default")
+                .histogram()
+                .buildTimer()
+                .update(5, TimeUnit.MILLISECONDS);
+
+        Timer timer = registry.get("acquire.time").tag("datasource", "default").timer();
+        Assertions.assertEquals(1, timer.count());
+        Assertions.assertTrue(timer.takeSnapshot().histogramCounts().length > 0);
+    }
+
+    @Test
+    public void testTimerWithoutHistogram() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerMetricsFactory factory = new MicrometerMetricsFactory(null, registry);
+
+        factory.builder("acquire.time")
+                .buildTimer()
+                .update(5, TimeUnit.MILLISECONDS);
+
+        Timer timer = registry.get("acquire.time").timer();
+        Assertions.assertEquals(1, timer.count());
+        Assertions.assertEquals(0, timer.takeSnapshot().histogramCounts().length);
+    }
+
+    @Test
+    public void testTimerHistogramDefersToRegistry() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder().percentilesHistogram(true).build().merge(config);
+            }
+        });
+        MicrometerMetricsFactory factory = new MicrometerMetricsFactory(null, registry);
+
+        factory.builder("acquire.time")
+                .buildTimer()
+                .update(5, TimeUnit.MILLISECONDS);
+
+        Timer timer = registry.get("acquire.time").timer();
+        Assertions.assertTrue(timer.takeSnapshot().histogramCounts().length > 0);
+    }
+
+    @Test
+    public void testRemove() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerMetricsFactory factory = new MicrometerMetricsFactory(null, registry);
+
+        factory.builder("job.lag").tag("job", "foo").buildGauge(() -> 1);
+        factory.builder("job.lag").tag("job", "bar").buildGauge(() -> 2);
+        factory.remove("job.lag", "job", "foo");
+
+        Assertions.assertNull(registry.find("job.lag").tag("job", "foo").gauge());
+        Assertions.assertEquals(2, registry.get("job.lag").tag("job", "bar").gauge().value());
+    }
+}
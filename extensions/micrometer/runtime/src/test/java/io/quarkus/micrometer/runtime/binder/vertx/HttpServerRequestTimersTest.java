@@ -0,0 +1,85 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.http.HttpMethod;
+
+public class HttpServerRequestTimersTest {
+
+    SimpleMeterRegistry registry;
+    HttpServerRequestTimers timers;
+
+    @BeforeEach
+    public void init() {
+        registry = new SimpleMeterRegistry();
+        timers = new HttpServerRequestTimers(registry, Timer.builder("http.server.requests").withRegistry(registry));
+    }
+
+    @Test
+    public void testTimersAreReused() {
+        Timer timer = timers.get(HttpMethod.GET, Tag.of("uri", "/item/{id}"), 200);
+        Assertions.assertSame(timer, timers.get(HttpMethod.GET, Tag.of("uri", "/item/{id}"), 200));
+        Assertions.assertSame(timer, registry.get("http.server.requests")
+                .tags("method", "GET", "uri", "/item/{id}", "outcome", "SUCCESS", "status", "200").timer());
+
+        Assertions.assertNotSame(timer, timers.get(HttpMethod.POST, Tag.of("uri", "/item/{id}"), 200));
+        Assertions.assertNotSame(timer, timers.get(HttpMethod.GET, Tag.of("uri", "/item/{id}"), 201));
+        Assertions.assertNotSame(timer, timers.get(HttpMethod.GET, Tag.of("uri", "/item/{id}"), 500));
+        Assertions.assertNotSame(timer, timers.get(HttpMethod.GET, Tag.of("uri", "/other"), 200));
+        Assertions.assertEquals(5, registry.find("http.server.requests").timers().size());
+    }
+
+    @Test
+    public void testUncachedRequests() {
+        Timer timer = timers.get(HttpMethod.valueOf("PURGE"), Tag.of("uri", "/item"), 200);
+        Assertions.assertSame(timer, timers.get(HttpMethod.valueOf("PURGE"), Tag.of("uri", "/item"), 200));
+        Assertions.assertNotNull(registry.get("http.server.requests").tags("method", "PURGE").timer());
+
+        timer = timers.get(HttpMethod.GET, Tag.of("uri", "/item"), 0);
+        Assertions.assertSame(timer, registry.get("http.server.requests")
+                .tags("method", "GET", "status", "UNKNOWN").timer());
+    }
+
+    @Test
+    public void testRemovedTimersAreNotReused() {
+        Timer timer = timers.get(HttpMethod.GET, Tag.of("uri", "/item"), 200);
+        timer.record(Duration.ofMillis(1));
+        registry.clear();
+
+        Timer recreated = timers.get(HttpMethod.GET, Tag.of("uri", "/item"), 200);
+        Assertions.assertNotSame(timer, recreated);
+        Assertions.assertSame(recreated, registry.get("http.server.requests").tags("uri", "/item").timer());
+        Assertions.assertEquals(0, recreated.count());
+    }
+
+    @Test
+    public void testRemovedTimersAreNotReusedByOtherServers() {
+        // e.g. the main and the management servers, or the servers of the previous dev mode restarts
+        HttpServerRequestTimers other = new HttpServerRequestTimers(registry,
+                Timer.builder("http.server.requests").withRegistry(registry));
+        Timer timer = timers.get(HttpMethod.GET, Tag.of("uri", "/item"), 200);
+        Assertions.assertSame(timer, other.get(HttpMethod.GET, Tag.of("uri", "/item"), 200));
+        registry.clear();
+
+        Timer recreated = other.get(HttpMethod.GET, Tag.of("uri", "/item"), 200);
+        Assertions.assertNotSame(timer, recreated);
+        Assertions.assertSame(recreated, timers.get(HttpMethod.GET, Tag.of("uri", "/item"), 200));
+    }
+
+    @Test
+    public void testNumberOfUrisIsBounded() {
+        for (int i = 0; i < HttpServerRequestTimers.MAX_URIS + 10; i++) {
+            Timer timer = timers.get(HttpMethod.GET, Tag.of("uri", "/item/" + i), 200);
+            Assertions.assertSame(timer, timers.get(HttpMethod.GET, Tag.of("uri", "/item/" + i), 200));
+        }
+        Assertions.assertEquals(HttpServerRequestTimers.MAX_URIS + 10,
+                registry.find("http.server.requests").timers().size());
+    }
+}
@@ -2422,6 +2422,12 @@ public static Token fromAudience(String... audience) {
          */
         public Optional<Boolean> verifyAccessTokenWithUserInfo = Optional.empty();
 
+        /**
+         * Maximum number of the successfully verified JWT bearer access tokens whose verification result is cached.
+         * Set it to a positive value if the cache has to be enabled.
+         */
+        public int verifiedTokenCacheSize;
+
         /**
          * Token binding options
          */
@@ -2435,6 +2441,14 @@ public void setVerifyAccessTokenWithUserInfo(boolean verify) {
             this.verifyAccessTokenWithUserInfo = Optional.of(verify);
         }
 
+        public int getVerifiedTokenCacheSize() {
+            return verifiedTokenCacheSize;
+        }
+
+        public void setVerifiedTokenCacheSize(int verifiedTokenCacheSize) {
+            this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+        }
+
         public Optional<String> getIssuer() {
             return issuer;
         }
@@ -2627,6 +2641,7 @@ private void addConfigMappingValues(io.quarkus.oidc.runtime.OidcTenantConfig.Tok
             allowOpaqueTokenIntrospection = mapping.allowOpaqueTokenIntrospection();
             customizerName = mapping.customizerName();
             verifyAccessTokenWithUserInfo = mapping.verifyAccessTokenWithUserInfo();
+            verifiedTokenCacheSize = mapping.verifiedTokenCacheSize();
             binding.addConfigMappingValues(mapping.binding());
         }
 
@@ -2745,6 +2760,11 @@ public Optional<String> customizerName() {
         public Optional<Boolean> verifyAccessTokenWithUserInfo() {
             return verifyAccessTokenWithUserInfo;
         }
+
+        @Override
+        public int verifiedTokenCacheSize() {
+            return verifiedTokenCacheSize;
+        }
     }
 
     /**
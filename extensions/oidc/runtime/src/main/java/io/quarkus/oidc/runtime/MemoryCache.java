@@ -4,23 +4,37 @@
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 
+/**
+ * Bounded in-memory cache.
+ * <p>
+ * When the cache is full, adding a new entry evicts a single entry, selected with the second-chance (CLOCK) approximation
+ * of the least recently used policy: entries are visited in their insertion order, an expired entry or an entry that was
+ * not read since it was last visited is evicted, and the other entries are given a second chance.
+ * Expired entries are never returned, the optional clean up timer only releases the memory of the expired entries
+ * that are not read again.
+ */
 public class MemoryCache<T> {
     private volatile Long timerId = null;
 
     private final Map<String, CacheEntry<T>> cacheMap = new ConcurrentHashMap<>();
+    // entries in the order of their insertion, it may contain the entries that have been removed or replaced
+    private final Queue<CacheEntry<T>> evictionQueue = new ConcurrentLinkedQueue<>();
     private final AtomicInteger size = new AtomicInteger();
-    private final Duration cacheTimeToLive;
+    private final AtomicInteger evictionQueueSize = new AtomicInteger();
+    private final long cacheTimeToLive;
     private final int cacheSize;
 
     public MemoryCache(Vertx vertx, Optional<Duration> cleanUpTimerInterval,
             Duration cacheTimeToLive, int cacheSize) {
-        this.cacheTimeToLive = cacheTimeToLive;
+        this.cacheTimeToLive = cacheTimeToLive.toMillis();
         this.cacheSize = cacheSize;
         init(vertx, cleanUpTimerInterval);
     }
@@ -38,26 +52,60 @@ public void handle(Long event) {
     }
 
     public void add(String key, T result) {
+        add(key, result, Long.MAX_VALUE);
+    }
+
+    /**
+     * Adds an entry which expires at the given time, or when the cache time to live is reached if it is earlier.
+     *
+     * @param key the key
+     * @param result the value
+     * @param expiresAt the expiry time in milliseconds since the epoch
+     */
+    public void add(String key, T result, long expiresAt) {
         if (cacheSize > 0) {
-            if (!prepareSpaceForNewCacheEntry()) {
-                clearCache();
+            long now = now();
+            // the time to live may be too long to be added to the current time
+            long maxExpiresAt = cacheTimeToLive > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + cacheTimeToLive;
+            CacheEntry<T> entry = new CacheEntry<T>(key, result, Math.min(expiresAt, maxExpiresAt));
+            if (cacheMap.put(key, entry) == null) {
+                size.incrementAndGet();
+            }
+            evictionQueue.offer(entry);
+            if (evictionQueueSize.incrementAndGet() > 2 * cacheSize) {
+                removeStaleQueueEntries();
+            }
+            while (size.get() > cacheSize && evictEntry()) {
+                // an entry has been evicted
             }
-            cacheMap.put(key, new CacheEntry<T>(result));
         }
     }
 
     public T remove(String key) {
         CacheEntry<T> entry = removeCacheEntry(key);
-        return entry == null ? null : entry.result;
+        return entry == null || isEntryExpired(entry, now()) ? null : entry.result;
     }
 
     public T get(String key) {
         CacheEntry<T> entry = cacheMap.get(key);
-        return entry == null ? null : entry.result;
+        if (entry == null) {
+            return null;
+        }
+        if (isEntryExpired(entry, now())) {
+            if (cacheMap.remove(key, entry)) {
+                size.decrementAndGet();
+            }
+            return null;
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        return entry.result;
     }
 
     public boolean containsKey(String key) {
-        return cacheMap.containsKey(key);
+        CacheEntry<T> entry = cacheMap.get(key);
+        return entry != null && !isEntryExpired(entry, now());
     }
 
     private void removeInvalidEntries() {
@@ -75,17 +123,48 @@ private void removeInvalidEntries() {
                 }
             }
         }
+        removeStaleQueueEntries();
     }
 
-    private boolean prepareSpaceForNewCacheEntry() {
-        int currentSize;
-        do {
-            currentSize = size.get();
-            if (currentSize == cacheSize) {
-                return false;
+    /**
+     * Evicts a single entry.
+     *
+     * @return false if the cache has no entry to evict
+     */
+    private boolean evictEntry() {
+        long now = now();
+        CacheEntry<T> candidate;
+        while ((candidate = evictionQueue.poll()) != null) {
+            evictionQueueSize.decrementAndGet();
+            if (!isCurrent(candidate)) {
+                continue;
             }
-        } while (!size.compareAndSet(currentSize, currentSize + 1));
-        return true;
+            if (candidate.referenced && !isEntryExpired(candidate, now)) {
+                // second chance
+                candidate.referenced = false;
+                evictionQueue.offer(candidate);
+                evictionQueueSize.incrementAndGet();
+                continue;
+            }
+            if (cacheMap.remove(candidate.key, candidate)) {
+                size.decrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void removeStaleQueueEntries() {
+        for (Iterator<CacheEntry<T>> it = evictionQueue.iterator(); it.hasNext();) {
+            if (!isCurrent(it.next())) {
+                it.remove();
+                evictionQueueSize.decrementAndGet();
+            }
+        }
+    }
+
+    private boolean isCurrent(CacheEntry<T> entry) {
+        return cacheMap.get(entry.key) == entry;
     }
 
     private CacheEntry<T> removeCacheEntry(String token) {
@@ -96,8 +175,8 @@ private CacheEntry<T> removeCacheEntry(String token) {
         return entry;
     }
 
-    private boolean isEntryExpired(CacheEntry<T> entry, long now) {
-        return entry.createdTime + cacheTimeToLive.toMillis() < now;
+    private static boolean isEntryExpired(CacheEntry<?> entry, long now) {
+        return entry.expiresAt < now;
     }
 
     private static long now() {
@@ -105,11 +184,15 @@ private static long now() {
     }
 
     private static class CacheEntry<T> {
+        final String key;
         volatile T result;
-        long createdTime = System.currentTimeMillis();
+        final long expiresAt;
+        volatile boolean referenced;
 
-        public CacheEntry(T result) {
+        public CacheEntry(String key, T result, long expiresAt) {
+            this.key = key;
             this.result = result;
+            this.expiresAt = expiresAt;
         }
     }
 
@@ -119,7 +202,9 @@ public int getCacheSize() {
 
     public void clearCache() {
         cacheMap.clear();
+        evictionQueue.clear();
         size.set(0);
+        evictionQueueSize.set(0);
     }
 
     public void stopTimer(Vertx vertx) {
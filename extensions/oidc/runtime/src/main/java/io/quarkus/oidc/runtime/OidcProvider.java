@@ -7,12 +7,15 @@
 import java.io.Closeable;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -75,6 +78,7 @@ public class OidcProvider implements Closeable {
     static final AlgorithmConstraints ASYMMETRIC_ALGORITHM_CONSTRAINTS = new AlgorithmConstraints(
             AlgorithmConstraints.ConstraintType.PERMIT, ASYMMETRIC_SUPPORTED_ALGORITHMS);
     static final String ANY_ISSUER = "any";
+    private static final Duration VERIFIED_TOKEN_CACHE_TIME_TO_LIVE = Duration.ofMillis(Long.MAX_VALUE);
 
     private final List<Validator> customValidators;
     final OidcProviderClientImpl client;
@@ -86,6 +90,7 @@ public class OidcProvider implements Closeable {
     final String[] audience;
     final Map<String, Set<String>> requiredClaims;
     final AlgorithmConstraints requiredAlgorithmConstraints;
+    final MemoryCache<TokenVerificationResult> verifiedTokenCache;
 
     public OidcProvider(OidcProviderClientImpl client, OidcTenantConfig oidcConfig, JsonWebKeySet jwks) {
         this(client, oidcConfig, jwks, TenantFeatureFinder.find(oidcConfig),
@@ -115,6 +120,7 @@ public OidcProvider(OidcProviderClientImpl client, OidcTenantConfig oidcConfig,
         this.requiredClaims = checkRequiredClaimsProp();
         this.requiredAlgorithmConstraints = checkSignatureAlgorithm();
         this.customValidators = customValidators == null ? List.of() : customValidators;
+        this.verifiedTokenCache = createVerifiedTokenCache();
         if (client != null) {
             this.client.setOidcProvider(this);
         }
@@ -137,6 +143,22 @@ public OidcProvider(String publicKeyEnc, OidcTenantConfig oidcConfig) {
         this.requiredClaims = checkRequiredClaimsProp();
         this.requiredAlgorithmConstraints = checkSignatureAlgorithm();
         this.customValidators = TenantFeatureFinder.find(oidcConfig, Validator.class);
+        this.verifiedTokenCache = createVerifiedTokenCache();
+    }
+
+    private MemoryCache<TokenVerificationResult> createVerifiedTokenCache() {
+        if (oidcConfig == null || oidcConfig.token().verifiedTokenCacheSize() <= 0) {
+            return null;
+        }
+        if (!customValidators.isEmpty()) {
+            // custom validators may not only depend on the token
+            LOG.debugf("Verified token cache is disabled for tenant %s as custom token validators are registered",
+                    oidcConfig.tenantId().orElse(null));
+            return null;
+        }
+        // the entries expire with the tokens
+        return new MemoryCache<TokenVerificationResult>(null, Optional.empty(), VERIFIED_TOKEN_CACHE_TIME_TO_LIVE,
+                oidcConfig.token().verifiedTokenCacheSize());
     }
 
     private AlgorithmConstraints checkSignatureAlgorithm() {
@@ -179,9 +201,43 @@ public TokenVerificationResult verifySelfSignedJwtToken(String token, Key genera
     public TokenVerificationResult verifyJwtToken(String token, boolean enforceAudienceVerification, boolean subjectRequired,
             String nonce)
             throws InvalidJwtException {
-        return verifyJwtTokenInternal(customizeJwtToken(token), enforceAudienceVerification, subjectRequired, nonce,
+        final String customizedToken = customizeJwtToken(token);
+        // a nonce is specific to a single authentication, such tokens are never cached
+        final String cacheKey = verifiedTokenCache != null && nonce == null
+                ? verifiedTokenCacheKey(customizedToken, enforceAudienceVerification, subjectRequired)
+                : null;
+        if (cacheKey != null) {
+            TokenVerificationResult cachedResult = verifiedTokenCache.get(cacheKey);
+            if (cachedResult != null) {
+                LOG.trace("Token verification result has been found in the cache");
+                verifyTokenAge(cachedResult.localVerificationResult.getLong(Claims.iat.name()));
+                return cachedResult;
+            }
+        }
+        TokenVerificationResult result = verifyJwtTokenInternal(customizedToken, enforceAudienceVerification,
+                subjectRequired, nonce,
                 (requiredAlgorithmConstraints != null ? requiredAlgorithmConstraints : ASYMMETRIC_ALGORITHM_CONSTRAINTS),
                 asymmetricKeyResolver, true, oidcConfig.token().issuedAtRequired());
+        if (cacheKey != null) {
+            Long exp = result.localVerificationResult.getLong(Claims.exp.name());
+            if (exp != null) {
+                verifiedTokenCache.add(cacheKey, result, exp * 1000);
+            }
+        }
+        return result;
+    }
+
+    private static String verifiedTokenCacheKey(String token, boolean enforceAudienceVerification,
+            boolean subjectRequired) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        String tokenDigest = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        return (enforceAudienceVerification ? "a" : "-") + (subjectRequired ? "s" : "-") + tokenDigest;
     }
 
     public TokenVerificationResult verifyLogoutJwtToken(String token) throws InvalidJwtException {
@@ -625,6 +681,10 @@ public Uni<Void> refresh() {
                             @Override
                             public Uni<? extends Void> apply(JsonWebKeySet t) {
                                 jwks = t;
+                                if (verifiedTokenCache != null) {
+                                    // the tokens signed with the keys that are no longer valid must be verified again
+                                    verifiedTokenCache.clearCache();
+                                }
                                 return Uni.createFrom().voidItem();
                             }
 
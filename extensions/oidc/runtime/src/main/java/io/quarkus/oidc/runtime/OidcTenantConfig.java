@@ -1279,6 +1279,17 @@ interface Token {
         @ConfigDocDefault("false")
         Optional<Boolean> verifyAccessTokenWithUserInfo();
 
+        /**
+         * Maximum number of the successfully verified JWT bearer access tokens whose verification result is cached.
+         * A cached token is accepted again without its signature and claims being verified until it expires,
+         * while the token age is still checked. The cache is cleared when the verification keys are refreshed.
+         * Set it to a positive value if the cache has to be enabled.
+         * <p>
+         * The verification result is not cached if custom token validators are registered for this tenant.
+         */
+        @WithDefault("0")
+        int verifiedTokenCacheSize();
+
         /**
          * Token certificate binding options.
          */
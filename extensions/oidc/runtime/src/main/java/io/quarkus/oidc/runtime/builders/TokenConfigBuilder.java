@@ -30,7 +30,8 @@ private record TokenImpl(Optional<String> issuer, Optional<List<String>> audienc
             Optional<String> decryptionKeyLocation, Optional<Boolean> decryptIdToken, boolean decryptAccessToken,
             boolean allowJwtIntrospection, boolean requireJwtIntrospectionOnly,
             boolean allowOpaqueTokenIntrospection, Optional<String> customizerName,
-            Optional<Boolean> verifyAccessTokenWithUserInfo, Binding binding) implements OidcTenantConfig.Token {
+            Optional<Boolean> verifyAccessTokenWithUserInfo, int verifiedTokenCacheSize,
+            Binding binding) implements OidcTenantConfig.Token {
     }
 
     private final OidcTenantConfigBuilder builder;
@@ -57,6 +58,7 @@ private record TokenImpl(Optional<String> issuer, Optional<List<String>> audienc
     private boolean allowOpaqueTokenIntrospection;
     private Optional<String> customizerName;
     private Optional<Boolean> verifyAccessTokenWithUserInfo;
+    private int verifiedTokenCacheSize;
     private Binding binding;
 
     public TokenConfigBuilder() {
@@ -93,6 +95,7 @@ public TokenConfigBuilder(OidcTenantConfigBuilder builder) {
         this.allowOpaqueTokenIntrospection = token.allowOpaqueTokenIntrospection();
         this.customizerName = token.customizerName();
         this.verifyAccessTokenWithUserInfo = token.verifyAccessTokenWithUserInfo();
+        this.verifiedTokenCacheSize = token.verifiedTokenCacheSize();
         this.binding = token.binding();
     }
 
@@ -454,6 +457,15 @@ public TokenConfigBuilder verifyAccessTokenWithUserInfo(boolean verifyAccessToke
         return this;
     }
 
+    /**
+     * @param verifiedTokenCacheSize {@link OidcTenantConfig.Token#verifiedTokenCacheSize()}
+     * @return this builder
+     */
+    public TokenConfigBuilder verifiedTokenCacheSize(int verifiedTokenCacheSize) {
+        this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+        return this;
+    }
+
     /**
      * binding {@link OidcTenantConfig.Token#binding()}
      *
@@ -491,7 +503,7 @@ public OidcTenantConfig.Token build() {
                 decryptIdToken,
                 decryptAccessToken, allowJwtIntrospection, requireJwtIntrospectionOnly, allowOpaqueTokenIntrospection,
                 customizerName,
-                verifyAccessTokenWithUserInfo, binding);
+                verifyAccessTokenWithUserInfo, verifiedTokenCacheSize, binding);
     }
 
     /**
@@ -80,17 +80,74 @@ public void testAddWhenMaxCacheSizeIsReached() throws Exception {
         cache.add("2", new Bean("2"));
         assertEquals(2, cache.getCacheSize());
 
-        // Currently, if the cache is full and a new entry has to be added, then the whole cache is cleared
-        // It can be optimized to remove the oldest entry only in the future
+        // If the cache is full and a new entry has to be added, then the oldest entry is removed
+        cache.add("3", new Bean("3"));
+        assertEquals(2, cache.getCacheSize());
+
+        assertNull(cache.get("1"));
+        assertEquals("2", cache.get("2").name);
+        assertEquals("3", cache.get("3").name);
+    }
+
+    @Test
+    public void testRecentlyReadEntryIsNotEvicted() throws Exception {
 
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx, Optional.empty(), Duration.ofMinutes(3), 3);
+        cache.add("1", new Bean("1"));
+        cache.add("2", new Bean("2"));
         cache.add("3", new Bean("3"));
-        assertEquals(1, cache.getCacheSize());
+        assertEquals("1", cache.get("1").name);
+
+        cache.add("4", new Bean("4"));
+        assertEquals(3, cache.getCacheSize());
+        assertNull(cache.get("2"));
 
+        // "1" has been given a second chance only
+        cache.add("5", new Bean("5"));
+        cache.add("6", new Bean("6"));
+        assertTrue(cache.containsKey("1"));
+        cache.add("7", new Bean("7"));
+        assertEquals(3, cache.getCacheSize());
         assertNull(cache.get("1"));
+        assertNull(cache.get("3"));
+        assertNull(cache.get("4"));
+        assertEquals("5", cache.get("5").name);
+        assertEquals("6", cache.get("6").name);
+        assertEquals("7", cache.get("7").name);
+    }
+
+    @Test
+    public void testReplacedAndRemovedEntries() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx, Optional.empty(), Duration.ofMinutes(3), 2);
+        for (int i = 0; i < 100; i++) {
+            cache.add("1", new Bean("1-" + i));
+            cache.add("2", new Bean("2-" + i));
+            assertEquals("2-" + i, cache.remove("2").name);
+        }
+        assertEquals(1, cache.getCacheSize());
+        assertEquals("1-99", cache.get("1").name);
+
+        cache.add("2", new Bean("2"));
+        cache.add("3", new Bean("3"));
+        assertEquals(2, cache.getCacheSize());
         assertNull(cache.get("2"));
+        assertEquals("1-99", cache.get("1").name);
         assertEquals("3", cache.get("3").name);
     }
 
+    @Test
+    public void testEntryExpiry() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx, Optional.empty(), Duration.ofMinutes(3), 2);
+        cache.add("1", new Bean("1"), System.currentTimeMillis() - 1);
+        cache.add("2", new Bean("2"), System.currentTimeMillis() + 60_000);
+        assertNull(cache.get("1"));
+        assertFalse(cache.containsKey("1"));
+        assertEquals("2", cache.get("2").name);
+        assertEquals(1, cache.getCacheSize());
+    }
+
     static class Bean {
         String name;
 
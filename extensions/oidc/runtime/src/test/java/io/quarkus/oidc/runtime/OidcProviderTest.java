@@ -1,7 +1,9 @@
 package io.quarkus.oidc.runtime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -67,6 +69,51 @@ public JsonObject customizeHeaders(JsonObject headers) {
         }
     }
 
+    @Test
+    public void testVerifiedTokenCache() throws Exception {
+
+        RsaJsonWebKey rsaJsonWebKey = RsaJwkGenerator.generateJwk(2048);
+        rsaJsonWebKey.setKeyId("k1");
+        JsonWebKeySet jwkSet = new JsonWebKeySet("{\"keys\": [" + rsaJsonWebKey.toJson() + "]}");
+
+        final String token = Jwt.issuer("http://keycloak/realm").jws().keyId("k1").sign(rsaJsonWebKey.getPrivateKey());
+        final String expiredToken = Jwt.issuer("http://keycloak/realm").expiresAt(Instant.now().minusSeconds(10))
+                .jws().keyId("k1").sign(rsaJsonWebKey.getPrivateKey());
+
+        OidcTenantConfig oidcConfig = new OidcTenantConfig();
+        oidcConfig.token.verifiedTokenCacheSize = 10;
+
+        try (OidcProvider provider = new OidcProvider(null, oidcConfig, jwkSet)) {
+            TokenVerificationResult result = provider.verifyJwtToken(token, false, false, null);
+            assertEquals("http://keycloak/realm", result.localVerificationResult.getString("iss"));
+            assertSame(result, provider.verifyJwtToken(token, false, false, null));
+            // the verification options are part of the key
+            assertNotSame(result, provider.verifyJwtToken(token, false, true, null));
+            assertEquals(2, provider.verifiedTokenCache.getCacheSize());
+
+            try {
+                provider.verifyJwtToken(expiredToken, false, false, null);
+                fail("InvalidJwtException expected");
+            } catch (InvalidJwtException ex) {
+                // continue
+            }
+            assertEquals(2, provider.verifiedTokenCache.getCacheSize());
+        }
+
+        // custom validators may depend on more than the token
+        try (OidcProvider provider = new OidcProvider(null, oidcConfig, jwkSet, null, List.of(new Validator() {
+
+            @Override
+            public String validate(JwtContext jwtContext) {
+                return null;
+            }
+        }))) {
+            TokenVerificationResult result = provider.verifyJwtToken(token, false, false, null);
+            assertNotSame(result, provider.verifyJwtToken(token, false, false, null));
+            assertNull(provider.verifiedTokenCache);
+        }
+    }
+
     @Test
     public void testTokenWithoutKidSingleRsaJwkWithoutKid() throws Exception {
         RsaJsonWebKey rsaJsonWebKey = RsaJwkGenerator.generateJwk(2048);
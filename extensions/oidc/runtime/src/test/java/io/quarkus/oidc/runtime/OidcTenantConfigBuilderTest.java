@@ -100,6 +100,7 @@ public void testDefaultValues() {
         assertTrue(token.allowOpaqueTokenIntrospection());
         assertTrue(token.customizerName().isEmpty());
         assertTrue(token.verifyAccessTokenWithUserInfo().isEmpty());
+        assertEquals(0, token.verifiedTokenCacheSize());
 
         var logout = config.logout();
         assertNotNull(logout);
@@ -280,6 +281,7 @@ public void testSetEveryProperty() {
                 .roles().roleClaimSeparator("@#$").roleClaimPath("separator-23").source(idtoken).end()
                 .token()
                 .verifyAccessTokenWithUserInfo()
+                .verifiedTokenCacheSize(17)
                 .customizerName("customizer-name-8")
                 .allowOpaqueTokenIntrospection(false)
                 .requireJwtIntrospectionOnly()
@@ -490,6 +492,7 @@ public void testSetEveryProperty() {
         assertFalse(token.allowOpaqueTokenIntrospection());
         assertEquals("customizer-name-8", token.customizerName().orElse(null));
         assertTrue(token.verifyAccessTokenWithUserInfo().orElseThrow());
+        assertEquals(17, token.verifiedTokenCacheSize());
 
         var logout = config.logout();
         assertNotNull(logout);
@@ -203,6 +203,7 @@ enum ConfigMappingMethods {
         TOKEN_ALLOW_OPAQUE_TOKEN_INTROSPECTION,
         TOKEN_CUSTOMIZER_NAME,
         TOKEN_VERIFY_ACCESS_TOKEN_WITH_USER_INFO,
+        TOKEN_VERIFIED_TOKEN_CACHE_SIZE,
         TOKEN_BINDING,
         TOKEN_BINDING_CERTIFICATE,
         ROLES_ROLE_CLAIM_PATH,
@@ -471,6 +472,12 @@ public Optional<Boolean> verifyAccessTokenWithUserInfo() {
                 return Optional.empty();
             }
 
+            @Override
+            public int verifiedTokenCacheSize() {
+                invocationsRecorder.put(ConfigMappingMethods.TOKEN_VERIFIED_TOKEN_CACHE_SIZE, true);
+                return 0;
+            }
+
             @Override
             public Binding binding() {
                 invocationsRecorder.put(ConfigMappingMethods.TOKEN_BINDING, true);
@@ -0,0 +1,20 @@
+package io.quarkus.qute.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Holds a name of a generated {@link io.quarkus.qute.CompiledExpression} class.
+ */
+public final class CompiledExpressionBuildItem extends MultiBuildItem {
+
+    private final String className;
+
+    public CompiledExpressionBuildItem(String className) {
+        this.className = className;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+}
@@ -144,6 +144,7 @@
 import io.quarkus.qute.deployment.TypeInfos.Info;
 import io.quarkus.qute.deployment.TypeInfos.TypeInfo;
 import io.quarkus.qute.deployment.Types.AssignabilityCheck;
+import io.quarkus.qute.generator.CompiledExpressionGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceExtensionMethodInfo;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.Param;
@@ -1346,6 +1347,9 @@ static MatchResult validateNestedExpressions(QuteConfig config, TemplateAnalysis
                     match.clearValues();
                     break;
                 } else {
+                    if (extensionMethod == null && info.isProperty()) {
+                        match.addMember(member);
+                    }
                     if (type == null) {
                         type = resolveType(member, match, index, extensionMethod, results, info);
                     }
@@ -2179,6 +2183,68 @@ public Function<FieldInfo, String> apply(ClassInfo clazz) {
         }
     }
 
+    @BuildStep
+    void generateCompiledExpressions(QuteConfig config,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BeanArchiveIndexBuildItem beanArchiveIndex,
+            TemplatesAnalysisBuildItem templatesAnalysis,
+            List<TemplateExpressionMatchesBuildItem> expressionMatches,
+            List<IncorrectExpressionBuildItem> incorrectExpressions,
+            BuildProducer<CompiledExpressionBuildItem> compiledExpressions,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+
+        if (!config.compileTypeSafeExpressions() || !incorrectExpressions.isEmpty()) {
+            // Skip generation if disabled or a validation error occurs
+            return;
+        }
+
+        ClassOutput classOutput = new GeneratedClassGizmo2Adaptor(generatedClasses, generatedResources,
+                new Function<String, String>() {
+                    @Override
+                    public String apply(String name) {
+                        String className = name.substring(0, name.lastIndexOf(CompiledExpressionGenerator.SUFFIX));
+                        if (className.contains(ValueResolverGenerator.NESTED_SEPARATOR)) {
+                            className = className.replace(ValueResolverGenerator.NESTED_SEPARATOR, "$");
+                        }
+                        return className;
+                    }
+                });
+        CompiledExpressionGenerator generator = new CompiledExpressionGenerator(beanArchiveIndex.getIndex(), classOutput);
+
+        Map<String, TemplateExpressionMatchesBuildItem> templateToMatches = new HashMap<>();
+        for (TemplateExpressionMatchesBuildItem matches : expressionMatches) {
+            templateToMatches.put(matches.templateGeneratedId, matches);
+        }
+        for (TemplateAnalysis templateAnalysis : templatesAnalysis.getAnalysis()) {
+            TemplateExpressionMatchesBuildItem matches = templateToMatches.get(templateAnalysis.generatedId);
+            if (matches == null) {
+                continue;
+            }
+            for (Expression expression : templateAnalysis.expressions) {
+                MatchResult match = matches.getMatch(expression.getGeneratedId());
+                if (match == null) {
+                    continue;
+                }
+                List<AnnotationTarget> members = match.getCompilableMembers(expression);
+                if (members != null && generator.isSupported(members)) {
+                    // item.owner.name -> owner.name
+                    String path = expression.getParts().stream().skip(1).map(Expression.Part::getName)
+                            .collect(Collectors.joining("."));
+                    generator.generate(path, members);
+                }
+            }
+        }
+
+        LOGGER.debugf("Generated %s compiled expressions: %s", generator.getGeneratedTypes().size(),
+                generator.getGeneratedTypes());
+
+        for (String generatedType : generator.getGeneratedTypes()) {
+            compiledExpressions.produce(new CompiledExpressionBuildItem(generatedType));
+            reflectiveClass.produce(ReflectiveClassBuildItem.builder(generatedType).build());
+        }
+    }
+
     /**
      * Tracks non-application value resolvers that have already been generated. There is no need to spend time
      * generating them again on a hot reload.
@@ -2688,12 +2754,15 @@ void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecord
     @Record(value = STATIC_INIT)
     void initializeGeneratedClasses(BeanContainerBuildItem beanContainer, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers,
-            List<TemplateGlobalProviderBuildItem> templateInitializers) {
+            List<TemplateGlobalProviderBuildItem> templateInitializers,
+            List<CompiledExpressionBuildItem> compiledExpressions) {
         // The generated classes must be initialized after the template expressions are validated in order to break the cycle in the build chain
         recorder.initializeGeneratedClasses(generatedValueResolvers.stream()
                 .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()),
                 templateInitializers.stream()
-                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()));
+                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()),
+                compiledExpressions.stream()
+                        .map(CompiledExpressionBuildItem::getClassName).collect(Collectors.toList()));
     }
 
     @BuildStep
@@ -3021,11 +3090,34 @@ static class MatchResult {
 
         private ClassInfo clazz;
         private Type type;
+        // Java members that resolve the properties of an expression; used to compile the expression
+        private List<AnnotationTarget> members;
 
         MatchResult(AssignabilityCheck assignabilityCheck) {
             this.assignabilityCheck = assignabilityCheck;
         }
 
+        void addMember(AnnotationTarget member) {
+            if (members == null) {
+                members = new ArrayList<>();
+            }
+            members.add(member);
+        }
+
+        /**
+         *
+         * @param expression
+         * @return the members if all parts of the expression except the first one are properties resolved by a java
+         *         member, or {@code null}
+         */
+        List<AnnotationTarget> getCompilableMembers(Expression expression) {
+            if (members == null || isEmpty() || expression.hasNamespace()
+                    || members.size() != expression.getParts().size() - 1) {
+                return null;
+            }
+            return members;
+        }
+
         List<Type> getParameterizedTypeArguments() {
             return type.kind() == org.jboss.jandex.Type.Kind.PARAMETERIZED_TYPE ? type.asParameterizedType().arguments()
                     : Collections.emptyList();
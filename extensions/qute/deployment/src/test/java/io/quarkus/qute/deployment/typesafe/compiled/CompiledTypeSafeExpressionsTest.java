@@ -0,0 +1,44 @@
+package io.quarkus.qute.deployment.typesafe.compiled;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CompiledExpression;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.deployment.Foo;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CompiledTypeSafeExpressionsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Foo.class)
+                    .addAsResource(new StringAsset("{@java.util.List<io.quarkus.qute.deployment.Foo> list}"
+                            + "{#for foo in list}"
+                            + "{foo.name}={foo.age}={foo.charlie.name}:"
+                            + "{/for}"), "templates/foo.html"))
+            .overrideConfigKey("quarkus.qute.compile-type-safe-expressions", "true");
+
+    @Inject
+    Template foo;
+
+    @Test
+    public void testCompiledExpressions() throws ClassNotFoundException {
+        Class<?> compiled = Thread.currentThread().getContextClassLoader()
+                .loadClass(Foo.class.getName() + "_CompiledExpression_0");
+        assertTrue(CompiledExpression.class.isAssignableFrom(compiled));
+
+        assertEquals("bravo=10=BRAVO:charlie=2=CHARLIE:",
+                foo.data("list", List.of(new Foo("bravo", 10l), new Foo("charlie", 2l))).render());
+    }
+
+}
@@ -35,6 +35,7 @@
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.qute.CompiledExpression;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.EvalContext;
@@ -216,6 +217,11 @@ public EngineProducer(QuteContext context, QuteConfig config, QuteRuntimeConfig
             }
             LOGGER.debugf("Added generated value resolver: %s", resolverClass);
         }
+        // Add compiled expressions
+        for (String compiledExpressionClass : context.getCompiledExpressionClasses()) {
+            builder.addCompiledExpression(createCompiledExpression(compiledExpressionClass));
+            LOGGER.debugf("Added compiled expression: %s", compiledExpressionClass);
+        }
         // Add tags
         for (String tag : context.getTags()) {
             // Strip suffix, item.html -> item
@@ -349,6 +355,20 @@ private Resolver createResolver(String resolverClassName) {
         }
     }
 
+    private CompiledExpression createCompiledExpression(String compiledExpressionClassName) {
+        try {
+            Class<?> compiledExpressionClazz = Thread.currentThread()
+                    .getContextClassLoader().loadClass(compiledExpressionClassName);
+            if (CompiledExpression.class.isAssignableFrom(compiledExpressionClazz)) {
+                return (CompiledExpression) compiledExpressionClazz.getDeclaredConstructor().newInstance();
+            }
+            throw new IllegalStateException("Not a compiled expression: " + compiledExpressionClassName);
+        } catch (InstantiationException | IllegalAccessException | ClassNotFoundException | IllegalArgumentException
+                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+            throw new IllegalStateException("Unable to create compiled expression: " + compiledExpressionClassName, e);
+        }
+    }
+
     private TemplateGlobalProvider createGlobalProvider(String initializerClassName) {
         try {
             Class<?> initializerClazz = Thread.currentThread()
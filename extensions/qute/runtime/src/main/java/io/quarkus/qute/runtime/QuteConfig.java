@@ -96,6 +96,17 @@ public interface QuteConfig {
     @WithDefault("PRIORITIZE")
     DuplicitTemplatesStrategy duplicitTemplatesStrategy();
 
+    /**
+     * If set to {@code true} then the type-safe expressions that consist of properties only, such as
+     * {@code item.owner.name}, are compiled during the build. A compiled expression accesses the Java members directly,
+     * i.e. without value resolvers. The first part of an expression is always resolved at runtime. If a compiled expression
+     * is not applicable, for example if an intermediate value is {@code null}, then the value resolvers are used as usual.
+     * <p>
+     * Note that a compiled expression takes precedence over custom value resolvers that match the same property.
+     */
+    @WithDefault("false")
+    boolean compileTypeSafeExpressions();
+
     /**
      * Development mode configuration.
      */
@@ -26,6 +26,7 @@ public Object get() {
 
                     volatile List<String> resolverClasses;
                     volatile List<String> templateGlobalProviderClasses;
+                    volatile List<String> compiledExpressionClasses;
 
                     @Override
                     public Map<String, TemplateInfo> getTemplates() {
@@ -53,6 +54,14 @@ public List<String> getTemplateGlobalProviderClasses() {
                         return templateGlobalProviderClasses;
                     }
 
+                    @Override
+                    public List<String> getCompiledExpressionClasses() {
+                        if (compiledExpressionClasses == null) {
+                            throw generatedClassesNotInitialized();
+                        }
+                        return compiledExpressionClasses;
+                    }
+
                     @Override
                     public Set<String> getTemplateRoots() {
                         return templateRoots;
@@ -64,9 +73,11 @@ public List<String> getExcludePatterns() {
                     }
 
                     @Override
-                    public void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses) {
+                    public void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses,
+                            List<String> compiledExpressionClasses) {
                         this.resolverClasses = resolverClasses;
                         this.templateGlobalProviderClasses = templateGlobalProviderClasses;
+                        this.compiledExpressionClasses = compiledExpressionClasses;
                     }
 
                     private IllegalStateException generatedClassesNotInitialized() {
@@ -78,9 +89,10 @@ private IllegalStateException generatedClassesNotInitialized() {
         };
     }
 
-    public void initializeGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses) {
+    public void initializeGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses,
+            List<String> compiledExpressionClasses) {
         QuteContext context = Arc.container().instance(QuteContext.class).get();
-        context.setGeneratedClasses(resolverClasses, templateGlobalProviderClasses);
+        context.setGeneratedClasses(resolverClasses, templateGlobalProviderClasses, compiledExpressionClasses);
     }
 
     public interface QuteContext {
@@ -93,6 +105,8 @@ public interface QuteContext {
 
         List<String> getTemplateGlobalProviderClasses();
 
+        List<String> getCompiledExpressionClasses();
+
         Set<String> getTemplateRoots();
 
         List<String> getExcludePatterns();
@@ -103,8 +117,10 @@ public interface QuteContext {
          *
          * @param resolverClasses
          * @param templateGlobalProviderClasses
+         * @param compiledExpressionClasses
          */
-        void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses);
+        void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses,
+                List<String> compiledExpressionClasses);
 
         default List<String> getTags() {
             List<String> ret = new ArrayList<>();
@@ -13,6 +13,7 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import jakarta.inject.Inject;
@@ -464,6 +465,28 @@ void testAsyncGetWithDefaultType() {
                 }));
     }
 
+    @Test
+    void testConcurrentMissesAreCoalesced() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        AtomicInteger invocations = new AtomicInteger();
+        List<Uni<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            responses.add(cache.getAsync(k, x -> Uni.createFrom().item(() -> "hello-" + invocations.incrementAndGet())
+                    .onItem().delayIt().by(Duration.ofMillis(200))));
+        }
+
+        var values = Uni.combine().all().unis(responses).with(list -> list).await().indefinitely();
+        assertThat(values).hasSize(10).allMatch(value -> value.equals("hello-1"));
+        assertThat(invocations).hasValue(1);
+        assertThat(cache.getAsync(k, x -> Uni.createFrom().item("another")).await().indefinitely()).isEqualTo("hello-1");
+    }
+
     @Test
     void testAsyncGetWithDefaultTypeWithoutRedis() {
         // must start our own Redis server, because we need to stop it in the middle of the test
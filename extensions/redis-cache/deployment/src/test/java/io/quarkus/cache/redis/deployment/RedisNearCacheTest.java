@@ -0,0 +1,134 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.redis.runtime.RedisCacheImpl;
+import io.quarkus.cache.redis.runtime.RedisCacheInfo;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.Request;
+
+class RedisNearCacheTest {
+
+    private static final Supplier<Boolean> BLOCKING_ALLOWED = () -> false;
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest();
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    Redis redis;
+
+    @Test
+    public void testNearCache() {
+        RedisCacheImpl cache1 = new RedisCacheImpl(nearCacheInfo(), vertx, redis, BLOCKING_ALLOWED);
+        RedisCacheImpl cache2 = new RedisCacheImpl(nearCacheInfo(), vertx, redis, BLOCKING_ALLOWED);
+        String k = awaitNearCacheHit(cache1);
+
+        // The put in another instance evicts the local value
+        cache2.put(k, "bye").await().indefinitely();
+        await().until(() -> "bye".equals(cache1.getOrNull(k, String.class).await().indefinitely()));
+
+        // The invalidation in another instance evicts the local value
+        cache2.invalidate(k).await().indefinitely();
+        await().until(() -> cache1.getOrNull(k, String.class).await().indefinitely() == null);
+    }
+
+    @Test
+    public void testNearCacheInvalidateAll() {
+        RedisCacheImpl cache1 = new RedisCacheImpl(nearCacheInfo(), vertx, redis, BLOCKING_ALLOWED);
+        RedisCacheImpl cache2 = new RedisCacheImpl(nearCacheInfo(), vertx, redis, BLOCKING_ALLOWED);
+        String k = awaitNearCacheHit(cache1);
+
+        cache2.invalidateAll().await().indefinitely();
+        await().until(() -> cache1.getOrNull(k, String.class).await().indefinitely() == null);
+    }
+
+    @Test
+    public void testLoadConcurrentWithInvalidation() throws Exception {
+        RedisCacheImpl cache1 = new RedisCacheImpl(nearCacheInfo(), vertx, redis, BLOCKING_ALLOWED);
+        RedisCacheImpl cache2 = new RedisCacheImpl(nearCacheInfo(), vertx, redis, BLOCKING_ALLOWED);
+        String k = awaitNearCacheHit(cache1);
+
+        String loading = UUID.randomUUID().toString();
+        CompletableFuture<String> loaded = new CompletableFuture<>();
+        CompletableFuture<String> result = cache1.getAsync(loading, key -> Uni.createFrom().completionStage(loaded))
+                .subscribeAsCompletionStage();
+
+        // An invalidation of the key is received while the value is being loaded
+        cache2.invalidate(loading).await().indefinitely();
+        // The invalidations are received in order
+        cache2.invalidate(k).await().indefinitely();
+        await().until(() -> cache1.getOrNull(k, String.class).await().indefinitely() == null);
+
+        loaded.complete("loaded");
+        assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("loaded");
+
+        // The loaded value was not kept in the near cache
+        redis.send(Request.cmd(Command.SET).arg("cache:near:" + loading).arg("changed")).await().indefinitely();
+        assertThat(cache1.get(loading, key -> "other").await().indefinitely()).isEqualTo("changed");
+    }
+
+    @Test
+    public void testClose() {
+        RedisCacheImpl cache = new RedisCacheImpl(nearCacheInfo("near-close"), vertx, redis, BLOCKING_ALLOWED);
+        String channel = "cache:near-close:near-cache-invalidations";
+        await().until(() -> subscribers(channel) == 1);
+
+        cache.close();
+        await().until(() -> subscribers(channel) == 0);
+    }
+
+    private long subscribers(String channel) {
+        return redis.send(Request.cmd(Command.PUBSUB).arg("NUMSUB").arg(channel)).await().indefinitely().get(1).toLong();
+    }
+
+    /**
+     * The near cache is bypassed until the invalidation channel is subscribed. Once it is active, a value modified in
+     * Redis directly is not visible.
+     *
+     * @return the key of the locally cached value
+     */
+    private String awaitNearCacheHit(RedisCacheImpl cache) {
+        String[] key = new String[1];
+        await().until(() -> {
+            String k = UUID.randomUUID().toString();
+            assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+            redis.send(Request.cmd(Command.SET).arg("cache:near:" + k).arg("changed")).await().indefinitely();
+            key[0] = k;
+            return "hello".equals(cache.get(k, s -> "hello").await().indefinitely());
+        });
+        return key[0];
+    }
+
+    private static RedisCacheInfo nearCacheInfo() {
+        return nearCacheInfo("near");
+    }
+
+    private static RedisCacheInfo nearCacheInfo(String name) {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = name;
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.nearCacheEnabled = true;
+        return info;
+    }
+}
@@ -11,6 +11,7 @@
 import io.quarkus.cache.CacheManagerInfo;
 import io.quarkus.cache.runtime.CacheManagerImpl;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -30,7 +31,7 @@ public RedisCacheBuildRecorder(RedisCachesBuildTimeConfig buildConfig,
         this.redisCacheConfigRV = redisCacheConfigRV;
     }
 
-    public CacheManagerInfo getCacheManagerSupplier() {
+    public CacheManagerInfo getCacheManagerSupplier(ShutdownContext shutdownContext) {
         return new CacheManagerInfo() {
             @Override
             public boolean supports(Context context) {
@@ -49,6 +50,7 @@ public CacheManager get() {
                         } else {
                             // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
                             Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+                            List<RedisCacheImpl> redisCaches = new ArrayList<>(cacheInfos.size());
                             for (RedisCacheInfo cacheInfo : cacheInfos) {
                                 if (LOGGER.isDebugEnabled()) {
                                     LOGGER.debugf(
@@ -59,7 +61,16 @@ public CacheManager get() {
 
                                 RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName());
                                 caches.put(cacheInfo.name, cache);
+                                redisCaches.add(cache);
                             }
+                            shutdownContext.addShutdownTask(new Runnable() {
+                                @Override
+                                public void run() {
+                                    for (RedisCacheImpl cache : redisCaches) {
+                                        cache.close();
+                                    }
+                                }
+                            });
                             return new CacheManagerImpl(caches);
                         }
                     }
@@ -8,6 +8,10 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -27,8 +31,6 @@
 import io.quarkus.runtime.BlockingOperationControl;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.subscription.UniEmitter;
-import io.smallrye.mutiny.unchecked.Unchecked;
-import io.smallrye.mutiny.unchecked.UncheckedFunction;
 import io.smallrye.mutiny.vertx.MutinyHelper;
 import io.vertx.core.http.ConnectionPoolTooBusyException;
 import io.vertx.mutiny.core.Vertx;
@@ -57,6 +59,12 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    // null if the near cache is disabled
+    private final RedisNearCache nearCache;
+
+    // loads in progress in this instance, keyed by the actual Redis key
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
@@ -88,6 +96,23 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
         }
         this.marshaller.add(CompositeCacheKey.class);
         this.redis = redis;
+        if (cacheInfo.nearCacheEnabled) {
+            this.nearCache = new RedisNearCache(getName(), cacheInfo.nearCacheMaximumSize,
+                    cacheInfo.nearCacheExpireAfterWrite.or(() -> cacheInfo.expireAfterWrite),
+                    getKeyPrefix() + RedisNearCache.CHANNEL_SUFFIX, vertx, redis);
+            this.nearCache.start();
+        } else {
+            this.nearCache = null;
+        }
+    }
+
+    /**
+     * Releases the resources held by this cache, i.e. the subscription connection of the near cache.
+     */
+    public void close() {
+        if (nearCache != null) {
+            nearCache.close();
+        }
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -144,81 +169,47 @@ public <K, V> Uni<V> get(K key, TypeLiteral<V> type, Function<K, V> valueLoader)
     }
 
     private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
-        // With optimistic locking:
-        // WATCH K
-        // val = deserialize(GET K)
-        // if val == null
-        //   MULTI
-        //      SET K computation.apply(K)
-        //   EXEC
-        // else
-        //   UNWATCH K
-        //   return val
-        // Without:
-        // val = deserialize(GET K)
-        // if (val == null) => SET K computation.apply(K)
-        // else => return val
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        boolean isWorkerThread = blockingAllowedSupplier.get();
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
-            @Override
-            public Uni<V> apply(RedisConnection connection) {
-                Uni<V> startingPoint;
-                if (cacheInfo.useOptimisticLocking) {
-                    startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller));
-                } else {
-                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller).get();
+        if (nearCache != null) {
+            return nearCache.get(encodeKey(key), new Supplier<Uni<V>>() {
+                @Override
+                public Uni<V> get() {
+                    return getFromRedis(key, type, valueLoader);
                 }
+            });
+        }
+        return getFromRedis(key, type, valueLoader);
+    }
 
-                return startingPoint
-                        .chain(Unchecked.function(new UncheckedFunction<>() {
-                            @Override
-                            public Uni<V> apply(V cached) throws Exception {
-                                if (cached != null) {
-                                    // Unwatch if optimistic locking
-                                    if (cacheInfo.useOptimisticLocking) {
-                                        return connection.send(Request.cmd(Command.UNWATCH))
-                                                .replaceWith(cached);
-                                    }
-                                    return Uni.createFrom().item(new StaticSupplier<>(cached));
-                                } else {
-                                    Uni<V> uni = computeValue(key, valueLoader, isWorkerThread);
-
-                                    return uni.onItem().call(new Function<V, Uni<?>>() {
-                                        @Override
-                                        public Uni<?> apply(V value) {
-                                            if (value == null) {
-                                                throw new IllegalArgumentException("Cannot cache `null` value");
-                                            }
-                                            byte[] encodedValue = marshaller.encode(value);
-                                            Uni<V> result;
-                                            if (cacheInfo.useOptimisticLocking) {
-                                                result = multi(connection, set(connection, encodedKey, encodedValue))
-                                                        .replaceWith(value);
-                                            } else {
-                                                result = set(connection, encodedKey, encodedValue).replaceWith(value);
-                                            }
-                                            if (isWorkerThread) {
-                                                return result.runSubscriptionOn(
-                                                        MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
-                                            }
-                                            return result;
-                                        }
-                                    });
-                                }
-                            }
-                        }));
-            }
-        })
-
-                .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(new Function<Throwable, Uni<? extends V>>() {
+    private <K, V> Uni<V> getFromRedis(K key, Type type, Function<K, V> valueLoader) {
+        String actualKey = computeActualKey(encodeKey(key));
+        boolean isWorkerThread = blockingAllowedSupplier.get();
+        Function<K, Uni<V>> computation = new Function<K, Uni<V>>() {
+            @Override
+            public Uni<V> apply(K k) {
+                return computeValue(k, valueLoader, isWorkerThread).invoke(new Consumer<V>() {
                     @Override
-                    public Uni<? extends V> apply(Throwable e) {
-                        log.warn("Unable to connect to Redis, recomputing cached value", e);
-                        return computeValue(key, valueLoader, isWorkerThread);
+                    public void accept(V value) {
+                        if (value == null) {
+                            throw new IllegalArgumentException("Cannot cache `null` value");
+                        }
                     }
                 });
+            }
+        };
+        return singleFlight(actualKey, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return RedisCacheImpl.this.<K, V> load(key, type, marshaller.encode(actualKey), computation, isWorkerThread)
+                        .onFailure(RedisCacheImpl::isRecomputableError)
+                        .recoverWithUni(new Function<Throwable, Uni<? extends V>>() {
+                            @Override
+                            public Uni<? extends V> apply(Throwable e) {
+                                log.warn("Unable to connect to Redis, recomputing cached value", e);
+                                return computeValue(key, valueLoader, isWorkerThread);
+                            }
+                        });
+            }
+        });
     }
 
     @Override
@@ -238,48 +229,150 @@ public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> va
     }
 
     private <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
-            @Override
-            public Uni<V> apply(RedisConnection connection) {
-                Uni<V> startingPoint;
-                if (cacheInfo.useOptimisticLocking) {
-                    startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller));
-                } else {
-                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller).get();
+        if (nearCache != null) {
+            return nearCache.get(encodeKey(key), new Supplier<Uni<V>>() {
+                @Override
+                public Uni<V> get() {
+                    return getAsyncFromRedis(key, type, valueLoader);
                 }
+            });
+        }
+        return getAsyncFromRedis(key, type, valueLoader);
+    }
 
-                return startingPoint
-                        .chain(cached -> {
-                            if (cached != null) {
-                                // Unwatch if optimistic locking
-                                if (cacheInfo.useOptimisticLocking) {
-                                    return connection.send(Request.cmd(Command.UNWATCH))
-                                            .replaceWith(cached);
-                                }
-                                return Uni.createFrom().item(new StaticSupplier<>(cached));
-                            } else {
-                                Uni<V> getter = valueLoader.apply(key);
-                                return getter
-                                        .chain(value -> {
-                                            byte[] encodedValue = marshaller.encode(value);
-                                            if (cacheInfo.useOptimisticLocking) {
-                                                return multi(connection, set(connection, encodedKey, encodedValue))
-                                                        .replaceWith(value);
-                                            } else {
-                                                return set(connection, encodedKey, encodedValue)
-                                                        .replaceWith(value);
-                                            }
-                                        });
-                            }
+    private <K, V> Uni<V> getAsyncFromRedis(K key, Type type, Function<K, Uni<V>> valueLoader) {
+        String actualKey = computeActualKey(encodeKey(key));
+        return singleFlight(actualKey, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return RedisCacheImpl.this.<K, V> load(key, type, marshaller.encode(actualKey), valueLoader, false)
+                        .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(e -> {
+                            log.warn("Unable to connect to Redis, recomputing cached value", e);
+                            return valueLoader.apply(key);
                         });
             }
-        })
-                .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(e -> {
-                    log.warn("Unable to connect to Redis, recomputing cached value", e);
-                    return valueLoader.apply(key);
+        });
+    }
+
+    /**
+     * Reads the value and, if missing, computes and stores it.
+     * <p>
+     * The read is sent over the shared client, so a hit does not check out a dedicated connection. Without optimistic
+     * locking:
+     *
+     * <pre>
+     * val = deserialize(GET K)
+     * if val == null => SET K computation.apply(K)
+     * else => return val
+     * </pre>
+     *
+     * With optimistic locking, only a miss checks out a dedicated connection:
+     *
+     * <pre>
+     * val = deserialize(GET K)
+     * if val == null
+     *   WATCH K
+     *   val = deserialize(GET K)
+     *   if val == null
+     *     MULTI
+     *       SET K computation.apply(K)
+     *     EXEC
+     *   else
+     *     UNWATCH K
+     *     return val
+     * else
+     *   return val
+     * </pre>
+     *
+     * @param isWorkerThread whether the write should be offloaded to a worker thread
+     */
+    private <K, V> Uni<V> load(K key, Type type, byte[] encodedKey, Function<K, Uni<V>> valueLoader,
+            boolean isWorkerThread) {
+        return this.<V> doGet(redis::send, encodedKey, type).chain(new Function<V, Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> apply(V cached) {
+                if (cached != null) {
+                    return Uni.createFrom().item(new StaticSupplier<>(cached));
+                }
+                if (!cacheInfo.useOptimisticLocking) {
+                    return valueLoader.apply(key).call(new Function<V, Uni<?>>() {
+                        @Override
+                        public Uni<?> apply(V value) {
+                            return offloadIfNeeded(set(redis::send, encodedKey, marshaller.encode(value)), isWorkerThread);
+                        }
+                    });
+                }
+                return withConnection(new Function<RedisConnection, Uni<V>>() {
+                    @Override
+                    public Uni<V> apply(RedisConnection connection) {
+                        return watch(connection, encodedKey)
+                                .chain(() -> RedisCacheImpl.this.<V> doGet(connection::send, encodedKey, type))
+                                .chain(new Function<V, Uni<? extends V>>() {
+                                    @Override
+                                    public Uni<? extends V> apply(V watched) {
+                                        if (watched != null) {
+                                            return connection.send(Request.cmd(Command.UNWATCH)).replaceWith(watched);
+                                        }
+                                        return valueLoader.apply(key).call(new Function<V, Uni<?>>() {
+                                            @Override
+                                            public Uni<?> apply(V value) {
+                                                byte[] encodedValue = marshaller.encode(value);
+                                                return offloadIfNeeded(
+                                                        multi(connection, set(connection::send, encodedKey, encodedValue)),
+                                                        isWorkerThread);
+                                            }
+                                        });
+                                    }
+                                });
+                    }
                 });
+            }
+        });
+    }
+
+    private <X> Uni<X> offloadIfNeeded(Uni<X> uni, boolean isWorkerThread) {
+        if (isWorkerThread) {
+            return uni.runSubscriptionOn(MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
+        }
+        return uni;
+    }
+
+    /**
+     * Concurrent loads of the same key in this instance share a single {@link #load} and its result. Each subscriber
+     * gets its own view of the shared result, so a cancelled subscriber does not cancel the load for the others.
+     */
+    @SuppressWarnings("unchecked")
+    private <V> Uni<V> singleFlight(String actualKey, Supplier<Uni<V>> loader) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                CompletableFuture<Object> flight = new CompletableFuture<>();
+                CompletableFuture<Object> existing = inFlight.putIfAbsent(actualKey, flight);
+                if (existing == null) {
+                    existing = flight;
+                    Uni<V> uni;
+                    try {
+                        uni = loader.get();
+                    } catch (Throwable t) {
+                        uni = Uni.createFrom().failure(t);
+                    }
+                    uni.subscribe().with(new Consumer<V>() {
+                        @Override
+                        public void accept(V value) {
+                            inFlight.remove(actualKey, flight);
+                            flight.complete(value);
+                        }
+                    }, new Consumer<Throwable>() {
+                        @Override
+                        public void accept(Throwable failure) {
+                            inFlight.remove(actualKey, flight);
+                            flight.completeExceptionally(failure);
+                        }
+                    });
+                }
+                return Uni.createFrom().completionStage((CompletionStage<V>) existing.minimalCompletionStage());
+            }
+        });
     }
 
     @Override
@@ -289,14 +382,16 @@ public <K, V> Uni<Void> put(K key, V value) {
 
     @Override
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        byte[] encodedValue = marshaller.encode(supplier.get());
-        return withConnection(new Function<RedisConnection, Uni<Void>>() {
-            @Override
-            public Uni<Void> apply(RedisConnection connection) {
-                return set(connection, encodedKey, encodedValue);
-            }
-        });
+        String stringKey = encodeKey(key);
+        byte[] encodedKey = marshaller.encode(computeActualKey(stringKey));
+        V value = supplier.get();
+        byte[] encodedValue = marshaller.encode(value);
+        Uni<Void> result = set(redis::send, encodedKey, encodedValue)
+                .invoke(new ForgetInFlight(computeActualKey(stringKey)));
+        if (nearCache != null) {
+            return result.chain(() -> nearCache.put(stringKey, value));
+        }
+        return result;
     }
 
     private void enforceDefaultType(String methodName) {
@@ -325,13 +420,7 @@ public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
     }
 
     private <K, V> Uni<V> getOrDefault(K key, Type type, V defaultValue) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
-            @Override
-            public Uni<V> apply(RedisConnection redisConnection) {
-                return doGet(redisConnection, encodedKey, type, marshaller);
-            }
-        }).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
+        return this.<K, V> getOrNull(key, type).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
     }
 
     @Override
@@ -351,29 +440,55 @@ public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
     }
 
     private <K, V> Uni<V> getOrNull(K key, Type type) {
+        if (nearCache != null) {
+            return nearCache.getOrNull(encodeKey(key), new Supplier<Uni<V>>() {
+                @Override
+                public Uni<V> get() {
+                    return getOrNullFromRedis(key, type);
+                }
+            });
+        }
+        return getOrNullFromRedis(key, type);
+    }
+
+    private <K, V> Uni<V> getOrNullFromRedis(K key, Type type) {
         byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
-            @Override
-            public Uni<V> apply(RedisConnection redisConnection) {
-                return doGet(redisConnection, encodedKey, type, marshaller);
-            }
-        });
+        return doGet(redis::send, encodedKey, type);
     }
 
     @Override
     public Uni<Void> invalidate(Object key) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return redis.send(Request.cmd(Command.DEL).arg(encodedKey))
-                .replaceWithVoid();
+        String stringKey = encodeKey(key);
+        String actualKey = computeActualKey(stringKey);
+        Uni<Void> result = redis.send(Request.cmd(Command.DEL).arg(marshaller.encode(actualKey)))
+                .replaceWithVoid()
+                .invoke(new ForgetInFlight(actualKey));
+        if (nearCache != null) {
+            return result.chain(() -> nearCache.invalidate(stringKey));
+        }
+        return result;
     }
 
     @Override
     public Uni<Void> invalidateAll() {
-        return invalidateIf(AlwaysTruePredicate.INSTANCE);
+        Uni<Void> result = invalidateInRedis(AlwaysTruePredicate.INSTANCE);
+        if (nearCache != null) {
+            return result.chain(nearCache::invalidateAll);
+        }
+        return result;
     }
 
     @Override
     public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        Uni<Void> result = invalidateInRedis(predicate);
+        if (nearCache != null) {
+            // The predicate cannot be evaluated by other instances, so all near caches are cleared
+            return result.chain(nearCache::invalidateAll);
+        }
+        return result;
+    }
+
+    private Uni<Void> invalidateInRedis(Predicate<Object> predicate) {
         return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Set<String>>>() {
             @Override
             public void accept(UniEmitter<? super Set<String>> uniEmitter) {
@@ -399,7 +514,9 @@ public Uni<?> apply(Set<String> setOfKeys) {
                 }
             }
         })
-                .replaceWithVoid();
+                .replaceWithVoid()
+                // A load started before the invalidation must not be shared with later callers
+                .invoke(inFlight::clear);
     }
 
     private void scanForKeys(String cursor, Set<String> result, UniEmitter<? super Set<String>> em) {
@@ -479,34 +596,29 @@ private Uni<Void> watch(RedisConnection connection, byte[] keyToWatch) {
                 .replaceWithVoid();
     }
 
-    private <X> Uni<X> doGet(RedisConnection connection, byte[] encoded, Type clazz,
-            Marshaller marshaller) {
+    private <X> Uni<X> doGet(Function<Request, Uni<Response>> sender, byte[] encoded, Type clazz) {
+        Request request;
         if (cacheInfo.expireAfterAccess.isPresent()) {
             Duration duration = cacheInfo.expireAfterAccess.get();
-            return connection.send(Request.cmd(Command.GETEX).arg(encoded).arg("EX").arg(duration.toSeconds()))
-                    .map(new Function<Response, X>() {
-                        @Override
-                        public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
-                        }
-                    });
+            request = Request.cmd(Command.GETEX).arg(encoded).arg("EX").arg(duration.toSeconds());
         } else {
-            return connection.send(Request.cmd(Command.GET).arg(encoded))
-                    .map(new Function<Response, X>() {
-                        @Override
-                        public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
-                        }
-                    });
+            request = Request.cmd(Command.GET).arg(encoded);
         }
+        return sender.apply(request)
+                .map(new Function<Response, X>() {
+                    @Override
+                    public X apply(Response r) {
+                        return marshaller.decode(clazz, r);
+                    }
+                });
     }
 
-    private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
+    private Uni<Void> set(Function<Request, Uni<Response>> sender, byte[] key, byte[] value) {
         Request request = Request.cmd(Command.SET).arg(key).arg(value);
         if (cacheInfo.expireAfterWrite.isPresent()) {
             request = request.arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
         }
-        return connection.send(request).replaceWithVoid();
+        return sender.apply(request).replaceWithVoid();
     }
 
     private Uni<Void> multi(RedisConnection connection, Uni<Void> operation) {
@@ -539,22 +651,17 @@ public V get() {
         }
     }
 
-    private class GetFromConnectionSupplier<V> implements Supplier<Uni<? extends V>> {
-        private final RedisConnection connection;
-        private final Type clazz;
-        private final byte[] encodedKey;
-        private final Marshaller marshaller;
+    private class ForgetInFlight implements Runnable {
+        private final String actualKey;
 
-        public GetFromConnectionSupplier(RedisConnection connection, Type clazz, byte[] encodedKey, Marshaller marshaller) {
-            this.connection = connection;
-            this.clazz = clazz;
-            this.encodedKey = encodedKey;
-            this.marshaller = marshaller;
+        ForgetInFlight(String actualKey) {
+            this.actualKey = actualKey;
         }
 
         @Override
-        public Uni<V> get() {
-            return doGet(connection, encodedKey, clazz, marshaller);
+        public void run() {
+            // A load started before the write must not be shared with later callers
+            inFlight.remove(actualKey);
         }
     }
 
@@ -51,4 +51,20 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * Whether a local in-memory near cache is used in front of Redis.
+     */
+    public boolean nearCacheEnabled = false;
+
+    /**
+     * The maximum number of entries the near cache may contain.
+     */
+    public long nearCacheMaximumSize = 10_000;
+
+    /**
+     * The time to live of the entries stored in the near cache.
+     * If not set, {@link #expireAfterWrite} is used.
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
 }
@@ -67,6 +67,24 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.invalidationScanSize = defaultRuntimeConfig.invalidationScanSize();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheEnabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = namedRuntimeConfig.nearCacheEnabled().get();
+                } else if (defaultRuntimeConfig.nearCacheEnabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = defaultRuntimeConfig.nearCacheEnabled().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheMaximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedRuntimeConfig.nearCacheMaximumSize().getAsLong();
+                } else if (defaultRuntimeConfig.nearCacheMaximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultRuntimeConfig.nearCacheMaximumSize().getAsLong();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheExpireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedRuntimeConfig.nearCacheExpireAfterWrite();
+                } else if (defaultRuntimeConfig.nearCacheExpireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultRuntimeConfig.nearCacheExpireAfterWrite();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
@@ -3,6 +3,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 
@@ -49,4 +50,27 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * Whether a local in-memory near cache should be used in front of Redis.
+     * <p>
+     * Entries read from or written to Redis are also kept in a bounded Caffeine cache, so that subsequent reads of the
+     * same key do not need a network round trip. Invalidations are propagated to the near caches of the other
+     * application instances through a Redis pub/sub channel named {@code <prefix>:near-cache-invalidations}.
+     * Default is {@code false}.
+     */
+    Optional<Boolean> nearCacheEnabled();
+
+    /**
+     * The maximum number of entries the near cache may contain.
+     * If not set, {@code 10000} is used.
+     */
+    OptionalLong nearCacheMaximumSize();
+
+    /**
+     * Specifies that each entry should be automatically removed from the near cache once a fixed duration has elapsed
+     * after the entry's creation, or the most recent replacement of its value.
+     * If not set, the {@code expire-after-write} value of the cache is used.
+     */
+    Optional<Duration> nearCacheExpireAfterWrite();
 }
@@ -0,0 +1,334 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * A local in-memory tier in front of a {@link RedisCacheImpl}.
+ * <p>
+ * The entries are stored in a {@link CaffeineCacheImpl} and keyed by the encoded cache key. Writes and invalidations are
+ * published to a Redis pub/sub channel and the other application instances evict the affected entries from their near
+ * caches. The near cache is bypassed until the subscription is established and it is cleared whenever the subscription
+ * connection is lost, because some invalidations could have been missed in the meantime.
+ * <p>
+ * A value obtained from Redis is not kept if the key was written or invalidated while the value was being obtained, as the
+ * value could predate the write. The writes and invalidations are tracked by epochs of fixed stripes of keys, so that a
+ * write does not discard the values being obtained for the other keys. The subscription connection is released by
+ * {@link #close()}.
+ */
+class RedisNearCache {
+
+    private static final Logger log = Logger.getLogger(RedisNearCache.class);
+
+    static final String CHANNEL_SUFFIX = ":near-cache-invalidations";
+
+    private static final char OP_KEY = 'k';
+    private static final char OP_ALL = 'a';
+
+    private static final long MIN_RECONNECT_DELAY = 100;
+    private static final long MAX_RECONNECT_DELAY = 30_000;
+
+    // must be a power of two
+    private static final int EPOCH_STRIPES = 256;
+
+    private final String instanceId;
+    private final CaffeineCacheImpl cache;
+    private final Vertx vertx;
+    private final Redis redis;
+    private final String channel;
+
+    // true if the invalidation channel is subscribed
+    private volatile boolean active;
+    private volatile boolean closed;
+    private volatile RedisConnection subscriber;
+    private volatile long reconnectTimer = -1;
+    private long reconnectDelay = MIN_RECONNECT_DELAY;
+    // incremented by each local write or invalidation, or remote invalidation, of a key of the stripe
+    private final AtomicLongArray keyEpochs = new AtomicLongArray(EPOCH_STRIPES);
+    // incremented whenever all entries are invalidated
+    private final AtomicLong generation = new AtomicLong();
+
+    RedisNearCache(String name, long maximumSize, Optional<Duration> expireAfterWrite, String channel, Vertx vertx,
+            Redis redis) {
+        CaffeineCacheInfo info = new CaffeineCacheInfo();
+        info.name = name;
+        info.maximumSize = maximumSize;
+        info.expireAfterWrite = expireAfterWrite.orElse(null);
+        this.cache = new CaffeineCacheImpl(info, false);
+        this.instanceId = UUID.randomUUID().toString();
+        this.channel = channel;
+        this.vertx = vertx;
+        this.redis = redis;
+    }
+
+    void start() {
+        subscribe();
+    }
+
+    /**
+     * @param encodedKey
+     * @param remote the function used to obtain the value from Redis
+     * @return the value from the near cache, or the value obtained from Redis
+     */
+    <V> Uni<V> get(String encodedKey, Supplier<Uni<V>> remote) {
+        if (!active) {
+            return remote.get();
+        }
+        return cache.getAsync(encodedKey, new Function<String, Uni<V>>() {
+            @Override
+            public Uni<V> apply(String ignored) {
+                long epoch = epoch(encodedKey);
+                return remote.get().invoke(new Consumer<V>() {
+                    @Override
+                    public void accept(V value) {
+                        if (epoch(encodedKey) != epoch) {
+                            // The entry loading the value could still be cached and the value could be stale
+                            evict(encodedKey);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Unlike {@link #get(String, Supplier)}, a {@code null} value obtained from Redis is not stored in the near cache.
+     *
+     * @param encodedKey
+     * @param remote the function used to obtain the value from Redis
+     * @return the value from the near cache, or the value obtained from Redis
+     */
+    <V> Uni<V> getOrNull(String encodedKey, Supplier<Uni<V>> remote) {
+        if (!active) {
+            return remote.get();
+        }
+        CompletableFuture<V> cached = cache.getIfPresent(encodedKey);
+        if (cached != null) {
+            return Uni.createFrom().completionStage(cached);
+        }
+        long epoch = epoch(encodedKey);
+        return remote.get().invoke(new Consumer<V>() {
+            @Override
+            public void accept(V value) {
+                // The value could be stale if the key was written or invalidated in the meantime
+                if (value != null && epoch(encodedKey) == epoch) {
+                    cache.put(encodedKey, CompletableFuture.completedFuture(value));
+                }
+            }
+        });
+    }
+
+    /**
+     * Stores the value locally and notifies the other instances.
+     */
+    Uni<Void> put(String encodedKey, Object value) {
+        // The values being obtained from Redis predate this one
+        keyEpochs.incrementAndGet(stripe(encodedKey));
+        if (active) {
+            cache.put(encodedKey, CompletableFuture.completedFuture(value));
+        }
+        return publish(message(OP_KEY, encodedKey));
+    }
+
+    /**
+     * Invalidates the entry locally and notifies the other instances.
+     */
+    Uni<Void> invalidate(String encodedKey) {
+        invalidateLocally(encodedKey);
+        return publish(message(OP_KEY, encodedKey));
+    }
+
+    /**
+     * Invalidates all entries locally and notifies the other instances.
+     */
+    Uni<Void> invalidateAll() {
+        clear();
+        return publish(message(OP_ALL, ""));
+    }
+
+    /**
+     * Stops listening to the invalidations and releases the subscription connection.
+     */
+    void close() {
+        closed = true;
+        active = false;
+        long timer = reconnectTimer;
+        if (timer >= 0) {
+            vertx.cancelTimer(timer);
+        }
+        RedisConnection connection = subscriber;
+        subscriber = null;
+        if (connection != null) {
+            closeSubscriber(connection);
+        }
+        clear();
+    }
+
+    private void closeSubscriber(RedisConnection connection) {
+        connection.send(Request.cmd(Command.UNSUBSCRIBE).arg(channel))
+                .onTermination().call(connection::close)
+                .subscribe().with(ignored -> {
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable t) {
+                        log.debugf(t, "Unable to unsubscribe the near cache invalidation channel [%s]", channel);
+                    }
+                });
+    }
+
+    private void invalidateLocally(String encodedKey) {
+        keyEpochs.incrementAndGet(stripe(encodedKey));
+        evict(encodedKey);
+    }
+
+    /**
+     * Both counters only increase, so the epoch changes whenever the key or all entries are written or invalidated.
+     */
+    private long epoch(String encodedKey) {
+        return generation.get() + keyEpochs.get(stripe(encodedKey));
+    }
+
+    private static int stripe(String encodedKey) {
+        int h = encodedKey.hashCode();
+        return (h ^ (h >>> 16)) & (EPOCH_STRIPES - 1);
+    }
+
+    private void evict(String encodedKey) {
+        // The returned Uni completes synchronously
+        cache.invalidate(encodedKey).subscribe().with(ignored -> {
+        });
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        cache.invalidateAll().subscribe().with(ignored -> {
+        });
+    }
+
+    private String message(char op, String encodedKey) {
+        return instanceId + ':' + op + ':' + encodedKey;
+    }
+
+    private Uni<Void> publish(String message) {
+        return redis.send(Request.cmd(Command.PUBLISH).arg(channel).arg(message)).replaceWithVoid();
+    }
+
+    private void subscribe() {
+        reconnectTimer = -1;
+        if (closed) {
+            return;
+        }
+        redis.connect().subscribe().with(new Consumer<RedisConnection>() {
+            @Override
+            public void accept(RedisConnection connection) {
+                subscriber = connection;
+                if (closed) {
+                    // Closed while connecting
+                    subscriber = null;
+                    connection.closeAndForget();
+                    return;
+                }
+                connection.handler(RedisNearCache.this::handleResponse);
+                connection.exceptionHandler(new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable t) {
+                        log.debugf(t, "Near cache invalidation subscriber failed [channel=%s]", channel);
+                    }
+                });
+                connection.endHandler(RedisNearCache.this::subscriptionLost);
+                connection.send(Request.cmd(Command.SUBSCRIBE).arg(channel)).subscribe().with(ignored -> {
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable t) {
+                        log.debugf(t, "Unable to subscribe the near cache invalidation channel [%s]", channel);
+                        connection.closeAndForget();
+                    }
+                });
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable t) {
+                log.debugf(t, "Unable to connect the near cache invalidation subscriber [channel=%s]", channel);
+                scheduleReconnect();
+            }
+        });
+    }
+
+    private void subscriptionLost() {
+        if (closed) {
+            return;
+        }
+        // Invalidations may be missed until the channel is subscribed again
+        active = false;
+        subscriber = null;
+        clear();
+        scheduleReconnect();
+    }
+
+    private void scheduleReconnect() {
+        if (closed) {
+            return;
+        }
+        long delay = reconnectDelay;
+        reconnectDelay = Math.min(delay * 2, MAX_RECONNECT_DELAY);
+        try {
+            reconnectTimer = vertx.setTimer(delay, ignored -> subscribe());
+        } catch (IllegalStateException e) {
+            // Vert.x is closed
+            closed = true;
+        }
+    }
+
+    void handleResponse(Response response) {
+        if (response == null || response.size() == 0) {
+            return;
+        }
+        String type = response.get(0).toString();
+        if ("subscribe".equalsIgnoreCase(type) && !closed) {
+            // Entries cached before the channel was subscribed could be stale
+            clear();
+            reconnectDelay = MIN_RECONNECT_DELAY;
+            active = true;
+        } else if ("message".equalsIgnoreCase(type) && response.size() > 2) {
+            handleMessage(response.get(2).toString());
+        }
+    }
+
+    void handleMessage(String message) {
+        // instanceId:op:encodedKey
+        int idx = message.indexOf(':');
+        if (idx < 0 || message.length() < idx + 3) {
+            return;
+        }
+        if (message.regionMatches(0, instanceId, 0, idx) && idx == instanceId.length()) {
+            // Sent by this instance
+            return;
+        }
+        char op = message.charAt(idx + 1);
+        if (op == OP_ALL) {
+            clear();
+        } else if (op == OP_KEY) {
+            invalidateLocally(message.substring(idx + 3));
+        }
+    }
+
+}
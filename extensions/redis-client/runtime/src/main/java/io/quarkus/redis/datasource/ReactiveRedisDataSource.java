@@ -145,6 +145,27 @@ <I> Uni<OptimisticLockingTransactionResult<I>> withTransaction(Function<Reactive
             BiFunction<I, ReactiveTransactionalRedisDataSource, Uni<Void>> tx,
             String... watchedKeys);
 
+    /**
+     * Obtains a {@link ReactiveTransactionalRedisDataSource} that records commands and passes it to the given
+     * {@code batch} block. Once the {@code Uni} returned by {@code batch} produces an item, the recorded commands are
+     * pipelined to Redis: they are written in batches of at most {@code quarkus.redis.max-batch-size} commands without
+     * waiting for the individual replies.
+     * <p>
+     * Unlike {@link #withTransaction(Function)}, the commands are not executed atomically and no dedicated connection
+     * is acquired. The batches are sent one after the other, so if a command fails, the commands of the previous batches
+     * have already been executed and the returned {@code Uni} completes with the failure.
+     * <p>
+     * The results of the commands can be obtained from the returned {@link TransactionResult}.
+     * The user can discard the batch using the {@link ReactiveTransactionalRedisDataSource#discard()} method.
+     * In this case, no command is sent and the produced {@link TransactionResult} is empty.
+     * If the {@code batch} block completes with a failure, no command is sent and the resulting {@code Uni} completes
+     * with the same failure.
+     *
+     * @param batch the function receiving the data source recording the commands. The recorded commands are only sent
+     *        when this block completes with an item.
+     */
+    Uni<TransactionResult> batch(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> batch);
+
     /**
      * Execute the command <a href="https://redis.io/commands/select">SELECT</a>.
      * Summary: Change the selected database for the current connection
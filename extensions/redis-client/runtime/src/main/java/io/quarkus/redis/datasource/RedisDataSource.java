@@ -141,6 +141,25 @@ public interface RedisDataSource {
     <I> OptimisticLockingTransactionResult<I> withTransaction(Function<RedisDataSource, I> preTx,
             BiConsumer<I, TransactionalRedisDataSource> tx, String... watchedKeys);
 
+    /**
+     * Obtains a {@link TransactionalRedisDataSource} that records commands and passes it to the given {@code batch}
+     * block. Once the block completes, the recorded commands are pipelined to Redis: they are written in batches of at
+     * most {@code quarkus.redis.max-batch-size} commands without waiting for the individual replies.
+     * <p>
+     * Unlike {@link #withTransaction(Consumer)}, the commands are not executed atomically and no dedicated connection
+     * is acquired. The batches are sent one after the other, so if a command fails, the commands of the previous batches
+     * have already been executed and the failure is thrown.
+     * <p>
+     * The results of the commands can be obtained from the returned {@link TransactionResult}.
+     * The user can discard the batch using the {@link TransactionalRedisDataSource#discard()} method.
+     * In this case, no command is sent and the produced {@link TransactionResult} is empty.
+     * If the {@code batch} block throws an exception, no command is sent and the exception is rethrown.
+     *
+     * @param batch the consumer receiving the data source recording the commands. The recorded commands are only sent
+     *        when this block completes.
+     */
+    TransactionResult batch(Consumer<TransactionalRedisDataSource> batch);
+
     /**
      * Execute the command <a href="https://redis.io/commands/select">SELECT</a>.
      * Summary: Change the selected database for the current connection
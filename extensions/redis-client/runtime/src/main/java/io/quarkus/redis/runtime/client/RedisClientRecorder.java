@@ -130,7 +130,8 @@ public ReactiveRedisDataSource get() {
                     RedisClientAndApi redisClientAndApi = clients.get(name);
                     Redis redis = redisClientAndApi.redis;
                     RedisAPI api = redisClientAndApi.api;
-                    return new ReactiveRedisDataSourceImpl(vertx, redis, api);
+                    int maxBatchSize = runtimeConfig.getValue().clients().get(name).maxBatchSize();
+                    return new ReactiveRedisDataSourceImpl(vertx, redis, api, maxBatchSize);
                 });
             }
         };
@@ -121,6 +121,15 @@ public interface RedisClientConfig {
     @WithDefault("2048")
     int maxWaitingHandlers();
 
+    /**
+     * The maximum number of commands written at once by the data source {@code batch} blocks.
+     * <p>
+     * The commands recorded in a batch block are pipelined to Redis in batches of up to this size, sent one after the
+     * other.
+     */
+    @WithDefault("1000")
+    int maxBatchSize();
+
     /**
      * Tune how much nested arrays are allowed on a Redis response. This affects the parser performance.
      */
@@ -287,6 +296,7 @@ default String toDebugString() {
                 ", poolCleanerInterval=" + poolCleanerInterval() +
                 ", poolRecycleTimeout=" + poolRecycleTimeout() +
                 ", maxWaitingHandlers=" + maxWaitingHandlers() +
+                ", maxBatchSize=" + maxBatchSize() +
                 ", maxNestedArrays=" + maxNestedArrays() +
                 ", reconnectAttempts=" + reconnectAttempts() +
                 ", reconnectInterval=" + reconnectInterval() +
@@ -0,0 +1,37 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.impl.types.SimpleStringType;
+
+/**
+ * A data source recording the requests instead of sending them.
+ * <p>
+ * It backs the batch blocks: the transactional command groups enqueue the response mappers and the recorded requests
+ * are pipelined once the block completes, see {@link ReactiveRedisDataSourceImpl#sendBatch(List, TransactionHolder)}.
+ */
+class BatchRecordingRedisDataSourceImpl extends ReactiveRedisDataSourceImpl {
+
+    // The reply the transactional command groups expect when a command is enqueued
+    private static final Response QUEUED = Response.newInstance(SimpleStringType.create("QUEUED"));
+
+    private final List<Request> requests = new ArrayList<>();
+
+    BatchRecordingRedisDataSourceImpl(ReactiveRedisDataSourceImpl source) {
+        super(source);
+    }
+
+    @Override
+    public Uni<Response> execute(Request request) {
+        requests.add(request);
+        return Uni.createFrom().item(QUEUED);
+    }
+
+    List<Request> requests() {
+        return requests;
+    }
+}
@@ -53,6 +53,10 @@ public BlockingRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api, Durat
         this(new ReactiveRedisDataSourceImpl(vertx, redis, api), timeout);
     }
 
+    public BlockingRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api, Duration timeout, int maxBatchSize) {
+        this(new ReactiveRedisDataSourceImpl(vertx, redis, api, maxBatchSize), timeout);
+    }
+
     public BlockingRedisDataSourceImpl(ReactiveRedisDataSourceImpl reactive, Duration timeout) {
         this.reactive = reactive;
         this.timeout = timeout;
@@ -63,10 +67,15 @@ public BlockingRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection con
         this(new ReactiveRedisDataSourceImpl(vertx, redis, connection), timeout);
     }
 
+    public BlockingRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection connection, Duration timeout,
+            int maxBatchSize) {
+        this(new ReactiveRedisDataSourceImpl(vertx, redis, connection, maxBatchSize), timeout);
+    }
+
     public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource> ds) {
         RedisConnection connection = reactive.redis.connect().await().atMost(timeout);
         ReactiveRedisDataSourceImpl dataSource = new ReactiveRedisDataSourceImpl(reactive.getVertx(), reactive.redis,
-                connection);
+                connection, reactive.maxBatchSize);
         TransactionHolder th = new TransactionHolder();
         BlockingTransactionalRedisDataSourceImpl source = new BlockingTransactionalRedisDataSourceImpl(
                 new ReactiveTransactionalRedisDataSourceImpl(dataSource, th), timeout);
@@ -100,7 +109,7 @@ public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource>
     public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource> ds, String... watchedKeys) {
         RedisConnection connection = reactive.redis.connect().await().atMost(timeout);
         ReactiveRedisDataSourceImpl dataSource = new ReactiveRedisDataSourceImpl(reactive.getVertx(), reactive.redis,
-                connection);
+                connection, reactive.maxBatchSize);
         TransactionHolder th = new TransactionHolder();
         BlockingTransactionalRedisDataSourceImpl source = new BlockingTransactionalRedisDataSourceImpl(
                 new ReactiveTransactionalRedisDataSourceImpl(dataSource, th), timeout);
@@ -140,7 +149,7 @@ public <I> OptimisticLockingTransactionResult<I> withTransaction(Function<RedisD
             BiConsumer<I, TransactionalRedisDataSource> tx, String... watchedKeys) {
         RedisConnection connection = reactive.redis.connect().await().atMost(timeout);
         ReactiveRedisDataSourceImpl dataSource = new ReactiveRedisDataSourceImpl(reactive.getVertx(), reactive.redis,
-                connection);
+                connection, reactive.maxBatchSize);
         TransactionHolder th = new TransactionHolder();
         BlockingTransactionalRedisDataSourceImpl source = new BlockingTransactionalRedisDataSourceImpl(
                 new ReactiveTransactionalRedisDataSourceImpl(dataSource, th), timeout);
@@ -154,7 +163,8 @@ public <I> OptimisticLockingTransactionResult<I> withTransaction(Function<RedisD
             I input = null;
             try {
                 input = preTx.apply(
-                        new BlockingRedisDataSourceImpl(reactive.getVertx(), reactive.redis, connection, timeout));
+                        new BlockingRedisDataSourceImpl(reactive.getVertx(), reactive.redis, connection, timeout,
+                                reactive.maxBatchSize));
             } catch (Exception e) {
                 try {
                     connection.send(Request.cmd(Command.UNWATCH)).await().atMost(timeout);
@@ -187,6 +197,15 @@ public <I> OptimisticLockingTransactionResult<I> withTransaction(Function<RedisD
         }
     }
 
+    @Override
+    public TransactionResult batch(Consumer<TransactionalRedisDataSource> batch) {
+        BatchRecordingRedisDataSourceImpl recorder = new BatchRecordingRedisDataSourceImpl(reactive);
+        TransactionHolder th = new TransactionHolder();
+        batch.accept(new BlockingTransactionalRedisDataSourceImpl(
+                new ReactiveTransactionalRedisDataSourceImpl(recorder, th), timeout));
+        return reactive.sendBatch(recorder.requests(), th).await().atMost(timeout);
+    }
+
     @Override
     public void withConnection(Consumer<RedisDataSource> consumer) {
         if (connection != null) {
@@ -196,7 +215,8 @@ public void withConnection(Consumer<RedisDataSource> consumer) {
         }
 
         BlockingRedisDataSourceImpl source = reactive.redis.connect()
-                .map(rc -> new BlockingRedisDataSourceImpl(reactive.getVertx(), reactive.redis, rc, timeout))
+                .map(rc -> new BlockingRedisDataSourceImpl(reactive.getVertx(), reactive.redis, rc, timeout,
+                        reactive.maxBatchSize))
                 .await().atMost(timeout);
 
         try {
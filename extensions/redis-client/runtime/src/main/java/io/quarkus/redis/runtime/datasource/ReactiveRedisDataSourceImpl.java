@@ -3,8 +3,10 @@
 import static io.quarkus.redis.runtime.datasource.Validation.notNullOrEmpty;
 import static io.smallrye.mutiny.helpers.ParameterValidation.doesNotContainNull;
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
 import static io.smallrye.mutiny.helpers.ParameterValidation.positiveOrZero;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -36,6 +38,7 @@
 import io.quarkus.redis.datasource.transactions.ReactiveTransactionalRedisDataSource;
 import io.quarkus.redis.datasource.transactions.TransactionResult;
 import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.redis.client.Command;
@@ -47,26 +50,48 @@
 
 public class ReactiveRedisDataSourceImpl implements ReactiveRedisDataSource, RedisCommandExecutor {
 
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
     final Redis redis;
     final RedisConnection connection;
     private final Vertx vertx;
+    final int maxBatchSize;
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api) {
+        this(vertx, redis, api, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api, int maxBatchSize) {
         nonNull(redis, "redis");
         nonNull(api, "api");
         nonNull(vertx, "vertx");
+        positive(maxBatchSize, "maxBatchSize");
         this.vertx = vertx;
         this.redis = redis;
         this.connection = null;
+        this.maxBatchSize = maxBatchSize;
     }
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection connection) {
+        this(vertx, redis, connection, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection connection, int maxBatchSize) {
         nonNull(redis, "redis");
         nonNull(connection, "connection");
         nonNull(vertx, "vertx");
+        positive(maxBatchSize, "maxBatchSize");
         this.vertx = vertx;
         this.redis = redis;
         this.connection = connection;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    ReactiveRedisDataSourceImpl(ReactiveRedisDataSourceImpl source) {
+        this.vertx = source.vertx;
+        this.redis = source.redis;
+        this.connection = source.connection;
+        this.maxBatchSize = source.maxBatchSize;
     }
 
     @Override
@@ -82,7 +107,8 @@ public Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedi
         nonNull(tx, "tx");
         return redis.connect()
                 .onItem().transformToUni(connection -> {
-                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection);
+                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection,
+                            maxBatchSize);
                     TransactionHolder th = new TransactionHolder();
                     return connection.send(Request.cmd(Command.MULTI))
                             .chain(x -> tx.apply(new ReactiveTransactionalRedisDataSourceImpl(singleConnectionDS, th)))
@@ -117,7 +143,8 @@ public Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedi
         doesNotContainNull(keys, "keys");
         return redis.connect()
                 .onItem().transformToUni(connection -> {
-                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection);
+                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection,
+                            maxBatchSize);
                     TransactionHolder th = new TransactionHolder();
                     return watch(connection, keys) // WATCH keys
                             .chain(() -> connection.send(Request.cmd(Command.MULTI))
@@ -166,10 +193,12 @@ public <I> Uni<OptimisticLockingTransactionResult<I>> withTransaction(Function<R
 
         return redis.connect()
                 .onItem().transformToUni(connection -> {
-                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection);
+                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection,
+                            maxBatchSize);
                     TransactionHolder th = new TransactionHolder();
                     return watch(connection, watchedKeys) // WATCH keys
-                            .chain(x -> preTx.apply(new ReactiveRedisDataSourceImpl(vertx, redis, connection)))// Execute the pre-tx-block
+                            // Execute the pre-tx-block
+                            .chain(x -> preTx.apply(new ReactiveRedisDataSourceImpl(vertx, redis, connection, maxBatchSize)))
                             .onFailure().recoverWithUni(failure -> {
                                 return connection.send(Request.cmd(Command.UNWATCH))
                                         .onItemOrFailure().transformToUni((response2, failure2) -> {
@@ -205,6 +234,36 @@ public <I> Uni<OptimisticLockingTransactionResult<I>> withTransaction(Function<R
                 });
     }
 
+    @Override
+    public Uni<TransactionResult> batch(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> batch) {
+        nonNull(batch, "batch");
+        return Uni.createFrom().deferred(() -> {
+            BatchRecordingRedisDataSourceImpl recorder = new BatchRecordingRedisDataSourceImpl(this);
+            TransactionHolder th = new TransactionHolder();
+            return batch.apply(new ReactiveTransactionalRedisDataSourceImpl(recorder, th))
+                    .chain(() -> sendBatch(recorder.requests(), th));
+        });
+    }
+
+    /**
+     * Sends the recorded requests in batches of at most {@link #maxBatchSize} requests. The next batch is only sent
+     * once the replies of the previous one are received.
+     */
+    Uni<TransactionResult> sendBatch(List<Request> requests, TransactionHolder th) {
+        if (th.discarded()) {
+            return Uni.createFrom().item(TransactionResultImpl.DISCARDED);
+        }
+        int batches = (requests.size() + maxBatchSize - 1) / maxBatchSize;
+        return Multi.createFrom().range(0, batches)
+                .onItem().transformToUniAndConcatenate(i -> {
+                    List<Request> batch = requests.subList(i * maxBatchSize,
+                            Math.min(requests.size(), (i + 1) * maxBatchSize));
+                    return connection != null ? connection.batch(batch) : redis.batch(batch);
+                })
+                .collect().in(() -> new ArrayList<Response>(requests.size()), List::addAll)
+                .map(th::toBatchResult);
+    }
+
     public static TransactionResult toTransactionResult(Response response, TransactionHolder th) {
         if (response == null) {
             // Discarded
@@ -256,7 +315,8 @@ public Uni<Void> withConnection(Function<ReactiveRedisDataSource, Uni<Void>> fun
         }
         return redis.connect()
                 .onItem().transformToUni(connection -> {
-                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection);
+                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection,
+                            maxBatchSize);
                     return function.apply(singleConnectionDS)
                             .onTermination().call(connection::close);
                 });
@@ -3,6 +3,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 
 import io.quarkus.redis.datasource.transactions.OptimisticLockingTransactionResult;
 import io.quarkus.redis.datasource.transactions.TransactionResult;
@@ -19,10 +20,18 @@ public void enqueue(Function<Response, Object> mapper) {
     }
 
     public TransactionResult toResult(Response response) {
+        return toResult(response::get);
+    }
+
+    public TransactionResult toBatchResult(List<Response> responses) {
+        return toResult(responses::get);
+    }
+
+    private TransactionResult toResult(IntFunction<Response> responses) {
         boolean hasErrors = false;
         List<Object> results = new ArrayList<>();
         for (int i = 0; i < mappers.size(); i++) {
-            Response responsePart = response.get(i);
+            Response responsePart = responses.apply(i);
             if (responsePart == null || responsePart.type() != ResponseType.ERROR) {
                 // `null` is a valid result
                 results.add(mappers.get(i).apply(responsePart));
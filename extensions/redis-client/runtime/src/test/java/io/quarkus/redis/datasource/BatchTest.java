@@ -0,0 +1,134 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.hash.ReactiveTransactionalHashCommands;
+import io.quarkus.redis.datasource.hash.TransactionalHashCommands;
+import io.quarkus.redis.datasource.transactions.TransactionResult;
+import io.quarkus.redis.datasource.value.ReactiveTransactionalValueCommands;
+import io.quarkus.redis.datasource.value.TransactionalValueCommands;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.smallrye.mutiny.Uni;
+
+public class BatchTest extends DatasourceTestBase {
+
+    private RedisDataSource blocking;
+    private ReactiveRedisDataSource reactive;
+
+    @BeforeEach
+    void initialize() {
+        // Small batches to check that the commands are split
+        reactive = new ReactiveRedisDataSourceImpl(vertx, redis, api, 2);
+        blocking = new BlockingRedisDataSourceImpl((ReactiveRedisDataSourceImpl) reactive, Duration.ofSeconds(60));
+    }
+
+    @AfterEach
+    public void clear() {
+        blocking.flushall();
+    }
+
+    @Test
+    public void batchBlocking() {
+        TransactionResult result = blocking.batch(b -> {
+            TransactionalValueCommands<String, String> value = b.value(String.class);
+            TransactionalHashCommands<String, String, String> hash = b.hash(String.class);
+            value.set(key, "hello");
+            value.append(key, "-1");
+            hash.hset("hash", Map.of("field-1", "a", "field-2", "b"));
+            hash.hget("hash", "field-2");
+            value.get(key);
+        });
+        assertThat(result.size()).isEqualTo(5);
+        assertThat(result.discarded()).isFalse();
+        assertThat(result.hasErrors()).isFalse();
+        assertThat(result.<Void> get(0)).isNull();
+        assertThat((long) result.get(1)).isEqualTo(7L);
+        assertThat((long) result.get(2)).isEqualTo(2L);
+        assertThat((String) result.get(3)).isEqualTo("b");
+        assertThat((String) result.get(4)).isEqualTo("hello-1");
+        assertThat(blocking.value(String.class).get(key)).isEqualTo("hello-1");
+    }
+
+    @Test
+    public void batchReactive() {
+        TransactionResult result = reactive.batch(b -> {
+            ReactiveTransactionalValueCommands<String, String> value = b.value(String.class);
+            ReactiveTransactionalHashCommands<String, String, String> hash = b.hash(String.class);
+            return value.set(key, "hello")
+                    .chain(() -> value.append(key, "-1"))
+                    .chain(() -> hash.hset("hash", "field-1", "a"))
+                    .chain(() -> value.get(key));
+        }).await().atMost(Duration.ofSeconds(5));
+        assertThat(result.size()).isEqualTo(4);
+        assertThat(result.discarded()).isFalse();
+        assertThat(result.<Void> get(0)).isNull();
+        assertThat((long) result.get(1)).isEqualTo(7L);
+        assertThat((boolean) result.get(2)).isTrue();
+        assertThat((String) result.get(3)).isEqualTo("hello-1");
+    }
+
+    @Test
+    public void batchOnConnection() {
+        // The data source bound to the connection keeps the batch size of the parent data source
+        blocking.withConnection(connection -> {
+            TransactionResult result = connection.batch(b -> {
+                TransactionalValueCommands<String, String> value = b.value(String.class);
+                value.set(key, "hello");
+                value.append(key, "-1");
+                value.append(key, "-2");
+                value.get(key);
+            });
+            assertThat(result.size()).isEqualTo(4);
+            assertThat((String) result.get(3)).isEqualTo("hello-1-2");
+        });
+
+        reactive.withConnection(connection -> connection.batch(b -> {
+            ReactiveTransactionalValueCommands<String, String> value = b.value(String.class);
+            return value.append(key, "-3")
+                    .chain(() -> value.append(key, "-4"))
+                    .chain(() -> value.get(key));
+        }).invoke(result -> {
+            assertThat(result.size()).isEqualTo(3);
+            assertThat((String) result.get(2)).isEqualTo("hello-1-2-3-4");
+        }).replaceWithVoid()).await().atMost(Duration.ofSeconds(5));
+        assertThat(blocking.value(String.class).get(key)).isEqualTo("hello-1-2-3-4");
+    }
+
+    @Test
+    public void emptyBatch() {
+        TransactionResult result = blocking.batch(b -> {
+        });
+        assertThat(result.isEmpty()).isTrue();
+        assertThat(result.discarded()).isFalse();
+    }
+
+    @Test
+    public void discardedBatch() {
+        TransactionResult result = blocking.batch(b -> {
+            b.value(String.class).set(key, "hello");
+            b.discard();
+        });
+        assertThat(result.discarded()).isTrue();
+        assertThat(result.isEmpty()).isTrue();
+        assertThat(blocking.value(String.class).get(key)).isNull();
+    }
+
+    @Test
+    public void failedBatchIsNotSent() {
+        assertThatThrownBy(() -> reactive.batch(b -> b.value(String.class).set(key, "hello")
+                .chain(() -> Uni.createFrom().failure(new IllegalStateException("boom"))))
+                .await().atMost(Duration.ofSeconds(5)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+        assertThat(blocking.value(String.class).get(key)).isNull();
+    }
+}
@@ -19,4 +19,16 @@ public interface RestQuteConfig {
     @WithDefault("false")
     boolean templateInstanceNonBlockingType();
 
+    /**
+     * If set to {@code true} then a {@link io.quarkus.qute.TemplateInstance} returned from a JAX-RS resource method is
+     * rendered directly into the HTTP response. The output is encoded into pooled buffers and written in chunks of the size
+     * of {@code quarkus.rest.output-buffer-size}, i.e. the rendered template is never held in memory as a whole. The static
+     * text of a template is encoded in UTF-8 only once.
+     * <p>
+     * The response body is always encoded in UTF-8. A rendering error that occurs after the first chunk was written cannot
+     * be turned into an error response and the connection is closed instead.
+     */
+    @WithDefault("false")
+    boolean streaming();
+
 }
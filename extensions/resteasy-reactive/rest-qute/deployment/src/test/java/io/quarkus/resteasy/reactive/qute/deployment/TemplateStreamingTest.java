@@ -0,0 +1,92 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class TemplateStreamingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class)
+                    .addAsResource(new StringAsset("quarkus.rest.qute.streaming=true\n"
+                            + "quarkus.rest.output-buffer-size=64"), "application.properties")
+                    .addAsResource(new StringAsset("Hello {name}!"), "templates/hello.txt")
+                    .addAsResource(new StringAsset("{#for i in total}Dobrý den {i}, {name}! {/for}"), "templates/large.txt"));
+
+    @Test
+    public void testSmall() {
+        when().get("/test/hello").then().statusCode(200)
+                .header("Content-Length", "16")
+                .body(Matchers.is("Hello Příliš!"));
+        when().get("/test/async").then().statusCode(200).body(Matchers.is("Hello žluťoučký!"));
+        when().get("/test/response").then().statusCode(201).body(Matchers.is("Hello kůň!"));
+    }
+
+    @Test
+    public void testLarge() {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 1; i <= 200; i++) {
+            expected.append("Dobrý den ").append(i).append(", ").append("Qute").append("! ");
+        }
+        when().get("/test/large").then().statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .body(Matchers.is(expected.toString()));
+    }
+
+    @Path("test")
+    public static class TestResource {
+
+        @Inject
+        Template hello;
+
+        @Inject
+        Template large;
+
+        @GET
+        @Path("hello")
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance hello() {
+            return hello.data("name", "Příliš");
+        }
+
+        @GET
+        @Path("async")
+        @Produces(MediaType.TEXT_PLAIN)
+        public Uni<TemplateInstance> async() {
+            return Uni.createFrom().item(hello.data("name", CompletableFuture.completedFuture("žluťoučký")));
+        }
+
+        @GET
+        @Path("response")
+        @Produces(MediaType.TEXT_PLAIN)
+        public Response response() {
+            return Response.status(201).entity(hello.data("name", "kůň")).build();
+        }
+
+        @GET
+        @Path("large")
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance large() {
+            return large.data("total", 200).data("name", "Qute");
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.quarkus.qute.Utf8Consumer;
+import io.quarkus.runtime.BlockingOperationControl;
+import io.quarkus.vertx.utils.NoBoundChecksBuffer;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Encodes the rendered template directly into pooled direct buffers and writes a chunk to the response as soon as it's
+ * full. The static text of a template is already encoded and is copied as is. Static text larger than a chunk is
+ * written without copying.
+ * <p>
+ * The chunks are not written while the write queue of the response is full; they are kept until the response is drained
+ * instead. A template rendered on a worker thread is paused until the response is drained. A template rendered on the
+ * event loop cannot be paused, so at most the rest of the rendered template is kept, in chunks of pooled buffers. The
+ * kept chunks are released if the connection is closed before they are written.
+ * <p>
+ * The methods are synchronized because the rendering may time out while the result is being processed.
+ */
+final class ResponseBufferConsumer implements Utf8Consumer {
+
+    // milliseconds, the period at which a paused rendering checks whether the connection was closed
+    private static final long DRAIN_CHECK_PERIOD = 1000;
+
+    private final HttpServerResponse response;
+    private final int chunkSize;
+    // the chunks not written because the write queue of the response is full
+    private final ArrayDeque<ByteBuf> pending = new ArrayDeque<>();
+    private final CompletableFuture<Void> ended = new CompletableFuture<>();
+
+    private ByteBuf buffer;
+    private boolean done;
+    private boolean drainHandlerSet;
+    // true if the response is ended once the pending chunks are written
+    private boolean ending;
+
+    ResponseBufferConsumer(HttpServerResponse response, int chunkSize) {
+        this.response = response;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public synchronized void accept(String value) {
+        if (done || value.isEmpty()) {
+            return;
+        }
+        ByteBufUtil.reserveAndWriteUtf8(buffer(), value, ByteBufUtil.utf8MaxBytes(value));
+        flushIfFull();
+    }
+
+    @Override
+    public synchronized void acceptUtf8(byte[] value) {
+        if (done || value.length == 0) {
+            return;
+        }
+        if (value.length >= chunkSize) {
+            flush();
+            write(Unpooled.wrappedBuffer(value));
+            return;
+        }
+        buffer().writeBytes(value);
+        flushIfFull();
+    }
+
+    /**
+     * Writes the remaining data and ends the response.
+     *
+     * @return a completion stage completed once the response is ended
+     */
+    synchronized CompletionStage<Void> end() {
+        if (done) {
+            return ended;
+        }
+        done = true;
+        if (!pending.isEmpty()) {
+            // the drain handler ends the response
+            if (buffer != null) {
+                pending.add(buffer);
+                buffer = null;
+            }
+            ending = true;
+            return ended;
+        }
+        if (buffer == null) {
+            response.end();
+        } else {
+            response.end(new NoBoundChecksBuffer(buffer));
+            buffer = null;
+        }
+        ended.complete(null);
+        return ended;
+    }
+
+    /**
+     * Releases the remaining data. Nothing is written afterwards. If a part of the response was already sent, the
+     * connection is closed so that the client does not take the truncated response for a complete one.
+     */
+    synchronized void discard() {
+        done = true;
+        ending = false;
+        if (buffer != null) {
+            buffer.release();
+            buffer = null;
+        }
+        releasePending();
+        if (response.headWritten() && !response.closed()) {
+            response.close();
+        }
+        ended.complete(null);
+        notifyAll();
+    }
+
+    private ByteBuf buffer() {
+        if (buffer == null) {
+            buffer = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(chunkSize);
+        }
+        return buffer;
+    }
+
+    private void flushIfFull() {
+        if (buffer.readableBytes() >= chunkSize) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (buffer != null && buffer.isReadable()) {
+            // the field is cleared first, the chunk may be released by discard() while the rendering is paused
+            ByteBuf data = buffer;
+            buffer = null;
+            write(data);
+        }
+    }
+
+    private void write(ByteBuf data) {
+        if (!response.isChunked()) {
+            // A template that fits in a single chunk is sent with the content-length header instead
+            response.setChunked(true);
+        }
+        if (pending.isEmpty() && !response.writeQueueFull()) {
+            response.write(new NoBoundChecksBuffer(data));
+            return;
+        }
+        pending.add(data);
+        if (!drainHandlerSet) {
+            drainHandlerSet = true;
+            response.drainHandler(ignored -> drained());
+            // the response is never drained if the client is gone
+            response.closeHandler(ignored -> discard());
+            response.exceptionHandler(ignored -> discard());
+            // the response may have been drained before the handler was set
+            drained();
+        }
+        if (BlockingOperationControl.isBlockingAllowed()) {
+            awaitDrained();
+        }
+    }
+
+    /**
+     * Pauses the rendering until the pending chunks are written.
+     */
+    private void awaitDrained() {
+        boolean interrupted = false;
+        while (!pending.isEmpty() && !done) {
+            if (response.closed()) {
+                // the client is gone, the rest of the template is not written
+                discard();
+                break;
+            }
+            try {
+                wait(DRAIN_CHECK_PERIOD);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void drained() {
+        while (!pending.isEmpty() && !response.writeQueueFull()) {
+            response.write(new NoBoundChecksBuffer(pending.poll()));
+        }
+        if (pending.isEmpty()) {
+            if (ending) {
+                ending = false;
+                response.end();
+                ended.complete(null);
+            }
+            notifyAll();
+        }
+    }
+
+    private void releasePending() {
+        ByteBuf data;
+        while ((data = pending.poll()) != null) {
+            data.release();
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import static io.quarkus.resteasy.reactive.qute.runtime.Util.consume;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.TemplateInstance;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Renders a {@link TemplateInstance} directly into the HTTP response.
+ * <p>
+ * The output is written in chunks of the size of {@code quarkus.rest.output-buffer-size}, i.e. the rendered template is
+ * never held in memory as a whole. The chunks are not written while the write queue of the response is full.
+ *
+ * @see ResponseBufferConsumer
+ */
+public class TemplateInstanceStreamingWriter implements ServerMessageBodyWriter<TemplateInstance> {
+
+    private volatile Engine engine;
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public void writeResponse(TemplateInstance instance, Type genericType, ServerRequestContext context)
+            throws WebApplicationException {
+        ResteasyReactiveRequestContext ctx = (ResteasyReactiveRequestContext) context;
+        ResponseBufferConsumer consumer = new ResponseBufferConsumer(
+                ctx.unwrap(HttpServerResponse.class),
+                ctx.getDeployment().getResteasyReactiveConfig().getOutputBufferSize());
+        ctx.suspend();
+        consume(instance, engine(), consumer).whenComplete((r, t) -> {
+            if (t == null) {
+                consumer.end().whenComplete((ended, ignored) -> ctx.resume());
+            } else {
+                consumer.discard();
+                ctx.resume(t);
+            }
+        });
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return TemplateInstance.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(TemplateInstance instance, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        // Writer interceptors are used or the output stream was set
+        entityStream.write(instance.render().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Engine engine() {
+        Engine e = engine;
+        if (e == null) {
+            e = Arc.container().instance(Engine.class).get();
+            engine = e;
+        }
+        return e;
+    }
+
+}
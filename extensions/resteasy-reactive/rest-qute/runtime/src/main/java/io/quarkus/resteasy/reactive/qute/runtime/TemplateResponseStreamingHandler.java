@@ -0,0 +1,33 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import static io.quarkus.resteasy.reactive.qute.runtime.Util.setSelectedVariant;
+
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+import io.quarkus.qute.TemplateInstance;
+
+/**
+ * Selects the variant of a {@link TemplateInstance} result if streaming is enabled. The template instance is rendered by
+ * the {@link TemplateInstanceStreamingWriter}.
+ */
+public class TemplateResponseStreamingHandler implements ServerRestHandler {
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) {
+        if (!(requestContext.getResult() instanceof TemplateInstance instance)) {
+            return;
+        }
+
+        requestContext.requireCDIRequestScope();
+
+        MediaType mediaType = setSelectedVariant(instance, requestContext.getRequest(),
+                requestContext.getHttpHeaders().getAcceptableLanguages());
+        if (mediaType != null) {
+            requestContext.setResponseContentType(mediaType);
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import static io.quarkus.resteasy.reactive.qute.runtime.Util.setSelectedVariant;
+
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.common.headers.HeaderUtil;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveContainerRequestContext;
+
+import io.quarkus.qute.TemplateInstance;
+
+/**
+ * This class is needed in order to support handling {@link jakarta.ws.rs.core.Response} that contains a TemplateInstance
+ * if streaming is enabled. The template instance is rendered by the {@link TemplateInstanceStreamingWriter}.
+ */
+public class TemplateStreamingResponseFilter {
+
+    @ServerResponseFilter
+    public void filter(ResteasyReactiveContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (!(responseContext.getEntity() instanceof TemplateInstance instance)) {
+            return;
+        }
+        MediaType selectedMediaType = setSelectedVariant(instance, requestContext.getRequest(),
+                HeaderUtil.getAcceptableLanguages(requestContext.getHeaders()));
+        if (selectedMediaType != null) {
+            responseContext.setEntity(instance, null, selectedMediaType);
+        }
+    }
+
+}
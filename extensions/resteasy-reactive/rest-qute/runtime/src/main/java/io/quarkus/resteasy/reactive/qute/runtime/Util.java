@@ -4,6 +4,11 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Request;
@@ -31,6 +36,21 @@ static Uni<String> toUni(TemplateInstance instance, Engine engine) {
         return uni;
     }
 
+    static CompletionStage<Void> consume(TemplateInstance instance, Engine engine, Consumer<String> consumer) {
+        CompletionStage<Void> cs = instance.consume(consumer);
+        if (!engine.useAsyncTimeout()) {
+            // Make sure the timeout is always used
+            long timeout = instance.getTimeout();
+            cs = cs.toCompletableFuture().orTimeout(timeout, TimeUnit.MILLISECONDS).exceptionallyCompose(t -> {
+                if (t instanceof TimeoutException) {
+                    t = new TemplateException(instance + " rendering timeout [" + timeout + "ms] occurred");
+                }
+                return CompletableFuture.failedFuture(t);
+            });
+        }
+        return cs;
+    }
+
     @SuppressWarnings("unchecked")
     static MediaType setSelectedVariant(TemplateInstance result,
             Request request, List<Locale> acceptableLanguages) {
@@ -72,6 +72,7 @@
 import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.gizmo2.ClassOutput;
 import io.quarkus.gizmo2.Const;
 import io.quarkus.gizmo2.Expr;
@@ -321,7 +322,9 @@ void validateScheduledBusinessMethods(SchedulerConfig config, List<ScheduledBusi
                 }
             }
             // Validate cron() and every() expressions
-            long checkPeriod = capabilities.isMissing(Capability.QUARTZ) ? SimpleScheduler.CHECK_PERIOD : 50;
+            // The check period of the simple scheduler is a runtime property, the interval triggers are checked against
+            // the configured value when the scheduler starts; only the intervals that are always delayed are reported here
+            long checkPeriod = capabilities.isMissing(Capability.QUARTZ) ? SimpleScheduler.MIN_CHECK_PERIOD : 50;
             CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(config.cronType()));
             for (AnnotationInstance scheduled : scheduledMethod.getSchedules()) {
                 Throwable error = validateScheduled(parser, scheduled, encounteredIdentities, validationPhase.getContext(),
@@ -453,6 +456,16 @@ public void metrics(SchedulerConfig config,
         }
     }
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void simpleSchedulerMetrics(SchedulerConfig config, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            SchedulerRecorder recorder, BuildProducer<MetricsFactoryConsumerBuildItem> metricsFactoryConsumer) {
+        if (config.metricsEnabled() && metricsCapability.isPresent()) {
+            // Lag and overrun metrics of the jobs executed by the simple scheduler
+            metricsFactoryConsumer.produce(new MetricsFactoryConsumerBuildItem(recorder.registerSimpleSchedulerMetrics()));
+        }
+    }
+
     private String generateInvoker(ScheduledBusinessMethodItem scheduledMethod, Gizmo gizmo) {
 
         BeanInfo bean = scheduledMethod.getBean();
@@ -0,0 +1,86 @@
+package io.quarkus.scheduler.test.programmatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class SubSecondIntervalJobsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root
+                    .addAsResource(new StringAsset("quarkus.scheduler.start-mode=forced\n"
+                            + "quarkus.scheduler.check-period=50ms"),
+                            "application.properties"));
+
+    @Inject
+    Scheduler scheduler;
+
+    static final CountDownLatch SYNC_LATCH = new CountDownLatch(10);
+
+    @Test
+    public void testScheduler() throws InterruptedException {
+        assertTrue(scheduler.isRunning());
+
+        scheduler.newJob("foo")
+                .setInterval("0.1s")
+                .setTask(ec -> SubSecondIntervalJobsTest.SYNC_LATCH.countDown())
+                .schedule();
+
+        // 10 executions every 100 ms would not fit in 5 seconds with the default check period
+        assertTrue(SubSecondIntervalJobsTest.SYNC_LATCH.await(3, TimeUnit.SECONDS));
+
+        AtomicInteger counter = new AtomicInteger();
+        scheduler.newJob("bar")
+                .setInterval("0.1s")
+                .setTask(ec -> counter.incrementAndGet())
+                .schedule();
+        assertNotNull(scheduler.unscheduleJob("bar"));
+        assertNull(scheduler.getScheduledJob("bar"));
+        Thread.sleep(500);
+        // the job may have been executed at most once before it was unscheduled
+        assertTrue(counter.get() <= 1);
+    }
+
+    @Test
+    public void testUnscheduleWhileFiring() throws InterruptedException {
+        CountDownLatch firing = new CountDownLatch(1);
+        CountDownLatch unscheduled = new CountDownLatch(1);
+        AtomicInteger counter = new AtomicInteger();
+        scheduler.newJob("baz")
+                .setInterval("0.1s")
+                .setTask(ec -> {
+                    if (counter.incrementAndGet() == 1) {
+                        firing.countDown();
+                        try {
+                            unscheduled.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                })
+                .schedule();
+        assertTrue(firing.await(3, TimeUnit.SECONDS));
+        assertNotNull(scheduler.unscheduleJob("baz"));
+        unscheduled.countDown();
+        // an execution may have started before the job was unscheduled
+        Thread.sleep(200);
+        int executions = counter.get();
+        Thread.sleep(500);
+        assertEquals(executions, counter.get());
+    }
+}
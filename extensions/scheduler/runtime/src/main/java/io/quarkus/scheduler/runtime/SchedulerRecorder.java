@@ -2,11 +2,13 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import com.cronutils.model.CronType;
 
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.scheduler.Scheduled;
 import io.quarkus.scheduler.common.runtime.ImmutableScheduledMethod;
 import io.quarkus.scheduler.common.runtime.MutableScheduledMethod;
@@ -74,6 +76,10 @@ public String autoImplementation() {
         };
     }
 
+    public Consumer<MetricsFactory> registerSimpleSchedulerMetrics() {
+        return SimpleSchedulerMetrics.initializer();
+    }
+
     private List<ScheduledMethod> immutableCopy(List<MutableScheduledMethod> scheduledMethods) {
         List<ScheduledMethod> metadata = new ArrayList<>(scheduledMethods.size());
         for (ScheduledMethod scheduledMethod : scheduledMethods) {
@@ -31,6 +31,14 @@ public interface SchedulerRuntimeConfig {
     @WithDefault("normal")
     StartMode startMode();
 
+    /**
+     * The period at which the simple scheduler checks the triggers that are due. Only triggers that are due are evaluated,
+     * so a shorter period does not make the check more expensive. An {@code every()} value shorter than this period
+     * is not supported. The minimal value is 10 milliseconds.
+     */
+    @WithDefault("1s")
+    Duration checkPeriod();
+
     enum StartMode {
 
         /**
@@ -2,7 +2,6 @@
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
@@ -68,13 +67,20 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
 
     private static final Logger LOG = Logger.getLogger(SimpleScheduler.class);
 
-    // milliseconds
+    // milliseconds, the default check period
     public static final long CHECK_PERIOD = 1000L;
 
+    // milliseconds
+    public static final long MIN_CHECK_PERIOD = 10L;
+
     private final ScheduledExecutorService scheduledExecutor;
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final SchedulerConfig schedulerConfig;
+    // milliseconds
+    private final long checkPeriod;
+    // only triggers that are due are evaluated on each check
+    private final TimingWheel<ScheduledTask> timingWheel;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
@@ -90,9 +96,11 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         this.running = true;
         this.scheduledTasks = new ConcurrentHashMap<>();
         this.schedulerConfig = schedulerConfig;
+        this.checkPeriod = Math.max(MIN_CHECK_PERIOD, schedulerRuntimeConfig.checkPeriod().toMillis());
 
         if (!schedulerRuntimeConfig.enabled()) {
             this.scheduledExecutor = null;
+            this.timingWheel = null;
             LOG.info("Simple scheduler is disabled by config property and will not be started");
             return;
         }
@@ -101,9 +109,11 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         if (startMode == StartMode.NORMAL && context.getScheduledMethods(Scheduled.SIMPLE).isEmpty()
                 && !context.forceSchedulerStart()) {
             this.scheduledExecutor = null;
+            this.timingWheel = null;
             LOG.info("No scheduled business methods found - Simple scheduler will not be started");
             return;
         }
+        this.timingWheel = new TimingWheel<>(System.currentTimeMillis() / checkPeriod);
 
         ThreadFactory tf = new ThreadFactory() {
 
@@ -123,7 +133,7 @@ public Thread newThread(Runnable runnable) {
                 return t;
             }
         };
-        // This executor is used to check all registered triggers every second
+        // This executor is used to check the due triggers periodically
         this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
             @Override
             public void run() {
@@ -157,7 +167,9 @@ public void run() {
                     ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()), events,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), instrumenter,
                             vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
-                    scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
+                    ScheduledTask task = new ScheduledTask(trigger.get(), invoker, false);
+                    scheduledTasks.put(trigger.get().id, task);
+                    schedule(task);
                 }
             }
         }
@@ -196,6 +208,8 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    task.cancel();
+                    SimpleSchedulerMetrics.unregister(task);
                     return task.trigger;
                 }
             }
@@ -208,11 +222,13 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
+        for (ScheduledTask task : scheduledTasks.values()) {
+            SimpleSchedulerMetrics.register(task);
+        }
+        // Try to compute the initial delay to execute the checks near to the start of a check period
         // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
+        long now = System.currentTimeMillis();
+        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, checkPeriod - (now % checkPeriod), checkPeriod,
                 TimeUnit.MILLISECONDS);
     }
 
@@ -225,17 +241,54 @@ void stop() {
         } catch (Exception e) {
             LOG.warn("Unable to shutdown the scheduler executor", e);
         }
+        SimpleSchedulerMetrics.clear();
     }
 
     void checkTriggers() {
         if (!running) {
+            // The timing wheel is not advanced, the due triggers are evaluated once the scheduler is resumed
             LOG.trace("Skip all triggers - scheduler paused");
             return;
         }
         ZonedDateTime now = ZonedDateTime.now();
         LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks.values()) {
-            task.execute(now, vertx);
+        try {
+            timingWheel.advance(now.toInstant().toEpochMilli() / checkPeriod, entry -> {
+                ScheduledTask task = entry.value;
+                if (task.cancelled) {
+                    // unscheduled after the entry was taken out of the wheel
+                    return;
+                }
+                task.execute(now, vertx);
+                schedule(task);
+            });
+        } catch (Throwable t) {
+            // an exception must not cancel the periodic check
+            LOG.error("Unable to check the scheduled triggers", t);
+        }
+    }
+
+    /**
+     * Adds the task to the timing wheel so that its trigger is evaluated when it is due.
+     */
+    private void schedule(ScheduledTask task) {
+        if (task.cancelled) {
+            return;
+        }
+        Instant next = task.trigger.nextEvaluationTime();
+        if (next == null) {
+            // the trigger will not fire again
+            return;
+        }
+        long nextMillis = next.toEpochMilli();
+        // round up, the trigger is evaluated at the first check after the next fire time
+        long deadlineTick = nextMillis / checkPeriod + (nextMillis % checkPeriod == 0 ? 0 : 1);
+        TimingWheel.Entry<ScheduledTask> entry = new TimingWheel.Entry<>(task, deadlineTick);
+        task.entry = entry;
+        timingWheel.add(entry);
+        if (task.cancelled) {
+            // cancel() may have seen the previous entry, make sure the task is not re-armed
+            entry.cancel();
         }
     }
 
@@ -342,7 +395,7 @@ public Trigger getScheduledJob(String identity) {
 
     Optional<SimpleTrigger> createTrigger(String id, String methodDescription, Scheduled scheduled,
             Duration defaultGracePeriod) {
-        ZonedDateTime start = ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        ZonedDateTime start = truncate(ZonedDateTime.now(), checkPeriod);
         Long millisToAdd = null;
         if (scheduled.delay() > 0) {
             millisToAdd = scheduled.delayUnit().toMillis(scheduled.delay());
@@ -367,30 +420,57 @@ Optional<SimpleTrigger> createTrigger(String id, String methodDescription, Sched
                 return Optional.empty();
             }
             return Optional.of(new IntervalTrigger(id, start, everyMillis.getAsLong(),
-                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription));
+                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription, checkPeriod));
         } else {
             throw new IllegalArgumentException("Either the 'cron' expression or the 'every' period must be set: " + scheduled);
         }
     }
 
+    /**
+     * Truncates the time to the start of the check period; this is equivalent to {@code truncatedTo(ChronoUnit.SECONDS)}
+     * for the default check period.
+     */
+    static ZonedDateTime truncate(ZonedDateTime time, long checkPeriod) {
+        long millis = time.toInstant().toEpochMilli();
+        return time.minus(Math.floorMod(millis, checkPeriod), ChronoUnit.MILLIS).truncatedTo(ChronoUnit.MILLIS);
+    }
+
     static class ScheduledTask {
 
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
 
+        // the current entry in the timing wheel
+        volatile TimingWheel.Entry<ScheduledTask> entry;
+        volatile boolean cancelled;
+
+        // metrics - only updated by the thread that checks the triggers
+        volatile long lastLag;
+        volatile long maxLag;
+        volatile long overruns;
+
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
             this.invoker = invoker;
             this.isProgrammatic = isProgrammatic;
         }
 
+        void cancel() {
+            cancelled = true;
+            TimingWheel.Entry<ScheduledTask> e = entry;
+            if (e != null) {
+                e.cancel();
+            }
+        }
+
         void execute(ZonedDateTime now, Vertx vertx) {
             if (!trigger.isRunning()) {
                 return;
             }
             ZonedDateTime scheduledFireTime = trigger.evaluate(now);
             if (scheduledFireTime != null) {
+                recordLag(ChronoUnit.MILLIS.between(scheduledFireTime, now));
                 try {
                     invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, trigger));
                 } catch (Throwable t) {
@@ -399,6 +479,17 @@ void execute(ZonedDateTime now, Vertx vertx) {
             }
         }
 
+        private void recordLag(long lag) {
+            lastLag = lag;
+            if (lag > maxLag) {
+                maxLag = lag;
+            }
+            // the execution is late by more than the overdue grace period
+            if (lag > trigger.gracePeriod().toMillis()) {
+                overruns++;
+            }
+        }
+
     }
 
     static abstract class SimpleTrigger implements Trigger {
@@ -422,6 +513,14 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * @return the time at which {@link #evaluate(ZonedDateTime)} should be called next, or {@code null} if the trigger
+         *         will not fire again
+         */
+        abstract Instant nextEvaluationTime();
+
+        abstract Duration gracePeriod();
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -451,18 +550,37 @@ static class IntervalTrigger extends SimpleTrigger {
         // milliseconds
         private final long interval;
         private final Duration gracePeriod;
+        // milliseconds
+        private final long checkPeriod;
 
-        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description) {
+        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description,
+                long checkPeriod) {
             super(id, start, description);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
-            if (interval < CHECK_PERIOD) {
+            this.checkPeriod = checkPeriod;
+            if (interval < checkPeriod) {
                 LOG.warnf(
                         "An every() value less than %s ms is not supported - the scheduled job will be executed with a delay: %s",
-                        CHECK_PERIOD, description);
+                        checkPeriod, description);
             }
         }
 
+        @Override
+        Instant nextEvaluationTime() {
+            ZonedDateTime last = lastFireTime;
+            if (last == null) {
+                // First execution
+                return start.toInstant();
+            }
+            return last.toInstant().plusMillis(interval);
+        }
+
+        @Override
+        Duration gracePeriod() {
+            return gracePeriod;
+        }
+
         @Override
         ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
@@ -470,13 +588,13 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = truncate(now, checkPeriod);
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = truncate(now, checkPeriod);
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
@@ -533,6 +651,21 @@ public Instant getNextFireTime() {
             return executionTime.nextExecution(lastFireTime).map(ZonedDateTime::toInstant).orElse(null);
         }
 
+        @Override
+        Instant nextEvaluationTime() {
+            Instant next = getNextFireTime();
+            if (next == null) {
+                return null;
+            }
+            // the trigger does not fire before the start
+            return next.isBefore(start.toInstant()) ? start.toInstant() : next;
+        }
+
+        @Override
+        Duration gracePeriod() {
+            return gracePeriod;
+        }
+
         @Override
         ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
@@ -672,6 +805,8 @@ public boolean isBlocking() {
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                schedule(scheduledTask);
+                SimpleSchedulerMetrics.register(scheduledTask);
                 return simpleTrigger;
             }
             return null;
@@ -0,0 +1,67 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.function.Consumer;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.scheduler.runtime.SimpleScheduler.ScheduledTask;
+
+/**
+ * Registers the lag and overrun metrics of the jobs scheduled by the {@link SimpleScheduler}. The metrics of a
+ * programmatic job are removed once the job is unscheduled.
+ * <p>
+ * The metrics factory is only available during application startup, while programmatic jobs can be scheduled at any
+ * time. Therefore, the factory is kept until the scheduler is stopped.
+ */
+final class SimpleSchedulerMetrics {
+
+    private static volatile MetricsFactory metricsFactory;
+
+    private SimpleSchedulerMetrics() {
+    }
+
+    static Consumer<MetricsFactory> initializer() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory factory) {
+                metricsFactory = factory;
+            }
+        };
+    }
+
+    static void clear() {
+        metricsFactory = null;
+    }
+
+    static void register(ScheduledTask task) {
+        MetricsFactory factory = metricsFactory;
+        if (factory == null) {
+            return;
+        }
+        String job = task.trigger.getId();
+        factory.builder("scheduler.job.lag")
+                .description("The delay between the scheduled fire time and the actual fire time of the last execution")
+                .tag("job", job)
+                .unit("milliseconds")
+                .buildGauge(task, t -> t.lastLag);
+        factory.builder("scheduler.job.lag.max")
+                .description("The maximum delay between the scheduled fire time and the actual fire time")
+                .tag("job", job)
+                .unit("milliseconds")
+                .buildGauge(task, t -> t.maxLag);
+        factory.builder("scheduler.job.overruns")
+                .description("The number of executions that started later than the overdue grace period")
+                .tag("job", job)
+                .buildCounter(task, t -> t.overruns);
+    }
+
+    static void unregister(ScheduledTask task) {
+        MetricsFactory factory = metricsFactory;
+        if (factory == null) {
+            return;
+        }
+        String job = task.trigger.getId();
+        factory.remove("scheduler.job.lag", "job", job);
+        factory.remove("scheduler.job.lag.max", "job", job);
+        factory.remove("scheduler.job.overruns", "job", job);
+    }
+}
@@ -0,0 +1,152 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * A hashed hierarchical timing wheel.
+ * <p>
+ * Time is divided into ticks. Every level of the wheel has {@value #WHEEL_SIZE} buckets; a bucket of level {@code n}
+ * spans {@code WHEEL_SIZE^n} ticks. An entry is placed in the lowest level whose range covers its deadline. When the
+ * lower level wraps around, the entries of the current bucket of the next level are cascaded down. Advancing the wheel
+ * by one tick therefore only touches the entries that are due, and the rare cascades, instead of all entries.
+ * <p>
+ * The wheel itself is only accessed by the thread that calls {@link #advance(long, Consumer)}. Other threads
+ * {@link #add(Entry) add} entries through a concurrent queue that is drained on the next advance. Entries are never
+ * removed eagerly; a cancelled entry is simply not passed to the consumer when its bucket is drained.
+ */
+final class TimingWheel<T> {
+
+    static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private final ArrayDeque<Entry<T>>[][] buckets;
+    private final Queue<Entry<T>> pending = new ConcurrentLinkedQueue<>();
+    // the last tick that was processed
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long currentTick) {
+        this.buckets = new ArrayDeque[LEVELS][WHEEL_SIZE];
+        this.currentTick = currentTick;
+    }
+
+    /**
+     * Adds an entry. This method may be called by any thread.
+     *
+     * @param entry
+     */
+    void add(Entry<T> entry) {
+        pending.add(entry);
+    }
+
+    /**
+     * Processes all ticks up to and including the given tick and passes the entries that are due to the consumer.
+     * <p>
+     * Entries with a deadline in the past are passed to the consumer on the next processed tick. Entries added by the
+     * consumer are placed relative to the tick being processed.
+     *
+     * @param tick the current tick
+     * @param consumer
+     */
+    void advance(long tick, Consumer<Entry<T>> consumer) {
+        drainPending();
+        while (currentTick < tick) {
+            currentTick++;
+            cascade();
+            ArrayDeque<Entry<T>> due = buckets[0][(int) (currentTick & WHEEL_MASK)];
+            if (due == null) {
+                continue;
+            }
+            Entry<T> entry;
+            while ((entry = due.poll()) != null) {
+                if (!entry.cancelled) {
+                    consumer.accept(entry);
+                }
+            }
+            // the consumer may have added entries for the next ticks
+            drainPending();
+        }
+    }
+
+    /**
+     * @return the last processed tick
+     */
+    long currentTick() {
+        return currentTick;
+    }
+
+    private void drainPending() {
+        Entry<T> entry;
+        while ((entry = pending.poll()) != null) {
+            // the current tick was already processed
+            place(entry, currentTick + 1);
+        }
+    }
+
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            long shift = (long) WHEEL_BITS * level;
+            // the level below wrapped around only if all its lower bits are zero
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            int index = (int) ((currentTick >>> shift) & WHEEL_MASK);
+            ArrayDeque<Entry<T>> bucket = buckets[level][index];
+            if (bucket == null || bucket.isEmpty()) {
+                continue;
+            }
+            int count = bucket.size();
+            for (int i = 0; i < count; i++) {
+                // the bucket of the current tick is drained right after the cascade
+                place(bucket.poll(), currentTick);
+            }
+        }
+    }
+
+    private void place(Entry<T> entry, long minDeadline) {
+        if (entry.cancelled) {
+            return;
+        }
+        // a deadline in the past is due as soon as possible
+        long deadline = Math.max(entry.deadlineTick, minDeadline);
+        long delta = deadline - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (WHEEL_BITS * (level + 1)))) {
+            level++;
+        }
+        if (level == LEVELS - 1 && delta >= (1L << (WHEEL_BITS * LEVELS))) {
+            // beyond the range of the wheel, park the entry in the farthest bucket and re-place it when it cascades
+            deadline = currentTick + (1L << (WHEEL_BITS * LEVELS)) - 1;
+        }
+        int index = (int) ((deadline >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+        ArrayDeque<Entry<T>> bucket = buckets[level][index];
+        if (bucket == null) {
+            bucket = new ArrayDeque<>();
+            buckets[level][index] = bucket;
+        }
+        bucket.add(entry);
+    }
+
+    static final class Entry<T> {
+
+        final T value;
+        final long deadlineTick;
+        volatile boolean cancelled;
+
+        Entry(T value, long deadlineTick) {
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+    }
+
+}
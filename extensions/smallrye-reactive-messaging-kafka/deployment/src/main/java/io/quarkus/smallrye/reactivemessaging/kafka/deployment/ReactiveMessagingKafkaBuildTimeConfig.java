@@ -32,4 +32,12 @@ public interface ReactiveMessagingKafkaBuildTimeConfig {
      */
     @WithDefault("false")
     boolean enableGracefulShutdownInDevAndTestMode();
+
+    /**
+     * Whether metrics are published for the checkpoints persisted by the `quarkus-hibernate-orm` and `quarkus-redis`
+     * checkpoint state stores, in case a metrics extension is present.
+     */
+    @WithName("checkpoint.metrics.enabled")
+    @WithDefault("false")
+    boolean checkpointMetricsEnabled();
 }
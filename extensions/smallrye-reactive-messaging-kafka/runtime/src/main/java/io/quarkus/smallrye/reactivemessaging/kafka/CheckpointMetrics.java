@@ -0,0 +1,71 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * The latency and size metrics of the checkpoints persisted by a state store.
+ * <p>
+ * The values are collected per state store type, whatever the channel or the consumer group, so that the metrics can
+ * be registered once at startup.
+ */
+final class CheckpointMetrics {
+
+    static final CheckpointMetrics HIBERNATE_ORM = new CheckpointMetrics(HibernateOrmStateStore.HIBERNATE_ORM_STATE_STORE);
+    static final CheckpointMetrics REDIS = new CheckpointMetrics(RedisStateStore.REDIS_STATE_STORE);
+
+    private final String stateStore;
+    private final LongAdder persistedPartitions = new LongAdder();
+    private final LongAdder skippedPartitions = new LongAdder();
+    private volatile long lastSize;
+    private volatile MetricsFactory.TimeRecorder latency;
+
+    private CheckpointMetrics(String stateStore) {
+        this.stateStore = stateStore;
+    }
+
+    static Consumer<MetricsFactory> initializer() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory factory) {
+                HIBERNATE_ORM.register(factory);
+                REDIS.register(factory);
+            }
+        };
+    }
+
+    private void register(MetricsFactory factory) {
+        latency = factory.builder("kafka.checkpoint.persist")
+                .description("The time spent persisting the processing state of a checkpoint")
+                .tag("state-store", stateStore)
+                .buildTimer();
+        factory.builder("kafka.checkpoint.size")
+                .description("The number of partitions written by the last checkpoint")
+                .tag("state-store", stateStore)
+                .buildGauge(this, m -> m.lastSize);
+        factory.builder("kafka.checkpoint.partitions.persisted")
+                .description("The number of partition states written by the checkpoints")
+                .tag("state-store", stateStore)
+                .buildCounter(this, m -> m.persistedPartitions.sum());
+        factory.builder("kafka.checkpoint.partitions.skipped")
+                .description("The number of partition states not written by the checkpoints because they did not change")
+                .tag("state-store", stateStore)
+                .buildCounter(this, m -> m.skippedPartitions.sum());
+    }
+
+    void skipped(int partitions) {
+        skippedPartitions.add(partitions);
+    }
+
+    void persisted(int partitions, long startNanos) {
+        persistedPartitions.add(partitions);
+        lastSize = partitions;
+        MetricsFactory.TimeRecorder latency = this.latency;
+        if (latency != null) {
+            latency.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
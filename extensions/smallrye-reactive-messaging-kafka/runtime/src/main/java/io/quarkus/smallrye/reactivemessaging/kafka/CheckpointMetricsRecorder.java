@@ -0,0 +1,14 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.function.Consumer;
+
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class CheckpointMetricsRecorder {
+
+    public Consumer<MetricsFactory> registerCheckpointMetrics() {
+        return CheckpointMetrics.initializer();
+    }
+}
@@ -1,10 +1,10 @@
 package io.quarkus.smallrye.reactivemessaging.kafka;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Any;
@@ -33,6 +33,7 @@ public class HibernateOrmStateStore implements CheckpointStateStore {
     private final String consumerGroupId;
     private final SessionFactory sf;
     private final Class<? extends CheckpointEntity> stateType;
+    private final PersistedOffsets persistedOffsets = new PersistedOffsets();
 
     public HibernateOrmStateStore(String consumerGroupId, SessionFactory sf,
             Class<? extends CheckpointEntity> stateType) {
@@ -69,26 +70,24 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
     @Override
     public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collection<TopicPartition> partitions) {
         return Uni.createFrom().deferred(() -> {
-            Object[] ids = partitions.stream()
+            List<CheckpointEntityId> ids = partitions.stream()
                     .map(tp -> new CheckpointEntityId(consumerGroupId, tp))
-                    .toArray(Object[]::new);
+                    .toList();
             return Vertx.currentContext().executeBlocking(Uni.createFrom().emitter(emitter -> {
-                List<CheckpointEntity> fetched = new ArrayList<>();
                 Transaction tx = null;
                 try (Session session = sf.openSession()) {
                     tx = session.beginTransaction();
-                    for (Object id : ids) {
-                        CheckpointEntity entity = session.find(stateType, id);
-                        if (entity != null) {
-                            fetched.add(entity);
+                    // A single query for all the partitions
+                    Map<TopicPartition, ProcessingState<?>> stateMap = new HashMap<>();
+                    for (CheckpointEntity entity : session.findMultiple(stateType, ids)) {
+                        TopicPartition tp = CheckpointEntity.topicPartition(entity);
+                        if (tp != null) {
+                            stateMap.put(tp, new ProcessingState<>(entity, entity.offset));
                         }
                     }
-                    Map<TopicPartition, ProcessingState<?>> stateMap = fetched.stream()
-                            .filter(e -> e != null && CheckpointEntity.topicPartition(e) != null)
-                            .collect(Collectors.toMap(CheckpointEntity::topicPartition,
-                                    e -> new ProcessingState<>(e, e.offset)));
                     session.flush();
                     tx.commit();
+                    persistedOffsets.fetched(partitions, stateMap);
                     emitter.complete(stateMap);
                 } catch (Throwable t) {
                     if (tx != null) {
@@ -104,20 +103,32 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
     @Override
     public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
         return Uni.createFrom().deferred(() -> {
-            Object[] entities = state.entrySet().stream()
+            long start = System.nanoTime();
+            Map<TopicPartition, ProcessingState<?>> changed = persistedOffsets.changed(state);
+            CheckpointEntity[] entities = changed.entrySet().stream()
                     .filter(e -> !ProcessingState.isEmptyOrNull(e.getValue()))
                     .map(e -> CheckpointEntity.from((ProcessingState<? extends CheckpointEntity>) e.getValue(),
                             new CheckpointEntityId(consumerGroupId, e.getKey())))
-                    .toArray();
+                    .toArray(CheckpointEntity[]::new);
+            CheckpointMetrics.HIBERNATE_ORM.skipped(state.size() - changed.size());
+            if (entities.length == 0) {
+                return Uni.createFrom().voidItem();
+            }
             return Vertx.currentContext().executeBlocking(Uni.createFrom().emitter(e -> {
                 Transaction tx = null;
                 try (Session session = sf.openSession()) {
+                    // All the inserts and updates are sent in a single JDBC batch
+                    session.setJdbcBatchSize(entities.length);
                     tx = session.beginTransaction();
-                    for (Object entity : entities) {
+                    // Load the existing rows with a single query, so that merge() does not select them one by one
+                    session.findMultiple(stateType, Arrays.stream(entities).map(CheckpointEntity::getId).toList());
+                    for (CheckpointEntity entity : entities) {
                         session.merge(entity);
                     }
                     session.flush();
                     tx.commit();
+                    persistedOffsets.persisted(changed);
+                    CheckpointMetrics.HIBERNATE_ORM.persisted(entities.length, start);
                     e.complete(null);
                 } catch (Throwable t) {
                     if (tx != null) {
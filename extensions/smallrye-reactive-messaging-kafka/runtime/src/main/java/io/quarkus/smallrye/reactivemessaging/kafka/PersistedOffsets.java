@@ -0,0 +1,60 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.kafka.common.TopicPartition;
+
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+
+/**
+ * The offsets of the processing states last read from or written to a state store, per partition.
+ * <p>
+ * The offset of a processing state moves forward with every processed record, so a state whose offset is the one
+ * already persisted has not changed and does not need to be written again.
+ */
+final class PersistedOffsets {
+
+    private final ConcurrentMap<TopicPartition, Long> offsets = new ConcurrentHashMap<>();
+
+    void fetched(Collection<TopicPartition> partitions, Map<TopicPartition, ProcessingState<?>> states) {
+        for (TopicPartition partition : partitions) {
+            ProcessingState<?> state = states.get(partition);
+            if (ProcessingState.isEmptyOrNull(state)) {
+                offsets.remove(partition);
+            } else {
+                offsets.put(partition, state.getOffset());
+            }
+        }
+    }
+
+    /**
+     * @return the states that changed since they were last persisted
+     */
+    Map<TopicPartition, ProcessingState<?>> changed(Map<TopicPartition, ProcessingState<?>> states) {
+        Map<TopicPartition, ProcessingState<?>> changed = new HashMap<>();
+        for (Map.Entry<TopicPartition, ProcessingState<?>> e : states.entrySet()) {
+            ProcessingState<?> state = e.getValue();
+            if (ProcessingState.isEmptyOrNull(state)) {
+                changed.put(e.getKey(), state);
+                continue;
+            }
+            Long persisted = offsets.get(e.getKey());
+            if (persisted == null || persisted != state.getOffset()) {
+                changed.put(e.getKey(), state);
+            }
+        }
+        return changed;
+    }
+
+    void persisted(Map<TopicPartition, ProcessingState<?>> states) {
+        for (Map.Entry<TopicPartition, ProcessingState<?>> e : states.entrySet()) {
+            if (!ProcessingState.isEmptyOrNull(e.getValue())) {
+                offsets.put(e.getKey(), e.getValue().getOffset());
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -39,6 +40,7 @@ public class RedisStateStore implements CheckpointStateStore {
     private final String consumerGroupId;
     private final ProcessingStateCodec stateCodec;
     private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final PersistedOffsets persistedOffsets = new PersistedOffsets();
 
     public RedisStateStore(ReactiveRedisDataSource redis, String consumerGroupId, ProcessingStateCodec stateCodec) {
         this.redis = redis;
@@ -92,10 +94,14 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
                 .map(tp -> Tuple2.of(tp, getKey(tp)))
                 .collect(Collectors.toList());
         return redis.value(byte[].class).mget(tps.stream().map(Tuple2::getItem2).toArray(String[]::new))
-                .map(response -> response.entrySet().stream()
-                        .filter(e -> e.getValue() != null)
-                        .collect(Collectors.toMap(e -> getTpFromKey(e.getKey()),
-                                e -> ProcessingState.getOrEmpty(stateCodec.decode(e.getValue())))));
+                .map(response -> {
+                    Map<TopicPartition, ProcessingState<?>> states = response.entrySet().stream()
+                            .filter(e -> e.getValue() != null)
+                            .collect(Collectors.toMap(e -> getTpFromKey(e.getKey()),
+                                    e -> ProcessingState.getOrEmpty(stateCodec.decode(e.getValue()))));
+                    persistedOffsets.fetched(partitions, states);
+                    return states;
+                });
     }
 
     private String getKey(TopicPartition partition) {
@@ -112,24 +118,45 @@ public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>>
         if (states.isEmpty() || closed.get()) {
             return Uni.createFrom().voidItem();
         }
-        String[] keys = states.keySet().stream().map(this::getKey).toArray(String[]::new);
+        long start = System.nanoTime();
+        Map<TopicPartition, ProcessingState<?>> changed = persistedOffsets.changed(states);
+        CheckpointMetrics.REDIS.skipped(states.size() - changed.size());
+        if (changed.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        Map<String, TopicPartition> partitions = new HashMap<>();
+        for (TopicPartition tp : changed.keySet()) {
+            partitions.put(getKey(tp), tp);
+        }
+        String[] keys = partitions.keySet().toArray(String[]::new);
+        Map<TopicPartition, ProcessingState<?>> written = new HashMap<>();
         return redis.withTransaction(r -> r.value(byte[].class).mget(keys), (current, r) -> {
-            Map<String, byte[]> map = states.entrySet().stream().filter(toPersist -> {
-                String key = getKey(toPersist.getKey());
-                ProcessingState<?> newState = toPersist.getValue();
-                if (!current.containsKey(key)) {
-                    return true;
+            Map<String, byte[]> map = new HashMap<>();
+            for (Map.Entry<String, TopicPartition> toPersist : partitions.entrySet()) {
+                String key = toPersist.getKey();
+                ProcessingState<?> newState = changed.get(toPersist.getValue());
+                if (current.containsKey(key)) {
+                    ProcessingState<?> currentState = stateCodec.decode(current.get(key));
+                    if (!ProcessingState.isEmptyOrNull(currentState) && (ProcessingState.isEmptyOrNull(newState)
+                            || newState.getOffset() < currentState.getOffset())) {
+                        continue;
+                    }
                 }
-                ProcessingState<?> currentState = stateCodec.decode(current.get(key));
-                return ProcessingState.isEmptyOrNull(currentState) ||
-                        (!ProcessingState.isEmptyOrNull(newState) && newState.getOffset() >= currentState.getOffset());
-            }).collect(Collectors.toMap(e -> getKey(e.getKey()), e -> stateCodec.encode(e.getValue())));
+                map.put(key, stateCodec.encode(newState));
+                written.put(toPersist.getValue(), newState);
+            }
             if (map.isEmpty()) {
                 return Uni.createFrom().voidItem();
             } else {
+                // All the partitions are written with a single command
                 return r.value(byte[].class).mset(map);
             }
-        }, keys).replaceWithVoid();
+        }, keys).invoke(result -> {
+            if (!result.discarded()) {
+                persistedOffsets.persisted(written);
+                CheckpointMetrics.REDIS.persisted(written.size(), start);
+            }
+        }).replaceWithVoid();
     }
 
 }
@@ -0,0 +1,45 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.metrics.RecordingMetricsFactory;
+
+class CheckpointMetricsTest {
+
+    static final String REDIS = RedisStateStore.REDIS_STATE_STORE;
+
+    @Test
+    void countsPersistedAndSkippedPartitions() {
+        RecordingMetricsFactory factory = new RecordingMetricsFactory();
+        CheckpointMetrics.initializer().accept(factory);
+        // the metrics are collected for the whole application
+        long persisted = factory.value("kafka.checkpoint.partitions.persisted", "state-store", REDIS);
+        long skipped = factory.value("kafka.checkpoint.partitions.skipped", "state-store", REDIS);
+
+        CheckpointMetrics.REDIS.persisted(3, System.nanoTime());
+        CheckpointMetrics.REDIS.skipped(2);
+        CheckpointMetrics.REDIS.persisted(1, System.nanoTime());
+
+        assertEquals(persisted + 4, factory.value("kafka.checkpoint.partitions.persisted", "state-store", REDIS));
+        assertEquals(skipped + 2, factory.value("kafka.checkpoint.partitions.skipped", "state-store", REDIS));
+        assertEquals(1, factory.value("kafka.checkpoint.size", "state-store", REDIS));
+        assertEquals(2, factory.timerCount("kafka.checkpoint.persist", "state-store", REDIS));
+    }
+
+    @Test
+    void registersMetricsPerStateStore() {
+        RecordingMetricsFactory factory = new RecordingMetricsFactory();
+        CheckpointMetrics.initializer().accept(factory);
+        long redis = factory.value("kafka.checkpoint.partitions.skipped", "state-store", REDIS);
+        long hibernateOrm = factory.value("kafka.checkpoint.partitions.skipped", "state-store",
+                HibernateOrmStateStore.HIBERNATE_ORM_STATE_STORE);
+
+        CheckpointMetrics.HIBERNATE_ORM.skipped(5);
+
+        assertEquals(redis, factory.value("kafka.checkpoint.partitions.skipped", "state-store", REDIS));
+        assertEquals(hibernateOrm + 5, factory.value("kafka.checkpoint.partitions.skipped", "state-store",
+                HibernateOrmStateStore.HIBERNATE_ORM_STATE_STORE));
+    }
+}
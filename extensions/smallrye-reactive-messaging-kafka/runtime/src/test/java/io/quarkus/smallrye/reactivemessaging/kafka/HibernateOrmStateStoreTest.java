@@ -0,0 +1,146 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import static io.quarkus.smallrye.reactivemessaging.kafka.PersistedOffsetsTest.TP0;
+import static io.quarkus.smallrye.reactivemessaging.kafka.PersistedOffsetsTest.TP1;
+import static io.quarkus.smallrye.reactivemessaging.kafka.PersistedOffsetsTest.TP2;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.kafka.common.TopicPartition;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+
+import io.quarkus.runtime.metrics.RecordingMetricsFactory;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.vertx.mutiny.core.Vertx;
+
+class HibernateOrmStateStoreTest {
+
+    static final String HIBERNATE_ORM = HibernateOrmStateStore.HIBERNATE_ORM_STATE_STORE;
+
+    Vertx vertx;
+    SessionFactory sf;
+    Session session;
+    HibernateOrmStateStore store;
+
+    @BeforeEach
+    void init() {
+        vertx = Vertx.vertx();
+        session = mock(Session.class);
+        when(session.beginTransaction()).thenReturn(mock(Transaction.class));
+        when(session.findMultiple(eq(TestCheckpoint.class), anyList())).thenReturn(List.of());
+        sf = mock(SessionFactory.class);
+        when(sf.openSession()).thenReturn(session);
+        store = new HibernateOrmStateStore("group", sf, TestCheckpoint.class);
+    }
+
+    @AfterEach
+    void close() {
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    void persistsChangedPartitionsInOneBatch() throws Exception {
+        await(() -> store.persistProcessingState(states(TP0, 10, TP1, 20, TP2, 30)));
+
+        verify(sf, times(1)).openSession();
+        verify(session).setJdbcBatchSize(3);
+        // the existing rows are loaded with a single query
+        verify(session, times(1)).findMultiple(eq(TestCheckpoint.class),
+                ArgumentMatchers.<List<?>> argThat(ids -> ids.size() == 3));
+        verify(session, times(3)).merge(any(TestCheckpoint.class));
+        verify(session, times(1)).flush();
+    }
+
+    @Test
+    void skipsUnchangedPartitions() throws Exception {
+        await(() -> store.persistProcessingState(states(TP0, 10, TP1, 20, TP2, 30)));
+        await(() -> store.persistProcessingState(states(TP0, 10, TP1, 20, TP2, 30)));
+        verify(sf, times(1)).openSession();
+
+        Map<TopicPartition, ProcessingState<?>> states = states(TP0, 10, TP1, 21, TP2, 30);
+        await(() -> store.persistProcessingState(states));
+        verify(sf, times(2)).openSession();
+        verify(session).setJdbcBatchSize(1);
+        verify(session).merge(states.get(TP1).getState());
+    }
+
+    @Test
+    void skipsFetchedPartitions() throws Exception {
+        when(session.findMultiple(eq(TestCheckpoint.class), anyList()))
+                .thenReturn(List.of(checkpoint(TP0, 10), checkpoint(TP1, 20)));
+
+        Map<TopicPartition, ProcessingState<?>> fetched = await(() -> store.fetchProcessingState(List.of(TP0, TP1)));
+        assertEquals(10, fetched.get(TP0).getOffset());
+        assertEquals(20, fetched.get(TP1).getOffset());
+
+        await(() -> store.persistProcessingState(states(TP0, 10, TP1, 20)));
+        // only the fetch opened a session
+        verify(sf, times(1)).openSession();
+        verify(session, never()).merge(any());
+    }
+
+    @Test
+    void recordsMetrics() throws Exception {
+        RecordingMetricsFactory factory = new RecordingMetricsFactory();
+        CheckpointMetrics.initializer().accept(factory);
+        long persisted = factory.value("kafka.checkpoint.partitions.persisted", "state-store", HIBERNATE_ORM);
+        long skipped = factory.value("kafka.checkpoint.partitions.skipped", "state-store", HIBERNATE_ORM);
+
+        await(() -> store.persistProcessingState(states(TP0, 10, TP1, 20, TP2, 30)));
+        await(() -> store.persistProcessingState(states(TP0, 11, TP1, 20, TP2, 30)));
+
+        assertEquals(persisted + 4, factory.value("kafka.checkpoint.partitions.persisted", "state-store", HIBERNATE_ORM));
+        assertEquals(skipped + 2, factory.value("kafka.checkpoint.partitions.skipped", "state-store", HIBERNATE_ORM));
+        assertEquals(1, factory.value("kafka.checkpoint.size", "state-store", HIBERNATE_ORM));
+        assertEquals(2, factory.timerCount("kafka.checkpoint.persist", "state-store", HIBERNATE_ORM));
+    }
+
+    <T> T await(Supplier<Uni<T>> uni) throws Exception {
+        // the state store runs the blocking calls from the current Vert.x context
+        CompletableFuture<T> result = new CompletableFuture<>();
+        vertx.getOrCreateContext().runOnContext(() -> uni.get().subscribe().with(result::complete,
+                result::completeExceptionally));
+        return result.get(10, TimeUnit.SECONDS);
+    }
+
+    static Map<TopicPartition, ProcessingState<?>> states(Object... partitionsAndOffsets) {
+        Map<TopicPartition, ProcessingState<?>> states = new HashMap<>();
+        for (int i = 0; i < partitionsAndOffsets.length; i += 2) {
+            TopicPartition tp = (TopicPartition) partitionsAndOffsets[i];
+            long offset = ((Number) partitionsAndOffsets[i + 1]).longValue();
+            states.put(tp, new ProcessingState<>(new TestCheckpoint(), offset));
+        }
+        return states;
+    }
+
+    static TestCheckpoint checkpoint(TopicPartition tp, long offset) {
+        TestCheckpoint checkpoint = new TestCheckpoint();
+        checkpoint.setId(new CheckpointEntityId("group", tp));
+        checkpoint.setOffset(offset);
+        return checkpoint;
+    }
+
+    public static class TestCheckpoint extends CheckpointEntity {
+    }
+}
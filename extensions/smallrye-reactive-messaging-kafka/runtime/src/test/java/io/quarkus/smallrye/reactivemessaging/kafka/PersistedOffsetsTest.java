@@ -0,0 +1,79 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+
+class PersistedOffsetsTest {
+
+    static final TopicPartition TP0 = new TopicPartition("topic", 0);
+    static final TopicPartition TP1 = new TopicPartition("topic", 1);
+    static final TopicPartition TP2 = new TopicPartition("topic", 2);
+
+    @Test
+    void newPartitionsChanged() {
+        PersistedOffsets offsets = new PersistedOffsets();
+        Map<TopicPartition, ProcessingState<?>> states = states(TP0, 10, TP1, 20);
+
+        assertEquals(states, offsets.changed(states));
+    }
+
+    @Test
+    void persistedPartitionsSkipped() {
+        PersistedOffsets offsets = new PersistedOffsets();
+        offsets.persisted(states(TP0, 10, TP1, 20));
+
+        assertTrue(offsets.changed(states(TP0, 10, TP1, 20)).isEmpty());
+
+        Map<TopicPartition, ProcessingState<?>> changed = offsets.changed(states(TP0, 11, TP1, 20));
+        assertEquals(1, changed.size());
+        assertEquals(11, changed.get(TP0).getOffset());
+    }
+
+    @Test
+    void fetchedPartitionsSkipped() {
+        PersistedOffsets offsets = new PersistedOffsets();
+        offsets.fetched(List.of(TP0, TP1, TP2), states(TP0, 10, TP1, 20));
+
+        Map<TopicPartition, ProcessingState<?>> changed = offsets.changed(states(TP0, 10, TP1, 20, TP2, 30));
+        assertEquals(Map.of(TP2, changed.get(TP2)), changed);
+    }
+
+    @Test
+    void fetchedWithoutStateForgetsTheOffset() {
+        PersistedOffsets offsets = new PersistedOffsets();
+        offsets.persisted(states(TP0, 10));
+        // the state was removed from the store
+        offsets.fetched(List.of(TP0), Map.of());
+
+        assertEquals(1, offsets.changed(states(TP0, 10)).size());
+    }
+
+    @Test
+    void emptyStatesAlwaysChanged() {
+        PersistedOffsets offsets = new PersistedOffsets();
+        Map<TopicPartition, ProcessingState<?>> states = new HashMap<>();
+        states.put(TP0, null);
+        states.put(TP1, new ProcessingState<>(null, 0));
+        offsets.persisted(states);
+
+        assertEquals(states.keySet(), offsets.changed(states).keySet());
+    }
+
+    static Map<TopicPartition, ProcessingState<?>> states(Object... partitionsAndOffsets) {
+        Map<TopicPartition, ProcessingState<?>> states = new HashMap<>();
+        for (int i = 0; i < partitionsAndOffsets.length; i += 2) {
+            long offset = ((Number) partitionsAndOffsets[i + 1]).longValue();
+            states.put((TopicPartition) partitionsAndOffsets[i], new ProcessingState<>("state-" + offset, offset));
+        }
+        return states;
+    }
+}
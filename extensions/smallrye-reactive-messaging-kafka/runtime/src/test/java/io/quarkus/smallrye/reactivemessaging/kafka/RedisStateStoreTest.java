@@ -0,0 +1,164 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import static io.quarkus.smallrye.reactivemessaging.kafka.PersistedOffsetsTest.TP0;
+import static io.quarkus.smallrye.reactivemessaging.kafka.PersistedOffsetsTest.TP1;
+import static io.quarkus.smallrye.reactivemessaging.kafka.PersistedOffsetsTest.TP2;
+import static io.quarkus.smallrye.reactivemessaging.kafka.PersistedOffsetsTest.states;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.transactions.OptimisticLockingTransactionResult;
+import io.quarkus.redis.datasource.transactions.ReactiveTransactionalRedisDataSource;
+import io.quarkus.redis.datasource.value.ReactiveTransactionalValueCommands;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.runtime.metrics.RecordingMetricsFactory;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingStateCodec;
+
+class RedisStateStoreTest {
+
+    static final String REDIS = RedisStateStore.REDIS_STATE_STORE;
+    static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    final ProcessingStateCodec codec = new DatabindProcessingStateCodec.Factory().create(String.class);
+    // the content of the Redis server
+    final Map<String, byte[]> values = new ConcurrentHashMap<>();
+    // the keys watched by each transaction
+    final List<Set<String>> transactions = new ArrayList<>();
+    // the keys written by each MSET
+    final List<Set<String>> writes = new ArrayList<>();
+
+    RedisStateStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void init() {
+        ReactiveValueCommands<String, byte[]> commands = mock(ReactiveValueCommands.class);
+        when(commands.mget(any(String[].class))).thenAnswer(invocation -> {
+            Map<String, byte[]> result = new HashMap<>();
+            for (String key : (String[]) invocation.getRawArguments()[0]) {
+                if (values.containsKey(key)) {
+                    result.put(key, values.get(key));
+                }
+            }
+            return Uni.createFrom().item(result);
+        });
+        ReactiveTransactionalValueCommands<String, byte[]> txCommands = mock(ReactiveTransactionalValueCommands.class);
+        when(txCommands.mset(any())).thenAnswer(invocation -> {
+            Map<String, byte[]> map = invocation.getArgument(0);
+            writes.add(Set.copyOf(map.keySet()));
+            values.putAll(map);
+            return Uni.createFrom().voidItem();
+        });
+        ReactiveTransactionalRedisDataSource tx = mock(ReactiveTransactionalRedisDataSource.class);
+        when(tx.value(byte[].class)).thenReturn(txCommands);
+
+        ReactiveRedisDataSource redis = mock(ReactiveRedisDataSource.class);
+        when(redis.value(byte[].class)).thenReturn(commands);
+        when(redis.withTransaction(any(Function.class), any(BiFunction.class), any(String[].class)))
+                .thenAnswer(invocation -> {
+                    Function<ReactiveRedisDataSource, Uni<Map<String, byte[]>>> preTx = invocation.getArgument(0);
+                    BiFunction<Map<String, byte[]>, ReactiveTransactionalRedisDataSource, Uni<Void>> txBlock = invocation
+                            .getArgument(1);
+                    transactions.add(Set.of((String[]) invocation.getRawArguments()[2]));
+                    OptimisticLockingTransactionResult<?> result = mock(OptimisticLockingTransactionResult.class);
+                    return preTx.apply(redis)
+                            .chain(current -> txBlock.apply(current, tx))
+                            .replaceWith(result);
+                });
+        store = new RedisStateStore(redis, "group", codec);
+    }
+
+    @Test
+    void persistsAllPartitionsWithOneCommand() {
+        store.persistProcessingState(states(TP0, 10, TP1, 20, TP2, 30)).await().atMost(TIMEOUT);
+
+        assertEquals(List.of(Set.of("group:topic:0", "group:topic:1", "group:topic:2")), transactions);
+        assertEquals(transactions, writes);
+        assertEquals(20, codec.decode(values.get("group:topic:1")).getOffset());
+    }
+
+    @Test
+    void skipsUnchangedPartitions() {
+        store.persistProcessingState(states(TP0, 10, TP1, 20, TP2, 30)).await().atMost(TIMEOUT);
+        store.persistProcessingState(states(TP0, 10, TP1, 20, TP2, 30)).await().atMost(TIMEOUT);
+        assertEquals(1, transactions.size());
+
+        store.persistProcessingState(states(TP0, 10, TP1, 21, TP2, 30)).await().atMost(TIMEOUT);
+        // only the changed key is watched and written
+        assertEquals(Set.of("group:topic:1"), transactions.get(1));
+        assertEquals(Set.of("group:topic:1"), writes.get(1));
+        assertEquals(21, codec.decode(values.get("group:topic:1")).getOffset());
+    }
+
+    @Test
+    void skipsFetchedPartitions() {
+        values.put("group:topic:0", codec.encode(new ProcessingState<>("state", 10)));
+        values.put("group:topic:1", codec.encode(new ProcessingState<>("state", 20)));
+
+        Map<TopicPartition, ProcessingState<?>> fetched = store.fetchProcessingState(List.of(TP0, TP1, TP2))
+                .await().atMost(TIMEOUT);
+        assertEquals(Set.of(TP0, TP1), fetched.keySet());
+
+        store.persistProcessingState(states(TP0, 10, TP1, 20, TP2, 30)).await().atMost(TIMEOUT);
+        assertEquals(List.of(Set.of("group:topic:2")), writes);
+    }
+
+    @Test
+    void doesNotOverwriteNewerOffset() {
+        store.persistProcessingState(states(TP0, 10, TP1, 20)).await().atMost(TIMEOUT);
+        // another consumer persisted a newer state in the meantime
+        values.put("group:topic:0", codec.encode(new ProcessingState<>("state", 15)));
+
+        store.persistProcessingState(states(TP0, 12, TP1, 21)).await().atMost(TIMEOUT);
+        assertEquals(Set.of("group:topic:1"), writes.get(1));
+        assertEquals(15, codec.decode(values.get("group:topic:0")).getOffset());
+
+        // the skipped partition is written again by the next checkpoint
+        store.persistProcessingState(states(TP0, 16, TP1, 21)).await().atMost(TIMEOUT);
+        assertEquals(Set.of("group:topic:0"), writes.get(2));
+    }
+
+    @Test
+    void recordsMetrics() {
+        RecordingMetricsFactory factory = new RecordingMetricsFactory();
+        CheckpointMetrics.initializer().accept(factory);
+        long persisted = factory.value("kafka.checkpoint.partitions.persisted", "state-store", REDIS);
+        long skipped = factory.value("kafka.checkpoint.partitions.skipped", "state-store", REDIS);
+
+        store.persistProcessingState(states(TP0, 10, TP1, 20, TP2, 30)).await().atMost(TIMEOUT);
+        store.persistProcessingState(states(TP0, 11, TP1, 20, TP2, 30)).await().atMost(TIMEOUT);
+
+        assertEquals(persisted + 4, factory.value("kafka.checkpoint.partitions.persisted", "state-store", REDIS));
+        assertEquals(skipped + 2, factory.value("kafka.checkpoint.partitions.skipped", "state-store", REDIS));
+        assertEquals(1, factory.value("kafka.checkpoint.size", "state-store", REDIS));
+        assertEquals(2, factory.timerCount("kafka.checkpoint.persist", "state-store", REDIS));
+    }
+
+    @Test
+    void closedStoreDoesNotPersist() {
+        store.close();
+
+        store.persistProcessingState(states(TP0, 10)).await().atMost(TIMEOUT);
+        assertTrue(transactions.isEmpty());
+    }
+}
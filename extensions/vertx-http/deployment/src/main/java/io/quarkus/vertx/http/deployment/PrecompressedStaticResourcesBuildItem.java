@@ -0,0 +1,23 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.List;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.quarkus.vertx.http.runtime.PrecompressedStaticResources;
+
+/**
+ * The variants of the static resources compressed at build time.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final List<PrecompressedStaticResources.Entry> entries;
+
+    public PrecompressedStaticResourcesBuildItem(List<PrecompressedStaticResources.Entry> entries) {
+        this.entries = entries;
+    }
+
+    public List<PrecompressedStaticResources.Entry> getEntries() {
+        return entries;
+    }
+
+}
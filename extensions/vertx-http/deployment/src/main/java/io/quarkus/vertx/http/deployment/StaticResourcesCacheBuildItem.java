@@ -0,0 +1,23 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.List;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.quarkus.vertx.http.runtime.StaticResourcesCache;
+
+/**
+ * The static resources loaded in memory at startup.
+ */
+public final class StaticResourcesCacheBuildItem extends SimpleBuildItem {
+
+    private final List<StaticResourcesCache.Entry> entries;
+
+    public StaticResourcesCacheBuildItem(List<StaticResourcesCache.Entry> entries) {
+        this.entries = entries;
+    }
+
+    public List<StaticResourcesCache.Entry> getEntries() {
+        return entries;
+    }
+
+}
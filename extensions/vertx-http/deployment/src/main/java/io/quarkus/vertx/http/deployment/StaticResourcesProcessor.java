@@ -2,13 +2,27 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
@@ -19,6 +33,7 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
@@ -26,14 +41,22 @@
 import io.quarkus.paths.PathVisitor;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
+import io.quarkus.vertx.http.deployment.spi.GeneratedStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
+import io.quarkus.vertx.http.runtime.PrecompressedStaticResources;
+import io.quarkus.vertx.http.runtime.StaticResourcesCache;
+import io.quarkus.vertx.http.runtime.StaticResourcesCacheConfig;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger LOG = Logger.getLogger(StaticResourcesProcessor.class);
+
     @BuildStep(onlyIf = IsDevelopment.class)
     HotDeploymentWatchedFileBuildItem indexHtmlFile() {
         String staticRoot = StaticResourcesRecorder.META_INF_RESOURCES + "/index.html";
@@ -60,13 +83,136 @@ void collectStaticResources(Capabilities capabilities,
         }
     }
 
+    @BuildStep(onlyIfNot = IsDevelopment.class)
+    void precompressStaticResources(VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            Optional<StaticResourcesBuildItem> staticResources,
+            List<GeneratedStaticResourceBuildItem> generatedStaticResources,
+            LaunchModeBuildItem launchModeBuildItem,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedStaticResources) {
+        if (staticResources.isEmpty()
+                || !httpBuildTimeConfig.precompressStaticResources()
+                || !httpBuildTimeConfig.enableCompression()
+                || httpBuildTimeConfig.compressMediaTypes().isEmpty()) {
+            return;
+        }
+        Set<String> compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes().get());
+        List<String> encodings = new ArrayList<>(2);
+        List<String> compressors = httpBuildTimeConfig.compressors().orElse(List.of());
+        if (compressors.contains("br")) {
+            if (Brotli4jLoader.isAvailable()) {
+                encodings.add("br");
+            } else {
+                LOG.warnf("Static resources are not precompressed with brotli, the native library is not available: %s",
+                        Brotli4jLoader.getUnavailabilityCause());
+            }
+        }
+        if (compressors.contains("gzip")) {
+            encodings.add("gzip");
+        }
+        if (encodings.isEmpty()) {
+            return;
+        }
+
+        StaticResourceContents contents = new StaticResourceContents(generatedStaticResources, launchModeBuildItem);
+        List<PrecompressedStaticResources.Entry> candidates = new ArrayList<>();
+        Set<String> precompressed = new HashSet<>();
+        for (String path : staticResources.get().getPaths()) {
+            String contentType = MimeMapping.getMimeTypeForFilename(path);
+            if (contentType == null || !compressMediaTypes.contains(contentType)) {
+                continue;
+            }
+            byte[] content = contents.get(path, Long.MAX_VALUE);
+            if (content == null) {
+                continue;
+            }
+            String etag = StaticResourcesCache.etag(content);
+            for (String encoding : encodings) {
+                byte[] compressed = "br".equals(encoding) ? brotli(content) : gzip(content);
+                // there is no point in serving a variant that is not smaller than the original resource
+                if (compressed.length < content.length) {
+                    String name = PrecompressedStaticResources.PRECOMPRESSED_RESOURCES + path + "."
+                            + PrecompressedStaticResources.extension(encoding);
+                    generatedResources.produce(new GeneratedResourceBuildItem(name, compressed));
+                    nativeImageResources.produce(new NativeImageResourceBuildItem(name));
+                    candidates.add(new PrecompressedStaticResources.Entry(path, encoding, etag,
+                            StaticResourcesCache.contentType(path), compressed.length, false));
+                    precompressed.add(path);
+                }
+            }
+        }
+        // the variants are kept in memory within the limits of the static resources cache, with a budget of their own
+        StaticResourcesCacheConfig cacheConfig = httpBuildTimeConfig.staticResourcesCache();
+        long maxEntrySize = cacheConfig.enabled() ? cacheConfig.maxEntrySize().asLongValue() : -1;
+        long remaining = cacheConfig.maxSize().asLongValue();
+        candidates.sort(Comparator.<PrecompressedStaticResources.Entry> comparingInt(e -> e.size)
+                .thenComparing(e -> e.path)
+                .thenComparing(e -> e.encoding));
+        List<PrecompressedStaticResources.Entry> entries = new ArrayList<>(candidates.size());
+        int cached = 0;
+        for (PrecompressedStaticResources.Entry entry : candidates) {
+            if (entry.size <= maxEntrySize && entry.size <= remaining) {
+                entry = new PrecompressedStaticResources.Entry(entry.path, entry.encoding, entry.etag, entry.contentType,
+                        entry.size, true);
+                remaining -= entry.size;
+                cached++;
+            }
+            entries.add(entry);
+        }
+        LOG.debugf("Precompressed %s static resources, caching %s of %s variants", precompressed.size(), cached,
+                entries.size());
+        precompressedStaticResources.produce(new PrecompressedStaticResourcesBuildItem(entries));
+    }
+
+    @BuildStep(onlyIfNot = IsDevelopment.class)
+    void cacheStaticResources(VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            Optional<StaticResourcesBuildItem> staticResources,
+            List<GeneratedStaticResourceBuildItem> generatedStaticResources,
+            LaunchModeBuildItem launchModeBuildItem,
+            BuildProducer<StaticResourcesCacheBuildItem> staticResourcesCache) {
+        StaticResourcesCacheConfig cacheConfig = httpBuildTimeConfig.staticResourcesCache();
+        if (staticResources.isEmpty() || !cacheConfig.enabled()) {
+            return;
+        }
+        long maxEntrySize = Math.min(cacheConfig.maxEntrySize().asLongValue(), Integer.MAX_VALUE);
+        StaticResourceContents contents = new StaticResourceContents(generatedStaticResources, launchModeBuildItem);
+        List<StaticResourcesCache.Entry> candidates = new ArrayList<>();
+        for (String path : staticResources.get().getPaths()) {
+            byte[] content = contents.get(path, maxEntrySize);
+            if (content != null) {
+                candidates.add(new StaticResourcesCache.Entry(path, StaticResourcesCache.etag(content),
+                        StaticResourcesCache.contentType(path), content.length));
+            }
+        }
+        // the smaller resources first, so that the cache holds as many resources as possible
+        candidates.sort(Comparator.<StaticResourcesCache.Entry> comparingInt(e -> e.size).thenComparing(e -> e.path));
+        long remaining = cacheConfig.maxSize().asLongValue();
+        List<StaticResourcesCache.Entry> entries = new ArrayList<>();
+        for (StaticResourcesCache.Entry entry : candidates) {
+            if (entry.size > remaining) {
+                break;
+            }
+            entries.add(entry);
+            remaining -= entry.size;
+        }
+        LOG.debugf("Caching %s of %s static resources", entries.size(), candidates.size());
+        staticResourcesCache.produce(new StaticResourcesCacheBuildItem(entries));
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedStaticResources,
+            Optional<StaticResourcesCacheBuildItem> staticResourcesCache,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(),
+                    precompressedStaticResources.map(PrecompressedStaticResourcesBuildItem::getEntries)
+                            .orElse(Collections.emptyList()),
+                    staticResourcesCache.map(StaticResourcesCacheBuildItem::getEntries)
+                            .orElse(Collections.emptyList()))));
         }
     }
 
@@ -101,6 +247,85 @@ public void nativeImageResource(Optional<StaticResourcesBuildItem> staticResourc
         }
     }
 
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] brotli(byte[] content) {
+        try {
+            return Encoder.compress(content, new Encoder.Parameters().setQuality(11));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] readAllBytes(Path file) {
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The content of the static resources served by the static resources handler.
+     */
+    private static class StaticResourceContents {
+
+        private final Map<String, Path> files = new HashMap<>();
+        private final Map<String, byte[]> generated = new HashMap<>();
+
+        StaticResourceContents(List<GeneratedStaticResourceBuildItem> generatedStaticResources,
+                LaunchModeBuildItem launchModeBuildItem) {
+            final String prefix = StaticResourcesRecorder.META_INF_RESOURCES;
+            visitRuntimeMetaInfResources(visit -> {
+                String rel = visit.getRelativePath();
+                if (rel.startsWith(prefix) && !Files.isDirectory(visit.getPath())) {
+                    files.putIfAbsent(rel.substring(prefix.length()), visit.getPath());
+                }
+            });
+            if (launchModeBuildItem.getLaunchMode().isProduction()) {
+                // generated static resources are only served by the static handler in production
+                for (GeneratedStaticResourceBuildItem resource : generatedStaticResources) {
+                    generated.put(resource.getEndpoint(),
+                            resource.isFile() ? readAllBytes(resource.getFile()) : resource.getContent());
+                }
+            }
+        }
+
+        /**
+         * @return the content of the resource, or {@code null} if the resource is unknown or larger than the given size
+         */
+        byte[] get(String path, long maxSize) {
+            byte[] content = generated.get(path);
+            if (content == null) {
+                Path file = files.get(path);
+                if (file == null) {
+                    return null;
+                }
+                try {
+                    if (Files.size(file) > maxSize) {
+                        return null;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                content = readAllBytes(file);
+            }
+            return content.length <= maxSize ? content : null;
+        }
+    }
+
     /**
      * Find all static file resources that are available from classpath.
      *
@@ -0,0 +1,50 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PrecompressedCachedStaticResourcesTest {
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.precompress-static-resources=true\n"
+                            + "quarkus.http.static-resources-cache.enabled=true\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/static-file.html"));
+
+    @Test
+    public void shouldServeCachedPrecompressedVariant() {
+        String etag = given().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Transfer-Encoding", nullValue())
+                .header("Content-Length", notNullValue())
+                .header("Content-Type", "text/html;charset=UTF-8")
+                .header("ETag", notNullValue())
+                .body(containsString("This is the title of the webpage!"))
+                .extract().header("ETag");
+
+        given().header("If-None-Match", etag)
+                .get("/static-file.html")
+                .then()
+                .statusCode(304);
+
+        // the cached variant can be written several times
+        given().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(containsString("This is the title of the webpage!"));
+    }
+}
@@ -0,0 +1,43 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PrecompressedHiddenStaticResourcesTest {
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.precompress-static-resources=true\n"
+                            + "quarkus.http.static-resources.include-hidden=false\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/static-file.html")
+                    .addAsResource("static-file.html", "META-INF/resources/.hidden-file.html")
+                    .addAsResource("static-file.html", "META-INF/resources/dir/.hidden-file.html"));
+
+    @Test
+    public void shouldServePrecompressedVariant() {
+        given().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldNotServeHiddenVariant() {
+        given().get("/.hidden-file.html")
+                .then()
+                .statusCode(404);
+        given().get("/dir/.hidden-file.html")
+                .then()
+                .statusCode(404);
+    }
+}
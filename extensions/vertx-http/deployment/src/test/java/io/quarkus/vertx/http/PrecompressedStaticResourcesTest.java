@@ -0,0 +1,106 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+
+public class PrecompressedStaticResourcesTest {
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.precompress-static-resources=true\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/static-file.html")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html")
+                    .addAsResource("static-file.html", "META-INF/resources/image.svg"));
+
+    @Test
+    public void shouldServePrecompressedVariant() {
+        String etag = given().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                // the variant is written at once, unlike a resource compressed on the fly
+                .header("Transfer-Encoding", nullValue())
+                .header("Content-Length", notNullValue())
+                .header("Content-Type", "text/html;charset=UTF-8")
+                .header("Vary", "Accept-Encoding")
+                .header("ETag", notNullValue())
+                .body(containsString("This is the title of the webpage!"))
+                .extract().header("ETag");
+
+        given().header("If-None-Match", etag)
+                .get("/static-file.html")
+                .then()
+                .statusCode(304)
+                .header("ETag", etag);
+    }
+
+    @Test
+    public void shouldDeriveVariantETagFromOriginalResource() {
+        String etag = given().get("/static-file.html").then().extract().header("ETag");
+        String originalEtag = given().header("Range", "bytes=0-4")
+                .get("/static-file.html")
+                .then()
+                .statusCode(206)
+                .extract().header("ETag");
+        assertThat(originalEtag, notNullValue());
+        assertThat(etag, is(originalEtag.substring(0, originalEtag.length() - 1) + "-gzip\""));
+    }
+
+    @Test
+    public void shouldServePrecompressedIndexPage() {
+        given().get("/")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Transfer-Encoding", nullValue())
+                .body(containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldServeHeadWithoutBody() {
+        String length = given().get("/static-file.html").then().extract().header("Content-Length");
+        given().head("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Content-Length", length);
+    }
+
+    @Test
+    public void shouldFallbackToOriginalResource() {
+        // deflate is not precompressed, the original resource is compressed on the fly
+        given().config(RestAssured.config
+                .decoderConfig(DecoderConfig.decoderConfig().with().contentDecoders(DecoderConfig.ContentDecoder.DEFLATE)))
+                .get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "deflate")
+                .header("Vary", "Accept-Encoding")
+                .body(containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldNotPrecompressSVG() {
+        given().get("/image.svg")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", is(nullValue()))
+                .header("Vary", is(nullValue()))
+                .body(containsString("This is the title of the webpage!"));
+    }
+}
@@ -0,0 +1,43 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.notNullValue;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class StaticResourcesCacheHiddenTest {
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.static-resources-cache.enabled=true\n"
+                            + "quarkus.http.static-resources.include-hidden=false\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/image.svg")
+                    .addAsResource("static-file.html", "META-INF/resources/.env")
+                    .addAsResource("static-file.html", "META-INF/resources/dir/.hidden-file.html"));
+
+    @Test
+    public void shouldServeCachedResource() {
+        RestAssured.when().get("/image.svg")
+                .then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .body(containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldNotServeHiddenResources() {
+        RestAssured.when().get("/.env")
+                .then()
+                .statusCode(404);
+        RestAssured.when().get("/dir/.hidden-file.html")
+                .then()
+                .statusCode(404);
+    }
+}
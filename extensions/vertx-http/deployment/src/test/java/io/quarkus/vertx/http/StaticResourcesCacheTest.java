@@ -0,0 +1,60 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.notNullValue;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class StaticResourcesCacheTest extends AbstractStaticResourcesTest {
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.static-resources-cache.enabled=true\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/dir/file.txt")
+                    .addAsResource("static-file.html", "META-INF/resources/l'équipe.pdf")
+                    .addAsResource("static-file.html", "META-INF/resources/static file.txt")
+                    .addAsResource("static-file.html", "META-INF/resources/static-file.html")
+                    .addAsResource("static-file.html", "META-INF/resources/.hidden-file.html")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html")
+                    .addAsResource("static-file.html", "META-INF/resources/image.svg"));
+
+    @Test
+    public void shouldServeCachedResource() {
+        String etag = RestAssured.when().get("/image.svg")
+                .then()
+                .statusCode(200)
+                .header("Content-Type", "image/svg+xml")
+                .header("Content-Length", Integer::parseInt, greaterThan(0))
+                .header("Cache-Control", "public, immutable, max-age=86400")
+                .header("ETag", notNullValue())
+                .body(containsString("This is the title of the webpage!"))
+                .extract().header("ETag");
+
+        RestAssured.given().header("If-None-Match", etag)
+                .get("/image.svg")
+                .then()
+                .statusCode(304)
+                .header("ETag", etag);
+    }
+
+    @Test
+    public void shouldServeRangeFromStaticHandler() {
+        String etag = RestAssured.when().get("/image.svg").then().extract().header("ETag");
+        RestAssured.given().header("Range", "bytes=0-4")
+                .get("/image.svg")
+                .then()
+                .statusCode(206)
+                .header("Content-Length", "5")
+                // the same ETag as the full resource
+                .header("ETag", etag);
+    }
+}
@@ -3,6 +3,7 @@
 import java.util.Optional;
 import java.util.Set;
 
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.WithDefault;
 
 public interface AccessLogConfig {
@@ -89,9 +90,54 @@ public interface AccessLogConfig {
     @WithDefault("true")
     boolean rotate();
 
+    /**
+     * If set to {@code true} then the log file is written from a pre-allocated ring buffer.
+     * <p>
+     * Each log entry is formatted and encoded directly into the ring buffer and a single writer appends all pending entries
+     * to the file at once. This reduces the garbage created per request, which matters for applications that serve a large
+     * number of requests. The size of the buffer is set by {@link #ringBufferSize()} and the behavior of a full buffer is
+     * set by {@link #overflowPolicy()}.
+     * <p>
+     * This property only applies if {@link #logToFile()} is enabled.
+     */
+    @WithDefault("false")
+    boolean ringBuffer();
+
+    /**
+     * The size of the ring buffer. The value is rounded up to the next power of two.
+     */
+    @WithDefault("1M")
+    MemorySize ringBufferSize();
+
+    /**
+     * What to do when a log entry does not fit in the ring buffer.
+     */
+    @WithDefault("drop")
+    OverflowPolicy overflowPolicy();
+
+    /**
+     * If the rotated log files should be compressed with gzip. The compression is performed by a separate task.
+     * <p>
+     * This property only applies if {@link #ringBuffer()} is enabled.
+     */
+    @WithDefault("false")
+    boolean compressRotated();
+
     /**
      * If rerouted requests should be consolidated into one log entry
      */
     @WithDefault("false")
     boolean consolidateReroutedRequests();
+
+    enum OverflowPolicy {
+        /**
+         * The log entry is dropped.
+         */
+        DROP,
+        /**
+         * The thread that logs the entry blocks until there is enough space in the buffer. Note that this may also block an
+         * event loop thread.
+         */
+        BLOCK
+    }
 }
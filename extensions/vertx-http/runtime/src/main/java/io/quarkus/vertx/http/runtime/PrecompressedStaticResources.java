@@ -0,0 +1,246 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.quarkus.runtime.annotations.RecordableConstructor;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * The static resources from {@code META-INF/resources} compressed at build time.
+ * <p>
+ * Each variant is stored under {@link #PRECOMPRESSED_RESOURCES} with the path of the original resource and the file
+ * extension of the encoding, e.g. {@code META-INF/quarkus-precompressed-resources/app.js.br}, and described by an
+ * {@link Entry} holding the metadata computed at build time. The best variant accepted by the client is written instead
+ * of compressing the resource for each request. The ETag of a variant is the ETag of the original resource, suffixed with
+ * the encoding. Requests that accept none of the variants, as well as range requests, are left to the
+ * {@link io.vertx.ext.web.handler.StaticHandler} serving the original resource.
+ * <p>
+ * The variants selected at build time within the limits of the {@link StaticResourcesCacheConfig static resources cache}
+ * are copied once to direct buffers, the other variants are sent from the application archive for each request.
+ */
+public final class PrecompressedStaticResources {
+
+    public static final String PRECOMPRESSED_RESOURCES = "META-INF/quarkus-precompressed-resources";
+
+    /**
+     * The supported encodings, in the order of preference.
+     */
+    public static final List<String> ENCODINGS = List.of("br", "gzip");
+
+    private static final Logger LOG = Logger.getLogger(PrecompressedStaticResources.class);
+
+    private static final String VARY_VALUE = "Accept-Encoding";
+
+    private final Map<String, Variant[]> variants;
+    private final Map<String, String> etags;
+    private final String cacheControl;
+
+    private PrecompressedStaticResources(Map<String, Variant[]> variants, Map<String, String> etags, String cacheControl) {
+        this.variants = variants;
+        this.etags = etags;
+        this.cacheControl = cacheControl;
+    }
+
+    static PrecompressedStaticResources load(List<Entry> entries, StaticResourcesConfig config) {
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        Map<String, Variant[]> variants = new HashMap<>();
+        Map<String, String> etags = new HashMap<>();
+        for (Entry entry : entries) {
+            int index = ENCODINGS.indexOf(entry.encoding);
+            if (index < 0 || (!config.includeHidden() && StaticResourcesCache.isHidden(entry.path))) {
+                // left to the static handler, which does not serve hidden resources
+                continue;
+            }
+            String name = PRECOMPRESSED_RESOURCES + entry.path + "." + extension(entry.encoding);
+            Buffer content = null;
+            if (entry.cached) {
+                byte[] bytes = StaticResourcesCache.read(cl, name);
+                if (bytes == null || bytes.length != entry.size) {
+                    LOG.debugf("Precompressed static resource %s is not cached, its content differs from the build time "
+                            + "content", name);
+                    continue;
+                }
+                ByteBuf buf = Unpooled.directBuffer(bytes.length, bytes.length).writeBytes(bytes);
+                content = Buffer.buffer(Unpooled.unreleasableBuffer(buf));
+            } else if (cl.getResource(name) == null) {
+                continue;
+            }
+            // indexed like ENCODINGS
+            variants.computeIfAbsent(entry.path, p -> new Variant[ENCODINGS.size()])[index] = new Variant(entry, name,
+                    content);
+            etags.put(entry.path, entry.etag);
+        }
+        String cacheControl = config.cachingEnabled() ? "public, immutable, max-age=" + config.maxAge().toSeconds() : null;
+        return new PrecompressedStaticResources(variants, etags, cacheControl);
+    }
+
+    public static String extension(String encoding) {
+        return "gzip".equals(encoding) ? "gz" : encoding;
+    }
+
+    /**
+     * @param ctx the routing context
+     * @param path the path of the resource, relative to {@code META-INF/resources}
+     * @return {@code true} if the response was written, {@code false} if the original resource should be served
+     */
+    boolean handle(RoutingContext ctx, String path) {
+        Variant[] pathVariants = variants.get(path);
+        if (pathVariants == null) {
+            return false;
+        }
+        HttpServerRequest request = ctx.request();
+        HttpServerResponse response = ctx.response();
+        // the representation depends on the Accept-Encoding header, even when the original resource is served
+        response.headers().add(HttpHeaders.VARY, VARY_VALUE);
+        HttpMethod method = request.method();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return false;
+        }
+        if (request.headers().contains(HttpHeaderNames.RANGE)) {
+            // the static handler serves the range of the original resource, with the ETag of the original resource
+            response.headers().set(HttpHeaders.ETAG, etags.get(path));
+            return false;
+        }
+        Variant variant = select(pathVariants, request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (variant == null) {
+            return false;
+        }
+        MultiMap headers = response.headers();
+        headers.set(HttpHeaders.CONTENT_ENCODING, variant.encoding);
+        headers.set(HttpHeaders.ETAG, variant.etag);
+        if (cacheControl != null) {
+            headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        if (StaticResourcesCache.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), variant.etag)) {
+            response.setStatusCode(304).end();
+            return true;
+        }
+        if (variant.contentType != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, variant.contentType);
+        }
+        if (method == HttpMethod.HEAD) {
+            headers.set(HttpHeaders.CONTENT_LENGTH, variant.contentLength);
+            response.end();
+        } else if (variant.content != null) {
+            headers.set(HttpHeaders.CONTENT_LENGTH, variant.contentLength);
+            response.end(variant.content);
+        } else {
+            // resolved like the resources served by the static handler, the content length is set by the response
+            response.sendFile(variant.name).onFailure(ctx::fail);
+        }
+        return true;
+    }
+
+    /**
+     * Selects the variant with the highest quality value, the first one in {@link #ENCODINGS} for equal values.
+     */
+    static Variant select(Variant[] pathVariants, String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return null;
+        }
+        float[] qualities = new float[pathVariants.length];
+        float wildcard = -1;
+        for (String coding : acceptEncoding.split(",")) {
+            String name = coding;
+            float quality = 1;
+            int semicolon = coding.indexOf(';');
+            if (semicolon >= 0) {
+                name = coding.substring(0, semicolon);
+                quality = quality(coding.substring(semicolon + 1));
+            }
+            name = name.trim();
+            if (name.equals("*")) {
+                wildcard = quality;
+                continue;
+            }
+            int index = ENCODINGS.indexOf(name.toLowerCase());
+            if (index >= 0) {
+                // a listed encoding is never affected by the wildcard
+                qualities[index] = quality > 0 ? quality : -1;
+            }
+        }
+        Variant selected = null;
+        float selectedQuality = 0;
+        for (int i = 0; i < pathVariants.length; i++) {
+            float quality = qualities[i] == 0 ? wildcard : qualities[i];
+            if (pathVariants[i] != null && quality > selectedQuality) {
+                selected = pathVariants[i];
+                selectedQuality = quality;
+            }
+        }
+        return selected;
+    }
+
+    private static float quality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.startsWith("q=") || trimmed.startsWith("Q=")) {
+                try {
+                    return Float.parseFloat(trimmed.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * A variant of a static resource compressed at build time.
+     */
+    public static final class Entry {
+
+        public final String path;
+        public final String encoding;
+        // the ETag of the original resource
+        public final String etag;
+        public final String contentType;
+        public final int size;
+        // whether the variant is loaded in memory at startup
+        public final boolean cached;
+
+        @RecordableConstructor
+        public Entry(String path, String encoding, String etag, String contentType, int size, boolean cached) {
+            this.path = path;
+            this.encoding = encoding;
+            this.etag = etag;
+            this.contentType = contentType;
+            this.size = size;
+            this.cached = cached;
+        }
+    }
+
+    static final class Variant {
+
+        final String encoding;
+        final String contentType;
+        final String etag;
+        final String contentLength;
+        // the name of the variant in the application archive
+        final String name;
+        // the buffer can be written several times as the underlying buffer is duplicated; null if the variant is not cached
+        final Buffer content;
+
+        Variant(Entry entry, String name, Buffer content) {
+            this.encoding = entry.encoding;
+            this.contentType = entry.contentType;
+            this.etag = StaticResourcesCache.etag(entry.etag, entry.encoding);
+            this.contentLength = String.valueOf(entry.size);
+            this.name = name;
+            this.content = content;
+        }
+    }
+}
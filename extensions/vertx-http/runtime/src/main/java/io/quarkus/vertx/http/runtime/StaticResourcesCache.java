@@ -0,0 +1,209 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.quarkus.runtime.annotations.RecordableConstructor;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * The small static resources from {@code META-INF/resources}, loaded in memory at startup.
+ * <p>
+ * The cached resources, with their ETag and content type, are selected at build time and described by {@link Entry}.
+ * Their content is copied once to direct buffers, so that a hit neither reads the application archive nor computes
+ * the metadata of the resource. Range requests, as well as the resources that are not cached, are left to the
+ * {@link io.vertx.ext.web.handler.StaticHandler}.
+ */
+public final class StaticResourcesCache {
+
+    private static final Logger LOG = Logger.getLogger(StaticResourcesCache.class);
+
+    private final Map<String, CachedResource> resources;
+    private final String cacheControl;
+    private final boolean rangeSupport;
+
+    private StaticResourcesCache(Map<String, CachedResource> resources, String cacheControl, boolean rangeSupport) {
+        this.resources = resources;
+        this.cacheControl = cacheControl;
+        this.rangeSupport = rangeSupport;
+    }
+
+    static StaticResourcesCache load(List<Entry> entries, StaticResourcesConfig config) {
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        Map<String, CachedResource> resources = new HashMap<>();
+        for (Entry entry : entries) {
+            if (!config.includeHidden() && isHidden(entry.path)) {
+                // left to the static handler, which does not serve hidden resources
+                continue;
+            }
+            byte[] content = read(cl, StaticResourcesRecorder.META_INF_RESOURCES + entry.path);
+            if (content == null || content.length != entry.size) {
+                // the resource is not the one seen at build time
+                LOG.debugf("Static resource %s is not cached, its content differs from the build time content", entry.path);
+                continue;
+            }
+            ByteBuf buf = Unpooled.directBuffer(content.length, content.length).writeBytes(content);
+            resources.put(entry.path, new CachedResource(entry, Buffer.buffer(Unpooled.unreleasableBuffer(buf))));
+        }
+        String cacheControl = config.cachingEnabled() ? "public, immutable, max-age=" + config.maxAge().toSeconds() : null;
+        return new StaticResourcesCache(resources, cacheControl, config.enableRangeSupport());
+    }
+
+    /**
+     * @param ctx the routing context
+     * @param path the path of the resource, relative to {@code META-INF/resources}
+     * @return {@code true} if the response was written, {@code false} if the resource should be served by the static
+     *         handler
+     */
+    boolean handle(RoutingContext ctx, String path) {
+        CachedResource resource = resources.get(path);
+        if (resource == null) {
+            return false;
+        }
+        HttpServerRequest request = ctx.request();
+        HttpMethod method = request.method();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return false;
+        }
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        headers.set(HttpHeaders.ETAG, resource.entry.etag);
+        if (request.headers().contains(HttpHeaderNames.RANGE)) {
+            // the static handler serves the range, with the ETag of the full resource
+            return false;
+        }
+        if (cacheControl != null) {
+            headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), resource.entry.etag)) {
+            response.setStatusCode(304).end();
+            return true;
+        }
+        if (resource.entry.contentType != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, resource.entry.contentType);
+        }
+        if (rangeSupport) {
+            headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        }
+        headers.set(HttpHeaders.CONTENT_LENGTH, resource.contentLength);
+        if (method == HttpMethod.HEAD) {
+            response.end();
+        } else {
+            response.end(resource.content);
+        }
+        return true;
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String value : ifNoneMatch.split(",")) {
+            String trimmed = value.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals("*") || trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param path the path of a static resource
+     * @return the content type of the resource, with the charset used by the static handler for text resources
+     */
+    public static String contentType(String path) {
+        String contentType = MimeMapping.getMimeTypeForFilename(path);
+        if (contentType != null && contentType.startsWith("text")) {
+            return contentType + ";charset=UTF-8";
+        }
+        return contentType;
+    }
+
+    /**
+     * @param content the content of a static resource
+     * @return a strong ETag of the content
+     */
+    public static String etag(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(content.length) + "\"";
+    }
+
+    /**
+     * @param etag the ETag of a static resource, as returned by {@link #etag(byte[])}
+     * @param encoding the content encoding of a variant of the resource
+     * @return the strong ETag of the variant
+     */
+    static String etag(String etag, String encoding) {
+        return etag.substring(0, etag.length() - 1) + "-" + encoding + "\"";
+    }
+
+    /**
+     * @param path the path of a static resource
+     * @return {@code true} if a segment of the path is hidden, i.e. starts with a dot
+     */
+    static boolean isHidden(String path) {
+        return path.startsWith(".") || path.contains("/.");
+    }
+
+    static byte[] read(ClassLoader cl, String name) {
+        try (InputStream in = cl.getResourceAsStream(name)) {
+            return in != null ? in.readAllBytes() : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A static resource selected at build time.
+     */
+    public static final class Entry {
+
+        public final String path;
+        public final String etag;
+        public final String contentType;
+        public final int size;
+
+        @RecordableConstructor
+        public Entry(String path, String etag, String contentType, int size) {
+            this.path = path;
+            this.etag = etag;
+            this.contentType = contentType;
+            this.size = size;
+        }
+    }
+
+    private static final class CachedResource {
+
+        final Entry entry;
+        // the buffer can be written several times as the underlying buffer is duplicated
+        final Buffer content;
+        final String contentLength;
+
+        CachedResource(Entry entry, Buffer content) {
+            this.entry = entry;
+            this.content = content;
+            this.contentLength = String.valueOf(entry.size);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.quarkus.vertx.http.runtime;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface StaticResourcesCacheConfig {
+
+    /**
+     * If enabled, the small static resources from {@code META-INF/resources} are loaded in memory at startup, with the
+     * ETag and the content type computed at build time, and served without reading them from the application archive.
+     * The same limits apply to the variants of the static resources compressed at build time, which are otherwise sent
+     * from the application archive.
+     * <p>
+     * The cache is not used in dev mode.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The maximum size of a static resource stored in the cache. Larger resources are served from the application
+     * archive.
+     */
+    @WithDefault("64K")
+    MemorySize maxEntrySize();
+
+    /**
+     * The maximum total size of the static resources stored in the cache, and of the precompressed variants stored in
+     * memory. The cached content is allocated outside of the heap.
+     */
+    @WithDefault("10M")
+    MemorySize maxSize();
+}
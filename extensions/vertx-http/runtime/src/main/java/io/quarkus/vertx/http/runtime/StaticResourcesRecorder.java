@@ -39,7 +39,8 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    public Consumer<Route> start(Set<String> knownPaths, List<PrecompressedStaticResources.Entry> precompressedResources,
+            List<StaticResourcesCache.Entry> cachedResources) {
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
         Set<String> compressMediaTypes;
         if (httpBuildTimeConfig.enableCompression() && httpBuildTimeConfig.compressMediaTypes().isPresent()) {
@@ -94,6 +95,10 @@ public void handle(RoutingContext ctx) {
             final String indexPage = (config.indexPage().charAt(0) == '/')
                     ? config.indexPage().substring(1)
                     : config.indexPage();
+            final PrecompressedStaticResources precompressed = precompressedResources.isEmpty() ? null
+                    : PrecompressedStaticResources.load(precompressedResources, config);
+            final StaticResourcesCache cache = cachedResources.isEmpty() ? null
+                    : StaticResourcesCache.load(cachedResources, config);
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
@@ -104,7 +109,14 @@ public void handle(RoutingContext ctx) {
                     }
                     // check effective path, otherwise the index page when path ends with '/'
                     if (knownPaths.contains(rel) || (rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)))) {
+                        String resourcePath = rel.endsWith("/") ? rel.concat(indexPage) : rel;
+                        if (precompressed != null && precompressed.handle(ctx, resourcePath)) {
+                            return;
+                        }
                         compressIfNeeded(httpBuildTimeConfig, compressMediaTypes, ctx, rel);
+                        if (cache != null && cache.handle(ctx, resourcePath)) {
+                            return;
+                        }
                         staticHandler.handle(ctx);
                     } else {
                         // make sure we don't lose the correct TCCL to Vert.x...
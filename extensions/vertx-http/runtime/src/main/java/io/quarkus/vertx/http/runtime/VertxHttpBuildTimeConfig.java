@@ -116,6 +116,22 @@ public interface VertxHttpBuildTimeConfig {
      */
     OptionalInt compressionLevel();
 
+    /**
+     * If enabled, the static resources from {@code META-INF/resources} whose media type is listed in
+     * {@link #compressMediaTypes} are compressed at build time with {@code gzip} and, if listed in {@link #compressors},
+     * with {@code br}. The best variant accepted by the client is then served as is, instead of compressing the resource
+     * for every request.
+     * <p>
+     * This has no effect in dev mode, or if the compression is not enabled with {@link #enableCompression}.
+     */
+    @WithDefault("false")
+    boolean precompressStaticResources();
+
+    /**
+     * The in-memory cache of the static resources from {@code META-INF/resources}.
+     */
+    StaticResourcesCacheConfig staticResourcesCache();
+
     /**
      * Configure Quarkus to serve static files from a local filesystem directory (outside of Java resources)
      *
@@ -99,6 +99,7 @@
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.JBossLoggingAccessLogReceiver;
+import io.quarkus.vertx.http.runtime.filters.accesslog.RingBufferAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.management.ManagementConfig;
 import io.quarkus.vertx.http.runtime.management.ManagementInterfaceBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.options.HttpServerCommonHandlers;
@@ -510,8 +511,21 @@ public void handle(RoutingContext routingContext) {
             AccessLogReceiver receiver;
             if (accessLog.logToFile()) {
                 File outputDir = accessLog.logDirectory().isPresent() ? new File(accessLog.logDirectory().get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName(), accessLog.logSuffix(),
-                        accessLog.rotate());
+                if (accessLog.ringBuffer()) {
+                    receiver = RingBufferAccessLogReceiver.builder()
+                            .setLogWriteExecutor(executor)
+                            .setOutputDirectory(outputDir.toPath())
+                            .setLogBaseName(accessLog.baseFileName())
+                            .setLogNameSuffix(accessLog.logSuffix())
+                            .setRotate(accessLog.rotate())
+                            .setCompressRotated(accessLog.compressRotated())
+                            .setBufferSize((int) Math.min(accessLog.ringBufferSize().asLongValue(), Integer.MAX_VALUE))
+                            .setBlockOnOverflow(accessLog.overflowPolicy() == AccessLogConfig.OverflowPolicy.BLOCK)
+                            .build();
+                } else {
+                    receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName(),
+                            accessLog.logSuffix(), accessLog.rotate());
+                }
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category());
             }
@@ -19,13 +19,15 @@ public CompositeExchangeAttribute(ExchangeAttribute[] attributes) {
     @Override
     public String readAttribute(RoutingContext exchange) {
         final StringBuilder sb = new StringBuilder();
+        appendAttribute(exchange, sb);
+        return sb.toString();
+    }
+
+    @Override
+    public void appendAttribute(RoutingContext exchange, StringBuilder builder) {
         for (ExchangeAttribute attribute : attributes) {
-            final String val = attribute.readAttribute(exchange);
-            if (val != null) {
-                sb.append(val);
-            }
+            attribute.appendAttribute(exchange, builder);
         }
-        return sb.toString();
     }
 
     @Override
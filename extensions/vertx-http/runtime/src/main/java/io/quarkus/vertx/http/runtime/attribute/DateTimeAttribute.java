@@ -44,6 +44,11 @@ public String readAttribute(final RoutingContext exchange) {
         return formatter.format(ZonedDateTime.now());
     }
 
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final StringBuilder builder) {
+        formatter.formatTo(ZonedDateTime.now(), builder);
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("Date time", newValue);
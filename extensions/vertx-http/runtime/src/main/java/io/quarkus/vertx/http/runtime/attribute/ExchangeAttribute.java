@@ -16,6 +16,22 @@ public interface ExchangeAttribute {
      */
     String readAttribute(final RoutingContext exchange);
 
+    /**
+     * Appends the attribute to the given builder. Nothing is appended if the attribute is not present.
+     * <p>
+     * Attributes that are read frequently, e.g. as part of the access log, may override this method in order to avoid
+     * creating an intermediate string.
+     *
+     * @param exchange The exchange
+     * @param builder The builder
+     */
+    default void appendAttribute(final RoutingContext exchange, final StringBuilder builder) {
+        String val = readAttribute(exchange);
+        if (val != null) {
+            builder.append(val);
+        }
+    }
+
     /**
      * Sets a new value for the attribute. Not all attributes are writable.
      *
@@ -26,11 +26,21 @@ private RequestLineAttribute(boolean useOriginalRequest) {
 
     @Override
     public String readAttribute(final RoutingContext exchange) {
+        if (useOriginalRequest && !OriginalRequestContext.isPresent(exchange)) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder();
+        appendAttribute(exchange, builder);
+        return builder.toString();
+    }
+
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final StringBuilder builder) {
         HttpMethod httpMethod;
         String uri;
         if (useOriginalRequest) {
             if (!OriginalRequestContext.isPresent(exchange)) {
-                return null;
+                return;
             }
             httpMethod = OriginalRequestContext.getMethod(exchange);
             uri = OriginalRequestContext.getUri(exchange);
@@ -39,7 +49,8 @@ public String readAttribute(final RoutingContext exchange) {
             uri = exchange.request().uri();
         }
 
-        return httpMethod + " " + uri + " " + RequestProtocolAttribute.getHttpVersionStr(exchange.request().version());
+        builder.append(httpMethod).append(' ').append(uri).append(' ')
+                .append(RequestProtocolAttribute.getHttpVersionStr(exchange.request().version()));
     }
 
     @Override
@@ -33,30 +33,44 @@ public String readAttribute(RoutingContext exchange) {
         if (requestStartTime == null) {
             return null;
         }
-        final long nanos;
+        StringBuilder buf = new StringBuilder();
+        appendResponseTime(responseTimeNanos(exchange, requestStartTime), buf);
+        return buf.toString();
+    }
+
+    @Override
+    public void appendAttribute(RoutingContext exchange, StringBuilder builder) {
+        Long requestStartTime = exchange.get(VertxHttpRecorder.REQUEST_START_TIME);
+        if (requestStartTime != null) {
+            appendResponseTime(responseTimeNanos(exchange, requestStartTime), builder);
+        }
+    }
+
+    private static long responseTimeNanos(RoutingContext exchange, long requestStartTime) {
         Long first = exchange.get(FIRST_RESPONSE_TIME_NANOS);
         if (first != null) {
-            nanos = first;
-        } else {
-            nanos = System.nanoTime() - requestStartTime;
-            if (exchange.response().ended()) {
-                //save the response time so it is consistent
-                exchange.put(FIRST_RESPONSE_TIME_NANOS, nanos);
-            }
+            return first;
         }
+        long nanos = System.nanoTime() - requestStartTime;
+        if (exchange.response().ended()) {
+            //save the response time so it is consistent
+            exchange.put(FIRST_RESPONSE_TIME_NANOS, nanos);
+        }
+        return nanos;
+    }
+
+    private void appendResponseTime(long nanos, StringBuilder buf) {
         if (timeUnit == TimeUnit.SECONDS) {
-            StringBuilder buf = new StringBuilder();
             long millis = TimeUnit.MILLISECONDS.convert(nanos, TimeUnit.NANOSECONDS);
-            buf.append(Long.toString(millis / 1000));
+            buf.append(millis / 1000);
             buf.append('.');
             int remains = (int) (millis % 1000);
-            buf.append(Long.toString(remains / 100));
+            buf.append(remains / 100);
             remains = remains % 100;
-            buf.append(Long.toString(remains / 10));
-            buf.append(Long.toString(remains % 10));
-            return buf.toString();
+            buf.append(remains / 10);
+            buf.append(remains % 10);
         } else {
-            return String.valueOf(timeUnit.convert(nanos, TimeUnit.NANOSECONDS));
+            buf.append(timeUnit.convert(nanos, TimeUnit.NANOSECONDS));
         }
     }
 
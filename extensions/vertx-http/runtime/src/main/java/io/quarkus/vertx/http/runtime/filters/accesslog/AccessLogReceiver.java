@@ -18,6 +18,9 @@
 
 package io.quarkus.vertx.http.runtime.filters.accesslog;
 
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.vertx.ext.web.RoutingContext;
+
 /**
  * Interface that is used by the access log handler to send data to the log file manager.
  *
@@ -29,4 +32,16 @@ public interface AccessLogReceiver {
 
     void logMessage(final String message);
 
+    /**
+     * Logs the message represented by the given attribute.
+     * <p>
+     * Implementations may override this method in order to format the message directly into their own buffers.
+     *
+     * @param exchange the exchange
+     * @param attribute the attribute that represents the whole message
+     */
+    default void logMessage(final RoutingContext exchange, final ExchangeAttribute attribute) {
+        logMessage(attribute.readAttribute(exchange));
+    }
+
 }
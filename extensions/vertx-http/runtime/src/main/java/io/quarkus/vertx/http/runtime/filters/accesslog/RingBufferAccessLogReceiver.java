@@ -0,0 +1,531 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Log receiver that formats messages directly into a pre-allocated ring buffer of bytes and stores them in a directory
+ * under the specified file name. The logs are rotated after midnight and the rotated files can be compressed.
+ * <p>
+ * Web threads format the message into a reusable per-thread {@link StringBuilder} and encode it in UTF-8 into a reusable
+ * per-thread byte array; no object is allocated per message. The message is formatted and encoded without holding the lock,
+ * the lock is only held to claim a slot of the ring buffer and copy the encoded bytes into it. A single writer task drains
+ * all pending bytes with one gathering {@link FileChannel} write. If the ring buffer is full then the message is
+ * either dropped or the web thread blocks until there is enough space, depending on the configured overflow policy.
+ * <p>
+ * The rotated files are compressed by a separate task so that the writer is not delayed.
+ */
+public class RingBufferAccessLogReceiver implements AccessLogReceiver, Runnable, Closeable {
+
+    private static final Logger log = Logger.getLogger(RingBufferAccessLogReceiver.class);
+
+    private static final String DEFAULT_LOG_SUFFIX = "log";
+    private static final String DOT = ".";
+    private static final String GZIP_SUFFIX = ".gz";
+
+    private static final int INITIAL_BUILDER_CAPACITY = 256;
+    // builders and byte arrays that grew beyond this limit are not reused
+    private static final int MAX_BUILDER_CAPACITY = 8192;
+
+    private final Executor logWriteExecutor;
+
+    private final ThreadLocal<Scratch> scratches;
+
+    private final byte[] ring;
+    private final int mask;
+    private final ReentrantLock lock;
+    private final Condition notFull;
+    // the next write position; guarded by lock
+    private long head;
+    // the next read position; guarded by lock
+    private long tail;
+    // only used by the writer task
+    private final ByteBuffer[] segments;
+
+    private final boolean blockOnOverflow;
+    private final LongAdder droppedMessages;
+
+    //0 = not running
+    //1 = queued
+    //2 = running
+    @SuppressWarnings("unused")
+    private volatile int state = 0;
+
+    private static final AtomicIntegerFieldUpdater<RingBufferAccessLogReceiver> stateUpdater = AtomicIntegerFieldUpdater
+            .newUpdater(RingBufferAccessLogReceiver.class, "state");
+
+    private long changeOverPoint;
+    private String currentDateString;
+    private volatile boolean forceLogRotation;
+
+    private final Path outputDirectory;
+    private final Path defaultLogFile;
+
+    private final String logBaseName;
+    private final String logNameSuffix; // always starts with a '.' character
+
+    private FileChannel channel;
+
+    private volatile boolean closed = false;
+    private boolean initialRun = true;
+    private final boolean rotate;
+    private final boolean compressRotated;
+
+    private RingBufferAccessLogReceiver(Builder builder) {
+        this.logWriteExecutor = builder.logWriteExecutor;
+        this.outputDirectory = builder.outputDirectory;
+        this.logBaseName = effectiveLogBaseName(builder.logBaseName);
+        this.logNameSuffix = effectiveLogNameSuffix(builder.logNameSuffix);
+        this.rotate = builder.rotate;
+        this.compressRotated = builder.compressRotated;
+        this.blockOnOverflow = builder.blockOnOverflow;
+        if (builder.bufferSize < 2) {
+            throw new IllegalArgumentException("The buffer size must be at least 2 bytes: " + builder.bufferSize);
+        }
+        // round up to the next power of two
+        int capacity = builder.bufferSize > (1 << 30) ? 1 << 30
+                : Integer.highestOneBit(builder.bufferSize - 1) << 1;
+        this.ring = new byte[capacity];
+        this.mask = capacity - 1;
+        this.segments = new ByteBuffer[] { ByteBuffer.wrap(ring), ByteBuffer.wrap(ring) };
+        this.lock = new ReentrantLock();
+        this.notFull = lock.newCondition();
+        this.droppedMessages = new LongAdder();
+        this.scratches = ThreadLocal.withInitial(Scratch::new);
+        this.defaultLogFile = outputDirectory.resolve(this.logBaseName + this.logNameSuffix);
+        calculateChangeOverPoint();
+    }
+
+    private static String effectiveLogBaseName(String logBaseName) {
+        if (logBaseName == null) {
+            return "";
+        }
+        if (!logBaseName.endsWith(DOT)) {
+            return logBaseName;
+        }
+        return logBaseName.substring(0, logBaseName.length() - 1);
+    }
+
+    private static String effectiveLogNameSuffix(String logNameSuffix) {
+        var result = (logNameSuffix != null) ? logNameSuffix : DEFAULT_LOG_SUFFIX;
+        if (result.charAt(0) != '.') {
+            return '.' + result;
+        }
+        return result;
+    }
+
+    private void calculateChangeOverPoint() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.add(Calendar.DATE, 1);
+        SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+        currentDateString = df.format(new Date());
+        // if there is an existing default log file, use the date last modified instead of the current date
+        if (Files.exists(defaultLogFile)) {
+            try {
+                currentDateString = df.format(new Date(Files.getLastModifiedTime(defaultLogFile).toMillis()));
+            } catch (IOException e) {
+                // ignore. use the current date if exception happens.
+            }
+        }
+        changeOverPoint = calendar.getTimeInMillis();
+    }
+
+    @Override
+    public void logMessage(String message) {
+        Scratch scratch = scratches.get();
+        offer(scratch, message);
+        scratch.trim();
+    }
+
+    @Override
+    public void logMessage(RoutingContext exchange, ExchangeAttribute attribute) {
+        Scratch scratch = scratches.get();
+        StringBuilder builder = scratch.builder;
+        builder.setLength(0);
+        attribute.appendAttribute(exchange, builder);
+        offer(scratch, builder);
+        scratch.trim();
+    }
+
+    /**
+     *
+     * @return the number of messages that were dropped because the buffer was full
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.sum();
+    }
+
+    private void offer(Scratch scratch, CharSequence message) {
+        // the message is encoded before the lock is taken
+        int length = encode(scratch, message);
+        if (length > ring.length) {
+            droppedMessages.increment();
+            return;
+        }
+        lock.lock();
+        try {
+            while (ring.length - (head - tail) < length) {
+                if (!blockOnOverflow || closed) {
+                    droppedMessages.increment();
+                    return;
+                }
+                scheduleWrite();
+                notFull.awaitUninterruptibly();
+            }
+            int from = (int) (head & mask);
+            int firstLength = Math.min(length, ring.length - from);
+            System.arraycopy(scratch.bytes, 0, ring, from, firstLength);
+            System.arraycopy(scratch.bytes, firstLength, ring, 0, length - firstLength);
+            head += length;
+        } finally {
+            lock.unlock();
+        }
+        scheduleWrite();
+    }
+
+    private void scheduleWrite() {
+        if (stateUpdater.get(this) == 0 && stateUpdater.compareAndSet(this, 0, 1)) {
+            logWriteExecutor.execute(this);
+        }
+    }
+
+    /**
+     * Encodes the message and the line separator in UTF-8 into the byte array of the scratch.
+     *
+     * @return the number of bytes
+     */
+    private static int encode(Scratch scratch, CharSequence value) {
+        int length = value.length();
+        // at most 3 bytes per char, a surrogate pair is encoded in 4 bytes; +1 for the line separator
+        byte[] bytes = scratch.bytes(length * 3 + 1);
+        int pos = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[pos++] = (byte) (0xc0 | (c >> 6));
+                bytes[pos++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, value.charAt(++i));
+                bytes[pos++] = (byte) (0xf0 | (cp >> 18));
+                bytes[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+                bytes[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+                bytes[pos++] = (byte) (0x80 | (cp & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate is replaced with '?'
+                bytes[pos++] = '?';
+            } else {
+                bytes[pos++] = (byte) (0xe0 | (c >> 12));
+                bytes[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                bytes[pos++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        bytes[pos++] = '\n';
+        return pos;
+    }
+
+    /**
+     * writes all pending log messages
+     */
+    @Override
+    public void run() {
+        if (!stateUpdater.compareAndSet(this, 1, 2)) {
+            return;
+        }
+        if (forceLogRotation) {
+            doRotate();
+        } else if (initialRun && Files.exists(defaultLogFile)) {
+            //if there is an existing log file check if it should be rotated
+            long lm = 0;
+            try {
+                lm = Files.getLastModifiedTime(defaultLogFile).toMillis();
+            } catch (IOException e) {
+                log.error("Error rotating access log", e);
+            }
+            Calendar c = Calendar.getInstance();
+            c.setTimeInMillis(changeOverPoint);
+            c.add(Calendar.DATE, -1);
+            if (lm <= c.getTimeInMillis()) {
+                doRotate();
+            }
+        }
+        initialRun = false;
+        try {
+            writePending();
+        } finally {
+            stateUpdater.set(this, 0);
+            //check to see if there are still more messages
+            //if so then run this again
+            if (hasPending() || forceLogRotation) {
+                scheduleWrite();
+            } else if (closed) {
+                closeChannel();
+            }
+        }
+    }
+
+    private boolean hasPending() {
+        lock.lock();
+        try {
+            return head != tail;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void writePending() {
+        long start;
+        long end;
+        lock.lock();
+        try {
+            start = tail;
+            end = head;
+        } finally {
+            lock.unlock();
+        }
+        if (start == end) {
+            return;
+        }
+        if (System.currentTimeMillis() > changeOverPoint) {
+            doRotate();
+        }
+        // the producers never touch the [start, end) range so it can be read without holding the lock
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(defaultLogFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+            }
+            int from = (int) (start & mask);
+            int length = (int) (end - start);
+            int firstLength = Math.min(length, ring.length - from);
+            ByteBuffer first = segments[0];
+            first.clear();
+            first.position(from).limit(from + firstLength);
+            ByteBuffer second = segments[1];
+            second.clear();
+            second.limit(length - firstLength);
+            while (first.hasRemaining() || second.hasRemaining()) {
+                channel.write(segments);
+            }
+        } catch (IOException e) {
+            log.error("Error writing access log", e);
+        } finally {
+            lock.lock();
+            try {
+                tail = end;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.error("Error writing access log", e);
+            }
+            channel = null;
+        }
+    }
+
+    private void doRotate() {
+        forceLogRotation = false;
+        if (!rotate) {
+            return;
+        }
+        try {
+            closeChannel();
+            if (!Files.exists(defaultLogFile)) {
+                return;
+            }
+            Path newFile = outputDirectory.resolve(logBaseName + DOT + currentDateString + logNameSuffix);
+            int count = 0;
+            while (Files.exists(newFile) || Files.exists(gzipFile(newFile))) {
+                ++count;
+                newFile = outputDirectory.resolve(logBaseName + DOT + currentDateString + "-" + count + logNameSuffix);
+            }
+            Files.move(defaultLogFile, newFile);
+            if (compressRotated) {
+                Path rotated = newFile;
+                logWriteExecutor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        compress(rotated);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        } finally {
+            calculateChangeOverPoint();
+        }
+    }
+
+    private static Path gzipFile(Path file) {
+        return file.resolveSibling(file.getFileName() + GZIP_SUFFIX);
+    }
+
+    private static void compress(Path file) {
+        Path compressed = gzipFile(file);
+        try {
+            try (InputStream in = Files.newInputStream(file);
+                    OutputStream out = new GZIPOutputStream(Files.newOutputStream(compressed))) {
+                in.transferTo(out);
+            }
+            Files.delete(file);
+        } catch (IOException e) {
+            log.error("Error compressing rotated access log " + file, e);
+            try {
+                Files.deleteIfExists(compressed);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * forces a log rotation. This rotation is performed in an async manner, you cannot rely on the rotation
+     * being performed immediately after this method returns.
+     */
+    public void rotate() {
+        forceLogRotation = true;
+        scheduleWrite();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        lock.lock();
+        try {
+            // wake up the blocked producers
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        scheduleWrite();
+    }
+
+    /**
+     * The reusable per-thread buffers of a web thread.
+     */
+    private static final class Scratch {
+        StringBuilder builder = new StringBuilder(INITIAL_BUILDER_CAPACITY);
+        byte[] bytes = new byte[INITIAL_BUILDER_CAPACITY * 3 + 1];
+
+        byte[] bytes(int capacity) {
+            if (bytes.length < capacity) {
+                bytes = new byte[capacity];
+            }
+            return bytes;
+        }
+
+        /**
+         * Drops the buffers that grew too large to be kept.
+         */
+        void trim() {
+            if (builder.capacity() > MAX_BUILDER_CAPACITY) {
+                builder = new StringBuilder(INITIAL_BUILDER_CAPACITY);
+            }
+            if (bytes.length > MAX_BUILDER_CAPACITY * 3 + 1) {
+                bytes = new byte[INITIAL_BUILDER_CAPACITY * 3 + 1];
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private Executor logWriteExecutor;
+        private Path outputDirectory;
+        private String logBaseName;
+        private String logNameSuffix;
+        private boolean rotate;
+        private boolean compressRotated;
+        private int bufferSize = 1024 * 1024;
+        private boolean blockOnOverflow;
+
+        public Builder setLogWriteExecutor(Executor logWriteExecutor) {
+            this.logWriteExecutor = logWriteExecutor;
+            return this;
+        }
+
+        public Builder setOutputDirectory(Path outputDirectory) {
+            this.outputDirectory = outputDirectory;
+            return this;
+        }
+
+        public Builder setLogBaseName(String logBaseName) {
+            this.logBaseName = logBaseName;
+            return this;
+        }
+
+        public Builder setLogNameSuffix(String logNameSuffix) {
+            this.logNameSuffix = logNameSuffix;
+            return this;
+        }
+
+        public Builder setRotate(boolean rotate) {
+            this.rotate = rotate;
+            return this;
+        }
+
+        /**
+         * @param compressRotated if set to {@code true} the rotated files are compressed with gzip
+         */
+        public Builder setCompressRotated(boolean compressRotated) {
+            this.compressRotated = compressRotated;
+            return this;
+        }
+
+        /**
+         * @param bufferSize the size of the ring buffer in bytes, rounded up to the next power of two
+         */
+        public Builder setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * @param blockOnOverflow if set to {@code true} the caller blocks if the buffer is full, otherwise the message is
+         *        dropped
+         */
+        public Builder setBlockOnOverflow(boolean blockOnOverflow) {
+            this.blockOnOverflow = blockOnOverflow;
+            return this;
+        }
+
+        public RingBufferAccessLogReceiver build() {
+            return new RingBufferAccessLogReceiver(this);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package io.quarkus.vertx.http.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.vertx.http.runtime.filters.accesslog.RingBufferAccessLogReceiver;
+
+class RingBufferAccessLogReceiverTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testWrite() throws IOException {
+        try (RingBufferAccessLogReceiver receiver = RingBufferAccessLogReceiver.builder()
+                .setLogWriteExecutor(Runnable::run)
+                .setOutputDirectory(tempDir)
+                .setLogBaseName("access")
+                .setBufferSize(64)
+                .build()) {
+            receiver.logMessage("GET /foo 200");
+            receiver.logMessage("GET /žluťoučký-kůň 404");
+            receiver.logMessage("GET /😀 200");
+            // larger than the buffer
+            receiver.logMessage("x".repeat(100));
+            // wraps around the end of the buffer
+            receiver.logMessage("GET /bar 200");
+            receiver.logMessage("GET /baz 500");
+
+            assertThat(Files.readAllLines(tempDir.resolve("access.log"), StandardCharsets.UTF_8))
+                    .containsExactly("GET /foo 200", "GET /žluťoučký-kůň 404", "GET /😀 200", "GET /bar 200",
+                            "GET /baz 500");
+            assertThat(receiver.getDroppedMessages()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testDropOnOverflow() throws IOException {
+        List<Runnable> tasks = new ArrayList<>();
+        try (RingBufferAccessLogReceiver receiver = RingBufferAccessLogReceiver.builder()
+                .setLogWriteExecutor(tasks::add)
+                .setOutputDirectory(tempDir)
+                .setLogBaseName("access")
+                .setBufferSize(32)
+                .build()) {
+            receiver.logMessage("0123456789");
+            receiver.logMessage("0123456789");
+            // does not fit - nothing was written yet
+            receiver.logMessage("0123456789");
+            assertThat(receiver.getDroppedMessages()).isEqualTo(1);
+            assertThat(tasks).hasSize(1);
+            tasks.remove(0).run();
+            receiver.logMessage("abc");
+            assertThat(receiver.getDroppedMessages()).isEqualTo(1);
+            tasks.remove(0).run();
+            assertThat(Files.readAllLines(tempDir.resolve("access.log"), StandardCharsets.UTF_8))
+                    .containsExactly("0123456789", "0123456789", "abc");
+        }
+    }
+
+    @Test
+    void testConcurrentProducers() throws Exception {
+        int threads = 4;
+        int messages = 1000;
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        ExecutorService producers = Executors.newFixedThreadPool(threads);
+        try (RingBufferAccessLogReceiver receiver = RingBufferAccessLogReceiver.builder()
+                .setLogWriteExecutor(writer)
+                .setOutputDirectory(tempDir)
+                .setLogBaseName("access")
+                .setBufferSize(256)
+                .setBlockOnOverflow(true)
+                .build()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(producers.submit(() -> {
+                    for (int i = 0; i < messages; i++) {
+                        receiver.logMessage("GET /thread-" + thread + "/ž/" + i + " 200");
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            producers.shutdown();
+            writer.shutdown();
+            assertThat(writer.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+        List<String> lines = Files.readAllLines(tempDir.resolve("access.log"), StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(threads * messages);
+        for (int t = 0; t < threads; t++) {
+            String prefix = "GET /thread-" + t + "/ž/";
+            // the messages of a thread are not interleaved and are written in order
+            assertThat(lines.stream().filter(line -> line.startsWith(prefix)))
+                    .containsExactlyElementsOf(IntStream.range(0, messages)
+                            .mapToObj(i -> prefix + i + " 200")
+                            .collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testCompressRotated() throws IOException {
+        try (RingBufferAccessLogReceiver receiver = RingBufferAccessLogReceiver.builder()
+                .setLogWriteExecutor(Runnable::run)
+                .setOutputDirectory(tempDir)
+                .setLogBaseName("access")
+                .setLogNameSuffix("txt")
+                .setRotate(true)
+                .setCompressRotated(true)
+                .build()) {
+            receiver.logMessage("Message 1");
+            receiver.rotate();
+            receiver.logMessage("Message 2");
+            receiver.rotate();
+            receiver.logMessage("Message 3");
+
+            List<Path> files;
+            try (Stream<Path> list = Files.list(tempDir)) {
+                files = list.sorted().collect(Collectors.toList());
+            }
+            assertThat(files).extracting(p -> p.getFileName().toString())
+                    .satisfiesExactly(
+                            item1 -> assertThat(item1).matches("access\\.[0-9]{4}-[0-9]{2}-[0-9]{2}-1\\.txt\\.gz"),
+                            item2 -> assertThat(item2).matches("access\\.[0-9]{4}-[0-9]{2}-[0-9]{2}\\.txt\\.gz"),
+                            item3 -> assertThat(item3).isEqualTo("access.txt"));
+            assertThat(gunzip(files.get(1))).isEqualTo("Message 1\n");
+            assertThat(gunzip(files.get(0))).isEqualTo("Message 2\n");
+            assertThat(Files.readString(files.get(2))).isEqualTo("Message 3\n");
+        }
+    }
+
+    private static String gunzip(Path file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
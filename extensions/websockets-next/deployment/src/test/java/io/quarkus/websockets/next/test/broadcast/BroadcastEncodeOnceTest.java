@@ -0,0 +1,126 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.TextMessageCodec;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocketClient;
+
+public class BroadcastEncodeOnceTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Publish.class, Item.class, ItemCodec.class);
+            });
+
+    @TestHTTPResource("publish")
+    URI publishUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testMessageEncodedOnce() throws Exception {
+        int clientsCount = 5;
+        List<WebSocketClient> clients = new CopyOnWriteArrayList<>();
+        List<String> messages = new CopyOnWriteArrayList<>();
+        CountDownLatch connectedLatch = new CountDownLatch(clientsCount);
+        CountDownLatch messagesLatch = new CountDownLatch(clientsCount);
+        try {
+            for (int i = 0; i < clientsCount; i++) {
+                WebSocketClient client = vertx.createWebSocketClient();
+                clients.add(client);
+                client.connect(publishUri.getPort(), publishUri.getHost(), publishUri.getPath())
+                        .onComplete(r -> {
+                            if (r.succeeded()) {
+                                r.result().textMessageHandler(msg -> {
+                                    messages.add(msg);
+                                    messagesLatch.countDown();
+                                });
+                                connectedLatch.countDown();
+                            } else {
+                                throw new IllegalStateException(r.cause());
+                            }
+                        });
+            }
+            assertTrue(connectedLatch.await(5, TimeUnit.SECONDS));
+            WebSocketClient publisher = vertx.createWebSocketClient();
+            clients.add(publisher);
+            publisher.connect(publishUri.getPort(), publishUri.getHost(), publishUri.getPath())
+                    .onSuccess(ws -> ws.writeTextMessage("foo"));
+            assertTrue(messagesLatch.await(5, TimeUnit.SECONDS), "Messages: " + messages);
+            for (String message : messages) {
+                assertEquals("item:foo", message);
+            }
+            assertEquals(1, ItemCodec.ENCODED.get());
+        } finally {
+            for (WebSocketClient client : clients) {
+                client.close().toCompletionStage().toCompletableFuture().get();
+            }
+        }
+    }
+
+    @WebSocket(path = "/publish")
+    public static class Publish {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        Uni<Void> publish(String name) {
+            return connection.broadcast().sendText(new Item(name));
+        }
+
+    }
+
+    public record Item(String name) {
+    }
+
+    @Singleton
+    @Priority(10)
+    public static class ItemCodec implements TextMessageCodec<Item> {
+
+        static final AtomicInteger ENCODED = new AtomicInteger();
+
+        @Override
+        public boolean supports(Type type) {
+            return type.equals(Item.class);
+        }
+
+        @Override
+        public String encode(Item value) {
+            ENCODED.incrementAndGet();
+            return "item:" + value.name();
+        }
+
+        @Override
+        public Item decode(Type type, String value) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
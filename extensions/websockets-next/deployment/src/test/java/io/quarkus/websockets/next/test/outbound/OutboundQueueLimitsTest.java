@@ -0,0 +1,108 @@
+package io.quarkus.websockets.next.test.outbound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.MessageDroppedException;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocketClient;
+import io.vertx.core.http.WebSocketClientOptions;
+
+public class OutboundQueueLimitsTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Publisher.class);
+            })
+            .overrideConfigKey("quarkus.websockets-next.server.outbound.endpoint.publisher.max-queued-messages", "2")
+            .overrideConfigKey("quarkus.websockets-next.server.outbound.endpoint.publisher.overflow-policy", "drop-newest");
+
+    @Inject
+    Vertx vertx;
+
+    @TestHTTPResource("/publisher")
+    URI publisherUri;
+
+    @Test
+    void testSlowConsumer() throws Exception {
+        WebSocketClient client = vertx.createWebSocketClient(new WebSocketClientOptions().setMaxMessageSize(1 << 21));
+        try {
+            AtomicInteger received = new AtomicInteger();
+            AtomicReference<io.vertx.core.http.WebSocket> ws = new AtomicReference<>();
+            client.connect(publisherUri.getPort(), publisherUri.getHost(), publisherUri.getPath())
+                    .onComplete(r -> {
+                        if (r.succeeded()) {
+                            r.result().textMessageHandler(m -> received.incrementAndGet());
+                            // The client does not read the messages
+                            r.result().pause();
+                            r.result().writeTextMessage("go");
+                            ws.set(r.result());
+                        } else {
+                            throw new IllegalStateException(r.cause());
+                        }
+                    });
+            Awaitility.await().atMost(Duration.ofSeconds(10))
+                    .until(() -> Publisher.SENT.get() == Publisher.MESSAGES && Publisher.DROPPED.get() > 0);
+            assertTrue(Publisher.MAX_QUEUED.get() <= 2, "Max queued messages: " + Publisher.MAX_QUEUED.get());
+
+            ws.get().resume();
+            Awaitility.await().atMost(Duration.ofSeconds(10))
+                    .until(() -> Publisher.WRITTEN.get() + Publisher.DROPPED.get() == Publisher.MESSAGES);
+            Awaitility.await().atMost(Duration.ofSeconds(10))
+                    .until(() -> received.get() == Publisher.WRITTEN.get());
+            assertEquals(0, Publisher.FAILED.get());
+        } finally {
+            client.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    @WebSocket(path = "/publisher", endpointId = "publisher")
+    public static class Publisher {
+
+        static final int MESSAGES = 100;
+
+        static final AtomicInteger SENT = new AtomicInteger();
+        static final AtomicInteger WRITTEN = new AtomicInteger();
+        static final AtomicInteger DROPPED = new AtomicInteger();
+        static final AtomicInteger FAILED = new AtomicInteger();
+        static final AtomicInteger MAX_QUEUED = new AtomicInteger();
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        void publish(String message) {
+            String payload = "x".repeat(1 << 20);
+            for (int i = 0; i < MESSAGES; i++) {
+                connection.sendText(payload).subscribe().with(v -> WRITTEN.incrementAndGet(), t -> {
+                    if (t instanceof MessageDroppedException) {
+                        DROPPED.incrementAndGet();
+                    } else {
+                        FAILED.incrementAndGet();
+                    }
+                });
+                MAX_QUEUED.accumulateAndGet(connection.queuedMessages(), Math::max);
+                SENT.incrementAndGet();
+            }
+        }
+
+    }
+
+}
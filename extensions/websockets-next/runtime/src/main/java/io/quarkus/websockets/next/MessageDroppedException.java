@@ -0,0 +1,16 @@
+package io.quarkus.websockets.next;
+
+/**
+ * Indicates that an outbound message was dropped because the outbound queue of the connection exceeded its limits.
+ *
+ * @see WebSocketConnection#queuedMessages()
+ */
+public class MessageDroppedException extends WebSocketException {
+
+    private static final long serialVersionUID = 6177169956549571704L;
+
+    public MessageDroppedException(String message) {
+        super(message);
+    }
+
+}
@@ -36,6 +36,24 @@ public interface WebSocketConnection extends Connection {
      */
     Set<WebSocketConnection> getOpenConnections();
 
+    /**
+     * A message is queued if it cannot be written immediately because the client does not read the previous messages fast
+     * enough. The queue is only used if the outbound limits are configured for the endpoint, i.e. the
+     * {@code quarkus.websockets-next.server.outbound.max-queued-messages} or
+     * {@code quarkus.websockets-next.server.outbound.max-queued-bytes} config properties are set.
+     *
+     * @return the number of outbound messages queued for this connection
+     * @see MessageDroppedException
+     */
+    int queuedMessages();
+
+    /**
+     *
+     * @return the size in bytes of the outbound messages queued for this connection
+     * @see #queuedMessages()
+     */
+    long queuedBytes();
+
     /**
      * Makes it possible to send messages to all clients connected to the same WebSocket endpoint.
      *
@@ -0,0 +1,70 @@
+package io.quarkus.websockets.next.runtime;
+
+import java.nio.charset.StandardCharsets;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.WebSocketFrame;
+import io.vertx.core.http.WebSocketFrameType;
+import io.vertx.core.http.impl.ws.WebSocketFrameImpl;
+
+/**
+ * A broadcast message encoded once and shared by all the recipients.
+ * <p>
+ * Every recipient gets its own frame that wraps the same encoded payload, so that the message is neither encoded nor
+ * copied per recipient.
+ */
+final class BroadcastMessage {
+
+    private final String text;
+
+    private final Buffer binary;
+
+    private final byte[] payload;
+
+    private BroadcastMessage(String text, Buffer binary, byte[] payload) {
+        this.text = text;
+        this.binary = binary;
+        this.payload = payload;
+    }
+
+    static BroadcastMessage text(String text) {
+        return new BroadcastMessage(text, null, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static BroadcastMessage binary(Buffer binary) {
+        return new BroadcastMessage(null, binary, binary.getBytes());
+    }
+
+    boolean isBinary() {
+        return binary != null;
+    }
+
+    /**
+     * @return the text message, or {@code null} if this is a binary message
+     */
+    String text() {
+        return text;
+    }
+
+    /**
+     * @return the binary message, or {@code null} if this is a text message
+     */
+    Buffer binary() {
+        return binary;
+    }
+
+    /**
+     * @return the encoded payload, must not be modified
+     */
+    byte[] payload() {
+        return payload;
+    }
+
+    /**
+     * @return a new final frame that wraps the shared payload
+     */
+    WebSocketFrame frame() {
+        return new WebSocketFrameImpl(isBinary() ? WebSocketFrameType.BINARY : WebSocketFrameType.TEXT, payload, true);
+    }
+
+}
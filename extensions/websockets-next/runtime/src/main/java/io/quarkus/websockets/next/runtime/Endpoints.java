@@ -237,6 +237,7 @@ public void handle(Long timerId) {
         ws.closeHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
+                connection.closeOutboundQueue();
                 if (trafficLogger != null) {
                     trafficLogger.connectionClosed(connection);
                 }
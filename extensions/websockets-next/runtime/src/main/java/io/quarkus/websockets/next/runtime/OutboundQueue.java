@@ -0,0 +1,261 @@
+package io.quarkus.websockets.next.runtime;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
+import io.quarkus.websockets.next.MessageDroppedException;
+import io.quarkus.websockets.next.runtime.config.OutboundOverflowPolicy;
+import io.quarkus.websockets.next.runtime.config.WebSocketsServerRuntimeConfig;
+import io.quarkus.websockets.next.runtime.config.WebSocketsServerRuntimeConfig.EndpointOutbound;
+import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.http.WebSocketBase;
+
+/**
+ * Bounded queue of the outbound messages of a connection.
+ * <p>
+ * A message is written immediately if no message is queued and the write queue of the WebSocket is not full. Otherwise,
+ * the message is queued and the queued messages are written in order as soon as the write queue of the WebSocket is
+ * drained. When the queue exceeds one of its limits, the configured {@link OutboundOverflowPolicy} is applied.
+ */
+final class OutboundQueue {
+
+    private static final Logger LOG = Logger.getLogger(OutboundQueue.class);
+
+    private static final String LIMITS_EXCEEDED = "Outbound queue limits exceeded";
+
+    private final WebSocketBase webSocket;
+
+    private final Limits limits;
+
+    private final SendingInterceptor sendingInterceptor;
+
+    // guarded by this
+    private final ArrayDeque<Entry> queue = new ArrayDeque<>();
+    private long queuedBytes;
+    private boolean flushing;
+    private boolean closed;
+    // the connection is closed because the limits were exceeded
+    private boolean overflowed;
+
+    OutboundQueue(WebSocketBase webSocket, Limits limits, SendingInterceptor sendingInterceptor) {
+        this.webSocket = webSocket;
+        this.limits = limits;
+        this.sendingInterceptor = sendingInterceptor;
+        webSocket.drainHandler(v -> flush());
+    }
+
+    /**
+     *
+     * @param size the size of the message in bytes
+     * @param writer writes the message to the WebSocket
+     * @return the result of the write
+     */
+    Future<Void> write(int size, Supplier<Future<Void>> writer) {
+        boolean writable = !writeQueueFull();
+        Entry entry;
+        List<Entry> dropped = null;
+        boolean close = false;
+        synchronized (this) {
+            if (overflowed) {
+                return Future.failedFuture(new MessageDroppedException(LIMITS_EXCEEDED));
+            }
+            if (closed || (writable && !flushing && queue.isEmpty())) {
+                entry = null;
+            } else {
+                entry = new Entry(size, writer);
+                if (exceedsLimits(queue.size() + 1, queuedBytes + size)) {
+                    switch (limits.policy) {
+                        case DROP_NEWEST:
+                            dropped = List.of(entry);
+                            break;
+                        case DROP_OLDEST:
+                            enqueue(entry);
+                            dropped = new ArrayList<>();
+                            while (!queue.isEmpty() && exceedsLimits(queue.size(), queuedBytes)) {
+                                dropped.add(dequeue());
+                            }
+                            break;
+                        case CONFLATE_LATEST:
+                            dropped = dequeueAll();
+                            if (exceedsLimits(1, size)) {
+                                dropped.add(entry);
+                            } else {
+                                enqueue(entry);
+                            }
+                            break;
+                        case CLOSE:
+                            dropped = dequeueAll();
+                            dropped.add(entry);
+                            overflowed = true;
+                            close = true;
+                            break;
+                        default:
+                            throw new IllegalStateException("Unsupported policy: " + limits.policy);
+                    }
+                } else {
+                    enqueue(entry);
+                }
+            }
+        }
+        if (entry == null) {
+            // The fast path
+            return writer.get();
+        }
+        if (dropped != null) {
+            drop(dropped, LIMITS_EXCEEDED);
+        }
+        if (close) {
+            LOG.debugf("Outbound queue limits exceeded, closing the WebSocket: %s", webSocket);
+            webSocket.close((short) WebSocketCloseStatus.POLICY_VIOLATION.code(), LIMITS_EXCEEDED);
+        } else if (!writeQueueFull()) {
+            // The write queue may have been drained in the meantime
+            flush();
+        }
+        return entry.promise.future();
+    }
+
+    synchronized int queuedMessages() {
+        return queue.size();
+    }
+
+    synchronized long queuedBytes() {
+        return queuedBytes;
+    }
+
+    /**
+     * Drops all the queued messages, called when the WebSocket is closed.
+     */
+    void close() {
+        List<Entry> dropped;
+        synchronized (this) {
+            closed = true;
+            dropped = dequeueAll();
+        }
+        drop(dropped, "WebSocket is closed");
+    }
+
+    private void flush() {
+        synchronized (this) {
+            if (flushing) {
+                return;
+            }
+            flushing = true;
+        }
+        for (;;) {
+            boolean writable = !writeQueueFull();
+            Entry entry;
+            synchronized (this) {
+                if (!writable || queue.isEmpty()) {
+                    flushing = false;
+                    return;
+                }
+                entry = dequeue();
+            }
+            Future<Void> write;
+            try {
+                write = entry.writer.get();
+            } catch (Throwable t) {
+                write = Future.failedFuture(t);
+            }
+            write.onComplete(entry.promise);
+        }
+    }
+
+    private boolean writeQueueFull() {
+        try {
+            return webSocket.writeQueueFull();
+        } catch (IllegalStateException e) {
+            // The WebSocket is closed, the write will fail
+            return false;
+        }
+    }
+
+    private boolean exceedsLimits(int messages, long bytes) {
+        return messages > limits.maxMessages || bytes > limits.maxBytes;
+    }
+
+    private void enqueue(Entry entry) {
+        queue.add(entry);
+        queuedBytes += entry.size;
+        if (sendingInterceptor != null) {
+            sendingInterceptor.onQueueChanged(1, entry.size);
+        }
+    }
+
+    private Entry dequeue() {
+        Entry entry = queue.poll();
+        queuedBytes -= entry.size;
+        if (sendingInterceptor != null) {
+            sendingInterceptor.onQueueChanged(-1, -entry.size);
+        }
+        return entry;
+    }
+
+    private List<Entry> dequeueAll() {
+        List<Entry> entries = new ArrayList<>(queue.size() + 1);
+        while (!queue.isEmpty()) {
+            entries.add(dequeue());
+        }
+        return entries;
+    }
+
+    private void drop(List<Entry> dropped, String reason) {
+        for (Entry entry : dropped) {
+            if (sendingInterceptor != null) {
+                sendingInterceptor.onDropped();
+            }
+            entry.promise.fail(new MessageDroppedException(reason));
+        }
+    }
+
+    private static final class Entry {
+
+        final int size;
+        final Supplier<Future<Void>> writer;
+        final Promise<Void> promise = Promise.promise();
+
+        Entry(int size, Supplier<Future<Void>> writer) {
+            this.size = size;
+            this.writer = writer;
+        }
+    }
+
+    record Limits(int maxMessages, long maxBytes, OutboundOverflowPolicy policy) {
+
+        /**
+         *
+         * @param config the outbound configuration
+         * @param endpointId the endpoint id
+         * @return the limits for the given endpoint, or {@code null} if the outbound messages of the endpoint are not limited
+         */
+        static Limits of(WebSocketsServerRuntimeConfig.Outbound config, String endpointId) {
+            EndpointOutbound endpoint = config.endpoint().get(endpointId);
+            OptionalInt maxMessages = config.maxQueuedMessages();
+            OptionalInt maxBytes = config.maxQueuedBytes();
+            OutboundOverflowPolicy policy = config.overflowPolicy();
+            if (endpoint != null) {
+                if (endpoint.maxQueuedMessages().isPresent()) {
+                    maxMessages = endpoint.maxQueuedMessages();
+                }
+                if (endpoint.maxQueuedBytes().isPresent()) {
+                    maxBytes = endpoint.maxQueuedBytes();
+                }
+                policy = endpoint.overflowPolicy().orElse(policy);
+            }
+            if (maxMessages.isEmpty() && maxBytes.isEmpty()) {
+                return null;
+            }
+            return new Limits(maxMessages.orElse(Integer.MAX_VALUE),
+                    maxBytes.isPresent() ? maxBytes.getAsInt() : Long.MAX_VALUE, policy);
+        }
+    }
+
+}
@@ -3,11 +3,13 @@
 import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import javax.net.ssl.SSLSession;
 
 import org.jboss.logging.Logger;
 
+import io.netty.buffer.ByteBufUtil;
 import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
 import io.quarkus.vertx.utils.NoBoundChecksBuffer;
 import io.quarkus.websockets.next.CloseReason;
@@ -17,6 +19,7 @@
 import io.quarkus.websockets.next.WebSocketConnection.BroadcastSender;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.http.WebSocketBase;
@@ -44,8 +47,12 @@ public abstract class WebSocketConnectionBase implements Connection {
 
     private final SendingInterceptor sendingInterceptor;
 
+    // null if the outbound messages are not limited
+    private final OutboundQueue outboundQueue;
+
     WebSocketConnectionBase(Map<String, String> pathParams, Codecs codecs, HandshakeRequest handshakeRequest,
-            TrafficLogger trafficLogger, UserData userData, SendingInterceptor sendingInterceptor) {
+            TrafficLogger trafficLogger, UserData userData, SendingInterceptor sendingInterceptor,
+            OutboundQueue outboundQueue) {
         this.identifier = UUID.randomUUID().toString();
         this.pathParams = pathParams;
         this.codecs = codecs;
@@ -54,6 +61,7 @@ public abstract class WebSocketConnectionBase implements Connection {
         this.trafficLogger = trafficLogger;
         this.userData = userData;
         this.sendingInterceptor = sendingInterceptor;
+        this.outboundQueue = outboundQueue;
     }
 
     abstract WebSocketBase webSocket();
@@ -70,7 +78,7 @@ public String pathParam(String name) {
 
     @Override
     public Uni<Void> sendText(String message) {
-        Uni<Void> uni = Uni.createFrom().completionStage(() -> webSocket().writeTextMessage(message).toCompletionStage());
+        Uni<Void> uni = Uni.createFrom().completionStage(() -> writeText(message).toCompletionStage());
         if (sendingInterceptor != null) {
             uni = uni.invoke(() -> sendingInterceptor.onSend(message));
         }
@@ -81,7 +89,7 @@ public Uni<Void> sendText(String message) {
 
     @Override
     public Uni<Void> sendBinary(Buffer message) {
-        Uni<Void> uni = Uni.createFrom().completionStage(() -> webSocket().writeBinaryMessage(message).toCompletionStage());
+        Uni<Void> uni = Uni.createFrom().completionStage(() -> writeBinary(message).toCompletionStage());
         if (sendingInterceptor != null) {
             uni = uni.invoke(() -> sendingInterceptor.onSend(message));
         }
@@ -90,17 +98,96 @@ public Uni<Void> sendBinary(Buffer message) {
 
     @Override
     public <M> Uni<Void> sendText(M message) {
-        String text;
+        return sendText(encodeText(message));
+    }
+
+    <M> String encodeText(M message) {
         // Use the same conversion rules as defined for the OnTextMessage
         if (message instanceof JsonObject || message instanceof JsonArray || message instanceof BufferImpl
                 || message instanceof NoBoundChecksBuffer) {
-            text = message.toString();
+            return message.toString();
         } else if (message.getClass().isArray() && message.getClass().arrayType().equals(byte.class)) {
-            text = Buffer.buffer((byte[]) message).toString();
+            return Buffer.buffer((byte[]) message).toString();
+        } else {
+            return codecs.textEncode(message, null);
+        }
+    }
+
+    /**
+     * Sends a message encoded by a broadcast. This method may be called from any thread, but it avoids a context switch
+     * when called on the event loop of the connection.
+     *
+     * @param message the encoded message
+     * @param maxFrameSize the maximum size of a frame, a larger message is split in several frames
+     * @return the result of the write
+     */
+    Future<Void> sendBroadcast(BroadcastMessage message, int maxFrameSize) {
+        Supplier<Future<Void>> writer;
+        if (message.payload().length > maxFrameSize) {
+            writer = message.isBinary() ? () -> webSocket().writeBinaryMessage(message.binary())
+                    : () -> webSocket().writeTextMessage(message.text());
         } else {
-            text = codecs.textEncode(message, null);
+            writer = () -> webSocket().writeFrame(message.frame());
+        }
+        Future<Void> future = outboundQueue == null ? writer.get() : outboundQueue.write(message.payload().length, writer);
+        if (sendingInterceptor == null && trafficLogger == null) {
+            return future;
+        }
+        return future.onSuccess(v -> {
+            if (sendingInterceptor != null) {
+                sendingInterceptor.onSend(message.payload());
+            }
+            if (trafficLogger != null) {
+                if (message.isBinary()) {
+                    trafficLogger.binaryMessageSent(this, message.binary());
+                } else {
+                    trafficLogger.textMessageSent(this, message.text());
+                }
+            }
+        });
+    }
+
+    SendingInterceptor sendingInterceptor() {
+        return sendingInterceptor;
+    }
+
+    private Future<Void> writeText(String message) {
+        if (outboundQueue == null) {
+            return webSocket().writeTextMessage(message);
+        }
+        return outboundQueue.write(ByteBufUtil.utf8Bytes(message), () -> webSocket().writeTextMessage(message));
+    }
+
+    private Future<Void> writeBinary(Buffer message) {
+        if (outboundQueue == null) {
+            return webSocket().writeBinaryMessage(message);
+        }
+        return outboundQueue.write(message.length(), () -> webSocket().writeBinaryMessage(message));
+    }
+
+    /**
+     *
+     * @return the number of outbound messages queued for this connection
+     */
+    public int queuedMessages() {
+        return outboundQueue == null ? 0 : outboundQueue.queuedMessages();
+    }
+
+    /**
+     *
+     * @return the size in bytes of the outbound messages queued for this connection
+     */
+    public long queuedBytes() {
+        return outboundQueue == null ? 0 : outboundQueue.queuedBytes();
+    }
+
+    /**
+     * Drops the queued outbound messages, called when the WebSocket is closed.
+     */
+    void closeOutboundQueue() {
+        if (outboundQueue != null) {
+            outboundQueue.close();
         }
-        return sendText(text);
     }
 
     @Override
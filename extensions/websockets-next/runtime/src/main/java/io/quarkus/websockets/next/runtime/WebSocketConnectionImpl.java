@@ -6,20 +6,31 @@
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
-import java.util.function.BiFunction;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import io.netty.channel.EventLoop;
 import io.quarkus.websockets.next.HandshakeRequest;
+import io.quarkus.websockets.next.MessageDroppedException;
 import io.quarkus.websockets.next.UserData;
 import io.quarkus.websockets.next.WebSocketConnection;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
+import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.core.http.WebSocketBase;
+import io.vertx.core.impl.ContextInternal;
 import io.vertx.ext.web.RoutingContext;
 
 class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSocketConnection {
@@ -36,18 +47,28 @@ class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSock
 
     private final SecuritySupport securitySupport;
 
+    // the event loop the connection is bound to, if known
+    private final EventLoop eventLoop;
+
+    private final int maxFrameSize;
+
     WebSocketConnectionImpl(String generatedEndpointClass, String endpointClass, ServerWebSocket webSocket,
             ConnectionManager connectionManager, Codecs codecs, RoutingContext ctx,
             TrafficLogger trafficLogger, UserData userData, SendingInterceptor sendingInterceptor,
-            Function<WebSocketConnectionImpl, SecuritySupport> securitySupportCreator) {
+            Function<WebSocketConnectionImpl, SecuritySupport> securitySupportCreator, int maxFrameSize,
+            OutboundQueue.Limits outboundLimits) {
         super(Map.copyOf(ctx.pathParams()), codecs, new HandshakeRequestImpl(webSocket, ctx), trafficLogger,
-                userData, sendingInterceptor);
+                userData, sendingInterceptor,
+                outboundLimits == null ? null : new OutboundQueue(webSocket, outboundLimits, sendingInterceptor));
         this.generatedEndpointClass = generatedEndpointClass;
         this.endpointId = endpointClass;
         this.webSocket = Objects.requireNonNull(webSocket);
         this.connectionManager = Objects.requireNonNull(connectionManager);
         this.defaultBroadcast = new BroadcastImpl(null);
         this.securitySupport = securitySupportCreator.apply(this);
+        Context context = Vertx.currentContext();
+        this.eventLoop = context instanceof ContextInternal ? ((ContextInternal) context).nettyEventLoop() : null;
+        this.maxFrameSize = maxFrameSize;
     }
 
     SecuritySupport securitySupport() {
@@ -181,25 +202,6 @@ static Map<String, List<String>> initHeaders(RoutingContext ctx) {
 
     private class BroadcastImpl implements WebSocketConnection.BroadcastSender {
 
-        private static final BiFunction<WebSocketConnection, String, Uni<Void>> SEND_TEXT_STR = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, String s) {
-                return c.sendText(s);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Object, Uni<Void>> SEND_TEXT_POJO = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Object o) {
-                return c.sendText(o);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Buffer, Uni<Void>> SEND_BINARY = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Buffer b) {
-                return c.sendBinary(b);
-            }
-        };
-
         private final Predicate<WebSocketConnection> filter;
 
         BroadcastImpl(Predicate<WebSocketConnection> filter) {
@@ -213,17 +215,17 @@ public BroadcastSender filter(Predicate<WebSocketConnection> predicate) {
 
         @Override
         public Uni<Void> sendText(String message) {
-            return doSend(SEND_TEXT_STR, message);
+            return doSend(BroadcastMessage::text, message);
         }
 
         @Override
         public <M> Uni<Void> sendText(M message) {
-            return doSend(SEND_TEXT_POJO, message);
+            return doSend(m -> BroadcastMessage.text(encodeText(m)), message);
         }
 
         @Override
         public Uni<Void> sendBinary(Buffer message) {
-            return doSend(SEND_BINARY, message);
+            return doSend(BroadcastMessage::binary, message);
         }
 
         @Override
@@ -236,28 +238,116 @@ public Uni<Void> sendPong(Buffer data) {
             throw new UnsupportedOperationException();
         }
 
-        private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> sendFunction, M message) {
+        private <M> Uni<Void> doSend(Function<M, BroadcastMessage> encoder, M message) {
             Set<WebSocketConnection> connections = connectionManager.getConnections(generatedEndpointClass);
             if (connections.isEmpty()) {
                 return Uni.createFrom().voidItem();
             }
-            List<Uni<Void>> unis = new ArrayList<>(connections.size());
+            // Group the recipients by event loop so that a single task writes the message to all the connections
+            // bound to the same event loop
+            Map<EventLoop, List<WebSocketConnectionImpl>> recipients = new HashMap<>();
             for (WebSocketConnection connection : connections) {
                 if (connection.isOpen()
                         && (filter == null || filter.test(connection))) {
-                    unis.add(sendFunction.apply(connection, message)
-                            // Intentionally ignore 'WebSocket is closed' failures
-                            // It might happen that the connection is closed in the mean time
-                            .onFailure(t -> Endpoints.isWebSocketIsClosedFailure(t, (WebSocketConnectionBase) connection))
-                            .recoverWithNull());
+                    WebSocketConnectionImpl c = (WebSocketConnectionImpl) connection;
+                    recipients.computeIfAbsent(c.eventLoop, k -> new ArrayList<>()).add(c);
                 }
             }
-            if (unis.isEmpty()) {
+            if (recipients.isEmpty()) {
                 return Uni.createFrom().voidItem();
             }
-            return Uni.join().all(unis).andCollectFailures().replaceWithVoid();
+            // The message is encoded once for all the recipients
+            BroadcastMessage encoded = encoder.apply(message);
+            return Uni.createFrom().emitter(e -> new Broadcast(encoded, recipients, sendingInterceptor(), e).dispatch());
+        }
+
+    }
+
+    private static class Broadcast {
+
+        private final BroadcastMessage message;
+        private final Map<EventLoop, List<WebSocketConnectionImpl>> recipients;
+        private final SendingInterceptor sendingInterceptor;
+        private final UniEmitter<? super Void> emitter;
+        private final AtomicInteger remainingGroups;
+        private final AtomicInteger recipientsCount = new AtomicInteger();
+        private final AtomicInteger slowRecipients = new AtomicInteger();
+        private final AtomicInteger droppedRecipients = new AtomicInteger();
+        private final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        private long start;
+
+        Broadcast(BroadcastMessage message, Map<EventLoop, List<WebSocketConnectionImpl>> recipients,
+                SendingInterceptor sendingInterceptor, UniEmitter<? super Void> emitter) {
+            this.message = message;
+            this.recipients = recipients;
+            this.sendingInterceptor = sendingInterceptor;
+            this.emitter = emitter;
+            this.remainingGroups = new AtomicInteger(recipients.size());
+        }
+
+        void dispatch() {
+            start = System.nanoTime();
+            for (Entry<EventLoop, List<WebSocketConnectionImpl>> e : recipients.entrySet()) {
+                EventLoop eventLoop = e.getKey();
+                List<WebSocketConnectionImpl> group = e.getValue();
+                if (eventLoop == null || eventLoop.inEventLoop()) {
+                    write(group);
+                } else {
+                    try {
+                        eventLoop.execute(() -> write(group));
+                    } catch (RejectedExecutionException ex) {
+                        // The event loop is shutting down
+                        failures.add(ex);
+                        groupCompleted();
+                    }
+                }
+            }
         }
 
+        private void write(List<WebSocketConnectionImpl> group) {
+            List<Future<Void>> writes = new ArrayList<>(group.size());
+            for (WebSocketConnectionImpl connection : group) {
+                recipientsCount.incrementAndGet();
+                Future<Void> write;
+                try {
+                    if (connection.queuedMessages() > 0 || connection.webSocket.writeQueueFull()) {
+                        slowRecipients.incrementAndGet();
+                    }
+                    write = connection.sendBroadcast(message, connection.maxFrameSize);
+                } catch (Throwable t) {
+                    write = Future.failedFuture(t);
+                }
+                writes.add(write.recover(t -> {
+                    // Intentionally ignore 'WebSocket is closed' failures
+                    // It might happen that the connection is closed in the mean time
+                    // A message dropped by the outbound queue of a slow recipient is not a failure either
+                    if (t instanceof MessageDroppedException || Endpoints.isWebSocketIsClosedFailure(t, connection)) {
+                        droppedRecipients.incrementAndGet();
+                        return Future.succeededFuture();
+                    }
+                    failures.add(t);
+                    return Future.failedFuture(t);
+                }));
+            }
+            Future.join(writes).onComplete(r -> groupCompleted());
+        }
+
+        private void groupCompleted() {
+            if (remainingGroups.decrementAndGet() > 0) {
+                return;
+            }
+            if (sendingInterceptor != null) {
+                sendingInterceptor.onBroadcast(recipientsCount.get(), slowRecipients.get(), droppedRecipients.get(),
+                        System.nanoTime() - start);
+            }
+            if (failures.isEmpty()) {
+                emitter.complete(null);
+            } else if (failures.size() == 1) {
+                emitter.fail(failures.peek());
+            } else {
+                emitter.fail(new CompositeException(List.copyOf(failures)));
+            }
+        }
     }
 
 }
@@ -56,6 +56,7 @@
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.ext.web.RoutingContext;
 
@@ -94,6 +95,9 @@ public Handler<RoutingContext> createEndpointHandler(String generatedEndpointCla
         HttpUpgradeCheck[] httpUpgradeChecks = getHttpUpgradeChecks(endpointId, container);
         TrafficLogger trafficLogger = TrafficLogger.forServer(runtimeConfig.getValue());
         WebSocketTelemetryProvider telemetryProvider = container.instance(WebSocketTelemetryProvider.class).orElse(null);
+        int maxFrameSize = runtimeConfig.getValue().maxFrameSize()
+                .orElse(HttpServerOptions.DEFAULT_MAX_WEBSOCKET_FRAME_SIZE);
+        OutboundQueue.Limits outboundLimits = OutboundQueue.Limits.of(runtimeConfig.getValue().outbound(), endpointId);
         return new Handler<RoutingContext>() {
 
             @Override
@@ -144,7 +148,7 @@ public void handle(Throwable throwable) {
                             : telemetrySupport.getSendingInterceptor();
                     WebSocketConnectionImpl connection = new WebSocketConnectionImpl(generatedEndpointClass, endpointId, ws,
                             connectionManager, codecs, ctx, trafficLogger, userData, sendingInterceptor,
-                            getSecuritySupportCreator(container, ctx));
+                            getSecuritySupportCreator(container, ctx), maxFrameSize, outboundLimits);
                     connectionManager.add(generatedEndpointClass, connection);
                     if (trafficLogger != null) {
                         trafficLogger.connectionOpened(connection);
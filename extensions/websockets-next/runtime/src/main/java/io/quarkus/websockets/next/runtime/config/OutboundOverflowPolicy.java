@@ -0,0 +1,24 @@
+package io.quarkus.websockets.next.runtime.config;
+
+/**
+ * The policy applied when the outbound queue of a connection exceeds its limits.
+ */
+public enum OutboundOverflowPolicy {
+    /**
+     * Drop the oldest queued messages until the new message fits in the queue.
+     */
+    DROP_OLDEST,
+    /**
+     * Drop the new message.
+     */
+    DROP_NEWEST,
+    /**
+     * Drop all the queued messages and keep the new message only.
+     */
+    CONFLATE_LATEST,
+    /**
+     * Drop all the queued messages and close the connection.
+     */
+    CLOSE;
+
+}
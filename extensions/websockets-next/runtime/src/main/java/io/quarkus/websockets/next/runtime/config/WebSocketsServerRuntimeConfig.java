@@ -2,9 +2,11 @@
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -61,6 +63,11 @@ public interface WebSocketsServerRuntimeConfig {
     @WithDefault("log-and-close")
     UnhandledFailureStrategy unhandledFailureStrategy();
 
+    /**
+     * Outbound backpressure configuration.
+     */
+    Outbound outbound();
+
     /**
      * WebSockets-specific security configuration.
      */
@@ -93,6 +100,59 @@ interface Security {
 
     }
 
+    interface Outbound {
+
+        /**
+         * The maximum number of outbound messages queued for a connection.
+         * <p>
+         * A message is queued if it cannot be written immediately because the client does not read the previous messages
+         * fast enough. By default, the number of queued messages is not limited.
+         */
+        OptionalInt maxQueuedMessages();
+
+        /**
+         * The maximum size in bytes of the outbound messages queued for a connection.
+         * <p>
+         * A message is queued if it cannot be written immediately because the client does not read the previous messages
+         * fast enough. By default, the size of the queued messages is not limited.
+         */
+        OptionalInt maxQueuedBytes();
+
+        /**
+         * The policy applied when the outbound queue of a connection exceeds one of its limits.
+         */
+        @WithDefault("close")
+        OutboundOverflowPolicy overflowPolicy();
+
+        /**
+         * Endpoint-specific outbound configuration, the key is the endpoint id.
+         * <p>
+         * A property that is not set for an endpoint defaults to the corresponding global property.
+         */
+        @ConfigDocMapKey("endpoint-id")
+        Map<String, EndpointOutbound> endpoint();
+
+    }
+
+    interface EndpointOutbound {
+
+        /**
+         * The maximum number of outbound messages queued for a connection to the endpoint.
+         */
+        OptionalInt maxQueuedMessages();
+
+        /**
+         * The maximum size in bytes of the outbound messages queued for a connection to the endpoint.
+         */
+        OptionalInt maxQueuedBytes();
+
+        /**
+         * The policy applied when the outbound queue of a connection to the endpoint exceeds one of its limits.
+         */
+        Optional<OutboundOverflowPolicy> overflowPolicy();
+
+    }
+
     interface DevMode {
 
         /**
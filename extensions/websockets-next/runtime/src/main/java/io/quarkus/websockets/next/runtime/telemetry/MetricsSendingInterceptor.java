@@ -24,4 +24,24 @@ public void onSend(String text) {
     public void onSend(Buffer message) {
         interceptor.onMessageSent(message.getBytes(), path);
     }
+
+    @Override
+    public void onSend(byte[] encodedMessage) {
+        interceptor.onMessageSent(encodedMessage, path);
+    }
+
+    @Override
+    public void onBroadcast(int recipients, int slowRecipients, int droppedRecipients, long durationNanos) {
+        interceptor.onBroadcast(path, recipients, slowRecipients, droppedRecipients, durationNanos);
+    }
+
+    @Override
+    public void onQueueChanged(int messagesDelta, long bytesDelta) {
+        interceptor.onOutboundQueueChanged(path, messagesDelta, bytesDelta);
+    }
+
+    @Override
+    public void onDropped() {
+        interceptor.onMessageDropped(path);
+    }
 }
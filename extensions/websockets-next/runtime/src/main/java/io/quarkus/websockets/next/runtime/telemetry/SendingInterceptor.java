@@ -24,4 +24,36 @@ public sealed interface SendingInterceptor permits MetricsSendingInterceptor {
      */
     void onSend(Buffer binaryMessage);
 
+    /**
+     * Intercept text and binary messages sent to a recipient of a broadcast. The message was encoded once for all the
+     * recipients.
+     *
+     * @param encodedMessage sent message, must not be modified
+     */
+    void onSend(byte[] encodedMessage);
+
+    /**
+     * Intercept completed broadcasts, corresponds to the
+     * {@link io.quarkus.websockets.next.WebSocketConnection.BroadcastSender} methods.
+     *
+     * @param recipients number of connections the message was sent to
+     * @param slowRecipients number of recipients whose write queue was full when the message was sent
+     * @param droppedRecipients number of recipients closed before the message could be written
+     * @param durationNanos time elapsed between the dispatch of the message and the completion of the last write
+     */
+    void onBroadcast(int recipients, int slowRecipients, int droppedRecipients, long durationNanos);
+
+    /**
+     * Intercept changes of the outbound queue of a connection.
+     *
+     * @param messagesDelta the change of the number of queued messages
+     * @param bytesDelta the change of the size in bytes of the queued messages
+     */
+    void onQueueChanged(int messagesDelta, long bytesDelta);
+
+    /**
+     * Intercept messages dropped by the outbound queue of a connection.
+     */
+    void onDropped();
+
 }
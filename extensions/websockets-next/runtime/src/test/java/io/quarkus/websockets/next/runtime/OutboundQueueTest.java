@@ -0,0 +1,277 @@
+package io.quarkus.websockets.next.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.websockets.next.MessageDroppedException;
+import io.quarkus.websockets.next.runtime.config.OutboundOverflowPolicy;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.http.WebSocketBase;
+
+public class OutboundQueueTest {
+
+    private final List<String> written = new ArrayList<>();
+
+    private boolean writeQueueFull;
+    private Handler<Void> drainHandler;
+    private Short closeStatus;
+    private String closeReason;
+    private WebSocketBase webSocket;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void init() {
+        webSocket = (WebSocketBase) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { WebSocketBase.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "writeQueueFull":
+                            return writeQueueFull;
+                        case "drainHandler":
+                            drainHandler = (Handler<Void>) args[0];
+                            return proxy;
+                        case "close":
+                            closeStatus = (Short) args[0];
+                            closeReason = (String) args[1];
+                            return Future.succeededFuture();
+                        case "toString":
+                            return "stub";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    @Test
+    public void testWriteImmediately() {
+        OutboundQueue queue = queue(2, Long.MAX_VALUE, OutboundOverflowPolicy.CLOSE);
+
+        Future<Void> write = queue.write(5, writer("a"));
+        assertTrue(write.succeeded());
+        assertEquals(List.of("a"), written);
+        assertEquals(0, queue.queuedMessages());
+    }
+
+    @Test
+    public void testQueueUntilDrained() {
+        OutboundQueue queue = queue(10, Long.MAX_VALUE, OutboundOverflowPolicy.CLOSE);
+
+        writeQueueFull = true;
+        Future<Void> a = queue.write(5, writer("a"));
+        Future<Void> b = queue.write(3, writer("b"));
+        assertEquals(List.of(), written);
+        assertEquals(2, queue.queuedMessages());
+        assertEquals(8, queue.queuedBytes());
+
+        writeQueueFull = false;
+        // a message sent while messages are queued is queued too, to keep the order
+        Future<Void> c = queue.write(1, writer("c"));
+        assertEquals(List.of("a", "b", "c"), written);
+        assertTrue(a.succeeded());
+        assertTrue(b.succeeded());
+        assertTrue(c.succeeded());
+        assertEquals(0, queue.queuedMessages());
+        assertEquals(0, queue.queuedBytes());
+    }
+
+    @Test
+    public void testFlushOnDrain() {
+        OutboundQueue queue = queue(10, Long.MAX_VALUE, OutboundOverflowPolicy.CLOSE);
+
+        writeQueueFull = true;
+        Future<Void> a = queue.write(5, writer("a"));
+        Future<Void> b = queue.write(5, writer("b"));
+        writeQueueFull = false;
+        drainHandler.handle(null);
+
+        assertEquals(List.of("a", "b"), written);
+        assertTrue(a.succeeded());
+        assertTrue(b.succeeded());
+    }
+
+    @Test
+    public void testStopFlushingWhenFullAgain() {
+        OutboundQueue queue = queue(10, Long.MAX_VALUE, OutboundOverflowPolicy.CLOSE);
+
+        writeQueueFull = true;
+        queue.write(5, writer("a"));
+        Future<Void> b = queue.write(5, () -> {
+            written.add("b");
+            // the write queue is full again
+            writeQueueFull = true;
+            return Future.succeededFuture();
+        });
+        Future<Void> c = queue.write(5, writer("c"));
+        writeQueueFull = false;
+        drainHandler.handle(null);
+        assertEquals(List.of("a", "b"), written);
+        assertTrue(b.succeeded());
+        assertFalse(c.isComplete());
+
+        writeQueueFull = false;
+        drainHandler.handle(null);
+        assertEquals(List.of("a", "b", "c"), written);
+        assertTrue(c.succeeded());
+    }
+
+    @Test
+    public void testDropNewest() {
+        OutboundQueue queue = queue(2, Long.MAX_VALUE, OutboundOverflowPolicy.DROP_NEWEST);
+
+        writeQueueFull = true;
+        Future<Void> a = queue.write(1, writer("a"));
+        Future<Void> b = queue.write(1, writer("b"));
+        Future<Void> c = queue.write(1, writer("c"));
+        assertDropped(c);
+        assertEquals(2, queue.queuedMessages());
+
+        writeQueueFull = false;
+        drainHandler.handle(null);
+        assertEquals(List.of("a", "b"), written);
+        assertTrue(a.succeeded());
+        assertTrue(b.succeeded());
+        assertNull(closeStatus);
+    }
+
+    @Test
+    public void testDropOldest() {
+        OutboundQueue queue = queue(2, Long.MAX_VALUE, OutboundOverflowPolicy.DROP_OLDEST);
+
+        writeQueueFull = true;
+        Future<Void> a = queue.write(1, writer("a"));
+        Future<Void> b = queue.write(1, writer("b"));
+        Future<Void> c = queue.write(1, writer("c"));
+        assertDropped(a);
+        assertEquals(2, queue.queuedMessages());
+
+        writeQueueFull = false;
+        drainHandler.handle(null);
+        assertEquals(List.of("b", "c"), written);
+        assertTrue(b.succeeded());
+        assertTrue(c.succeeded());
+        assertNull(closeStatus);
+    }
+
+    @Test
+    public void testDropOldestUntilTheBytesFit() {
+        OutboundQueue queue = queue(10, 10, OutboundOverflowPolicy.DROP_OLDEST);
+
+        writeQueueFull = true;
+        Future<Void> a = queue.write(4, writer("a"));
+        Future<Void> b = queue.write(4, writer("b"));
+        Future<Void> c = queue.write(8, writer("c"));
+        assertDropped(a);
+        assertDropped(b);
+        assertEquals(1, queue.queuedMessages());
+        assertEquals(8, queue.queuedBytes());
+
+        writeQueueFull = false;
+        drainHandler.handle(null);
+        assertEquals(List.of("c"), written);
+        assertTrue(c.succeeded());
+    }
+
+    @Test
+    public void testConflateLatest() {
+        OutboundQueue queue = queue(2, 10, OutboundOverflowPolicy.CONFLATE_LATEST);
+
+        writeQueueFull = true;
+        Future<Void> a = queue.write(1, writer("a"));
+        Future<Void> b = queue.write(1, writer("b"));
+        Future<Void> c = queue.write(1, writer("c"));
+        assertDropped(a);
+        assertDropped(b);
+        assertEquals(1, queue.queuedMessages());
+
+        // a message larger than the limit is dropped along with the queued messages
+        Future<Void> d = queue.write(11, writer("d"));
+        assertDropped(c);
+        assertDropped(d);
+        assertEquals(0, queue.queuedMessages());
+
+        Future<Void> e = queue.write(5, writer("e"));
+        Future<Void> f = queue.write(5, writer("f"));
+        assertEquals(2, queue.queuedMessages());
+        assertEquals(10, queue.queuedBytes());
+
+        writeQueueFull = false;
+        drainHandler.handle(null);
+        assertEquals(List.of("e", "f"), written);
+        assertTrue(e.succeeded());
+        assertTrue(f.succeeded());
+        assertNull(closeStatus);
+    }
+
+    @Test
+    public void testClose() {
+        OutboundQueue queue = queue(2, Long.MAX_VALUE, OutboundOverflowPolicy.CLOSE);
+
+        writeQueueFull = true;
+        Future<Void> a = queue.write(1, writer("a"));
+        Future<Void> b = queue.write(1, writer("b"));
+        Future<Void> c = queue.write(1, writer("c"));
+        assertDropped(a);
+        assertDropped(b);
+        assertDropped(c);
+        assertEquals(0, queue.queuedMessages());
+        // 1008 - policy violation
+        assertEquals((short) 1008, closeStatus);
+        assertEquals("Outbound queue limits exceeded", closeReason);
+
+        // the messages sent once the limits were exceeded are dropped too
+        writeQueueFull = false;
+        assertDropped(queue.write(1, writer("d")));
+        drainHandler.handle(null);
+        assertEquals(List.of(), written);
+    }
+
+    @Test
+    public void testWebSocketClosed() {
+        OutboundQueue queue = queue(10, Long.MAX_VALUE, OutboundOverflowPolicy.CLOSE);
+
+        writeQueueFull = true;
+        Future<Void> a = queue.write(1, writer("a"));
+        Future<Void> b = queue.write(1, writer("b"));
+        queue.close();
+        assertTrue(a.failed());
+        assertInstanceOf(MessageDroppedException.class, a.cause());
+        assertEquals("WebSocket is closed", a.cause().getMessage());
+        assertTrue(b.failed());
+        assertEquals(0, queue.queuedMessages());
+        assertEquals(0, queue.queuedBytes());
+
+        // the message is not queued, the write fails on its own
+        queue.write(1, writer("c"));
+        assertEquals(List.of("c"), written);
+        assertNull(closeStatus);
+    }
+
+    private OutboundQueue queue(int maxMessages, long maxBytes, OutboundOverflowPolicy policy) {
+        return new OutboundQueue(webSocket, new OutboundQueue.Limits(maxMessages, maxBytes, policy), null);
+    }
+
+    private Supplier<Future<Void>> writer(String message) {
+        return () -> {
+            written.add(message);
+            return Future.succeededFuture();
+        };
+    }
+
+    private static void assertDropped(Future<Void> write) {
+        assertTrue(write.failed());
+        assertInstanceOf(MessageDroppedException.class, write.cause());
+        assertEquals("Outbound queue limits exceeded", write.cause().getMessage());
+    }
+
+}
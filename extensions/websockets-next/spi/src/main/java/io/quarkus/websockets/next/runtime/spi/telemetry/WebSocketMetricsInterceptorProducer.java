@@ -65,5 +65,41 @@ interface WebSocketMetricsInterceptor {
          */
         void onConnectionClosed(String route);
 
+        /**
+         * Called when a broadcast completed, that is when the message was written to all the recipients.
+         * A recipient is slow if its write queue was full when the message was sent. A recipient is dropped if it was
+         * closed before the message could be written.
+         *
+         * @param route endpoint route
+         * @param recipients number of connections the message was sent to
+         * @param slowRecipients number of slow recipients
+         * @param droppedRecipients number of dropped recipients
+         * @param durationNanos fan-out latency, i.e. time elapsed between the dispatch of the message and the completion
+         *        of the last write
+         */
+        default void onBroadcast(String route, int recipients, int slowRecipients, int droppedRecipients,
+                long durationNanos) {
+        }
+
+        /**
+         * Called when the outbound queue of a connection changed, that is when an outbound message is queued because the
+         * client does not read fast enough or when a queued message is written or dropped.
+         *
+         * @param route endpoint route
+         * @param messagesDelta the change of the number of queued messages
+         * @param bytesDelta the change of the size in bytes of the queued messages
+         */
+        default void onOutboundQueueChanged(String route, int messagesDelta, long bytesDelta) {
+        }
+
+        /**
+         * Called when an outbound message is dropped because the outbound queue of a connection exceeded its limits or
+         * because the connection was closed before the message could be written.
+         *
+         * @param route endpoint route
+         */
+        default void onMessageDropped(String route) {
+        }
+
     }
 }
@@ -18,6 +18,7 @@
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -86,7 +87,7 @@ public static Builder builder() {
     private final boolean generateSources;
     private final boolean allowMocking;
     private final boolean transformUnproxyableClasses;
-    private final Predicate<BeanDeployment> optimizeContexts;
+    private final BiPredicate<BeanDeployment, DotName> optimizeContexts;
     private final List<Function<BeanInfo, Consumer<BlockCreator>>> suppressConditionGenerators;
 
     // This predicate is used to filter annotations for InjectionPoint metadata
@@ -206,7 +207,15 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
 
         ReflectionRegistration refReg = reflectionRegistration != null ? reflectionRegistration : this.reflectionRegistration;
         PrivateMembersCollector privateMembers = new PrivateMembersCollector();
-        boolean optimizeContextsValue = optimizeContexts != null ? optimizeContexts.test(beanDeployment) : false;
+        // The built-in scopes for which the context instances are generated
+        List<DotName> optimizedScopes = new ArrayList<>(2);
+        if (optimizeContexts != null) {
+            for (DotName scope : List.of(BuiltinScope.APPLICATION.getName(), BuiltinScope.REQUEST.getName())) {
+                if (optimizeContexts.test(beanDeployment, scope)) {
+                    optimizedScopes.add(scope);
+                }
+            }
+        }
 
         // These maps are precomputed and then used in the ComponentsProviderGenerator which is generated first
         Map<BeanInfo, String> beanToGeneratedName = new HashMap<>();
@@ -259,9 +268,8 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
 
         ContextInstancesGenerator contextInstancesGenerator = new ContextInstancesGenerator(generateSources,
                 refReg, beanDeployment, scopeToGeneratedName);
-        if (optimizeContextsValue) {
-            contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.APPLICATION.getName());
-            contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.REQUEST.getName());
+        for (DotName scope : optimizedScopes) {
+            contextInstancesGenerator.precomputeGeneratedName(scope);
         }
 
         InvokerGenerator invokerGenerator = new InvokerGenerator(generateSources,
@@ -422,15 +430,16 @@ public Collection<Resource> call() throws Exception {
                 }));
             }
 
-            if (optimizeContextsValue) {
+            if (!optimizedScopes.isEmpty()) {
                 // Generate _ContextInstances
                 primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
 
                     @Override
                     public Collection<Resource> call() throws Exception {
                         Collection<Resource> resources = new ArrayList<>();
-                        resources.addAll(contextInstancesGenerator.generate(BuiltinScope.APPLICATION.getName()));
-                        resources.addAll(contextInstancesGenerator.generate(BuiltinScope.REQUEST.getName()));
+                        for (DotName scope : optimizedScopes) {
+                            resources.addAll(contextInstancesGenerator.generate(scope));
+                        }
                         return resources;
                     }
                 }));
@@ -524,10 +533,9 @@ public Collection<Resource> call() throws Exception {
                             observerToGeneratedName,
                             scopeToGeneratedName));
 
-            if (optimizeContextsValue) {
-                // Generate _ContextInstances
-                resources.addAll(contextInstancesGenerator.generate(BuiltinScope.APPLICATION.getName()));
-                resources.addAll(contextInstancesGenerator.generate(BuiltinScope.REQUEST.getName()));
+            // Generate _ContextInstances
+            for (DotName scope : optimizedScopes) {
+                resources.addAll(contextInstancesGenerator.generate(scope));
             }
         }
 
@@ -643,7 +651,7 @@ public static class Builder {
         boolean failOnInterceptedPrivateMethod;
         boolean allowMocking;
         boolean strictCompatibility;
-        Predicate<BeanDeployment> optimizeContexts;
+        BiPredicate<BeanDeployment, DotName> optimizeContexts;
 
         AlternativePriorities alternativePriorities;
         final List<Predicate<ClassInfo>> excludeTypes;
@@ -944,6 +952,22 @@ public boolean test(BeanDeployment t) {
          * @return self
          */
         public Builder setOptimizeContexts(Predicate<BeanDeployment> fun) {
+            return setOptimizeContexts(new BiPredicate<BeanDeployment, DotName>() {
+                @Override
+                public boolean test(BeanDeployment deployment, DotName scope) {
+                    return fun.test(deployment);
+                }
+            });
+        }
+
+        /**
+         * The function is tested for each built-in scope whose context can be optimized, i.e. {@code @ApplicationScoped}
+         * and {@code @RequestScoped}. The context instances of a scope are generated if the function returns {@code true}.
+         *
+         * @param fun
+         * @return self
+         */
+        public Builder setOptimizeContexts(BiPredicate<BeanDeployment, DotName> fun) {
             this.optimizeContexts = fun;
             return this;
         }
@@ -27,6 +27,13 @@ public abstract class CurrentManagedContext implements ManagedContext {
 
     private static final Logger LOG = Logger.getLogger(CurrentManagedContext.class);
 
+    private static final Consumer<ContextInstanceHandle<?>> DESTROY_HANDLE = new Consumer<>() {
+        @Override
+        public void accept(ContextInstanceHandle<?> contextInstanceHandle) {
+            contextInstanceHandle.destroy();
+        }
+    };
+
     private final CurrentContext<CurrentContextState> currentContext;
 
     private final Supplier<ContextInstances> contextInstances;
@@ -181,12 +188,7 @@ public void destroy(ContextState state) {
                 fireIfNotNull(beforeDestroyedNotifier);
             }
             if (currentState.invalidate()) {
-                currentState.contextInstances.removeEach(new Consumer<>() {
-                    @Override
-                    public void accept(ContextInstanceHandle<?> contextInstanceHandle) {
-                        contextInstanceHandle.destroy();
-                    }
-                });
+                currentState.contextInstances.removeEach(DESTROY_HANDLE);
                 fireIfNotNull(destroyedNotifier);
             }
         } else {
@@ -14,6 +14,7 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -37,6 +38,7 @@
 import io.quarkus.arc.processor.AlternativePriorities;
 import io.quarkus.arc.processor.AnnotationsTransformer;
 import io.quarkus.arc.processor.BeanArchives;
+import io.quarkus.arc.processor.BeanDeployment;
 import io.quarkus.arc.processor.BeanDeploymentValidator;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.arc.processor.BeanProcessor;
@@ -94,7 +96,7 @@ public static class Builder {
         private AlternativePriorities alternativePriorities;
         private final List<BuildCompatibleExtension> buildCompatibleExtensions;
         private boolean strictCompatibility = false;
-        private boolean optimizeContexts = false;
+        private BiPredicate<BeanDeployment, DotName> optimizeContexts;
         private final List<Predicate<ClassInfo>> excludeTypes;
         private boolean testMode = false;
 
@@ -234,7 +236,11 @@ public Builder testMode(boolean testMode) {
         }
 
         public Builder optimizeContexts(boolean value) {
-            this.optimizeContexts = value;
+            return optimizeContexts((deployment, scope) -> value);
+        }
+
+        public Builder optimizeContexts(BiPredicate<BeanDeployment, DotName> fun) {
+            this.optimizeContexts = fun;
             return this;
         }
 
@@ -279,7 +285,7 @@ public ArcTestContainer build() {
     private final List<BuildCompatibleExtension> buildCompatibleExtensions;
 
     private final boolean strictCompatibility;
-    private final boolean optimizeContexts;
+    private final BiPredicate<BeanDeployment, DotName> optimizeContexts;
     private final boolean testMode;
 
     public ArcTestContainer(Class<?>... beanClasses) {
@@ -304,7 +310,7 @@ public ArcTestContainer(Class<?>... beanClasses) {
         this.alternativePriorities = null;
         this.buildCompatibleExtensions = Collections.emptyList();
         this.strictCompatibility = false;
-        this.optimizeContexts = false;
+        this.optimizeContexts = null;
         this.excludeTypes = Collections.emptyList();
         this.testMode = false;
     }
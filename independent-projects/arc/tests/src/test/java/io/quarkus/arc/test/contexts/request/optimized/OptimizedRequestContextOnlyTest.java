@@ -0,0 +1,80 @@
+package io.quarkus.arc.test.contexts.request.optimized;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.processor.BuiltinScope;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class OptimizedRequestContextOnlyTest {
+
+    @RegisterExtension
+    ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Req.class, App.class)
+            .optimizeContexts((deployment, scope) -> BuiltinScope.REQUEST.getName().equals(scope))
+            .build();
+
+    @Test
+    public void testContext() {
+        ArcContainer container = Arc.container();
+        for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
+            assertEquals(Set.of(RequestScoped.class),
+                    componentsProvider.getComponents(container.getCurrentContextFactory()).getContextInstances().keySet());
+        }
+
+        String appId = container.instance(App.class).get().ping();
+        assertEquals(appId, container.instance(App.class).get().ping());
+
+        container.requestContext().activate();
+        Req req = container.instance(Req.class).get();
+        String id1 = req.ping();
+        assertEquals(id1, req.ping());
+        assertEquals(1, container.requestContext().getState().getContextualInstances().size());
+        container.requestContext().terminate();
+
+        container.requestContext().activate();
+        assertNotEquals(id1, req.ping());
+        container.requestContext().terminate();
+    }
+
+    @RequestScoped
+    public static class Req {
+
+        private String id;
+
+        String ping() {
+            return id;
+        }
+
+        @PostConstruct
+        void init() {
+            id = UUID.randomUUID().toString();
+        }
+
+    }
+
+    @ApplicationScoped
+    public static class App {
+
+        private final String id = UUID.randomUUID().toString();
+
+        String ping() {
+            return id;
+        }
+
+    }
+}
@@ -0,0 +1,233 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link ResourceIndex} backed by a read-only memory mapped region of the serialized application file.
+ * <p>
+ * Nothing is copied to the heap besides the distinct combinations of class path elements, the names are looked up with
+ * a binary search over the sorted hash codes followed by a comparison of the encoded names in the mapped region. As the
+ * region is mapped from a file, it is shared by the page cache between all the processes started from the same
+ * application.
+ * <p>
+ * The layout of the region is (all offsets are relative to the start of the region):
+ *
+ * <pre>
+ * int directoryTableOffset
+ * int resourceTableOffset
+ * int jarSetCount
+ * jarSetCount x { short size, size x short jarIndex }
+ * directory table
+ * resource table
+ * </pre>
+ *
+ * A table is:
+ *
+ * <pre>
+ * int count
+ * count x int hash (sorted)
+ * count x int entryOffset
+ * count x { short nameLength, nameLength x byte name (UTF-8), int jarSetIndex }
+ * </pre>
+ */
+final class MappedResourceIndex implements ResourceIndex {
+
+    private final ByteBuffer index;
+    private final ClassLoadingResource[][] jarSets;
+    private final int directoryTableOffset;
+    private final int resourceTableOffset;
+
+    private MappedResourceIndex(ByteBuffer index, ClassLoadingResource[] classPath) {
+        this.index = index;
+        this.directoryTableOffset = index.getInt(0);
+        this.resourceTableOffset = index.getInt(4);
+        int jarSetCount = index.getInt(8);
+        this.jarSets = new ClassLoadingResource[jarSetCount][];
+        int pos = 12;
+        for (int i = 0; i < jarSetCount; i++) {
+            int size = index.getShort(pos) & 0xFFFF;
+            pos += 2;
+            ClassLoadingResource[] jarSet = new ClassLoadingResource[size];
+            for (int j = 0; j < size; j++) {
+                jarSet[j] = classPath[index.getShort(pos) & 0xFFFF];
+                pos += 2;
+            }
+            jarSets[i] = jarSet;
+        }
+    }
+
+    /**
+     * Maps the index stored in the given region of the file. The mapping stays valid after the channel is closed.
+     *
+     * @param channel the channel of the serialized application file
+     * @param offset the offset of the index in the file
+     * @param length the length of the index
+     * @param classPath the class path elements, in the order they were passed to {@link #create(Map, Map)}
+     */
+    static MappedResourceIndex map(FileChannel channel, long offset, int length, ClassLoadingResource[] classPath)
+            throws IOException {
+        return new MappedResourceIndex(channel.map(FileChannel.MapMode.READ_ONLY, offset, length), classPath);
+    }
+
+    static MappedResourceIndex wrap(byte[] index, ClassLoadingResource[] classPath) {
+        return new MappedResourceIndex(ByteBuffer.wrap(index), classPath);
+    }
+
+    @Override
+    public ClassLoadingResource[] getDirectoryResources(String dirName) {
+        return lookup(directoryTableOffset, dirName);
+    }
+
+    @Override
+    public ClassLoadingResource[] getDirectlyIndexedResources(String resourceName) {
+        return lookup(resourceTableOffset, resourceName);
+    }
+
+    private ClassLoadingResource[] lookup(int tableOffset, String name) {
+        // only absolute reads are used, so the buffer can be shared by all the threads
+        final ByteBuffer index = this.index;
+        final int count = index.getInt(tableOffset);
+        final int hashes = tableOffset + 4;
+        final int entries = hashes + count * 4;
+        final int hash = name.hashCode();
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midHash = index.getInt(hashes + mid * 4);
+            if (midHash < hash) {
+                low = mid + 1;
+            } else if (midHash > hash) {
+                high = mid - 1;
+            } else {
+                // go back to the first entry with the same hash
+                while (mid > 0 && index.getInt(hashes + (mid - 1) * 4) == hash) {
+                    mid--;
+                }
+                for (int i = mid; i < count && index.getInt(hashes + i * 4) == hash; i++) {
+                    int entry = index.getInt(entries + i * 4);
+                    int nameLength = index.getShort(entry) & 0xFFFF;
+                    if (nameEquals(index, entry + 2, nameLength, name)) {
+                        return jarSets[index.getInt(entry + 2 + nameLength)];
+                    }
+                }
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static boolean nameEquals(ByteBuffer index, int offset, int length, String name) {
+        if (length < name.length()) {
+            // a UTF-8 encoded name is never shorter than the number of chars
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            byte b = index.get(offset + i);
+            if (b < 0) {
+                // not ASCII, decode the whole name
+                byte[] encoded = new byte[length];
+                index.get(offset, encoded);
+                return name.equals(new String(encoded, StandardCharsets.UTF_8));
+            }
+            if (i >= name.length() || name.charAt(i) != b) {
+                return false;
+            }
+        }
+        return length == name.length();
+    }
+
+    /**
+     * Creates the index of the given directories and directly indexed resources.
+     *
+     * @param directories the class path indexes of the jars containing each directory
+     * @param resources the class path indexes of the jars containing each directly indexed resource
+     * @return the serialized index
+     */
+    static byte[] create(Map<String, ? extends Collection<Integer>> directories,
+            Map<String, ? extends Collection<Integer>> resources) throws IOException {
+        // most directories are provided by a single jar, so the number of distinct jar combinations is small
+        Map<List<Integer>, Integer> jarSets = new LinkedHashMap<>();
+        List<Entry> directoryEntries = toEntries(directories, jarSets);
+        List<Entry> resourceEntries = toEntries(resources, jarSets);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        // table offsets, updated below
+        out.writeInt(0);
+        out.writeInt(0);
+        out.writeInt(jarSets.size());
+        for (List<Integer> jarSet : jarSets.keySet()) {
+            out.writeShort(jarSet.size());
+            for (Integer jarIndex : jarSet) {
+                out.writeShort(jarIndex);
+            }
+        }
+        int directoryTableOffset = out.size();
+        writeTable(out, directoryEntries);
+        int resourceTableOffset = out.size();
+        writeTable(out, resourceEntries);
+        out.flush();
+
+        byte[] result = bytes.toByteArray();
+        ByteBuffer.wrap(result).putInt(0, directoryTableOffset).putInt(4, resourceTableOffset);
+        return result;
+    }
+
+    private static List<Entry> toEntries(Map<String, ? extends Collection<Integer>> names,
+            Map<List<Integer>, Integer> jarSets) {
+        List<Entry> entries = new ArrayList<>(names.size());
+        for (Map.Entry<String, ? extends Collection<Integer>> e : names.entrySet()) {
+            Integer jarSet = jarSets.computeIfAbsent(List.copyOf(e.getValue()), k -> jarSets.size());
+            entries.add(new Entry(e.getKey(), jarSet));
+        }
+        entries.sort(Comparator.comparingInt((Entry e) -> e.hash).thenComparing(e -> e.name));
+        return entries;
+    }
+
+    private static void writeTable(DataOutputStream out, List<Entry> entries) throws IOException {
+        out.writeInt(entries.size());
+        for (Entry entry : entries) {
+            out.writeInt(entry.hash);
+        }
+        int entryOffset = out.size() + entries.size() * 4;
+        for (Entry entry : entries) {
+            out.writeInt(entryOffset);
+            entryOffset += 2 + entry.encodedName.length + 4;
+        }
+        for (Entry entry : entries) {
+            out.writeShort(entry.encodedName.length);
+            out.write(entry.encodedName);
+            out.writeInt(entry.jarSet);
+        }
+    }
+
+    private static final class Entry {
+
+        final String name;
+        final int hash;
+        final byte[] encodedName;
+        final int jarSet;
+
+        Entry(String name, int jarSet) {
+            this.name = name;
+            this.hash = name.hashCode();
+            this.encodedName = name.getBytes(StandardCharsets.UTF_8);
+            this.jarSet = jarSet;
+            if (encodedName.length > 0xFFFF) {
+                throw new IllegalArgumentException("Resource name is too long: " + name);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.quarkus.bootstrap.runner;
+
+import java.util.Map;
+
+/**
+ * Locates the {@link ClassLoadingResource}s that may contain a given directory or resource.
+ * <p>
+ * Implementations must be safe for concurrent use without locking.
+ */
+interface ResourceIndex {
+
+    /**
+     * @param dirName the directory name, the root directory/default package is represented by the empty string
+     * @return the resources that contain the given directory, or {@code null}
+     */
+    ClassLoadingResource[] getDirectoryResources(String dirName);
+
+    /**
+     * @param resourceName the resource name
+     * @return the resources that contain the given resource if it belongs to a fully indexed directory, or {@code null}
+     */
+    ClassLoadingResource[] getDirectlyIndexedResources(String resourceName);
+
+    static ResourceIndex of(Map<String, ClassLoadingResource[]> resourceDirectoryMap,
+            Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap) {
+        return new ResourceIndex() {
+            @Override
+            public ClassLoadingResource[] getDirectoryResources(String dirName) {
+                return resourceDirectoryMap.get(dirName);
+            }
+
+            @Override
+            public ClassLoadingResource[] getDirectlyIndexedResources(String resourceName) {
+                return directlyIndexedResourcesIndexMap.get(resourceName);
+            }
+        };
+    }
+}
@@ -7,6 +7,7 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -34,17 +35,18 @@ public final class RunnerClassLoader extends ClassLoader {
     }
 
     /**
-     * A map of resources by dir name. Root dir/default package is represented by the empty string
+     * The resources by dir name and the directly indexed resources. Root dir/default package is represented by the empty
+     * string
      */
-    private final Map<String, ClassLoadingResource[]> resourceDirectoryMap;
+    private final ResourceIndex resourceIndex;
+    private final ClassLoadingResource[] allResources;
 
     private final Set<String> parentFirstPackages;
     private final Set<String> nonExistentResources;
-    // the following two fields go hand in hand - they need to both be populated from the same data
-    // in order for the resource loading to work properly
+    // the fully indexed directories go hand in hand with the directly indexed resources of the resource index - they need
+    // to both be populated from the same data in order for the resource loading to work properly
     // normally this field would be a set, but it only contains 2 elements, so making it a list is actually better
     private final List<String> fullyIndexedDirectories;
-    private final Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap;
 
     private final ClassLoadingResource generatedBytecodeClassLoadingResource;
     private final Set<String> generatedBytecode;
@@ -53,8 +55,9 @@ public final class RunnerClassLoader extends ClassLoader {
 
     //Mutations protected by synchronization on the field value itself:
     private final ClassLoadingResource[] currentlyBufferedResources = new ClassLoadingResource[4];//Experimentally found to be a reasonable number
-    //Protected by synchronization on the above field, as they are related.
-    private boolean postBootPhase = false;
+    //Written while holding the above lock, read without it so that the common cases don't contend on it:
+    private volatile boolean postBootPhase = false;
+    private volatile ClassLoadingResource mostRecentlyBufferedResource;
 
     private final CracResource resource;
 
@@ -63,12 +66,22 @@ public final class RunnerClassLoader extends ClassLoader {
             List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap,
             ClassLoadingResource generatedBytecodeClassLoadingResource, Set<String> generatedBytecode,
             ClassLoadingResource transformedBytecodeClassLoadingResource, Set<String> transformedBytecode) {
+        this(parent, ResourceIndex.of(resourceDirectoryMap, directlyIndexedResourcesIndexMap),
+                distinctResources(resourceDirectoryMap), parentFirstPackages, nonExistentResources, fullyIndexedDirectories,
+                generatedBytecodeClassLoadingResource, generatedBytecode,
+                transformedBytecodeClassLoadingResource, transformedBytecode);
+    }
+
+    RunnerClassLoader(ClassLoader parent, ResourceIndex resourceIndex, ClassLoadingResource[] allResources,
+            Set<String> parentFirstPackages, Set<String> nonExistentResources, List<String> fullyIndexedDirectories,
+            ClassLoadingResource generatedBytecodeClassLoadingResource, Set<String> generatedBytecode,
+            ClassLoadingResource transformedBytecodeClassLoadingResource, Set<String> transformedBytecode) {
         super(parent);
-        this.resourceDirectoryMap = resourceDirectoryMap;
+        this.resourceIndex = resourceIndex;
+        this.allResources = allResources;
         this.parentFirstPackages = parentFirstPackages;
         this.nonExistentResources = nonExistentResources;
         this.fullyIndexedDirectories = fullyIndexedDirectories;
-        this.directlyIndexedResourcesIndexMap = directlyIndexedResourcesIndexMap;
         this.generatedBytecodeClassLoadingResource = generatedBytecodeClassLoadingResource;
         this.generatedBytecode = generatedBytecode;
         this.transformedBytecodeClassLoadingResource = transformedBytecodeClassLoadingResource;
@@ -109,10 +122,10 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
         }
         final ClassLoadingResource[] resources;
         if (packageName == null) {
-            resources = resourceDirectoryMap.get("");
+            resources = resourceIndex.getDirectoryResources("");
         } else {
             String dirName = packageName.replace('.', '/');
-            resources = resourceDirectoryMap.get(dirName);
+            resources = resourceIndex.getDirectoryResources(dirName);
         }
         if (resources != null) {
             String classResource = fromClassNameToResourceName(name);
@@ -185,6 +198,10 @@ private Class<?> defineClass(String name, byte[] data, ClassLoadingResource reso
     }
 
     private void accessingResource(final ClassLoadingResource resource) {
+        if (!postBootPhase || mostRecentlyBufferedResource == resource) {
+            //Lock-free fast path: the jar buffers are not limited yet, or the resource is already on the head of the cache.
+            return;
+        }
         final ClassLoadingResource toEvict;
         synchronized (this.currentlyBufferedResources) {
             if (!postBootPhase) {
@@ -223,6 +240,7 @@ private void bubbleUpCachedResource(ClassLoadingResource resource, int i) {
             currentlyBufferedResources[j] = currentlyBufferedResources[j - 1];
         }
         currentlyBufferedResources[0] = resource;
+        mostRecentlyBufferedResource = resource;
     }
 
     @Override
@@ -252,7 +270,7 @@ private String sanitizeName(final String name) {
     }
 
     private ClassLoadingResource[] getClassLoadingResources(final String name) {
-        ClassLoadingResource[] resources = directlyIndexedResourcesIndexMap.get(name);
+        ClassLoadingResource[] resources = resourceIndex.getDirectlyIndexedResources(name);
         if (resources != null) {
             return resources;
         }
@@ -262,16 +280,16 @@ private ClassLoadingResource[] getClassLoadingResources(final String name) {
         }
         if (!dirName.equals(name) && fullyIndexedDirectories.contains(dirName)) {
             if (dirName.isEmpty()) {
-                return resourceDirectoryMap.get(name);
+                return resourceIndex.getDirectoryResources(name);
             }
             // If we arrive here, we know that resource being queried belongs to one of the fully indexed directories
             // Had that resource existed however, it would have been present in directlyIndexedResourcesIndexMap
             return null;
         }
-        resources = resourceDirectoryMap.get(dirName);
+        resources = resourceIndex.getDirectoryResources(dirName);
         if (resources == null) {
             // the resource could itself be a directory
-            resources = resourceDirectoryMap.get(name);
+            resources = resourceIndex.getDirectoryResources(name);
         }
         return resources;
     }
@@ -336,24 +354,28 @@ protected Class<?> findClass(String moduleName, String name) {
     }
 
     public void close() {
-        for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
-            for (ClassLoadingResource i : entry.getValue()) {
-                i.close();
-            }
+        for (ClassLoadingResource i : allResources) {
+            i.close();
         }
     }
 
     public void resetInternalCaches() {
         synchronized (this.currentlyBufferedResources) {
-            for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
-                for (ClassLoadingResource i : entry.getValue()) {
-                    i.resetInternalCaches();
-                }
+            for (ClassLoadingResource i : allResources) {
+                i.resetInternalCaches();
             }
             this.postBootPhase = true;
         }
     }
 
+    private static ClassLoadingResource[] distinctResources(Map<String, ClassLoadingResource[]> resourceDirectoryMap) {
+        Set<ClassLoadingResource> result = new LinkedHashSet<>();
+        for (ClassLoadingResource[] resources : resourceDirectoryMap.values()) {
+            Collections.addAll(result, resources);
+        }
+        return result.toArray(new ClassLoadingResource[0]);
+    }
+
     class CracResource implements Resource {
         @Override
         public void beforeCheckpoint(Context<? extends Resource> ctx) {
@@ -364,6 +386,7 @@ public void beforeCheckpoint(Context<? extends Resource> ctx) {
                         currentlyBufferedResources[i] = null;
                     }
                 }
+                mostRecentlyBufferedResource = null;
             }
         }
 
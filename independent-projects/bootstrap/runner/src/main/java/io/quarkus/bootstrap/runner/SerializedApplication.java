@@ -1,14 +1,16 @@
 package io.quarkus.bootstrap.runner;
 
+import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -38,10 +40,7 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_PATHS = List.of("", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 2;
-
-    private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
-    private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
+    private static final int VERSION = 3;
 
     private final RunnerClassLoader runnerClassLoader;
     private final String mainClass;
@@ -67,12 +66,13 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
             data.writeInt(VERSION);
             data.writeUTF(mainClass);
             data.writeShort(classPath.size());
+            Map<String, Set<Integer>> resourceDirectoriesToCPJarIndex = new HashMap<>();
             Map<String, List<Integer>> directlyIndexedResourcesToCPJarIndex = new LinkedHashMap<>();
             for (int i = 0; i < classPath.size(); i++) {
                 Path jar = classPath.get(i);
                 String relativePath = applicationRoot.relativize(jar).toString().replace('\\', '/');
                 data.writeUTF(relativePath);
-                Collection<String> resources = writeJar(data, jar);
+                Collection<String> resources = writeJar(data, jar, i, resourceDirectoriesToCPJarIndex);
                 for (String resource : resources) {
                     directlyIndexedResourcesToCPJarIndex.computeIfAbsent(resource, s -> new ArrayList<>()).add(i);
                 }
@@ -90,20 +90,19 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
             for (String nonExistentResource : nonExistentResources) {
                 data.writeUTF(nonExistentResource);
             }
-            data.writeShort(directlyIndexedResourcesToCPJarIndex.size());
-            for (Map.Entry<String, List<Integer>> entry : directlyIndexedResourcesToCPJarIndex.entrySet()) {
-                data.writeUTF(entry.getKey());
-                data.writeShort(entry.getValue().size());
-                for (Integer index : entry.getValue()) {
-                    data.writeShort(index);
-                }
-            }
+            // the index is read from a memory mapped region of the file, see MappedResourceIndex
+            byte[] index = MappedResourceIndex.create(resourceDirectoriesToCPJarIndex, directlyIndexedResourcesToCPJarIndex);
+            data.writeInt(data.size() + 8);
+            data.writeInt(index.length);
+            data.write(index);
             data.flush();
         }
     }
 
-    public static SerializedApplication read(InputStream inputStream, Path appRoot) throws IOException {
-        try (DataInputStream in = new DataInputStream(inputStream)) {
+    public static SerializedApplication read(Path applicationDat, Path appRoot) throws IOException {
+        // the magic number here is close to the smallest possible dat file
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(applicationDat), 24_576))) {
             if (in.readInt() != MAGIC) {
                 throw new RuntimeException("Wrong magic number");
             }
@@ -111,7 +110,6 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                 throw new RuntimeException("Wrong class path version");
             }
             String mainClass = in.readUTF();
-            ResourceDirectoryTracker resourceDirectoryTracker = new ResourceDirectoryTracker();
             int numPaths = in.readUnsignedShort();
             ClassLoadingResource[] allClassLoadingResources = new ClassLoadingResource[numPaths];
             ClassLoadingResource generatedBytecodeClassLoadingResource = null;
@@ -135,16 +133,6 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                     transformedBytecodeClassLoadingResource = resource;
                 }
                 allClassLoadingResources[pathCount] = resource;
-                int numDirs = in.readUnsignedShort();
-                for (int i = 0; i < numDirs; ++i) {
-                    String dir = in.readUTF();
-                    int j = dir.indexOf('/');
-                    while (j >= 0) {
-                        resourceDirectoryTracker.addResourceDir(dir.substring(0, j), resource);
-                        j = dir.indexOf('/', j + 1);
-                    }
-                    resourceDirectoryTracker.addResourceDir(dir, resource);
-                }
                 if (generatedBytecodeJar || transformedBytecodeJar) {
                     int numEntries = in.readInt();
                     // let's make the Set as compact as we can
@@ -169,23 +157,17 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
             for (int i = 0; i < nonExistentResourcesSize; i++) {
                 nonExistentResources.add(in.readUTF());
             }
-            // this map is populated correctly because the JarResource entries are added to allClassLoadingResources
+            int indexOffset = in.readInt();
+            int indexLength = in.readInt();
+            // the index is resolved correctly because the JarResource entries are added to allClassLoadingResources
             // in the same order as the classpath was written during the writing of the index
-            int directlyIndexedSize = in.readUnsignedShort();
-            Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap = new HashMap<>(
-                    (int) Math.ceil(directlyIndexedSize / 0.75f));
-            for (int i = 0; i < directlyIndexedSize; i++) {
-                String resource = in.readUTF();
-                int indexesSize = in.readUnsignedShort();
-                ClassLoadingResource[] matchingResources = new ClassLoadingResource[indexesSize];
-                for (int j = 0; j < indexesSize; j++) {
-                    matchingResources[j] = allClassLoadingResources[in.readUnsignedShort()];
-                }
-                directlyIndexedResourcesIndexMap.put(resource, matchingResources);
+            MappedResourceIndex resourceIndex;
+            try (FileChannel channel = FileChannel.open(applicationDat, StandardOpenOption.READ)) {
+                resourceIndex = MappedResourceIndex.map(channel, indexOffset, indexLength, allClassLoadingResources);
             }
             RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
-                    resourceDirectoryTracker.getResult(), parentFirstPackages,
-                    nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap,
+                    resourceIndex, allClassLoadingResources, parentFirstPackages,
+                    nonExistentResources, FULLY_INDEXED_PATHS,
                     generatedBytecodeClassLoadingResource, generatedBytecode,
                     transformedBytecodeClassLoadingResource, transformedBytecode);
             for (ClassLoadingResource classLoadingResource : allClassLoadingResources) {
@@ -203,10 +185,14 @@ private static String readNullableString(DataInputStream in) throws IOException
     }
 
     /**
+     * Writes the jar info and records the directories of the jar, including all their parent directories, in the given
+     * map.
+     *
      * @return a List of all resources that exist in the paths that we desire to have fully indexed
      *         (configured via {@code FULLY_INDEXED_PATHS})
      */
-    private static List<String> writeJar(DataOutputStream out, Path jar) throws IOException {
+    private static List<String> writeJar(DataOutputStream out, Path jar, int jarIndex,
+            Map<String, Set<Integer>> resourceDirectories) throws IOException {
         try (JarFile zip = new JarFile(jar.toFile())) {
             Manifest manifest = zip.getManifest();
             if (manifest == null) {
@@ -294,9 +280,13 @@ private static List<String> writeJar(DataOutputStream out, Path jar) throws IOEx
             if (hasDefaultPackage) {
                 dirs.add("");
             }
-            out.writeShort(dirs.size());
-            for (String i : dirs) {
-                out.writeUTF(i);
+            for (String dir : dirs) {
+                int j = dir.indexOf('/');
+                while (j >= 0) {
+                    addResourceDirectory(resourceDirectories, dir.substring(0, j), jarIndex);
+                    j = dir.indexOf('/', j + 1);
+                }
+                addResourceDirectory(resourceDirectories, dir, jarIndex);
             }
             if (writeAllEntries) {
                 out.writeInt(allEntries.size());
@@ -312,6 +302,15 @@ private static List<String> writeJar(DataOutputStream out, Path jar) throws IOEx
         }
     }
 
+    private static void addResourceDirectory(Map<String, Set<Integer>> resourceDirectories, String dir, int jarIndex) {
+        // the order of the jars is preserved, it determines the lookup order of the RunnerClassLoader
+        resourceDirectories.computeIfAbsent(dir, SerializedApplication::newResourceDirectoriesValue).add(jarIndex);
+    }
+
+    private static Set<Integer> newResourceDirectoriesValue(String ignored) {
+        return new LinkedHashSet<>(2);
+    }
+
     private static List<String> newFullyIndexedPathsValue(String ignored) {
         return new ArrayList<>(10);
     }
@@ -370,57 +369,4 @@ private static void writeNullableString(DataOutputStream out, String string) thr
         }
     }
 
-    /**
-     * This class is to build up the final directory to Resource map
-     * The idea here is that directories will only be contained by a single resource, so we optimistically
-     * create a single item array when we encounter a directory for the first time.
-     * However, when a resource is added for the same directory, we switch to using a Set to track the resources
-     * of that directory and then at the end use those sets to override to create the final array of resources.
-     * The reason for doing it this way to only create Sets when needed (which is only a fraction of the cases)
-     */
-    private static class ResourceDirectoryTracker {
-        private final Map<String, ClassLoadingResource[]> result = new HashMap<>();
-        private final Map<String, Set<ClassLoadingResource>> overrides = new HashMap<>();
-
-        void addResourceDir(String dir, JarResource resource) {
-            ClassLoadingResource[] existing = result.get(dir);
-            if (existing == null) {
-                // this is the first the dir was ever tracked
-                result.put(dir, new JarResource[] { resource });
-            } else {
-                ClassLoadingResource existingResource = existing[0];
-                if (existingResource.equals(resource)) {
-                    // we don't need to do anything as the resource has already been tracked and an attempt
-                    // to add it again was made
-                } else {
-                    Set<ClassLoadingResource> dirOverrides = overrides.get(dir);
-                    if (dirOverrides == null) {
-                        // we need to create the override set as this is the first time we find a resource for the dir
-                        // that is not the same as the one in the array
-                        dirOverrides = new LinkedHashSet<>(2);
-                        dirOverrides.add(existingResource);
-                        dirOverrides.add(resource);
-                        overrides.put(dir, dirOverrides);
-
-                        //replace the value in the original array with a sentinel in order to allow for quick comparisons
-                        existing[0] = SENTINEL;
-                    } else {
-                        // in this case, overrides has already been created in a previous invocation so all we need to
-                        // do is add the new resource
-                        dirOverrides.add(resource);
-                    }
-                }
-            }
-        }
-
-        Map<String, ClassLoadingResource[]> getResult() {
-            overrides.forEach(this::addToResult);
-            return result;
-        }
-
-        private void addToResult(String dir, Set<? extends ClassLoadingResource> jarResources) {
-            result.put(dir, jarResources.toArray(EMPTY_ARRAY));
-        }
-    }
-
 }
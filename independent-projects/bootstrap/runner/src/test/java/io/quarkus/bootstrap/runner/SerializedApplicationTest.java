@@ -0,0 +1,94 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests that the {@link RunnerClassLoader} created from a written {@link SerializedApplication} locates the resources
+ * through the memory mapped index.
+ */
+public class SerializedApplicationTest {
+
+    @TempDir
+    Path appRoot;
+
+    @Test
+    public void testWriteAndRead() throws Exception {
+        Path lib = Files.createDirectories(appRoot.resolve("lib"));
+        Path app = lib.resolve("app.jar");
+        ShrinkWrap.create(JavaArchive.class)
+                .addAsResource(new StringAsset("root"), "application.properties")
+                .addAsResource(new StringAsset("service"), "META-INF/services/org.acme.Service")
+                .addAsResource(new StringAsset("unicode"), "žluťoučký/kůň.txt")
+                .as(ZipExporter.class).exportTo(app.toFile());
+        List<Path> classPath = List.of(app, copyJar("simple-project-1.0.jar", lib),
+                copyJar("empty-project-a-1.0.jar", lib), copyJar("empty-project-b-1.0.jar", lib));
+
+        Path applicationDat = Files.createDirectories(appRoot.resolve("quarkus"))
+                .resolve("quarkus-application.dat");
+        try (OutputStream out = Files.newOutputStream(applicationDat)) {
+            SerializedApplication.write(out, "org.acme.Main", appRoot, classPath, List.of(), List.of());
+        }
+
+        SerializedApplication application = SerializedApplication.read(applicationDat, appRoot);
+        assertThat(application.getMainClass()).isEqualTo("org.acme.Main");
+        RunnerClassLoader classLoader = application.getRunnerClassLoader();
+        try {
+            assertThat(classLoader.loadClass("org.simple.SimplePojo1").getClassLoader()).isSameAs(classLoader);
+            assertThat(classLoader.findResource("org/simple")).isNotNull();
+            assertThat(classLoader.findResource("org")).isNotNull();
+            assertThat(classLoader.findResource("application.properties")).isNotNull();
+            assertThat(classLoader.findResource("missing.properties")).isNull();
+            assertThat(classLoader.findResource("META-INF/services/org.acme.Service")).isNotNull();
+            assertThat(classLoader.findResource("META-INF/services/org.acme.Missing")).isNull();
+            assertThat(classLoader.findResource("žluťoučký/kůň.txt")).isNotNull();
+            // provided by both empty projects, in the class path order
+            List<URL> poms = Collections.list(classLoader.findResources("META-INF/maven/org.mario/empty-project/pom.xml"));
+            assertThat(poms).hasSize(2);
+            assertThat(poms.get(0).toString()).contains("empty-project-a-1.0.jar");
+            assertThat(poms.get(1).toString()).contains("empty-project-b-1.0.jar");
+        } finally {
+            classLoader.close();
+        }
+    }
+
+    @Test
+    public void testHashCollisions() throws IOException {
+        // "Aa" and "BB" have the same hash code
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        ClassLoadingResource[] classPath = new ClassLoadingResource[] {
+                new JarResource(null, Path.of("a.jar")), new JarResource(null, Path.of("b.jar")) };
+        byte[] index = MappedResourceIndex.create(Map.of("Aa", List.of(0), "BB", List.of(1), "C", List.of(0, 1)),
+                Map.of("Aa/x", List.of(1)));
+        MappedResourceIndex resourceIndex = MappedResourceIndex.wrap(index, classPath);
+
+        assertThat(resourceIndex.getDirectoryResources("Aa")).containsExactly(classPath[0]);
+        assertThat(resourceIndex.getDirectoryResources("BB")).containsExactly(classPath[1]);
+        assertThat(resourceIndex.getDirectoryResources("C")).containsExactly(classPath[0], classPath[1]);
+        assertThat(resourceIndex.getDirectoryResources("Ab")).isNull();
+        assertThat(resourceIndex.getDirectoryResources("")).isNull();
+        assertThat(resourceIndex.getDirectlyIndexedResources("Aa/x")).containsExactly(classPath[1]);
+        assertThat(resourceIndex.getDirectlyIndexedResources("Aa")).isNull();
+        // the same arrays are shared by all the lookups
+        assertThat(resourceIndex.getDirectoryResources("Aa")).isSameAs(resourceIndex.getDirectoryResources("Aa"));
+    }
+
+    private static Path copyJar(String name, Path lib) throws IOException {
+        return Files.copy(Path.of("src", "test", "resources", "jars", name), lib.resolve(name));
+    }
+}
@@ -0,0 +1,36 @@
+package io.quarkus.qute;
+
+/**
+ * A compiled form of an expression.
+ * <p>
+ * A compiled expression is usually generated at build time for a validated type-safe expression, e.g.
+ * {@code item.owner.name}. It accesses the java members directly, i.e. the value resolvers are not used and no
+ * {@link java.util.concurrent.CompletionStage} is composed for each part of the expression.
+ * <p>
+ * The first part of an expression is always resolved by the {@link Evaluator} because it depends on the current
+ * resolution context. The compiled expression then resolves all other parts. If it's not able to do so, e.g. because
+ * the base object is not of the expected type or an intermediate value is {@code null}, it returns
+ * {@link Results.NotFound#EMPTY} and the parts are resolved by the value resolvers as usual.
+ *
+ * @see EngineBuilder#addCompiledExpression(CompiledExpression)
+ */
+public interface CompiledExpression {
+
+    /**
+     * The path is made up of the names of all parts of an expression except the first one, separated by a dot. For
+     * example, the path of the expression {@code item.owner.name} is {@code owner.name}.
+     * <p>
+     * Only expressions that consist of properties and do not have a namespace can be compiled.
+     *
+     * @return the path
+     */
+    String getPath();
+
+    /**
+     *
+     * @param base the value of the first part of the expression
+     * @return the value of the expression, or {@link Results.NotFound#EMPTY} if the compiled form cannot be applied
+     */
+    Object apply(Object base);
+
+}
@@ -32,6 +32,7 @@ public final class EngineBuilder {
     final Map<String, SectionHelperFactory<?>> sectionHelperFactories;
     final List<ValueResolver> valueResolvers;
     final List<NamespaceResolver> namespaceResolvers;
+    final List<CompiledExpression> compiledExpressions;
     final List<TemplateLocator> locators;
     final List<ResultMapper> resultMappers;
     final List<TemplateInstance.Initializer> initializers;
@@ -49,6 +50,7 @@ public final class EngineBuilder {
         this.sectionHelperFactories = new HashMap<>();
         this.valueResolvers = new ArrayList<>();
         this.namespaceResolvers = new ArrayList<>();
+        this.compiledExpressions = new ArrayList<>();
         this.locators = new ArrayList<>();
         this.resultMappers = new ArrayList<>();
         this.parserHooks = new ArrayList<>();
@@ -193,6 +195,19 @@ public EngineBuilder addNamespaceResolver(NamespaceResolver resolver) {
         return addListener(resolver);
     }
 
+    /**
+     * Compiled expressions are used to resolve the parts of an expression before the value resolvers are used. Multiple
+     * compiled expressions may share the same path; they are tried in the order of registration.
+     *
+     * @param compiledExpression
+     * @return self
+     * @see CompiledExpression
+     */
+    public EngineBuilder addCompiledExpression(CompiledExpression compiledExpression) {
+        this.compiledExpressions.add(Objects.requireNonNull(compiledExpression));
+        return this;
+    }
+
     /**
      * A {@link Reader} instance produced by a locator is immediately closed right after the template content is parsed.
      *
@@ -44,7 +44,8 @@ class EngineImpl implements Engine {
         this.valueResolvers = sort(builder.valueResolvers);
         this.namespaceResolvers = ImmutableList.<NamespaceResolver> builder()
                 .addAll(builder.namespaceResolvers).add(new TemplateImpl.DataNamespaceResolver()).build();
-        this.evaluator = new EvaluatorImpl(this.valueResolvers, this.namespaceResolvers, builder.strictRendering, this);
+        this.evaluator = new EvaluatorImpl(this.valueResolvers, this.namespaceResolvers,
+                List.copyOf(builder.compiledExpressions), builder.strictRendering, this);
         this.templates = new ConcurrentHashMap<>();
         this.locators = sort(builder.locators);
         this.resultMappers = sort(builder.resultMappers);
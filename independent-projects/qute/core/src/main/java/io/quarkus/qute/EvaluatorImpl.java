@@ -20,13 +20,16 @@ class EvaluatorImpl implements Evaluator {
 
     private static final Logger LOG = Logger.getLogger(EvaluatorImpl.class);
 
+    private static final CompiledExpression[] NO_COMPILED_EXPRESSIONS = new CompiledExpression[0];
+
     private final List<ValueResolver> resolvers;
     private final Map<String, NamespaceResolver[]> namespaceResolvers;
+    private final Map<String, CompiledExpression[]> compiledExpressions;
     private final boolean strictRendering;
     private final ErrorInitializer initializer;
 
-    EvaluatorImpl(List<ValueResolver> valueResolvers, List<NamespaceResolver> namespaceResolvers, boolean strictRendering,
-            ErrorInitializer errorInitializer) {
+    EvaluatorImpl(List<ValueResolver> valueResolvers, List<NamespaceResolver> namespaceResolvers,
+            List<CompiledExpression> compiledExpressions, boolean strictRendering, ErrorInitializer errorInitializer) {
         this.resolvers = valueResolvers;
         Map<String, NamespaceResolver[]> namespaceResolversMap = new HashMap<>();
         for (NamespaceResolver namespaceResolver : namespaceResolvers) {
@@ -48,6 +51,19 @@ class EvaluatorImpl implements Evaluator {
             }
         }
         this.namespaceResolvers = namespaceResolversMap;
+        Map<String, CompiledExpression[]> compiledExpressionsMap = new HashMap<>();
+        for (CompiledExpression compiledExpression : compiledExpressions) {
+            CompiledExpression[] matching = compiledExpressionsMap.get(compiledExpression.getPath());
+            if (matching == null) {
+                matching = new CompiledExpression[] { compiledExpression };
+            } else {
+                int newLength = matching.length + 1;
+                matching = Arrays.copyOf(matching, newLength);
+                matching[newLength - 1] = compiledExpression;
+            }
+            compiledExpressionsMap.put(compiledExpression.getPath(), matching);
+        }
+        this.compiledExpressions = compiledExpressionsMap;
         this.strictRendering = strictRendering;
         this.initializer = errorInitializer;
     }
@@ -82,8 +98,14 @@ public CompletionStage<Object> evaluate(Expression expression, ResolutionContext
                 return resolveNamespace(context, resolutionContext, parts, matching, 0, expression);
             }
         } else {
-            return resolveReference(true, resolutionContext.getData(), expression.getParts(), resolutionContext, expression,
-                    0);
+            List<Part> parts = expression.getParts();
+            if (parts.size() > 1 && !compiledExpressions.isEmpty()) {
+                CompiledExpression[] compiled = getCompiledExpressions(expression);
+                if (compiled.length > 0) {
+                    return resolveCompiled(compiled, parts, resolutionContext, expression);
+                }
+            }
+            return resolveReference(true, resolutionContext.getData(), parts, resolutionContext, expression, 0);
         }
     }
 
@@ -92,6 +114,36 @@ public boolean strictRendering() {
         return strictRendering;
     }
 
+    private CompiledExpression[] getCompiledExpressions(Expression expression) {
+        if (expression instanceof ExpressionImpl expressionImpl) {
+            CompiledExpression[] compiled = expressionImpl.compiledExpressions;
+            if (compiled == null) {
+                String path = expressionImpl.compiledPath();
+                compiled = path != null ? compiledExpressions.getOrDefault(path, NO_COMPILED_EXPRESSIONS)
+                        : NO_COMPILED_EXPRESSIONS;
+                expressionImpl.compiledExpressions = compiled;
+            }
+            return compiled;
+        }
+        return NO_COMPILED_EXPRESSIONS;
+    }
+
+    private CompletionStage<Object> resolveCompiled(CompiledExpression[] compiled, List<Part> parts,
+            ResolutionContext resolutionContext, Expression expression) {
+        // The first part depends on the resolution context and is always resolved by the value resolvers
+        EvalContextImpl evalContext = new EvalContextImpl(resolutionContext.getData(), resolutionContext, parts.get(0));
+        return resolve(evalContext, null, true, expression, false, 0).thenCompose(base -> {
+            for (CompiledExpression compiledExpression : compiled) {
+                Object value = compiledExpression.apply(base);
+                if (!Results.isNotFound(value)) {
+                    return CompletionStageSupport.toCompletionStage(value);
+                }
+            }
+            // Compiled form not applicable - continue with the value resolvers
+            return resolveReference(false, base, parts, resolutionContext, expression, 1);
+        });
+    }
+
     private CompletionStage<Object> resolveNamespace(EvalContext context, ResolutionContext resolutionContext,
             List<Part> parts, NamespaceResolver[] resolvers, int resolverIndex, Expression expression) {
         // Use the next matching namespace resolver
@@ -53,6 +53,9 @@ static Integer syntheticId() {
     private final List<Part> parts;
     private final CompletedStage<Object> literal;
     private final Origin origin;
+    // The compiled expressions matching the path of this expression; null if not looked up yet
+    // Non-atomic write is ok here
+    volatile CompiledExpression[] compiledExpressions;
 
     ExpressionImpl(int id, String namespace, List<Part> parts, Object literal, Origin origin) {
         this.id = id;
@@ -151,6 +154,26 @@ public String toOriginalString() {
         return builder.toString();
     }
 
+    /**
+     *
+     * @return the path of all parts but the first one, or {@code null} if the expression contains a virtual method
+     * @see CompiledExpression#getPath()
+     */
+    String compiledPath() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 1; i < parts.size(); i++) {
+            Part part = parts.get(i);
+            if (part.isVirtualMethod()) {
+                return null;
+            }
+            if (i > 1) {
+                builder.append('.');
+            }
+            builder.append(part.getName());
+        }
+        return builder.toString();
+    }
+
     private Object literalValue() {
         if (literal != null) {
             return literal.get();
@@ -1,5 +1,6 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -11,6 +12,8 @@ public class TextNode extends ResultNode implements TemplateNode {
     private final CompletedStage<ResultNode> result;
     private final String value;
     private final Origin origin;
+    // Lazily initialized UTF-8 representation of the value; the race is benign
+    private byte[] utf8Value;
 
     public TextNode(String value, Origin origin) {
         this.result = CompletedStage.of(this);
@@ -42,9 +45,27 @@ public String getValue() {
         return value;
     }
 
+    /**
+     *
+     * @return the UTF-8 encoded value, must not be modified
+     * @see Utf8Consumer
+     */
+    public byte[] getUtf8Value() {
+        byte[] val = utf8Value;
+        if (val == null) {
+            val = value.getBytes(StandardCharsets.UTF_8);
+            utf8Value = val;
+        }
+        return val;
+    }
+
     @Override
     public void process(Consumer<String> consumer) {
-        consumer.accept(value);
+        if (consumer instanceof Utf8Consumer utf8Consumer) {
+            utf8Consumer.acceptUtf8(getUtf8Value());
+        } else {
+            consumer.accept(value);
+        }
     }
 
     @Override
@@ -0,0 +1,22 @@
+package io.quarkus.qute;
+
+import java.util.function.Consumer;
+
+/**
+ * A result consumer that is also able to accept static text already encoded in UTF-8.
+ * <p>
+ * The content of a {@link TextNode} is encoded only once and the same bytes are passed to all consumers; therefore, a
+ * consumer must never modify the array. All other chunks of the rendered template are passed to
+ * {@link #accept(Object)}.
+ *
+ * @see TemplateInstance#consume(Consumer)
+ */
+public interface Utf8Consumer extends Consumer<String> {
+
+    /**
+     *
+     * @param value the UTF-8 encoded static text, must not be modified
+     */
+    void acceptUtf8(byte[] value);
+
+}
@@ -0,0 +1,92 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class CompiledExpressionTest {
+
+    @Test
+    public void testCompiledExpression() {
+        AtomicInteger applied = new AtomicInteger();
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(new ReflectionValueResolver())
+                .addCompiledExpression(new CompiledExpression() {
+
+                    @Override
+                    public String getPath() {
+                        return "owner.name";
+                    }
+
+                    @Override
+                    public Object apply(Object base) {
+                        if (base instanceof Item item && item.owner != null) {
+                            applied.incrementAndGet();
+                            return item.owner.name.toUpperCase();
+                        }
+                        return Results.NotFound.EMPTY;
+                    }
+                })
+                .build();
+
+        Item foo = new Item("foo", new Owner("alpha"));
+        Item bar = new Item("bar", null);
+
+        // Compiled form is used
+        assertEquals("ALPHA", engine.parse("{item.owner.name}").data("item", foo).render());
+        assertEquals(1, applied.get());
+        // Compiled form is used inside a loop
+        assertEquals("ALPHA:ALPHA:", engine.parse("{#for i in items}{i.owner.name}:{/for}")
+                .data("items", List.of(foo, foo)).render());
+        assertEquals(3, applied.get());
+        // Path does not match
+        assertEquals("foo", engine.parse("{item.name}").data("item", foo).render());
+        // Virtual methods are never compiled
+        assertEquals("alpha", engine.parse("{item.owner.getName()}").data("item", foo).render());
+        assertEquals(3, applied.get());
+        // Not applicable - fall back to the value resolvers
+        assertEquals("alpha", engine.parse("{item.owner.name}").data("item", new Other(new Owner("alpha"))).render());
+        assertEquals("nobody", engine.parse("{item.owner.name ?: 'nobody'}").data("item", bar).render());
+        assertEquals(3, applied.get());
+    }
+
+    public static class Item {
+
+        public final String name;
+        public final Owner owner;
+
+        public Item(String name, Owner owner) {
+            this.name = name;
+            this.owner = owner;
+        }
+
+    }
+
+    public static class Other {
+
+        public final Owner owner;
+
+        public Other(Owner owner) {
+            this.owner = owner;
+        }
+
+    }
+
+    public static class Owner {
+
+        public final String name;
+
+        public Owner(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
+}
@@ -0,0 +1,48 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class Utf8ConsumerTest {
+
+    @Test
+    public void testConsume() throws Exception {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("Příliš {name}: {#each items}žluťoučký {it}{/each}!");
+
+        List<byte[]> encoded = new ArrayList<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Utf8Consumer consumer = new Utf8Consumer() {
+
+            @Override
+            public void accept(String value) {
+                out.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public void acceptUtf8(byte[] value) {
+                encoded.add(value);
+                out.writeBytes(value);
+            }
+        };
+        template.data("name", "kůň").data("items", List.of(1, 2)).consume(consumer).toCompletableFuture().get();
+        assertEquals("Příliš kůň: žluťoučký 1žluťoučký 2!", out.toString(StandardCharsets.UTF_8));
+        // "Příliš ", ": ", "žluťoučký " x2, "!"
+        assertEquals(5, encoded.size());
+        // The static text is only encoded once
+        assertSame(encoded.get(2), encoded.get(3));
+
+        // A regular consumer receives strings
+        StringBuilder builder = new StringBuilder();
+        template.data("name", "kůň").data("items", List.of(1)).consume(builder::append).toCompletableFuture().get();
+        assertEquals("Příliš kůň: žluťoučký 1!", builder.toString());
+    }
+
+}
@@ -0,0 +1,176 @@
+package io.quarkus.qute.generator;
+
+import static io.quarkus.qute.generator.ValueResolverGenerator.generatedNameFromTarget;
+import static io.quarkus.qute.generator.ValueResolverGenerator.packageName;
+import static io.quarkus.qute.generator.ValueResolverGenerator.simpleName;
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.classDescOf;
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.fieldDescOf;
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.methodDescOf;
+
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.gizmo2.Const;
+import io.quarkus.gizmo2.Expr;
+import io.quarkus.gizmo2.LocalVar;
+import io.quarkus.gizmo2.ParamVar;
+import io.quarkus.qute.CompiledExpression;
+
+/**
+ * Generates {@link CompiledExpression}s for validated type-safe expressions.
+ * <p>
+ * A generated class accesses the java members directly. The base object and every intermediate value is tested
+ * against the declaring class of the next member; if the test fails, e.g. if an intermediate value is {@code null}, the
+ * generated code returns {@link io.quarkus.qute.Results.NotFound#EMPTY} and the expression is resolved by the value
+ * resolvers instead.
+ */
+public class CompiledExpressionGenerator extends AbstractGenerator {
+
+    public static final String SUFFIX = "_CompiledExpression";
+
+    // key -> generated class name
+    private final Map<String, String> generated;
+    private int counter;
+
+    public CompiledExpressionGenerator(IndexView index, ClassOutput classOutput) {
+        super(index, classOutput);
+        this.generated = new HashMap<>();
+    }
+
+    /**
+     *
+     * @param members
+     * @return {@code true} if a compiled expression can be generated for the given members
+     */
+    public boolean isSupported(List<AnnotationTarget> members) {
+        if (members.isEmpty()) {
+            return false;
+        }
+        for (AnnotationTarget member : members) {
+            Type type;
+            ClassInfo declaringClass;
+            int flags;
+            if (member.kind() == AnnotationTarget.Kind.METHOD) {
+                MethodInfo method = member.asMethod();
+                if (method.parametersCount() > 0 || method.returnType().kind() == Type.Kind.VOID) {
+                    return false;
+                }
+                type = method.returnType();
+                declaringClass = method.declaringClass();
+                flags = method.flags();
+            } else if (member.kind() == AnnotationTarget.Kind.FIELD) {
+                FieldInfo field = member.asField();
+                type = field.type();
+                declaringClass = field.declaringClass();
+                flags = field.flags();
+            } else {
+                return false;
+            }
+            if (!Modifier.isPublic(flags) || Modifier.isStatic(flags) || !Modifier.isPublic(declaringClass.flags())) {
+                return false;
+            }
+            if (hasCompletionStage(type)) {
+                // Async results are always resolved by the value resolvers
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     *
+     * @param path the path of the expression
+     * @param members the members used to resolve all parts of the expression except the first one
+     * @return the name of the generated class
+     * @see CompiledExpression#getPath()
+     */
+    public String generate(String path, List<AnnotationTarget> members) {
+        if (!isSupported(members)) {
+            throw new IllegalArgumentException("Unsupported members: " + members);
+        }
+        StringBuilder keyBuilder = new StringBuilder(path);
+        for (AnnotationTarget member : members) {
+            keyBuilder.append('|').append(declaringClass(member).name()).append('#').append(member);
+        }
+        String key = keyBuilder.toString();
+        String existing = generated.get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        ClassInfo firstClass = declaringClass(members.get(0));
+        String baseName;
+        if (firstClass.enclosingClass() != null) {
+            baseName = simpleName(firstClass.enclosingClass()) + ValueResolverGenerator.NESTED_SEPARATOR
+                    + simpleName(firstClass);
+        } else {
+            baseName = simpleName(firstClass);
+        }
+        String generatedName = generatedNameFromTarget(packageName(firstClass.name()), baseName, SUFFIX) + "_"
+                + counter++;
+        String generatedClassName = generatedName.replace('/', '.');
+        generatedTypes.add(generatedClassName);
+        generated.put(key, generatedClassName);
+
+        gizmo.class_(generatedClassName, cc -> {
+            cc.implements_(CompiledExpression.class);
+            cc.defaultConstructor();
+
+            // CompiledExpression#getPath()
+            cc.method("getPath", mc -> {
+                mc.returning(String.class);
+                mc.body(bc -> bc.return_(Const.of(path)));
+            });
+
+            // CompiledExpression#apply()
+            cc.method("apply", mc -> {
+                mc.returning(Object.class);
+                ParamVar base = mc.parameter("base", Object.class);
+
+                mc.body(bc -> {
+                    LocalVar current = bc.localVar("current", Object.class, base);
+                    for (AnnotationTarget member : members) {
+                        ClassInfo declaringClass = declaringClass(member);
+                        // Also covers null intermediate values
+                        bc.ifNotInstanceOf(current, classDescOf(declaringClass), notApplicable -> {
+                            notApplicable.return_(Expr.staticField(Descriptors.NOT_FOUND_EMPTY));
+                        });
+                        Expr target = bc.cast(current, classDescOf(declaringClass));
+                        Expr val;
+                        Type type;
+                        if (member.kind() == AnnotationTarget.Kind.METHOD) {
+                            MethodInfo method = member.asMethod();
+                            val = declaringClass.isInterface()
+                                    ? bc.invokeInterface(methodDescOf(method), target)
+                                    : bc.invokeVirtual(methodDescOf(method), target);
+                            type = method.returnType();
+                        } else {
+                            FieldInfo field = member.asField();
+                            val = target.field(fieldDescOf(field));
+                            type = field.type();
+                        }
+                        bc.set(current, type.kind() == Type.Kind.PRIMITIVE ? bc.box(val) : val);
+                    }
+                    bc.return_(current);
+                });
+            });
+        });
+        return generatedClassName;
+    }
+
+    private static ClassInfo declaringClass(AnnotationTarget member) {
+        return member.kind() == AnnotationTarget.Kind.METHOD ? member.asMethod().declaringClass()
+                : member.asField().declaringClass();
+    }
+
+}
@@ -0,0 +1,105 @@
+package io.quarkus.qute.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.PrimitiveType;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.qute.CompiledExpression;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Results;
+
+public class CompiledExpressionGeneratorTest {
+
+    @Test
+    public void testGenerator() throws Exception {
+        ClassOutput classOutput = ClassOutput.fileWriter(new File("target/test-classes/").toPath());
+        Index index = SimpleGeneratorTest.index(Order.class, Customer.class, CompletionStage.class);
+        ClassInfo order = index.getClassByName(Order.class);
+        ClassInfo customer = index.getClassByName(Customer.class);
+        CompiledExpressionGenerator generator = new CompiledExpressionGenerator(index, classOutput);
+
+        List<AnnotationTarget> members = List.of(order.method("getCustomer"), customer.field("name"));
+        String generatedClass = generator.generate("customer.name", members);
+        // The same path and members - no new class is generated
+        assertEquals(generatedClass, generator.generate("customer.name", members));
+        String primitiveClass = generator.generate("count", List.of(order.method("getCount")));
+        assertEquals(2, generator.getGeneratedTypes().size());
+
+        assertFalse(generator.isSupported(List.of(order.method("getCustomerAsync"))));
+        assertFalse(generator.isSupported(List.of(order.method("getCustomer", PrimitiveType.INT))));
+        assertFalse(generator.isSupported(List.of(order.field("secret"))));
+
+        CompiledExpression customerName = newCompiledExpression(generatedClass);
+        assertEquals("customer.name", customerName.getPath());
+        assertEquals("Martin", customerName.apply(new Order(new Customer("Martin"))));
+        assertSame(Results.NotFound.EMPTY, customerName.apply(new Order(null)));
+        assertSame(Results.NotFound.EMPTY, customerName.apply("foo"));
+        assertSame(Results.NotFound.EMPTY, customerName.apply(null));
+        CompiledExpression count = newCompiledExpression(primitiveClass);
+        assertEquals(10, count.apply(new Order(null)));
+
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(new ReflectionValueResolver())
+                .addCompiledExpression(customerName)
+                .addCompiledExpression(count)
+                .build();
+        assertEquals("Martin:10", engine.parse("{order.customer.name}:{order.count}")
+                .data("order", new Order(new Customer("Martin"))).render());
+    }
+
+    private static CompiledExpression newCompiledExpression(String className) throws Exception {
+        return (CompiledExpression) CompiledExpressionGeneratorTest.class.getClassLoader().loadClass(className)
+                .getDeclaredConstructor().newInstance();
+    }
+
+    public static class Order {
+
+        private final Customer customer;
+
+        public static int secret;
+
+        public Order(Customer customer) {
+            this.customer = customer;
+        }
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+        public Customer getCustomer(int index) {
+            return customer;
+        }
+
+        public int getCount() {
+            return 10;
+        }
+
+        public CompletionStage<Customer> getCustomerAsync() {
+            return null;
+        }
+
+    }
+
+    public static class Customer {
+
+        public final String name;
+
+        public Customer(String name) {
+            this.name = name;
+        }
+
+    }
+
+}
@@ -0,0 +1,23 @@
+package org.jboss.resteasy.reactive.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of the benchmark jar. It delegates to the JMH {@link org.openjdk.jmh.Main} and enables the allocation
+ * profiler unless a profiler was explicitly requested, so that every run reports {@code gc.alloc.rate.norm}.
+ * <p>
+ * The benchmarks do not need any network access besides the loopback interface.
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws Exception {
+        List<String> jmhArgs = new ArrayList<>(Arrays.asList(args));
+        if (!jmhArgs.contains("-prof") && !jmhArgs.contains("-l") && !jmhArgs.contains("-h")) {
+            jmhArgs.add("-prof");
+            jmhArgs.add("gc");
+        }
+        org.openjdk.jmh.Main.main(jmhArgs.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,133 @@
+package org.jboss.resteasy.reactive.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.jandex.Indexer;
+import org.jboss.resteasy.reactive.server.core.reflection.ReflectiveContextInjectedBeanFactory;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.spi.DefaultRuntimeConfiguration;
+import org.jboss.resteasy.reactive.server.vertx.ResteasyReactiveVertxHandler;
+import org.jboss.resteasy.reactive.server.vertx.VertxRequestContextFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.Router;
+
+/**
+ * Sends requests to a RESTEasy Reactive application deployed on a Vert.x HTTP server in the same JVM, using the
+ * loopback interface only.
+ * <p>
+ * The application is assembled with {@link ResteasyReactiveDeploymentManager} and uses reflective endpoint invokers.
+ * The results include the work done by the Vert.x HTTP client.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EndToEndBenchmark {
+
+    private Vertx vertx;
+    private HttpServer server;
+    private HttpClient client;
+    private ExecutorService executor;
+    private ResteasyReactiveDeploymentManager.RunnableApplication application;
+
+    @Setup
+    public void setup() throws Exception {
+        Indexer indexer = new Indexer();
+        indexer.indexClass(HelloResource.class);
+        ResteasyReactiveDeploymentManager.ScanResult scanned = ResteasyReactiveDeploymentManager.start(indexer.complete())
+                .scan();
+        ResteasyReactiveDeploymentManager.PreparedApplication prepared = scanned.prepare(
+                EndToEndBenchmark.class.getClassLoader(), ReflectiveContextInjectedBeanFactory.STRING_FACTORY);
+        prepared.addScannedSerializers();
+        prepared.addBuiltinSerializers();
+
+        executor = Executors.newFixedThreadPool(4);
+        DefaultRuntimeConfiguration runtimeConfiguration = new DefaultRuntimeConfiguration(Duration.ofMinutes(1), true,
+                System.getProperty("java.io.tmpdir"), List.of(), StandardCharsets.UTF_8, OptionalLong.empty(), 2048, 1000);
+        application = prepared.createApplication(runtimeConfiguration, new VertxRequestContextFactory(), executor);
+
+        vertx = Vertx.vertx();
+        Router router = Router.router(vertx);
+        ResteasyReactiveVertxHandler handler = new ResteasyReactiveVertxHandler(ev -> {
+        }, application.getInitialHandler());
+        router.route("/*").handler(handler);
+        server = vertx.createHttpServer().requestHandler(router).listen(0, "localhost")
+                .toCompletionStage().toCompletableFuture().get();
+        client = vertx.createHttpClient();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        client.close().toCompletionStage().toCompletableFuture().get();
+        server.close().toCompletionStage().toCompletableFuture().get();
+        vertx.close().toCompletionStage().toCompletableFuture().get();
+        application.close();
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public Buffer hello() throws Exception {
+        return get("/hello");
+    }
+
+    @Benchmark
+    public Buffer helloWithParams() throws Exception {
+        return get("/hello/world?greeting=Hi");
+    }
+
+    private Buffer get(String uri) throws Exception {
+        return client.request(HttpMethod.GET, server.actualPort(), "localhost", uri)
+                .compose(request -> request.send())
+                .compose(HttpClientResponse::body)
+                .toCompletionStage().toCompletableFuture().get();
+    }
+
+    @Path("/hello")
+    public static class HelloResource {
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public String hello() {
+            return "Hello";
+        }
+
+        @GET
+        @Path("/{name}")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String hello(@PathParam("name") String name, @QueryParam("greeting") String greeting) {
+            return greeting + " " + name;
+        }
+    }
+}
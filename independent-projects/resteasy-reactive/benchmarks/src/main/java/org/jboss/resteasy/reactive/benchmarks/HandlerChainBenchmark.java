@@ -0,0 +1,141 @@
+package org.jboss.resteasy.reactive.benchmarks;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Runs a {@link ResteasyReactiveRequestContext} through a chain of trivial handlers. A new context is created for each
+ * operation, so the results include the allocation of the context itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandlerChainBenchmark {
+
+    private static final ServerRestHandler[] NO_HANDLERS = new ServerRestHandler[0];
+
+    @Param({ "5", "20" })
+    public int handlers;
+
+    private ServerRestHandler[] chain;
+    private ServerRestHandler[] suspendingChain;
+    private ServerRestHandler[] requestScopeChain;
+
+    @Setup
+    public void setup() {
+        chain = new ServerRestHandler[handlers];
+        suspendingChain = new ServerRestHandler[handlers];
+        requestScopeChain = new ServerRestHandler[handlers];
+        for (int i = 0; i < handlers; i++) {
+            chain[i] = new PropertyHandler("handler" + i);
+            suspendingChain[i] = chain[i];
+            requestScopeChain[i] = chain[i];
+        }
+        // Suspend and resume in the middle of the chain, the way asynchronous handlers do
+        suspendingChain[handlers / 2] = new ServerRestHandler() {
+            @Override
+            public void handle(ResteasyReactiveRequestContext requestContext) {
+                requestContext.suspend();
+                requestContext.resume();
+            }
+        };
+        requestScopeChain[0] = new ServerRestHandler() {
+            @Override
+            public void handle(ResteasyReactiveRequestContext requestContext) {
+                requestContext.requireCDIRequestScope();
+            }
+        };
+    }
+
+    @Benchmark
+    public void run(Blackhole blackhole) {
+        BenchmarkRequestContext context = new BenchmarkRequestContext(chain);
+        context.run();
+        blackhole.consume(context.getPosition());
+    }
+
+    @Benchmark
+    public void suspendAndResume(Blackhole blackhole) {
+        BenchmarkRequestContext context = new BenchmarkRequestContext(suspendingChain);
+        context.run();
+        blackhole.consume(context.getPosition());
+    }
+
+    @Benchmark
+    public void requestScope(Blackhole blackhole) {
+        BenchmarkRequestContext context = new BenchmarkRequestContext(requestScopeChain);
+        context.run();
+        blackhole.consume(context.getPosition());
+    }
+
+    static final class PropertyHandler implements ServerRestHandler {
+
+        private final String name;
+
+        PropertyHandler(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void handle(ResteasyReactiveRequestContext requestContext) {
+            requestContext.setProperty(name, Boolean.TRUE);
+        }
+    }
+
+    static final class BenchmarkRequestContext extends ResteasyReactiveRequestContext {
+
+        BenchmarkRequestContext(ServerRestHandler[] handlerChain) {
+            super(null, ThreadSetupAction.NOOP, handlerChain, NO_HANDLERS);
+        }
+
+        @Override
+        public ServerHttpRequest serverRequest() {
+            return null;
+        }
+
+        @Override
+        public ServerHttpResponse serverResponse() {
+            return null;
+        }
+
+        @Override
+        public boolean resumeExternalProcessing() {
+            return false;
+        }
+
+        @Override
+        public Runnable registerTimer(long millis, Runnable task) {
+            return null;
+        }
+
+        @Override
+        protected Executor getEventLoop() {
+            return Runnable::run;
+        }
+
+        @Override
+        protected void setQueryParamsFrom(String uri) {
+        }
+    }
+}
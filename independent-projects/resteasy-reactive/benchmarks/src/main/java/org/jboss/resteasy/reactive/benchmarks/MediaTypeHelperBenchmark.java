@@ -0,0 +1,72 @@
+package org.jboss.resteasy.reactive.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.common.util.MediaTypeHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Content negotiation between an {@code Accept} header and the media types produced by a resource method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MediaTypeHelperBenchmark {
+
+    @Param({
+            "application/json",
+            "text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,image/webp,*/*;q=0.8"
+    })
+    public String accept;
+
+    private List<MediaType> desired;
+    private List<MediaType> produced;
+
+    @Setup
+    public void setup() {
+        desired = MediaTypeHelper.parseHeader(accept);
+        MediaTypeHelper.sortByWeight(desired);
+        produced = List.of(MediaType.APPLICATION_JSON_TYPE, MediaType.TEXT_PLAIN_TYPE, MediaType.APPLICATION_XML_TYPE);
+    }
+
+    @Benchmark
+    public List<MediaType> parseHeader() {
+        return MediaTypeHelper.parseHeader(accept);
+    }
+
+    @Benchmark
+    public List<MediaType> parseAndSort() {
+        List<MediaType> types = MediaTypeHelper.parseHeader(accept);
+        MediaTypeHelper.sortByWeight(types);
+        return types;
+    }
+
+    @Benchmark
+    public List<MediaType> sortByWeight() {
+        List<MediaType> types = new ArrayList<>(desired);
+        MediaTypeHelper.sortByWeight(types);
+        return types;
+    }
+
+    @Benchmark
+    public MediaType bestMatch() {
+        return MediaTypeHelper.getBestMatch(desired, produced);
+    }
+}
@@ -0,0 +1,79 @@
+package org.jboss.resteasy.reactive.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Matches request paths against a set of class level templates, the way the root handler selects a resource class.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestMapperBenchmark {
+
+    @Param({ "10", "100" })
+    public int resources;
+
+    private RequestMapper<String> mapper;
+    private String literalPath;
+    private String paramPath;
+    private String regexPath;
+    private String missingPath;
+
+    @Setup
+    public void setup() {
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        for (int i = 0; i < resources; i++) {
+            add(templates, "/resource" + i);
+            add(templates, "/resource" + i + "/{id}");
+            add(templates, "/resource" + i + "/{id}/items/{item: [0-9]+}");
+        }
+        mapper = new RequestMapper<>(templates);
+        int last = resources - 1;
+        literalPath = "/resource" + last;
+        paramPath = "/resource" + last + "/42";
+        regexPath = "/resource" + last + "/42/items/7";
+        missingPath = "/unknown/42";
+    }
+
+    private static void add(ArrayList<RequestMapper.RequestPath<String>> templates, String template) {
+        templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+    }
+
+    @Benchmark
+    public RequestMapper.RequestMatch<String> literal() {
+        return mapper.map(literalPath);
+    }
+
+    @Benchmark
+    public RequestMapper.RequestMatch<String> pathParam() {
+        return mapper.map(paramPath);
+    }
+
+    @Benchmark
+    public RequestMapper.RequestMatch<String> regexPathParam() {
+        return mapper.map(regexPath);
+    }
+
+    @Benchmark
+    public RequestMapper.RequestMatch<String> noMatch() {
+        return mapper.map(missingPath);
+    }
+}
@@ -0,0 +1,70 @@
+package org.jboss.resteasy.reactive.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+import org.jboss.resteasy.reactive.common.core.Serialisers;
+import org.jboss.resteasy.reactive.common.model.ResourceWriter;
+import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
+import org.jboss.resteasy.reactive.server.core.reflection.ReflectiveContextInjectedBeanFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Looks up the message body writers of an entity type among the builtin server writers.
+ * <p>
+ * {@code java.io.ByteArrayInputStream} has no writer registered for its own type and exercises the walk through the
+ * type hierarchy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServerSerialisersBenchmark {
+
+    @Param({ "java.lang.String", "java.io.File", "java.io.ByteArrayInputStream" })
+    public String entityType;
+
+    private ServerSerialisers serialisers;
+    private Class<?> entityClass;
+    private List<MediaType> produces;
+
+    @Setup
+    public void setup() throws ClassNotFoundException {
+        serialisers = new ServerSerialisers();
+        for (Serialisers.BuiltinWriter builtinWriter : ServerSerialisers.BUILTIN_WRITERS) {
+            serialisers.addWriter(builtinWriter.entityClass,
+                    new ResourceWriter().setFactory(ReflectiveContextInjectedBeanFactory.create(builtinWriter.writerClass))
+                            .setConstraint(builtinWriter.constraint)
+                            .setMediaTypeStrings(Collections.singletonList(builtinWriter.mediaType)).setBuiltin(true));
+        }
+        entityClass = Class.forName(entityType);
+        produces = List.of(MediaType.TEXT_PLAIN_TYPE);
+    }
+
+    @Benchmark
+    public List<MessageBodyWriter<?>> findWriters() {
+        return serialisers.findWriters(null, entityClass, MediaType.TEXT_PLAIN_TYPE, RuntimeType.SERVER);
+    }
+
+    @Benchmark
+    public List<MessageBodyWriter<?>> findBuildTimeWriters() {
+        return serialisers.findBuildTimeWriters(entityClass, RuntimeType.SERVER, produces);
+    }
+}
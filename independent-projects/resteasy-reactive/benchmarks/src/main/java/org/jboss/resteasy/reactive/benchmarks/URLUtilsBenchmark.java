@@ -0,0 +1,52 @@
+package org.jboss.resteasy.reactive.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.common.util.URLUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decoding of path segments and query parameter values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class URLUtilsBenchmark {
+
+    @Param({
+            "/api/customers/42/orders",
+            "/api/customers/John%20Doe/orders/%C5%BElu%C5%A5ou%C4%8Dk%C3%BD",
+            "q=java+rest%2Fframeworks&sort=desc"
+    })
+    public String value;
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    @Benchmark
+    public String decodePath() {
+        return URLUtils.decode(value, StandardCharsets.UTF_8, false, false, buffer);
+    }
+
+    @Benchmark
+    public String decodeForm() {
+        return URLUtils.decode(value, StandardCharsets.UTF_8, true, true, buffer);
+    }
+
+    @Benchmark
+    public String decodeWithoutBuffer() {
+        return URLUtils.decode(value, StandardCharsets.UTF_8, false, false, null);
+    }
+}
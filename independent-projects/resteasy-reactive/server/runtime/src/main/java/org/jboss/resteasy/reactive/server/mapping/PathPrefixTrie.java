@@ -0,0 +1,164 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable character trie of path prefixes, flattened into arrays when the mapper is built.
+ * <p>
+ * Unlike {@link PathMatcher}, looking up the stems that are a prefix of a request path does not allocate: there is no
+ * list of matches and no substring of the remaining path. Callers that need all matching prefixes, from the longest
+ * to the shortest, call {@link #longestPrefix(String, int)} repeatedly with a decreasing limit.
+ * <p>
+ * Children of a node are stored contiguously and sorted by character, so each step is a binary search over a
+ * {@code char[]} range.
+ */
+final class PathPrefixTrie<T> {
+
+    private static final int NO_MATCH = -1;
+
+    /**
+     * The characters of the edges, children of node {@code n} are in {@code [childStart[n], childStart[n + 1])}
+     */
+    private final char[] edgeChars;
+    /**
+     * The node each edge leads to
+     */
+    private final int[] edgeTargets;
+    private final int[] childStart;
+    /**
+     * The length of the prefix that leads to each node
+     */
+    private final int[] depths;
+    private final Object[] values;
+
+    private PathPrefixTrie(char[] edgeChars, int[] edgeTargets, int[] childStart, int[] depths, Object[] values) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.childStart = childStart;
+        this.depths = depths;
+        this.values = values;
+    }
+
+    /**
+     * Finds the longest registered prefix of {@code path} that is at most {@code maxLength} characters long.
+     *
+     * @param path the path to match
+     * @param maxLength the maximum length of the prefix
+     * @return the node of the match, to be passed to {@link #getValue(int)} and {@link #getLength(int)}, or {@code -1}
+     *         if no registered prefix matches
+     */
+    int longestPrefix(String path, int maxLength) {
+        int limit = Math.min(path.length(), maxLength);
+        int node = 0;
+        int result = NO_MATCH;
+        for (int i = 0; i < limit; ++i) {
+            node = child(node, path.charAt(i));
+            if (node == NO_MATCH) {
+                break;
+            }
+            if (values[node] != null) {
+                result = node;
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    T getValue(int node) {
+        return (T) values[node];
+    }
+
+    int getLength(int node) {
+        return depths[node];
+    }
+
+    private int child(int node, char c) {
+        int low = childStart[node];
+        int high = childStart[node + 1] - 1;
+        final char[] edgeChars = this.edgeChars;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = edgeChars[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return NO_MATCH;
+    }
+
+    static class Builder<T> {
+
+        private final BuilderNode root = new BuilderNode(0);
+        private int nodeCount = 1;
+
+        void put(String prefix, T value) {
+            if (value == null) {
+                throw new NullPointerException();
+            }
+            BuilderNode current = root;
+            for (int i = 0; i < prefix.length(); ++i) {
+                char c = prefix.charAt(i);
+                BuilderNode next = current.children.get(c);
+                if (next == null) {
+                    next = new BuilderNode(i + 1);
+                    current.children.put(c, next);
+                    nodeCount++;
+                }
+                current = next;
+            }
+            current.value = value;
+        }
+
+        PathPrefixTrie<T> build() {
+            // number the nodes breadth first, so the children of every node are next to each other
+            List<BuilderNode> ordered = new ArrayList<>(nodeCount);
+            ArrayDeque<BuilderNode> queue = new ArrayDeque<>();
+            queue.add(root);
+            while (!queue.isEmpty()) {
+                BuilderNode node = queue.poll();
+                node.index = ordered.size();
+                ordered.add(node);
+                queue.addAll(node.children.values());
+            }
+            int edgeCount = ordered.size() - 1;
+            char[] edgeChars = new char[edgeCount];
+            int[] edgeTargets = new int[edgeCount];
+            int[] childStart = new int[ordered.size() + 1];
+            int[] depths = new int[ordered.size()];
+            Object[] values = new Object[ordered.size()];
+            int edge = 0;
+            for (int i = 0; i < ordered.size(); ++i) {
+                BuilderNode node = ordered.get(i);
+                childStart[i] = edge;
+                depths[i] = node.depth;
+                values[i] = node.value;
+                for (Map.Entry<Character, BuilderNode> child : node.children.entrySet()) {
+                    edgeChars[edge] = child.getKey();
+                    edgeTargets[edge] = child.getValue().index;
+                    edge++;
+                }
+            }
+            childStart[ordered.size()] = edge;
+            return new PathPrefixTrie<>(edgeChars, edgeTargets, childStart, depths, values);
+        }
+
+        private static class BuilderNode {
+            final int depth;
+            final TreeMap<Character, BuilderNode> children = new TreeMap<>();
+            Object value;
+            int index;
+
+            BuilderNode(int depth) {
+                this.depth = depth;
+            }
+        }
+    }
+}
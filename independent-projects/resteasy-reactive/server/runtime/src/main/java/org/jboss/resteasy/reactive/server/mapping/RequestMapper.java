@@ -4,7 +4,6 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
@@ -15,11 +14,17 @@
 
     private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
     private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
+    /**
+     * The same stems as {@link #requestPaths}, used by {@link #map(String)} so that matching does not allocate
+     */
+    private final PathPrefixTrie<ArrayList<RequestPath<T>>> stems;
+    private final ArrayList<RequestPath<T>> defaultPaths;
     private final ArrayList<RequestPath<T>> templates;
     final int maxParams;
 
     public RequestMapper(ArrayList<RequestPath<T>> templates) {
         pathMatcherBuilder = new PathMatcher.Builder<>();
+        PathPrefixTrie.Builder<ArrayList<RequestPath<T>>> stemsBuilder = new PathPrefixTrie.Builder<>();
         this.templates = templates;
         int max = 0;
         Map<String, ArrayList<RequestPath<T>>> aggregates = new HashMap<>();
@@ -36,10 +41,15 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
             public void accept(String stem, ArrayList<RequestPath<T>> list) {
                 Collections.sort(list);
                 pathMatcherBuilder.addPrefixPath(stem, list);
+                if (!stem.equals("/")) {
+                    stemsBuilder.put(stem, list);
+                }
             }
         });
         maxParams = max;
         requestPaths = pathMatcherBuilder.build();
+        stems = stemsBuilder.build();
+        defaultPaths = aggregates.get("/");
     }
 
     /**
@@ -49,16 +59,21 @@ public void accept(String stem, ArrayList<RequestPath<T>> list) {
      * @return best RequestMatch, or null if the path has no match
      */
     public RequestMatch<T> map(String path) {
-        List<PathMatcher.PathMatch<ArrayList<RequestPath<T>>>> matches = requestPaths.match(path);
-        for (int i = 0; i < matches.size(); i++) {
-            var result = mapFromPathMatcher(path, matches.get(i), 0);
+        // walk the matching stems from the longest to the shortest, this is equivalent to iterating
+        // over requestPaths.match(path) but without allocating the list of matches
+        int maxLength = path.length();
+        int node;
+        while ((node = stems.longestPrefix(path, maxLength)) != -1) {
+            int matchedLength = stems.getLength(node);
+            var result = mapFromPathMatcher(path, stems.getValue(node), matchedLength, 0);
             if (result != null) {
                 return result;
             }
+            maxLength = matchedLength - 1;
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        return mapFromPathMatcher(path, requestPaths.defaultMatch(path), 0);
+        return mapFromPathMatcher(path, defaultPaths, 1, 0);
     }
 
     /**
@@ -113,21 +128,29 @@ private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T
         return -1;
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
     private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
             int startIdx) {
-        var value = initialMatches.getValue();
+        return mapFromPathMatcher(path, initialMatches.getValue(), initialMatches.getMatched().length(), startIdx);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private RequestMatch<T> mapFromPathMatcher(String path, ArrayList<RequestPath<T>> value, int matchedLength,
+            int startIdx) {
         if (value == null || startIdx < 0) {
             return null;
         }
         int pathLength = path.length();
+        // the array is only handed out with a successful match, so candidates that fail can share it
+        String[] params = null;
         for (int index = startIdx; index < value.size(); index++) {
             RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+            if (params == null) {
+                params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+            }
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatches.getMatched().length();
+            int matchPos = matchedLength;
             for (int i = 1; i < potentialMatch.template.components.length; ++i) {
                 URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
                 if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
@@ -0,0 +1,65 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestMapperTest {
+
+    @Test
+    public void prefixTrieReturnsLongestPrefixFirst() {
+        PathPrefixTrie.Builder<String> builder = new PathPrefixTrie.Builder<>();
+        builder.put("/foo", "foo");
+        builder.put("/foo/bar", "bar");
+        builder.put("/fob", "fob");
+        PathPrefixTrie<String> trie = builder.build();
+
+        String path = "/foo/bar/baz";
+        int node = trie.longestPrefix(path, path.length());
+        assertEquals("bar", trie.getValue(node));
+        assertEquals(8, trie.getLength(node));
+        node = trie.longestPrefix(path, trie.getLength(node) - 1);
+        assertEquals("foo", trie.getValue(node));
+        assertEquals(-1, trie.longestPrefix(path, trie.getLength(node) - 1));
+        assertEquals(-1, trie.longestPrefix("/other", 6));
+    }
+
+    @Test
+    public void mapsTemplates() {
+        RequestMapper<String> mapper = mapper("/foo", "/foo/{id}", "/foo/{id}/bar", "/{name}", "/regex/{id:\\d+}");
+
+        RequestMapper.RequestMatch<String> match = mapper.map("/foo");
+        assertEquals("/foo", match.value);
+        assertEquals("", match.remaining);
+
+        match = mapper.map("/foo/1/bar");
+        assertEquals("/foo/{id}/bar", match.value);
+        assertEquals("1", match.pathParamValues[0]);
+
+        match = mapper.map("/foo/2");
+        assertEquals("/foo/{id}", match.value);
+        assertEquals("2", match.pathParamValues[0]);
+
+        match = mapper.map("/other");
+        assertEquals("/{name}", match.value);
+        assertEquals("other", match.pathParamValues[0]);
+
+        match = mapper.map("/regex/42");
+        assertEquals("/regex/{id:\\d+}", match.value);
+        assertEquals("42", match.pathParamValues[0]);
+
+        // the shorter "/" stem is tried when the regex does not match, but cannot match the whole path either
+        assertNull(mapper.map("/regex/abc"));
+    }
+
+    private static RequestMapper<String> mapper(String... templates) {
+        ArrayList<RequestMapper.RequestPath<String>> paths = new ArrayList<>();
+        for (String template : templates) {
+            paths.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+        }
+        return new RequestMapper<>(paths);
+    }
+}